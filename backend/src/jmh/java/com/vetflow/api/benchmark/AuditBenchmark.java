@@ -0,0 +1,67 @@
+package com.vetflow.api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.audit.AuditLogService;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.infrastructure.persistence.repository.AuditLogJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Audit trail cost on every command: {@code snapshot} before an update, and {@code recordCreation} /
+ * {@code recordUpdate}, which serialise the values to JSON with {@code toJson}. The repository is a stub
+ * that returns what it is given, so only the mapping and serialisation are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuditBenchmark {
+
+  private AuditLogService auditService;
+  private Patient patient;
+  private Map<String, Object> before;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    AuditLogJpaRepository repository = (AuditLogJpaRepository) Proxy.newProxyInstance(
+        AuditLogJpaRepository.class.getClassLoader(), new Class<?>[] { AuditLogJpaRepository.class },
+        (proxy, method, args) -> "save".equals(method.getName()) ? args[0] : null);
+    auditService = new AuditLogService(repository, objectMapper, new SimpleMeterRegistry());
+    Owner owner = Owner.create("Ana Ruiz", "5511112233", "ana.ruiz@vetflow.com", "Av. Reforma 222");
+    patient = Patient.create("Max", "DOG", "Labrador Retriever", LocalDate.of(2019, 4, 12),
+        new BigDecimal("28.40"), owner);
+    before = auditService.snapshot(patient);
+  }
+
+  @Benchmark
+  public Map<String, Object> snapshot() {
+    return auditService.snapshot(patient);
+  }
+
+  @Benchmark
+  public void recordCreation() {
+    auditService.recordCreation("patients", 7L, patient);
+  }
+
+  @Benchmark
+  public void recordUpdate() {
+    auditService.recordUpdate("patients", 7L, before, patient);
+  }
+}
@@ -0,0 +1,96 @@
+package com.vetflow.api.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and exits non-zero when any benchmark is slower than
+ * its baseline by more than the tolerance. A benchmark counts as slower only when the gap also exceeds the
+ * two runs' combined error margins, so noise alone does not fail the build.
+ *
+ * <p>Usage: {@code BaselineComparison <result.json> <baseline.json> <tolerance>}, tolerance as a fraction
+ * (0.10 for 10%). A missing baseline is reported and is not an error.
+ */
+public final class BaselineComparison {
+
+  private record Score(String mode, double value, double error, String unit) {
+
+    /** Throughput modes report operations per unit of time; every other mode reports time per operation. */
+    boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+
+  private BaselineComparison() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage: BaselineComparison <result.json> <baseline.json> <tolerance>");
+      System.exit(2);
+    }
+    Path resultFile = Path.of(args[0]);
+    Path baselineFile = Path.of(args[1]);
+    double tolerance = Double.parseDouble(args[2]);
+    if (!Files.exists(baselineFile)) {
+      System.out.printf("No baseline at %s; copy %s there to start comparing.%n", baselineFile, resultFile);
+      return;
+    }
+
+    Map<String, Score> results = read(resultFile);
+    Map<String, Score> baseline = read(baselineFile);
+    int regressions = 0;
+    System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+    for (Map.Entry<String, Score> entry : results.entrySet()) {
+      Score current = entry.getValue();
+      Score previous = baseline.get(entry.getKey());
+      if (previous == null || !previous.unit().equals(current.unit())) {
+        System.out.printf(Locale.ROOT, "%-70s %14s %14.3f %9s%n", entry.getKey(), "-", current.value(), "new");
+        continue;
+      }
+      double change = (current.value() - previous.value()) / previous.value();
+      double worse = current.higherIsBetter() ? -change : change;
+      boolean beyondNoise = Math.abs(current.value() - previous.value()) > current.error() + previous.error();
+      boolean regressed = worse > tolerance && beyondNoise;
+      if (regressed) {
+        regressions++;
+      }
+      System.out.printf(Locale.ROOT, "%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), previous.value(),
+          current.value(), change * 100, regressed ? "  REGRESSION" : "");
+    }
+    baseline.keySet().stream()
+        .filter(key -> !results.containsKey(key))
+        .forEach(key -> System.out.printf(Locale.ROOT, "%-70s %14.3f %14s %9s%n", key, baseline.get(key).value(), "-",
+            "missing"));
+
+    if (regressions > 0) {
+      System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.0f%%%n", regressions, tolerance * 100);
+      System.exit(1);
+    }
+  }
+
+  /** Scores by benchmark name plus parameters, e.g. {@code Suite.method[size=50]}. */
+  private static Map<String, Score> read(Path file) throws IOException {
+    Map<String, Score> scores = new TreeMap<>();
+    for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+      String name = run.path("benchmark").asText().replaceFirst("^com\\.vetflow\\.api\\.benchmark\\.", "");
+      Map<String, String> params = new LinkedHashMap<>();
+      run.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+      String key = params.isEmpty() ? name : name + params.toString().replace('{', '[').replace('}', ']')
+          .replace(", ", ",");
+      JsonNode metric = run.path("primaryMetric");
+      double error = metric.path("scoreError").asDouble(0);
+      scores.put(key, new Score(run.path("mode").asText(), metric.path("score").asDouble(),
+          Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+    }
+    return scores;
+  }
+}
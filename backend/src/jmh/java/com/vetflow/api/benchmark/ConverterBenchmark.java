@@ -0,0 +1,64 @@
+package com.vetflow.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.vetflow.api.infrastructure.persistence.converter.AppointmentPriorityConverter;
+import com.vetflow.api.infrastructure.persistence.converter.AppointmentStatusConverter;
+import com.vetflow.api.infrastructure.persistence.converter.AppointmentTypeConverter;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity.Priority;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity.Status;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity.Type;
+
+/** The lower-case enum {@code AttributeConverter}s Hibernate calls for every appointment row read or written. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+  private final AppointmentStatusConverter statusConverter = new AppointmentStatusConverter();
+  private final AppointmentTypeConverter typeConverter = new AppointmentTypeConverter();
+  private final AppointmentPriorityConverter priorityConverter = new AppointmentPriorityConverter();
+  private final Status status = Status.NO_SHOW;
+  private final String statusColumn = "no_show";
+  private final Type type = Type.VACCINATION;
+  private final String typeColumn = "vaccination";
+  private final Priority priority = Priority.NORMAL;
+  private final String priorityColumn = "normal";
+
+  @Benchmark
+  public String statusToColumn() {
+    return statusConverter.convertToDatabaseColumn(status);
+  }
+
+  @Benchmark
+  public Status statusFromColumn() {
+    return statusConverter.convertToEntityAttribute(statusColumn);
+  }
+
+  @Benchmark
+  public String typeToColumn() {
+    return typeConverter.convertToDatabaseColumn(type);
+  }
+
+  @Benchmark
+  public Type typeFromColumn() {
+    return typeConverter.convertToEntityAttribute(typeColumn);
+  }
+
+  @Benchmark
+  public String priorityToColumn() {
+    return priorityConverter.convertToDatabaseColumn(priority);
+  }
+
+  @Benchmark
+  public Priority priorityFromColumn() {
+    return priorityConverter.convertToEntityAttribute(priorityColumn);
+  }
+}
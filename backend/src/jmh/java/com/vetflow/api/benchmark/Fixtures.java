@@ -0,0 +1,95 @@
+package com.vetflow.api.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity;
+import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
+import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
+
+/** Representative rows shared by the benchmarks, sized like a typical list response. */
+final class Fixtures {
+
+  static final int LIST_SIZE = 50;
+  static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 9, 30);
+
+  private Fixtures() {
+  }
+
+  static OwnerEntity ownerEntity() {
+    OwnerEntity owner = new OwnerEntity();
+    owner.setId(3L);
+    owner.setName("Ana Ruiz");
+    owner.setPhone("5511112233");
+    owner.setEmail("ana.ruiz@vetflow.com");
+    owner.setAddress("Av. Reforma 222, Ciudad de México");
+    owner.setVersion(4L);
+    return owner;
+  }
+
+  static PatientEntity patientEntity() {
+    PatientEntity patient = new PatientEntity();
+    patient.setId(7L);
+    patient.setName("Max");
+    patient.setSpecies("DOG");
+    patient.setBreed("Labrador Retriever");
+    patient.setBirthDate(LocalDate.of(2019, 4, 12));
+    patient.setWeight(new BigDecimal("28.40"));
+    patient.setActive(true);
+    patient.setOwner(ownerEntity());
+    patient.setVersion(2L);
+    return patient;
+  }
+
+  static AppointmentEntity appointmentEntity() {
+    AppointmentEntity appointment = new AppointmentEntity();
+    appointment.setId(42L);
+    appointment.setPatient(patientEntity());
+    appointment.setVeterinarianId(5L);
+    appointment.setAppointmentDate(NOW.plusDays(1));
+    appointment.setType(AppointmentEntity.Type.CHECKUP);
+    appointment.setStatus(AppointmentEntity.Status.SCHEDULED);
+    appointment.setPriority(AppointmentEntity.Priority.NORMAL);
+    appointment.setNotes("Annual checkup and booster");
+    appointment.setCreatedAt(NOW);
+    appointment.setUpdatedAt(NOW);
+    appointment.setVersion(1L);
+    return appointment;
+  }
+
+  static List<OwnerResult> ownerResults() {
+    List<OwnerResult> results = new ArrayList<>(LIST_SIZE);
+    for (long id = 1; id <= LIST_SIZE; id++) {
+      results.add(new OwnerResult(id, "Owner " + id, "55111122" + (10 + id), "owner" + id + "@vetflow.com",
+          "Calle " + id + ", Guadalajara", NOW, NOW, 1L));
+    }
+    return results;
+  }
+
+  static List<PatientResult> patientResults() {
+    List<PatientResult> results = new ArrayList<>(LIST_SIZE);
+    for (long id = 1; id <= LIST_SIZE; id++) {
+      results.add(new PatientResult(id, "Patient " + id, "DOG", "Mixed", LocalDate.of(2020, 1, 1),
+          new BigDecimal("12.50"), true, 3L, NOW, NOW, 1L));
+    }
+    return results;
+  }
+
+  static List<AppointmentResult> appointmentResults() {
+    List<AppointmentResult> results = new ArrayList<>(LIST_SIZE);
+    for (long id = 1; id <= LIST_SIZE; id++) {
+      results.add(new AppointmentResult(id, 7L, 5L, NOW.plusHours(id), Type.CHECKUP, Status.SCHEDULED,
+          Priority.NORMAL, "Follow-up " + id, NOW, 1L));
+    }
+    return results;
+  }
+}
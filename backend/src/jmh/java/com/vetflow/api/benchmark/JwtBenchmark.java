@@ -0,0 +1,60 @@
+package com.vetflow.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.vetflow.api.infrastructure.persistence.entity.SystemUserEntity;
+import com.vetflow.api.security.config.SecurityProperties;
+import com.vetflow.api.security.jwt.JwtTokenService;
+import com.vetflow.api.security.user.SystemUserDetails;
+
+/**
+ * Token issue at login and verification, which the authentication filter runs on every API request:
+ * HMAC-SHA256 signing plus JSON encoding of the claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+  private JwtTokenService tokenService;
+  private SystemUserDetails user;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    SecurityProperties properties = new SecurityProperties();
+    properties.getJwt().setSecret("benchmark-secret-value-at-least-32-chars!");
+    tokenService = new JwtTokenService(properties);
+    SystemUserEntity entity = new SystemUserEntity();
+    entity.setUsername("drsmith");
+    entity.setEmail("drsmith@vetflow.com");
+    entity.setPasswordHash("$2b$10$RDWS5TPPOW5J6iKIHOScI.5JgQZd/yHkSXOcQMuBHyyPwx52n6dd6");
+    entity.setRole("veterinarian");
+    user = SystemUserDetails.fromEntity(entity);
+    token = tokenService.generateToken(user);
+  }
+
+  @Benchmark
+  public String generate() {
+    return tokenService.generateToken(user);
+  }
+
+  @Benchmark
+  public boolean verify() {
+    return tokenService.isTokenValid(token);
+  }
+
+  /** What the filter does per request: check the token, then read the subject and roles from it. */
+  @Benchmark
+  public Object verifyAndExtract() {
+    return tokenService.isTokenValid(token, user) ? tokenService.extractRoles(token) : null;
+  }
+}
@@ -0,0 +1,99 @@
+package com.vetflow.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity;
+import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
+import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
+import com.vetflow.api.infrastructure.persistence.mapper.AppointmentMapper;
+import com.vetflow.api.infrastructure.persistence.mapper.AppointmentMapperImpl;
+import com.vetflow.api.infrastructure.persistence.mapper.OwnerMapper;
+import com.vetflow.api.infrastructure.persistence.mapper.OwnerMapperImpl;
+import com.vetflow.api.infrastructure.persistence.mapper.PatientMapper;
+import com.vetflow.api.infrastructure.persistence.mapper.PatientMapperImpl;
+
+/**
+ * Entity/domain conversion by the generated MapStruct mappers, run on every repository read and write.
+ * Appointments nest a patient and its owner, so they also measure the delegation between mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+  private AnnotationConfigApplicationContext context;
+  private OwnerMapper ownerMapper;
+  private PatientMapper patientMapper;
+  private AppointmentMapper appointmentMapper;
+  private OwnerEntity ownerEntity;
+  private PatientEntity patientEntity;
+  private AppointmentEntity appointmentEntity;
+  private Owner owner;
+  private Patient patient;
+  private Appointment appointment;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // The mappers use Spring field injection for the mappers they delegate to.
+    context = new AnnotationConfigApplicationContext(OwnerMapperImpl.class, PatientMapperImpl.class,
+        AppointmentMapperImpl.class);
+    ownerMapper = context.getBean(OwnerMapper.class);
+    patientMapper = context.getBean(PatientMapper.class);
+    appointmentMapper = context.getBean(AppointmentMapper.class);
+    ownerEntity = Fixtures.ownerEntity();
+    patientEntity = Fixtures.patientEntity();
+    appointmentEntity = Fixtures.appointmentEntity();
+    owner = ownerMapper.toDomain(ownerEntity);
+    patient = patientMapper.toDomain(patientEntity);
+    appointment = appointmentMapper.toDomain(appointmentEntity);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Owner ownerToDomain() {
+    return ownerMapper.toDomain(ownerEntity);
+  }
+
+  @Benchmark
+  public OwnerEntity ownerToEntity() {
+    return ownerMapper.toEntity(owner);
+  }
+
+  @Benchmark
+  public Patient patientToDomain() {
+    return patientMapper.toDomain(patientEntity);
+  }
+
+  @Benchmark
+  public PatientEntity patientToEntity() {
+    return patientMapper.toEntity(patient);
+  }
+
+  @Benchmark
+  public Appointment appointmentToDomain() {
+    return appointmentMapper.toDomain(appointmentEntity);
+  }
+
+  @Benchmark
+  public AppointmentEntity appointmentToEntity() {
+    return appointmentMapper.toEntity(appointment);
+  }
+}
@@ -0,0 +1,56 @@
+package com.vetflow.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import com.vetflow.api.config.RateLimitProperties;
+import com.vetflow.api.web.v1.ratelimit.RateLimiter;
+
+/**
+ * What the rate limiter adds to every authenticated API request once its handler pattern is known: finding
+ * the caller's bucket among a few thousand others and taking a token from it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+  private RateLimiter rateLimiter;
+  private Authentication user;
+
+  @Setup
+  public void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    // Large enough that the benchmark measures admitted requests, not refusals.
+    properties.getRoles().get("veterinarian").setCapacity(Integer.MAX_VALUE / 2);
+    properties.getRoles().get("veterinarian").setRefillPerSecond(1_000_000_000);
+    rateLimiter = new RateLimiter(properties);
+    for (int i = 0; i < 5_000; i++) {
+      Authentication other = new UsernamePasswordAuthenticationToken("user" + i, null,
+          AuthorityUtils.createAuthorityList("ROLE_ASSISTANT"));
+      rateLimiter.tryAcquire(other, "GET", "/api/v1/patients/{patientId}/appointments");
+    }
+    user = new UsernamePasswordAuthenticationToken("drsmith", null,
+        AuthorityUtils.createAuthorityList("ROLE_VETERINARIAN"));
+  }
+
+  @Benchmark
+  public Object collection() {
+    return rateLimiter.tryAcquire(user, "GET", "/api/v1/appointments");
+  }
+
+  @Benchmark
+  public Object item() {
+    return rateLimiter.tryAcquire(user, "GET", "/api/v1/patients/{patientId}/appointments");
+  }
+}
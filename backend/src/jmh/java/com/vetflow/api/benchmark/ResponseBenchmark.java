@@ -0,0 +1,73 @@
+package com.vetflow.api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.web.v1.appointment.AppointmentResponse;
+import com.vetflow.api.web.v1.owner.OwnerResponse;
+import com.vetflow.api.web.v1.patient.PatientResponse;
+
+/**
+ * The web layer of a list endpoint: each controller's {@code toResponse} (which delegates to the response's
+ * {@code from}) over a page of results, then Jackson writing the list as the HTTP message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+
+  private ObjectWriter writer;
+  private List<OwnerResult> owners;
+  private List<PatientResult> patients;
+  private List<AppointmentResult> appointments;
+  private List<AppointmentResponse> appointmentResponses;
+
+  @Setup
+  public void setUp() {
+    // Same defaults as the application's ObjectMapper: java.time support, ISO dates rather than timestamps.
+    writer = Jackson2ObjectMapperBuilder.json().build().writer();
+    owners = Fixtures.ownerResults();
+    patients = Fixtures.patientResults();
+    appointments = Fixtures.appointmentResults();
+    appointmentResponses = appointments.stream().map(AppointmentResponse::from).toList();
+  }
+
+  @Benchmark
+  public List<AppointmentResponse> mapAppointments() {
+    return appointments.stream().map(AppointmentResponse::from).toList();
+  }
+
+  @Benchmark
+  public String serialiseAppointments() throws JsonProcessingException {
+    return writer.writeValueAsString(appointmentResponses);
+  }
+
+  @Benchmark
+  public String listAppointments() throws JsonProcessingException {
+    return writer.writeValueAsString(appointments.stream().map(AppointmentResponse::from).toList());
+  }
+
+  @Benchmark
+  public String listOwners() throws JsonProcessingException {
+    return writer.writeValueAsString(owners.stream().map(OwnerResponse::from).toList());
+  }
+
+  @Benchmark
+  public String listPatients() throws JsonProcessingException {
+    return writer.writeValueAsString(patients.stream().map(PatientResponse::from).toList());
+  }
+}
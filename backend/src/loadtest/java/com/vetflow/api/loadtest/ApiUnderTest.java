@@ -0,0 +1,162 @@
+package com.vetflow.api.loadtest;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.vetflow.api.ApiApplication;
+import com.vetflow.api.application.medication.MedicationSafetyService;
+import com.vetflow.api.application.typeahead.TypeaheadService;
+import com.vetflow.api.domain.port.ClinicStatsStore;
+import com.vetflow.api.testdata.SyntheticDataLoader;
+import com.vetflow.api.testdata.SyntheticDataset;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+/**
+ * The API booted in this JVM on a random port with its own application.properties, filled with a synthetic
+ * dataset. By default it runs on an in-memory H2 database in PostgreSQL mode with the portable implementations
+ * (in-memory change bus, LIKE search, live reports), so a run needs nothing but the JVM; with {@code db-url} it
+ * runs against that database with Flyway as configured.
+ */
+@Slf4j
+final class ApiUnderTest implements AutoCloseable {
+
+  static final String PASSWORD = "loadtest-password";
+
+  private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+  /** Tables Hibernate cannot create on H2: the audit log's jsonb columns, and tables without an entity. */
+  private static final List<String> H2_TABLES = List.of("""
+      CREATE TABLE IF NOT EXISTS audit_log (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          table_name VARCHAR(50) NOT NULL,
+          record_id BIGINT NOT NULL,
+          action VARCHAR(20) NOT NULL,
+          old_values JSON,
+          new_values JSON,
+          changed_by VARCHAR(100),
+          changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)
+      """, """
+      CREATE TABLE IF NOT EXISTS clinic_stats (
+          stat_date DATE NOT NULL,
+          metric VARCHAR(20) NOT NULL,
+          metric_key VARCHAR(50) NOT NULL,
+          stat_count BIGINT NOT NULL DEFAULT 0,
+          PRIMARY KEY (stat_date, metric, metric_key))
+      """);
+
+  private final ConfigurableApplicationContext context;
+  private final URI baseUri;
+  private final Targets targets;
+
+  private ApiUnderTest(ConfigurableApplicationContext context, URI baseUri, Targets targets) {
+    this.context = context;
+    this.baseUri = baseUri;
+    this.targets = targets;
+  }
+
+  static ApiUnderTest start(LoadTestSettings settings) {
+    boolean h2 = settings.dbUrl() == null;
+    Map<String, String> properties = new LinkedHashMap<>();
+    // A directory, so application-<profile>.properties next to application.properties is read too
+    properties.put("spring.config.location", "file:" + settings.appConfig().toAbsolutePath() + "/");
+    properties.put("server.port", "0");
+    if (!settings.profiles().isBlank()) {
+      properties.put("spring.profiles.active", settings.profiles());
+    }
+    if (h2) {
+      properties.put("spring.datasource.url", H2_URL);
+      properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+      properties.put("spring.datasource.username", "sa");
+      properties.put("spring.datasource.password", "");
+      properties.put("spring.flyway.enabled", "false");
+      properties.put("spring.jpa.hibernate.ddl-auto", "create");
+      properties.put("vetflow.api.changes.type", "memory");
+      properties.put("vetflow.api.search.type", "like");
+      properties.put("vetflow.api.search.medical-records.type", "like");
+      properties.put("vetflow.api.reports.type", "live");
+      properties.put("vetflow.api.stats.advisory-lock", "false");
+    } else {
+      properties.put("spring.datasource.url", settings.dbUrl());
+      properties.put("spring.datasource.username", settings.dbUser());
+      properties.put("spring.datasource.password", settings.dbPassword());
+    }
+    properties.putAll(settings.overrides());
+
+    // As command-line arguments, so they win over the application.properties they adjust.
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+        .run(properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new));
+    try {
+      DataSource dataSource = context.getBean(DataSource.class);
+      JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+      if (h2) {
+        H2_TABLES.forEach(jdbc::execute);
+      }
+
+      SyntheticDataset dataset = ("large".equals(settings.scale()) ? SyntheticDataset.large()
+          : SyntheticDataset.builder()).seed(settings.seed()).build();
+      SyntheticDataLoader.load(dataSource, dataset, Runtime.getRuntime().availableProcessors());
+      jdbc.update("UPDATE system_users SET password_hash = ? WHERE role = 'veterinarian'",
+          context.getBean(PasswordEncoder.class).encode(PASSWORD));
+
+      // Startup work that read the empty database is redone now that the dataset is in.
+      context.getBean(ClinicStatsStore.class)
+          .reconcileFrom(dataset.getAnchor().minusYears(dataset.getHistoryYears()));
+      context.getBean(TypeaheadService.class).rebuild();
+      context.getBean(MedicationSafetyService.class).reload();
+      if (!settings.dbLatency().isZero()) {
+        // Added to the API's own statement proxy, after the bulk load so only the API's statements wait.
+        ((ProxyDataSource) dataSource).getProxyConfig().getQueryListener()
+            .addListener(new SimulatedLatency(settings.dbLatency()));
+      }
+
+      LocalDate today = dataset.getAnchor();
+      Targets targets = new Targets(
+          ids(jdbc, "SELECT id FROM patients WHERE is_active ORDER BY id"),
+          ids(jdbc, "SELECT id FROM owners ORDER BY id"),
+          ids(jdbc, "SELECT id FROM system_users WHERE role = 'veterinarian' AND is_active ORDER BY id"),
+          ids(jdbc, "SELECT id FROM appointments WHERE status = 'scheduled' AND appointment_date > CURRENT_TIMESTAMP "
+              + "ORDER BY id"),
+          jdbc.queryForList("SELECT username FROM system_users WHERE role = 'veterinarian' AND is_active "
+              + "ORDER BY id", String.class),
+          PASSWORD, today);
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      log.info("API under test on port {}: {} patients, {} owners, {} veterinarians, {} scheduled appointments",
+          port, targets.patientIds().length, targets.ownerIds().length, targets.veterinarianIds().length,
+          targets.scheduledAppointmentIds().length);
+      return new ApiUnderTest(context, URI.create("http://localhost:" + port), targets);
+    } catch (RuntimeException ex) {
+      context.close();
+      throw ex;
+    }
+  }
+
+  URI baseUri() {
+    return baseUri;
+  }
+
+  Targets targets() {
+    return targets;
+  }
+
+  @Override
+  public void close() {
+    context.close();
+  }
+
+  private static long[] ids(JdbcTemplate jdbc, String sql) {
+    return jdbc.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+  }
+}
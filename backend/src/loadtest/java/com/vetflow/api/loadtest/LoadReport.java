@@ -0,0 +1,175 @@
+package com.vetflow.api.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Writes a run's results to the report directory: {@code report.json}, with stable key order so two reports
+ * diff cleanly; {@code report.md}, a table with the change against a baseline report when one is given; and
+ * one {@code <operation>.hgrm} percentile distribution per operation, which HdrHistogram's plotter reads.
+ * Latencies are in milliseconds. Both reports list where virtual threads blocked while pinned.
+ */
+final class LoadReport {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private LoadReport() {
+  }
+
+  static void write(LoadTestSettings settings, OpenModelDriver.Result result, List<PinningMonitor.Site> pinned)
+      throws IOException {
+    Path directory = settings.report();
+    Files.createDirectories(directory);
+    ObjectNode report = toJson(settings, result, pinned);
+    MAPPER.writeValue(directory.resolve("report.json").toFile(), report);
+
+    JsonNode baseline = null;
+    if (settings.baseline() != null) {
+      if (Files.exists(settings.baseline())) {
+        baseline = MAPPER.readTree(settings.baseline().toFile());
+      } else {
+        System.out.printf("No baseline at %s; copy %s there to start comparing.%n", settings.baseline(),
+            directory.resolve("report.json"));
+      }
+    }
+    String markdown = toMarkdown(report, baseline);
+    Files.writeString(directory.resolve("report.md"), markdown);
+    System.out.print(markdown);
+
+    for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+      try (PrintStream out = new PrintStream(directory.resolve(entry.getKey().key() + ".hgrm").toFile())) {
+        entry.getValue().latencies().outputPercentileDistribution(out, 1_000.0);
+      }
+    }
+  }
+
+  private static ObjectNode toJson(LoadTestSettings settings, OpenModelDriver.Result result,
+      List<PinningMonitor.Site> pinned) {
+    ObjectNode report = MAPPER.createObjectNode();
+    ObjectNode run = report.putObject("settings");
+    run.put("rate", settings.rate());
+    run.put("warmup", settings.warmup().toString());
+    run.put("duration", settings.duration().toString());
+    run.put("scale", settings.scale());
+    run.put("seed", settings.seed());
+    run.put("mix", settings.mix());
+    run.put("database", settings.dbUrl() == null ? "h2" : settings.dbUrl());
+    run.put("profiles", settings.profiles().isBlank() ? "default" : settings.profiles());
+    run.put("dbLatency", settings.dbLatency().toString());
+    ObjectNode overrides = run.putObject("overrides");
+    new TreeMap<>(settings.overrides()).forEach(overrides::put);
+    report.put("lateArrivals", result.lateArrivals());
+
+    double seconds = result.measuredNanos() / 1e9;
+    ObjectNode operations = report.putObject("operations");
+    for (Map.Entry<Operation, OperationStats> entry : result.stats().entrySet()) {
+      OperationStats stats = entry.getValue();
+      Histogram latencies = stats.latencies();
+      if (latencies.getTotalCount() == 0 && stats.dropped() == 0) {
+        continue;
+      }
+      ObjectNode operation = operations.putObject(entry.getKey().key());
+      operation.put("requests", latencies.getTotalCount());
+      operation.put("throughput", round(latencies.getTotalCount() / seconds));
+      operation.put("successful", stats.successful());
+      operation.put("otherResponses", stats.otherResponses());
+      operation.put("clientErrors", stats.clientErrors());
+      operation.put("serverErrors", stats.serverErrors());
+      operation.put("failed", stats.failed());
+      operation.put("dropped", stats.dropped());
+      ObjectNode latency = operation.putObject("latencyMs");
+      for (double percentile : PERCENTILES) {
+        latency.put(percentileKey(percentile), millis(latencies.getValueAtPercentile(percentile)));
+      }
+      latency.put("max", millis(latencies.getMaxValue()));
+      latency.put("mean", round(latencies.getMean() / 1_000.0));
+    }
+    ObjectNode pinnedSites = report.putObject("pinnedVirtualThreads");
+    for (PinningMonitor.Site site : pinned) {
+      ObjectNode entry = pinnedSites.putObject(site.frame());
+      entry.put("events", site.count());
+      entry.put("totalMs", millis(site.total().toNanos() / 1_000));
+    }
+    return report;
+  }
+
+  private static String toMarkdown(ObjectNode report, JsonNode baseline) {
+    StringBuilder out = new StringBuilder();
+    JsonNode run = report.get("settings");
+    out.append(String.format(Locale.ROOT, "# Load test: %s requests/s for %s on %s (%s dataset, seed %s, %s profile)%n%n",
+        run.get("rate").asText(), run.get("duration").asText(), run.get("database").asText(),
+        run.get("scale").asText(), run.get("seed").asText(), run.get("profiles").asText()));
+    out.append("| Operation | Requests | req/s | 2xx | 4xx | 5xx | Failed | Dropped | p50 | p90 | p99 | p99.9 | Max |\n");
+    out.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+    Map<String, JsonNode> previous = new LinkedHashMap<>();
+    if (baseline != null && baseline.has("operations")) {
+      baseline.get("operations").properties().forEach(e -> previous.put(e.getKey(), e.getValue()));
+    }
+    report.get("operations").properties().forEach(entry -> {
+      JsonNode current = entry.getValue();
+      JsonNode before = previous.get(entry.getKey());
+      out.append(String.format(Locale.ROOT, "| %s | %d | %.1f | %d | %d | %d | %d | %d |", entry.getKey(),
+          current.get("requests").asLong(), current.get("throughput").asDouble(), current.get("successful").asLong(),
+          current.get("clientErrors").asLong(), current.get("serverErrors").asLong(), current.get("failed").asLong(),
+          current.get("dropped").asLong()));
+      for (String key : new String[] {"p50", "p90", "p99", "p99.9", "max"}) {
+        double value = current.get("latencyMs").get(key).asDouble();
+        out.append(String.format(Locale.ROOT, " %.2f%s |", value, change(value, before, key)));
+      }
+      out.append('\n');
+    });
+    out.append(String.format(Locale.ROOT, "%nLate arrivals (sent over 10 ms behind schedule): %d%n",
+        report.get("lateArrivals").asLong()));
+    if (!run.get("overrides").isEmpty()) {
+      out.append("Overrides: ").append(run.get("overrides")).append('\n');
+    }
+    if (!run.get("dbLatency").asText().equals("PT0S")) {
+      out.append("Simulated database latency per statement: ").append(run.get("dbLatency").asText()).append('\n');
+    }
+    JsonNode pinned = report.get("pinnedVirtualThreads");
+    if (!pinned.isEmpty()) {
+      out.append("\n| Pinned virtual threads at | Events | Total ms |\n|---|---:|---:|\n");
+      pinned.properties().forEach(e -> out.append(String.format(Locale.ROOT, "| %s | %d | %.1f |%n",
+          e.getKey(), e.getValue().get("events").asLong(), e.getValue().get("totalMs").asDouble())));
+    }
+    if (baseline != null) {
+      out.append("Changes in brackets are against the baseline report.\n");
+    }
+    return out.toString();
+  }
+
+  private static String change(double value, JsonNode before, String key) {
+    if (before == null || !before.has("latencyMs") || before.get("latencyMs").get(key) == null) {
+      return "";
+    }
+    double previous = before.get("latencyMs").get(key).asDouble();
+    return previous <= 0 ? "" : String.format(Locale.ROOT, " (%+.0f%%)", (value - previous) / previous * 100);
+  }
+
+  private static String percentileKey(double percentile) {
+    return percentile == Math.rint(percentile) ? "p" + (int) percentile : "p" + percentile;
+  }
+
+  private static double millis(long micros) {
+    return round(micros / 1_000.0);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1_000) / 1_000.0;
+  }
+}
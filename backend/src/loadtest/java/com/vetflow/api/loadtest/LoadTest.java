@@ -0,0 +1,56 @@
+package com.vetflow.api.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the API on a synthetic dataset, drives an open-model mix of its endpoints and writes a latency report.
+ *
+ * <p>Usage: {@code LoadTest [key=value ...]}; see {@link LoadTestSettings} for the keys. Runs from the
+ * {@code loadtest} Maven profile, which passes its {@code loadtest.*} properties through.
+ */
+public final class LoadTest {
+
+  /** Pinned virtual threads blocking this long are reported; shorter pins cost little. */
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(1);
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings;
+    try {
+      settings = LoadTestSettings.parse(args);
+    } catch (RuntimeException ex) {
+      System.err.println(ex.getMessage());
+      System.err.println("Usage: LoadTest [rate=100] [warmup=PT30S] [duration=PT2M] [scale=default|large] [seed=1] "
+          + "[mix=login:2,patient:20,...] [profiles=prod] [db-url=...] [db-latency=PT0.005S] [report=target/loadtest] [baseline=report.json] "
+          + "[spring.*=...]");
+      System.exit(2);
+      return;
+    }
+
+    ExecutorService completions = Executors.newCachedThreadPool();
+    try (ApiUnderTest api = ApiUnderTest.start(settings)) {
+      HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(5))
+          .executor(completions)
+          .build();
+      PinningMonitor pinning = new PinningMonitor(PINNED_THRESHOLD);
+      OpenModelDriver.Result result;
+      try {
+        result = new OpenModelDriver(client, api.baseUri(), api.targets(), settings).run();
+      } finally {
+        pinning.close();
+      }
+      LoadReport.write(settings, result, pinning.sites());
+    } finally {
+      completions.shutdownNow();
+    }
+    // Spring and the HTTP client leave non-daemon threads behind.
+    System.exit(0);
+  }
+}
@@ -0,0 +1,75 @@
+package com.vetflow.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of one run, parsed from {@code key=value} arguments. Keys starting with {@code spring.},
+ * {@code server.} or {@code vetflow.} are passed to the API under test as property overrides.
+ *
+ * @param rate requests per second, arriving as a Poisson process whatever the response times
+ * @param warmup time at full rate before latencies are recorded
+ * @param duration time during which latencies are recorded
+ * @param timeout per-request timeout; a request timing out counts as failed
+ * @param maxInFlight requests outstanding before new arrivals are dropped (counted, not sent)
+ * @param scale {@code default} or {@code large} synthetic dataset volumes
+ * @param seed seed of both the dataset and the arrival process
+ * @param mix operation weights, e.g. {@code login:2,patient:20}; operations left out keep their default weight
+ * @param appConfig directory holding the API's application properties, so the run uses its real settings
+ * @param profiles Spring profiles to activate, comma-separated, e.g. {@code prod}; none when blank
+ * @param dbUrl database to run against; an in-memory H2 database when null
+ * @param dbLatency delay added before every statement once the dataset is loaded, for a slow database
+ * @param report directory the report is written to
+ * @param baseline an earlier {@code report.json} to compare against, or null
+ */
+record LoadTestSettings(double rate, Duration warmup, Duration duration, Duration timeout, int maxInFlight,
+    String scale, long seed, String mix, Path appConfig, String profiles, String dbUrl, String dbUser,
+    String dbPassword, Duration dbLatency, Path report, Path baseline, Map<String, String> overrides) {
+
+  static LoadTestSettings parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    Map<String, String> overrides = new LinkedHashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 1) {
+        throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+      }
+      String key = arg.substring(0, separator);
+      String value = arg.substring(separator + 1);
+      if (key.startsWith("spring.") || key.startsWith("server.") || key.startsWith("vetflow.")) {
+        overrides.put(key, value);
+      } else {
+        values.put(key, value);
+      }
+    }
+    LoadTestSettings settings = new LoadTestSettings(
+        Double.parseDouble(values.getOrDefault("rate", "100")),
+        Duration.parse(values.getOrDefault("warmup", "PT30S")),
+        Duration.parse(values.getOrDefault("duration", "PT2M")),
+        Duration.parse(values.getOrDefault("timeout", "PT10S")),
+        Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+        values.getOrDefault("scale", "default"),
+        Long.parseLong(values.getOrDefault("seed", "1")),
+        values.getOrDefault("mix", ""),
+        Path.of(values.getOrDefault("app-config", "src/main/resources")),
+        values.getOrDefault("profiles", ""),
+        blankToNull(values.get("db-url")),
+        values.getOrDefault("db-user", "vetflow"),
+        values.getOrDefault("db-password", "vetflow"),
+        Duration.parse(values.getOrDefault("db-latency", "PT0S")),
+        Path.of(values.getOrDefault("report", "target/loadtest")),
+        blankToNull(values.get("baseline")) == null ? null : Path.of(values.get("baseline")),
+        Map.copyOf(overrides));
+    if (settings.rate() <= 0 || settings.duration().isNegative() || settings.duration().isZero()
+        || settings.warmup().isNegative() || settings.dbLatency().isNegative() || settings.maxInFlight() < 1) {
+      throw new IllegalArgumentException("rate, duration and max-in-flight must be positive");
+    }
+    return settings;
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
@@ -0,0 +1,198 @@
+package com.vetflow.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-model load: requests arrive as a Poisson process at the configured rate whether or not earlier ones
+ * have completed, as real clients do, so a slow server faces a growing queue instead of a politely waiting
+ * client. Requests go out asynchronously on the JDK HTTP client and each latency is measured from the
+ * request's intended start, which keeps coordinated omission out of the histograms.
+ *
+ * <p>Every veterinarian logs in once before the run; requests then carry the token of a random veterinarian,
+ * refreshed whenever a login in the mix succeeds.
+ */
+@Slf4j
+final class OpenModelDriver {
+
+  /** A request sent this late after its intended start counts as a late arrival: the driver is saturated. */
+  private static final long LATE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+  /** What the run measured. */
+  record Result(Map<Operation, OperationStats> stats, long lateArrivals, long measuredNanos) {}
+
+  private final HttpClient client;
+  private final URI baseUri;
+  private final Targets targets;
+  private final LoadTestSettings settings;
+  private final AtomicReferenceArray<String> tokens;
+
+  OpenModelDriver(HttpClient client, URI baseUri, Targets targets, LoadTestSettings settings) {
+    this.client = client;
+    this.baseUri = baseUri;
+    this.targets = targets;
+    this.settings = settings;
+    this.tokens = new AtomicReferenceArray<>(targets.usernames().size());
+  }
+
+  Result run() throws InterruptedException {
+    logInEveryone();
+    Operation[] operations = Operation.values();
+    double[] cumulative = cumulativeWeights(operations);
+    Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    for (Operation operation : operations) {
+      stats.put(operation, new OperationStats());
+    }
+    LongAdder lateArrivals = new LongAdder();
+    Semaphore inFlight = new Semaphore(settings.maxInFlight());
+    SplittableRandom arrivals = new SplittableRandom(settings.seed());
+    double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+
+    long start = System.nanoTime();
+    long measureFrom = start + settings.warmup().toNanos();
+    long end = measureFrom + settings.duration().toNanos();
+    long intended = start;
+    log.info("Driving {} requests/s: {} warm-up, {} measured", settings.rate(), settings.warmup(),
+        settings.duration());
+    while (true) {
+      intended += (long) (-Math.log(1 - arrivals.nextDouble()) * meanGapNanos);
+      if (intended >= end) {
+        break;
+      }
+      long wait = intended - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      Operation operation = pick(operations, cumulative, arrivals);
+      SplittableRandom random = arrivals.split();
+      boolean measured = intended >= measureFrom;
+      OperationStats operationStats = stats.get(operation);
+      if (measured && System.nanoTime() - intended > LATE_NANOS) {
+        lateArrivals.increment();
+      }
+      if (!inFlight.tryAcquire()) {
+        if (measured) {
+          operationStats.recordDropped();
+        }
+        continue;
+      }
+      long scheduled = intended;
+      client.sendAsync(authorised(operation, random), BodyHandlers.ofString())
+          .whenComplete((response, error) -> {
+            long latency = System.nanoTime() - scheduled;
+            inFlight.release();
+            if (response != null && operation == Operation.LOGIN) {
+              keepToken(response);
+            }
+            if (measured) {
+              if (response != null) {
+                operationStats.recordResponse(response.statusCode(), latency);
+              } else {
+                operationStats.recordFailure(latency);
+              }
+            }
+          });
+    }
+    if (!inFlight.tryAcquire(settings.maxInFlight(), settings.timeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+      log.warn("{} requests still outstanding after the run", settings.maxInFlight() - inFlight.availablePermits());
+    }
+    return new Result(stats, lateArrivals.sum(), end - measureFrom);
+  }
+
+  private HttpRequest authorised(Operation operation, SplittableRandom random) {
+    HttpRequest.Builder request = operation.request(baseUri, targets, random).timeout(settings.timeout());
+    if (operation != Operation.LOGIN) {
+      String token = tokens.get(random.nextInt(tokens.length()));
+      if (token != null) {
+        request.header("Authorization", "Bearer " + token);
+      }
+    }
+    return request.build();
+  }
+
+  private void logInEveryone() throws InterruptedException {
+    for (int user = 0; user < targets.usernames().size(); user++) {
+      HttpRequest login = HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/token"))
+          .header("Content-Type", "application/json")
+          .timeout(settings.timeout())
+          .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"%s\",\"password\":\"%s\"}"
+              .formatted(targets.usernames().get(user), targets.password())))
+          .build();
+      try {
+        HttpResponse<String> response = client.send(login, BodyHandlers.ofString());
+        Matcher token = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !token.find()) {
+          throw new IllegalStateException("Login as %s failed with %d: %s"
+              .formatted(targets.usernames().get(user), response.statusCode(), response.body()));
+        }
+        tokens.set(user, token.group(1));
+      } catch (IOException ex) {
+        throw new IllegalStateException("Login request failed", ex);
+      }
+    }
+  }
+
+  private void keepToken(HttpResponse<String> response) {
+    Matcher token = ACCESS_TOKEN.matcher(response.body());
+    if (response.statusCode() == 200 && token.find()) {
+      // The response does not say who logged in; any slot will do since all tokens are equivalent.
+      tokens.set(Math.floorMod(token.group(1).hashCode(), tokens.length()), token.group(1));
+    }
+  }
+
+  /** Weights from the {@code mix} setting over the defaults; operations with nothing to target get none. */
+  private double[] cumulativeWeights(Operation[] operations) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (Operation operation : operations) {
+      weights.put(operation, operation.defaultWeight());
+    }
+    if (!settings.mix().isBlank()) {
+      for (String entry : settings.mix().split(",")) {
+        String[] parts = entry.trim().split(":");
+        weights.put(Operation.forKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+      }
+    }
+    if (targets.scheduledAppointmentIds().length == 0 && weights.get(Operation.RESCHEDULE) > 0) {
+      log.warn("No scheduled appointments in the dataset; leaving reschedule out of the mix");
+      weights.put(Operation.RESCHEDULE, 0);
+    }
+    double[] cumulative = new double[operations.length];
+    double total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += weights.get(operations[i]);
+      cumulative[i] = total;
+    }
+    if (total <= 0) {
+      throw new IllegalArgumentException("The mix gives every operation a weight of zero");
+    }
+    return cumulative;
+  }
+
+  private static Operation pick(Operation[] operations, double[] cumulative, SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble(cumulative[cumulative.length - 1]));
+    index = index >= 0 ? index + 1 : -index - 1;
+    // Skip zero-weight operations sharing the boundary, which a binary search may land on.
+    while (index > 0 && index < operations.length && cumulative[index] == cumulative[index - 1]) {
+      index++;
+    }
+    return operations[Math.min(index, operations.length - 1)];
+  }
+}
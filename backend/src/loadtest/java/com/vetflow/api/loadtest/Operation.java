@@ -0,0 +1,158 @@
+package com.vetflow.api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * The endpoints replayed, with their default share of the traffic. There is no calendar endpoint, so the day
+ * dashboard ({@code /stats?date=}) and a patient's appointment list stand in for calendar reads. Writes pick
+ * targets at random and may conflict with each other; conflicts are counted under their status like any other
+ * response.
+ */
+enum Operation {
+
+  LOGIN("login", 2) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return json(base, "/api/v1/auth/token").POST(body("{\"username\":\"%s\",\"password\":\"%s\"}"
+          .formatted(pick(random, targets.usernames()), targets.password())));
+    }
+  },
+  PATIENT("patient", 20) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/patients/" + pick(random, targets.patientIds()));
+    }
+  },
+  OWNER_PATIENTS("owner-patients", 15) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/owners/%d/patients".formatted(pick(random, targets.ownerIds())));
+    }
+  },
+  PATIENT_APPOINTMENTS("patient-appointments", 15) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/patients/%d/appointments".formatted(pick(random, targets.patientIds())));
+    }
+  },
+  TIMELINE("timeline", 10) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/patients/%d/timeline?limit=20".formatted(pick(random, targets.patientIds())));
+    }
+  },
+  DAY_DASHBOARD("day-dashboard", 10) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/stats?date=" + targets.today().plusDays(random.nextInt(-7, 8)));
+    }
+  },
+  SCHEDULE("schedule", 10) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      String type = TYPES.get(random.nextInt(TYPES.size()));
+      return json(base, "/api/v1/appointments").POST(body(
+          "{\"patientId\":%d,\"veterinarianId\":%d,\"appointmentDate\":\"%s\",\"type\":\"%s\",\"priority\":\"NORMAL\"}"
+              .formatted(pick(random, targets.patientIds()), pick(random, targets.veterinarianIds()),
+                  futureSlot(random, targets.today()), type)));
+    }
+  },
+  RESCHEDULE("reschedule", 8) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return json(base, "/api/v1/appointments/%d/reschedule".formatted(pick(random, targets.scheduledAppointmentIds())))
+          .method("PATCH", body("{\"newDate\":\"%s\"}".formatted(futureSlot(random, targets.today()))));
+    }
+  },
+  UPDATE_PATIENT("update-patient", 10) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return json(base, "/api/v1/patients/" + pick(random, targets.patientIds()))
+          .PUT(body(String.format(Locale.ROOT, "{\"weight\":%.2f}", 2 + random.nextDouble() * 38)));
+    }
+  },
+  /** Off by default; give it a weight to replay report downloads alongside the desk traffic. */
+  REPORT("report", 0) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      YearMonth to = YearMonth.from(targets.today());
+      return get(base, "/api/v1/reports/vet-utilisation?from=%s&to=%s".formatted(to.minusMonths(23), to));
+    }
+  },
+  /** Off by default; a full delta sync download, as a client does on first start. */
+  SYNC("sync", 0) {
+    @Override
+    HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random) {
+      return get(base, "/api/v1/sync");
+    }
+  };
+
+  private static final List<String> TYPES = List.of("CHECKUP", "VACCINATION", "SURGERY", "GROOMING", "EMERGENCY");
+
+  private final String key;
+  private final int defaultWeight;
+
+  Operation(String key, int defaultWeight) {
+    this.key = key;
+    this.defaultWeight = defaultWeight;
+  }
+
+  String key() {
+    return key;
+  }
+
+  int defaultWeight() {
+    return defaultWeight;
+  }
+
+  /** The request, without the bearer token, which the driver adds. */
+  abstract HttpRequest.Builder request(URI base, Targets targets, SplittableRandom random);
+
+  static Operation forKey(String key) {
+    for (Operation operation : values()) {
+      if (operation.key.equals(key)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("Unknown operation '" + key + "'");
+  }
+
+  private static HttpRequest.Builder get(URI base, String path) {
+    return HttpRequest.newBuilder(base.resolve(path)).GET();
+  }
+
+  private static HttpRequest.Builder json(URI base, String path) {
+    return HttpRequest.newBuilder(base.resolve(path)).header("Content-Type", "application/json");
+  }
+
+  private static HttpRequest.BodyPublisher body(String json) {
+    return BodyPublishers.ofString(json);
+  }
+
+  private static long pick(SplittableRandom random, long[] ids) {
+    return ids[random.nextInt(ids.length)];
+  }
+
+  private static String pick(SplittableRandom random, List<String> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  /** A weekday quarter-hour slot in the next four weeks, during opening hours. */
+  private static LocalDateTime futureSlot(SplittableRandom random, LocalDate today) {
+    LocalDate day = today.plusDays(random.nextInt(1, 29));
+    if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+      day = day.plusDays(2);
+    }
+    return day.atTime(LocalTime.of(8, 0).plusMinutes(15L * random.nextInt(44)));
+  }
+}
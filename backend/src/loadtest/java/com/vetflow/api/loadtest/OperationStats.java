@@ -0,0 +1,75 @@
+package com.vetflow.api.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes of one operation during the measured window: an HdrHistogram of latencies in microseconds, from
+ * each request's intended start so a stalled server cannot hide its backlog, and counts by response class.
+ * Written to concurrently by the HTTP client's completion threads.
+ */
+final class OperationStats {
+
+  private final Histogram latencies = new ConcurrentHistogram(3);
+  private final LongAdder otherResponses = new LongAdder();
+  private final LongAdder successful = new LongAdder();
+  private final LongAdder clientErrors = new LongAdder();
+  private final LongAdder serverErrors = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  void recordResponse(int status, long latencyNanos) {
+    latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+    if (status >= 500) {
+      serverErrors.increment();
+    } else if (status >= 400) {
+      clientErrors.increment();
+    } else if (status >= 200 && status < 300) {
+      successful.increment();
+    } else {
+      otherResponses.increment();
+    }
+  }
+
+  /** A request that got no response: connection error or timeout. Its latency is still recorded. */
+  void recordFailure(long latencyNanos) {
+    latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+    failed.increment();
+  }
+
+  /** An arrival not sent because {@code max-in-flight} requests were outstanding. */
+  void recordDropped() {
+    dropped.increment();
+  }
+
+  Histogram latencies() {
+    return latencies;
+  }
+
+  long successful() {
+    return successful.sum();
+  }
+
+  /** 1xx and 3xx responses. */
+  long otherResponses() {
+    return otherResponses.sum();
+  }
+
+  long clientErrors() {
+    return clientErrors.sum();
+  }
+
+  long serverErrors() {
+    return serverErrors.sum();
+  }
+
+  long failed() {
+    return failed.sum();
+  }
+
+  long dropped() {
+    return dropped.sum();
+  }
+}
@@ -0,0 +1,67 @@
+package com.vetflow.api.loadtest;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Records JFR {@code jdk.VirtualThreadPinned} events while the load runs: a virtual thread that blocked
+ * while pinned to its carrier, typically inside a {@code synchronized} block or a native frame. Events are
+ * grouped by their first frame outside the JDK, which names the code holding the monitor or its caller.
+ * Platform-thread runs record none.
+ */
+final class PinningMonitor implements AutoCloseable {
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+
+  /** Pinned blocking at one place in the code. */
+  record Site(String frame, long count, Duration total) {}
+
+  private final RecordingStream stream = new RecordingStream();
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> nanos = new ConcurrentHashMap<>();
+
+  PinningMonitor(Duration threshold) {
+    stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(EVENT, event -> {
+      String site = site(event.getStackTrace());
+      nanos.computeIfAbsent(site, key -> new LongAdder()).add(event.getDuration().toNanos());
+      counts.computeIfAbsent(site, key -> new LongAdder()).increment();
+    });
+    stream.startAsync();
+  }
+
+  /** Sites by number of pinned events, most first. */
+  List<Site> sites() {
+    Map<String, Site> sites = new LinkedHashMap<>();
+    counts.forEach((frame, count) ->
+        sites.put(frame, new Site(frame, count.sum(), Duration.ofNanos(nanos.get(frame).sum()))));
+    return sites.values().stream().sorted(Comparator.comparingLong(Site::count).reversed()).toList();
+  }
+
+  @Override
+  public void close() {
+    stream.close();
+  }
+
+  private static String site(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "(no stack trace)";
+    }
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      String type = frame.getMethod().getType().getName();
+      if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+        return type + "." + frame.getMethod().getName();
+      }
+    }
+    return "(JDK only)";
+  }
+}
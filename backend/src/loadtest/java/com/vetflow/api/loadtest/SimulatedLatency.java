@@ -0,0 +1,35 @@
+package com.vetflow.api.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Sleeps before every statement, holding its connection, to stand in for a database slower than the
+ * in-memory one: a network round trip or a busy server. The calling thread is blocked but not busy, as it
+ * would be waiting on a socket, which is what separates platform from virtual threads.
+ */
+final class SimulatedLatency implements QueryExecutionListener {
+
+  private final Duration latency;
+
+  SimulatedLatency(Duration latency) {
+    this.latency = latency;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    try {
+      Thread.sleep(latency);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+  }
+}
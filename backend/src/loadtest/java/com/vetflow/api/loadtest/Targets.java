@@ -0,0 +1,11 @@
+package com.vetflow.api.loadtest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What the operations pick from: ids read back from the loaded dataset and the credentials of its
+ * veterinarians, who all share one password for the run.
+ */
+record Targets(long[] patientIds, long[] ownerIds, long[] veterinarianIds, long[] scheduledAppointmentIds,
+    List<String> usernames, String password, LocalDate today) {}
@@ -5,8 +5,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.vetflow.api.application.appointment.AppointmentChangedEvent.ChangeType;
+import com.vetflow.api.application.shared.OptimisticLocking;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
 import com.vetflow.api.audit.AuditService;
@@ -25,6 +28,7 @@ public class AppointmentApplicationService {
   private final AppointmentRepository appointmentRepository;
   private final PatientRepository patientRepository;
   private final AuditService auditService;
+  private final ApplicationEventPublisher eventPublisher;
   private static final String COMMAND_MUST_NOT_BE_NULL_MESSAGE = "command must not be null";
   private static final String APPOINTMENT_TABLE_NAME = "appointments";
 
@@ -54,7 +58,9 @@ public class AppointmentApplicationService {
     }
     Appointment saved = appointmentRepository.save(appointment);
     auditService.recordCreation(APPOINTMENT_TABLE_NAME, saved.getId(), saved);
-    return toResult(saved);
+    AppointmentResult result = toResult(saved);
+    eventPublisher.publishEvent(new AppointmentChangedEvent(ChangeType.SCHEDULED, result, null));
+    return result;
   }
 
   public AppointmentResult rescheduleAppointment(RescheduleAppointmentCommand command) {
@@ -65,12 +71,17 @@ public class AppointmentApplicationService {
     if (command.newDate() == null) {
       throw new ValidationException("newDate is required");
     }
-    Appointment appointment = loadAppointment(command.appointmentId());
-    Map<String, Object> before = auditService.snapshot(appointment);
-    appointment.reschedule(command.newDate());
-    Appointment saved = appointmentRepository.save(appointment);
-    auditService.recordUpdate(APPOINTMENT_TABLE_NAME, saved.getId(), before, saved);
-    return toResult(saved);
+    return OptimisticLocking.update(command.expectedVersion(), () -> {
+      Appointment appointment = loadAppointment(command.appointmentId(), command.expectedVersion());
+      Map<String, Object> before = auditService.snapshot(appointment);
+      AppointmentResult previous = toResult(appointment);
+      appointment.reschedule(command.newDate());
+      Appointment saved = appointmentRepository.save(appointment);
+      auditService.recordUpdate(APPOINTMENT_TABLE_NAME, saved.getId(), before, saved);
+      AppointmentResult result = toResult(saved);
+      eventPublisher.publishEvent(new AppointmentChangedEvent(ChangeType.RESCHEDULED, result, previous));
+      return result;
+    });
   }
 
   public AppointmentResult cancelAppointment(CancelAppointmentCommand command) {
@@ -78,12 +89,24 @@ public class AppointmentApplicationService {
     if (command.appointmentId() == null) {
       throw new ValidationException("appointmentId is required");
     }
-    Appointment appointment = loadAppointment(command.appointmentId());
-    Map<String, Object> before = auditService.snapshot(appointment);
-    appointment.cancel(command.reason());
-    Appointment saved = appointmentRepository.save(appointment);
-    auditService.recordUpdate(APPOINTMENT_TABLE_NAME, saved.getId(), before, saved);
-    return toResult(saved);
+    return OptimisticLocking.update(command.expectedVersion(), () -> {
+      Appointment appointment = loadAppointment(command.appointmentId(), command.expectedVersion());
+      Map<String, Object> before = auditService.snapshot(appointment);
+      AppointmentResult previous = toResult(appointment);
+      appointment.cancel(command.reason());
+      Appointment saved = appointmentRepository.save(appointment);
+      auditService.recordUpdate(APPOINTMENT_TABLE_NAME, saved.getId(), before, saved);
+      AppointmentResult result = toResult(saved);
+      eventPublisher.publishEvent(new AppointmentChangedEvent(ChangeType.CANCELLED, result, previous));
+      return result;
+    });
+  }
+
+  public AppointmentResult getAppointment(Long appointmentId) {
+    if (appointmentId == null) {
+      throw new ValidationException("appointmentId is required");
+    }
+    return toResult(loadAppointment(appointmentId));
   }
 
   public List<AppointmentResult> listAll() {
@@ -114,6 +137,12 @@ public class AppointmentApplicationService {
         .orElseThrow(() -> new ResourceNotFoundException("Appointment %d not found".formatted(appointmentId)));
   }
 
+  private Appointment loadAppointment(Long appointmentId, Long expectedVersion) {
+    Appointment appointment = loadAppointment(appointmentId);
+    OptimisticLocking.checkVersion("Appointment", appointmentId, expectedVersion, appointment.getVersion());
+    return appointment;
+  }
+
   private AppointmentResult toResult(Appointment appointment) {
     return new AppointmentResult(appointment.getId(),
         appointment.getPatient().getId(),
@@ -123,6 +152,7 @@ public class AppointmentApplicationService {
         appointment.getStatus(),
         appointment.getPriority(),
         appointment.getNotes(),
-        appointment.getCreatedAt());
+        appointment.getCreatedAt(),
+        appointment.getVersion());
   }
 }
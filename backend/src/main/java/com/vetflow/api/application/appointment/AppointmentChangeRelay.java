@@ -0,0 +1,65 @@
+package com.vetflow.api.application.appointment;
+
+import java.util.Locale;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent.ChangeType;
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects appointment changes to the {@link ChangeBus}: local changes are announced to the other nodes, and
+ * changes announced by other nodes are reloaded and republished here as remote
+ * {@link AppointmentChangedEvent}s, so the triage queue and appointment stream see every node's writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentChangeRelay {
+
+  static final String TABLE = "appointments";
+
+  private final ChangeBus changeBus;
+  private final AppointmentApplicationService appointmentApplicationService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener
+  public void onLocalChange(AppointmentChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    Long version = event.appointment().version();
+    changeBus.publish(TABLE, event.appointment().id(), version == null ? 0L : version,
+        event.changeType().name().toLowerCase(Locale.ROOT));
+  }
+
+  @EventListener
+  public void onRemoteChange(ChangeNotification notification) {
+    if (!notification.remote() || !notification.concerns(TABLE) || notification.id() == null) {
+      return;
+    }
+    ChangeType changeType;
+    try {
+      changeType = ChangeType.valueOf(notification.action().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      log.debug("Ignoring appointment notification with action {}", notification.action());
+      return;
+    }
+    try {
+      AppointmentResult appointment = appointmentApplicationService.getAppointment(notification.id());
+      eventPublisher.publishEvent(new AppointmentChangedEvent(changeType, appointment, null, true));
+    } catch (ResourceNotFoundException ex) {
+      log.debug("Appointment {} announced by another node no longer exists", notification.id());
+    } catch (DataAccessException ex) {
+      log.warn("Could not reload appointment {} announced by another node", notification.id(), ex);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.vetflow.api.application.appointment;
+
+import java.util.Objects;
+
+/**
+ * Published by {@link AppointmentApplicationService} once an appointment change has been persisted.
+ *
+ * <p>{@code previous} holds the state before the change and is {@code null} for newly scheduled
+ * appointments and for changes relayed from another node, which are flagged {@code remote}.</p>
+ */
+public record AppointmentChangedEvent(ChangeType changeType,
+                                      AppointmentResult appointment,
+                                      AppointmentResult previous,
+                                      boolean remote) {
+
+  public enum ChangeType { SCHEDULED, RESCHEDULED, CANCELLED }
+
+  public AppointmentChangedEvent {
+    Objects.requireNonNull(changeType, "changeType must not be null");
+    Objects.requireNonNull(appointment, "appointment must not be null");
+  }
+
+  public AppointmentChangedEvent(ChangeType changeType, AppointmentResult appointment, AppointmentResult previous) {
+    this(changeType, appointment, previous, false);
+  }
+}
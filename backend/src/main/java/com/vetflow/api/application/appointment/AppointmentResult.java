@@ -15,4 +15,5 @@ public record AppointmentResult(Long id,
                                 Status status,
                                 Priority priority,
                                 String notes,
-                                LocalDateTime createdAt) {}
\ No newline at end of file
+                                LocalDateTime createdAt,
+                                Long version) {}
\ No newline at end of file
@@ -1,4 +1,4 @@
 package com.vetflow.api.application.appointment;
 
 /** Command to cancel an existing appointment. */
-public record CancelAppointmentCommand(Long appointmentId, String reason) {}
\ No newline at end of file
+public record CancelAppointmentCommand(Long appointmentId, String reason, Long expectedVersion) {}
\ No newline at end of file
@@ -3,4 +3,4 @@ package com.vetflow.api.application.appointment;
 import java.time.LocalDateTime;
 
 /** Command to reschedule an existing appointment. */
-public record RescheduleAppointmentCommand(Long appointmentId, LocalDateTime newDate) {}
\ No newline at end of file
+public record RescheduleAppointmentCommand(Long appointmentId, LocalDateTime newDate, Long expectedVersion) {}
\ No newline at end of file
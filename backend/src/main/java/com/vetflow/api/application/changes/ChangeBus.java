@@ -0,0 +1,17 @@
+package com.vetflow.api.application.changes;
+
+/**
+ * Internal bus announcing committed changes to every API node.
+ *
+ * <p>Notifications are delivered to local subscribers as {@link ChangeNotification} application events. When
+ * the bus cannot guarantee delivery (for example while its database connection is down) it publishes
+ * {@link ChangeBusResyncEvent}s instead, and subscribers must refresh whatever they derived from the
+ * database.</p>
+ */
+public interface ChangeBus {
+
+  /**
+   * Announces a change. Inside a transaction the notification is sent only if and when it commits.
+   */
+  void publish(String table, Long id, long version, String action);
+}
@@ -0,0 +1,7 @@
+package com.vetflow.api.application.changes;
+
+/**
+ * Published when notifications from other nodes may have been missed. Subscribers holding state derived from
+ * the database should reload it.
+ */
+public record ChangeBusResyncEvent(String reason) {}
@@ -0,0 +1,22 @@
+package com.vetflow.api.application.changes;
+
+import java.util.Objects;
+
+/**
+ * Compact description of a committed row change, small enough to travel as a database notification.
+ * Subscribers reload the row themselves; the notification only says that it changed.
+ *
+ * <p>{@code version} is the row's optimistic-lock version where the table has one and {@code 0} otherwise.
+ * {@code remote} is {@code true} when the change was committed by another API node.</p>
+ */
+public record ChangeNotification(String table, Long id, long version, String action, boolean remote) {
+
+  public ChangeNotification {
+    Objects.requireNonNull(table, "table must not be null");
+    Objects.requireNonNull(action, "action must not be null");
+  }
+
+  public boolean concerns(String tableName) {
+    return table.equals(tableName);
+  }
+}
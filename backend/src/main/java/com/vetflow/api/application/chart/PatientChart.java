@@ -0,0 +1,29 @@
+package com.vetflow.api.application.chart;
+
+import java.util.List;
+import java.util.Set;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.medicalrecord.MedicalRecordResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.veterinarian.VeterinarianResult;
+
+/**
+ * Everything the UI needs to render a patient in one result. Sections listed in {@code unavailable} could not
+ * be loaded in time and are empty; the client can fetch them separately or retry.
+ */
+public record PatientChart(PatientResult patient,
+                           OwnerResult owner,
+                           List<AppointmentResult> upcomingAppointments,
+                           List<AppointmentResult> pastAppointments,
+                           List<MedicalRecordResult> recentMedicalRecords,
+                           List<VeterinarianResult> veterinarians,
+                           Set<Section> unavailable) {
+
+  public enum Section {
+    APPOINTMENTS,
+    MEDICAL_RECORDS,
+    VETERINARIANS
+  }
+}
@@ -0,0 +1,218 @@
+package com.vetflow.api.application.chart;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.chart.PatientChart.Section;
+import com.vetflow.api.application.medicalrecord.MedicalRecordResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.shared.ApplicationException;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.veterinarian.VeterinarianResult;
+import com.vetflow.api.config.ChartProperties;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.MedicalRecord;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.Veterinarian;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.MedicalRecordRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.VeterinarianRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Assembles a {@link PatientChart} by fetching its sections concurrently on a bounded executor. The patient
+ * (with its owner), appointments and medical records load in parallel; veterinarians follow as soon as both
+ * lists are known. The patient is looked up once, and only its outcome decides whether the chart exists.
+ */
+@Slf4j
+public class PatientChartService {
+
+  private final PatientRepository patientRepository;
+  private final AppointmentRepository appointmentRepository;
+  private final MedicalRecordRepository medicalRecordRepository;
+  private final VeterinarianRepository veterinarianRepository;
+  private final ChartProperties properties;
+  private final ExecutorService executor;
+  private final Clock clock;
+
+  public PatientChartService(PatientRepository patientRepository,
+                             AppointmentRepository appointmentRepository,
+                             MedicalRecordRepository medicalRecordRepository,
+                             VeterinarianRepository veterinarianRepository,
+                             ChartProperties properties,
+                             ExecutorService executor,
+                             Clock clock) {
+    this.patientRepository = patientRepository;
+    this.appointmentRepository = appointmentRepository;
+    this.medicalRecordRepository = medicalRecordRepository;
+    this.veterinarianRepository = veterinarianRepository;
+    this.properties = properties;
+    this.executor = executor;
+    this.clock = clock;
+  }
+
+  public PatientChart chart(Long patientId) {
+    if (patientId == null) {
+      throw new ValidationException("patientId is required");
+    }
+    CompletableFuture<Patient> patient = fetch(() -> patientRepository.findById(patientId)
+        .orElseThrow(() -> new ResourceNotFoundException("Patient %d not found".formatted(patientId))),
+        properties.getPatientTimeout());
+    CompletableFuture<List<Appointment>> appointments = fetch(() -> appointmentRepository.findByPatient(patientId),
+        properties.getAppointmentsTimeout());
+    CompletableFuture<List<MedicalRecord>> records = fetch(() -> medicalRecordRepository.findByPatientId(patientId),
+        properties.getMedicalRecordsTimeout());
+    CompletableFuture<List<Veterinarian>> veterinarians = appointments.exceptionally(ex -> List.of())
+        .thenCombine(records.exceptionally(ex -> List.of()), PatientChartService::veterinarianIds)
+        .thenCompose(ids -> ids.isEmpty()
+            ? CompletableFuture.completedFuture(List.of())
+            : fetch(() -> veterinarianRepository.findAllById(ids), properties.getVeterinariansTimeout()));
+
+    Patient loaded = required(patient, patientId);
+    Set<Section> unavailable = EnumSet.noneOf(Section.class);
+    List<Appointment> appointmentList = optional(appointments, Section.APPOINTMENTS, patientId, unavailable);
+    List<MedicalRecord> recordList = optional(records, Section.MEDICAL_RECORDS, patientId, unavailable);
+    List<Veterinarian> veterinarianList = optional(veterinarians, Section.VETERINARIANS, patientId, unavailable);
+
+    LocalDateTime now = LocalDateTime.now(clock);
+    return new PatientChart(toResult(loaded),
+        toResult(loaded.getOwner()),
+        appointmentList.stream()
+            .filter(appointment -> !appointment.getAppointmentDate().isBefore(now))
+            .sorted(Comparator.comparing(Appointment::getAppointmentDate))
+            .map(this::toResult)
+            .toList(),
+        appointmentList.stream()
+            .filter(appointment -> appointment.getAppointmentDate().isBefore(now))
+            .sorted(Comparator.comparing(Appointment::getAppointmentDate).reversed())
+            .limit(properties.getRecentLimit())
+            .map(this::toResult)
+            .toList(),
+        recordList.stream()
+            .sorted(Comparator.comparing(MedicalRecord::getVisitDate).reversed())
+            .limit(properties.getRecentLimit())
+            .map(this::toResult)
+            .toList(),
+        veterinarianList.stream().map(VeterinarianResult::from).toList(),
+        unavailable);
+  }
+
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> CompletableFuture<T> fetch(Supplier<T> task, Duration timeout) {
+    return CompletableFuture.supplyAsync(task, executor).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private static Set<Long> veterinarianIds(List<Appointment> appointments, List<MedicalRecord> records) {
+    Set<Long> ids = new LinkedHashSet<>();
+    Stream.concat(appointments.stream().map(Appointment::getVeterinarianId),
+        records.stream().map(MedicalRecord::getVeterinarianId))
+        .filter(Objects::nonNull)
+        .forEach(ids::add);
+    return ids;
+  }
+
+  private static Patient required(CompletableFuture<Patient> patient, Long patientId) {
+    try {
+      return patient.get();
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof ApplicationException applicationException) {
+        throw applicationException;
+      }
+      if (cause instanceof TimeoutException) {
+        throw new ServiceUnavailableException("Patient %d could not be loaded in time".formatted(patientId), cause);
+      }
+      throw new ServiceUnavailableException("Patient %d could not be loaded".formatted(patientId), cause);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException("Interrupted while loading patient %d".formatted(patientId), ex);
+    }
+  }
+
+  private static <T> List<T> optional(CompletableFuture<List<T>> section, Section name, Long patientId,
+      Set<Section> unavailable) {
+    try {
+      return section.join();
+    } catch (CompletionException ex) {
+      log.warn("Chart section {} for patient {} is unavailable: {}", name, patientId, ex.getCause().toString());
+      unavailable.add(name);
+      return List.of();
+    }
+  }
+
+  private PatientResult toResult(Patient patient) {
+    return new PatientResult(patient.getId(),
+        patient.getName(),
+        patient.getSpecies().name(),
+        patient.getBreed(),
+        patient.getBirthDate(),
+        patient.getWeight(),
+        patient.isActive(),
+        patient.getOwner().getId(),
+        patient.getCreatedAt(),
+        patient.getUpdatedAt(),
+        patient.getVersion());
+  }
+
+  private OwnerResult toResult(Owner owner) {
+    return new OwnerResult(owner.getId(),
+        owner.getName(),
+        owner.getPhone(),
+        owner.getEmail(),
+        owner.getAddress(),
+        owner.getCreatedAt(),
+        owner.getUpdatedAt(),
+        owner.getVersion());
+  }
+
+  private AppointmentResult toResult(Appointment appointment) {
+    return new AppointmentResult(appointment.getId(),
+        appointment.getPatient().getId(),
+        appointment.getVeterinarianId(),
+        appointment.getAppointmentDate(),
+        appointment.getType(),
+        appointment.getStatus(),
+        appointment.getPriority(),
+        appointment.getNotes(),
+        appointment.getCreatedAt(),
+        appointment.getVersion());
+  }
+
+  private MedicalRecordResult toResult(MedicalRecord medicalRecord) {
+    return new MedicalRecordResult(medicalRecord.getId(),
+        medicalRecord.getPatient().getId(),
+        medicalRecord.getVeterinarianId(),
+        medicalRecord.getVisitDate(),
+        medicalRecord.getDiagnosis(),
+        medicalRecord.getTreatment(),
+        medicalRecord.getMedications(),
+        medicalRecord.getNotes(),
+        medicalRecord.getCreatedAt(),
+        medicalRecord.getVersion());
+  }
+}
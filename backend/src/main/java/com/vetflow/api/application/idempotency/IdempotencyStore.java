@@ -0,0 +1,175 @@
+package com.vetflow.api.application.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.config.IdempotencyProperties;
+import com.vetflow.api.domain.model.IdempotencyRecord;
+import com.vetflow.api.domain.port.IdempotencyRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers the first response to each {@code (principal, Idempotency-Key)} pair for the configured TTL.
+ *
+ * <p>A request {@link #claim claims} its key before it runs by inserting a pending record, and the unique
+ * constraint on the table lets only one node win; the winner {@link #complete completes} the record with its
+ * response or {@link #release releases} it. The claim is a lease of {@code pending-timeout}, so a key left
+ * pending by a node that died is taken over once it expires. On this node, requests waiting for a claim to
+ * finish are woken as soon as it does; a claim held by another node is polled.
+ */
+@Slf4j
+@Service
+public class IdempotencyStore {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final IdempotencyRecordRepository repository;
+  private final IdempotencyProperties properties;
+  private final Clock clock;
+  private final Map<String, CompletableFuture<Void>> running = new ConcurrentHashMap<>();
+
+  @Autowired
+  public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties) {
+    this(repository, properties, Clock.systemDefaultZone());
+  }
+
+  IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties, Clock clock) {
+    this.repository = repository;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  public Optional<IdempotencyRecord> find(String principal, String key) {
+    return repository.findActive(principal, key, LocalDateTime.now(clock));
+  }
+
+  /**
+   * Claims the key for a request about to run. When it is held already the claim carries the record holding
+   * it, which is pending while that request runs, or no record when the holder has not stored it yet.
+   */
+  public Claim claim(String principal, String key, String requestFingerprint) {
+    String id = id(principal, key);
+    CompletableFuture<Void> finished = new CompletableFuture<>();
+    if (running.putIfAbsent(id, finished) != null) {
+      return new Claim(principal, key, null, find(principal, key).orElse(null));
+    }
+    // Truncated so the claim time reads back equal from any database column precision.
+    LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+    IdempotencyRecord pending = new IdempotencyRecord(principal, key, requestFingerprint, null, null, null, null,
+        now, now.plus(properties.getPendingTimeout()));
+    boolean claimed;
+    try {
+      claimed = repository.claim(pending, now);
+    } catch (DataIntegrityViolationException ex) {
+      log.debug("Idempotency key {} for {} was claimed concurrently by another node", key, principal);
+      claimed = false;
+    } catch (RuntimeException ex) {
+      finish(id);
+      throw ex;
+    }
+    if (!claimed) {
+      finish(id);
+      return new Claim(principal, key, null, find(principal, key).orElse(null));
+    }
+    return new Claim(principal, key, now, null);
+  }
+
+  /** Stores the response of the request holding the claim and wakes the retries waiting for it. */
+  public void complete(Claim claim, int statusCode, String contentType, String location, String responseBody) {
+    requireAcquired(claim);
+    try {
+      LocalDateTime now = LocalDateTime.now(clock);
+      IdempotencyRecord record = new IdempotencyRecord(claim.principal(), claim.key(), null, statusCode,
+          contentType, location, responseBody, claim.claimedAt(), now.plus(properties.getTtl()));
+      if (!repository.complete(record)) {
+        log.warn("Idempotency key {} for {} was taken over before its response was stored; raise "
+            + "vetflow.api.idempotency.pending-timeout above the slowest request", claim.key(), claim.principal());
+      }
+    } finally {
+      finish(id(claim.principal(), claim.key()));
+    }
+  }
+
+  /** Gives the key up without a response, so a retry runs the request again. */
+  public void release(Claim claim) {
+    requireAcquired(claim);
+    try {
+      repository.release(claim.principal(), claim.key(), claim.claimedAt());
+    } finally {
+      finish(id(claim.principal(), claim.key()));
+    }
+  }
+
+  /**
+   * Waits, at most {@code timeout}, for the request holding the key to finish: on this node until it does,
+   * otherwise for one poll interval. The caller claims again afterwards.
+   */
+  public void awaitRelease(String principal, String key, Duration timeout) throws InterruptedException {
+    if (timeout.isNegative() || timeout.isZero()) {
+      return;
+    }
+    CompletableFuture<Void> finished = running.get(id(principal, key));
+    if (finished == null) {
+      Thread.sleep(Math.min(POLL_INTERVAL.toMillis(), timeout.toMillis()));
+      return;
+    }
+    try {
+      finished.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException | TimeoutException ex) {
+      // Either way the caller looks at the key again.
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.idempotency.purge-interval:PT10M}")
+  public void purge() {
+    int expired = repository.deleteExpired(LocalDateTime.now(clock));
+    int evicted = repository.trimTo(properties.getMaxEntries());
+    if (expired > 0 || evicted > 0) {
+      log.debug("Purged {} expired and {} excess idempotency records", expired, evicted);
+    }
+  }
+
+  /** Drops this node's entry for a claim it made and wakes the requests waiting on it. */
+  private void finish(String id) {
+    CompletableFuture<Void> finished = running.remove(id);
+    if (finished != null) {
+      finished.complete(null);
+    }
+  }
+
+  private static void requireAcquired(Claim claim) {
+    if (!claim.acquired()) {
+      throw new IllegalStateException("The idempotency key is held by another request");
+    }
+  }
+
+  private static String id(String principal, String key) {
+    return principal + '\n' + key;
+  }
+
+  /**
+   * Outcome of {@link #claim}: acquired when {@code claimedAt} is set, otherwise held by another request whose
+   * record, when already stored, is {@code holder}.
+   */
+  public record Claim(String principal, String key, LocalDateTime claimedAt, IdempotencyRecord holder) {
+
+    public boolean acquired() {
+      return claimedAt != null;
+    }
+  }
+}
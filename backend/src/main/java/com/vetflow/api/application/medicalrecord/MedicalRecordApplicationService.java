@@ -5,14 +5,19 @@ import java.util.List;
 import java.util.Objects;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.vetflow.api.application.medication.MedicationSafetyService;
+import com.vetflow.api.application.medication.MedicationWarning;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
 import com.vetflow.api.audit.AuditService;
 import com.vetflow.api.domain.model.MedicalRecord;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.PrescribedMedication;
 import com.vetflow.api.domain.port.MedicalRecordRepository;
 import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.PrescribedMedicationRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,7 +29,15 @@ public class MedicalRecordApplicationService {
   private final MedicalRecordRepository medicalRecordRepository;
   private final PatientRepository patientRepository;
   private final AuditService auditService;
+  private final PrescribedMedicationRepository prescribedMedicationRepository;
+  private final MedicationSafetyService medicationSafetyService;
 
+  /**
+   * Stores the record and its medication lines together. The lines are checked against the patient's
+   * allergies and each other in memory before saving; conflicts come back as warnings on the result and do
+   * not block the record.
+   */
+  @Transactional
   public MedicalRecordResult createMedicalRecord(CreateMedicalRecordCommand command) {
     Objects.requireNonNull(command, "command must not be null");
     Patient patient = loadPatient(command.patientId());
@@ -42,9 +55,15 @@ public class MedicalRecordApplicationService {
         command.treatment(),
         command.medications(),
         command.notes());
+    List<PrescribedMedication> medications = medicationSafetyService.prescribe(medicalRecord.getMedications());
+    List<MedicationWarning> warnings = medicationSafetyService.check(patient.getId(), medications);
+
     MedicalRecord saved = medicalRecordRepository.save(medicalRecord);
+    if (!medications.isEmpty()) {
+      prescribedMedicationRepository.saveAll(saved.getId(), medications);
+    }
     auditService.recordCreation("medical_records", saved.getId(), saved);
-    return toResult(saved);
+    return toResult(saved, warnings);
   }
 
   public List<MedicalRecordResult> listByPatient(Long patientId) {
@@ -71,6 +90,10 @@ public class MedicalRecordApplicationService {
   }
 
   private MedicalRecordResult toResult(MedicalRecord medicalRecord) {
+    return toResult(medicalRecord, List.of());
+  }
+
+  private MedicalRecordResult toResult(MedicalRecord medicalRecord, List<MedicationWarning> warnings) {
     return new MedicalRecordResult(medicalRecord.getId(),
         medicalRecord.getPatient().getId(),
         medicalRecord.getVeterinarianId(),
@@ -79,6 +102,8 @@ public class MedicalRecordApplicationService {
         medicalRecord.getTreatment(),
         medicalRecord.getMedications(),
         medicalRecord.getNotes(),
-        medicalRecord.getCreatedAt());
+        medicalRecord.getCreatedAt(),
+        medicalRecord.getVersion(),
+        warnings);
   }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.vetflow.api.application.medicalrecord;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-/** DTO representing a medical record entry. */
+import com.vetflow.api.application.medication.MedicationWarning;
+
+/**
+ * DTO representing a medical record entry. {@code warnings} holds the prescription safety check's findings
+ * when the record has just been created, and is empty otherwise.
+ */
 public record MedicalRecordResult(Long id,
                                   Long patientId,
                                   Long veterinarianId,
@@ -11,4 +17,25 @@ public record MedicalRecordResult(Long id,
                                   String treatment,
                                   String medications,
                                   String notes,
-                                  LocalDateTime createdAt) {}
\ No newline at end of file
+                                  LocalDateTime createdAt,
+                                  Long version,
+                                  List<MedicationWarning> warnings) {
+
+  public MedicalRecordResult {
+    warnings = warnings == null ? List.of() : List.copyOf(warnings);
+  }
+
+  public MedicalRecordResult(Long id,
+                             Long patientId,
+                             Long veterinarianId,
+                             LocalDateTime visitDate,
+                             String diagnosis,
+                             String treatment,
+                             String medications,
+                             String notes,
+                             LocalDateTime createdAt,
+                             Long version) {
+    this(id, patientId, veterinarianId, visitDate, diagnosis, treatment, medications, notes, createdAt, version,
+        List.of());
+  }
+}
\ No newline at end of file
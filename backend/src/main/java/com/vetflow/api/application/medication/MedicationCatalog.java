@@ -0,0 +1,123 @@
+package com.vetflow.api.application.medication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+import com.vetflow.api.domain.model.PrescribedMedication;
+
+/**
+ * Immutable in-memory view of the drug catalogue: drugs by folded name, the set of drug classes, and class
+ * interactions by unordered pair. Every lookup is a hash probe, so parsing a prescription and checking it
+ * costs microseconds and no database round trip.
+ *
+ * <p>Names are compared folded: lower-cased with every run of punctuation and spaces turned into one space, so
+ * "Amoxicillin-Clavulanate" and "amoxicillin clavulanate" are the same drug. V11 backfills existing records
+ * with the same rule.
+ */
+final class MedicationCatalog {
+
+  static final MedicationCatalog EMPTY = new MedicationCatalog(List.of(), List.of());
+
+  private static final Pattern LINE_SEPARATORS = Pattern.compile("[,;\\n]");
+  private static final Pattern NON_ALNUM = Pattern.compile("[^a-z0-9]+");
+
+  private final Map<String, Drug> drugsByName = new HashMap<>();
+  private final Set<String> classes = new HashSet<>();
+  private final Map<String, DrugInteraction> interactions = new HashMap<>();
+  private final int maxNameWords;
+
+  MedicationCatalog(List<Drug> drugs, List<DrugInteraction> interactions) {
+    int words = 1;
+    for (Drug drug : drugs) {
+      String name = fold(drug.name());
+      drugsByName.put(name, drug);
+      classes.add(drug.drugClass());
+      words = Math.max(words, name.split(" ").length);
+    }
+    this.maxNameWords = words;
+    for (DrugInteraction interaction : interactions) {
+      this.interactions.put(pairKey(interaction.drugClass(), interaction.otherDrugClass()), interaction);
+    }
+  }
+
+  int drugCount() {
+    return drugsByName.size();
+  }
+
+  /** Splits free-text medications into lines on commas, semicolons and newlines, linking each to its drug. */
+  List<PrescribedMedication> parse(String medications) {
+    if (medications == null) {
+      return List.of();
+    }
+    List<PrescribedMedication> lines = new ArrayList<>();
+    for (String part : LINE_SEPARATORS.split(medications)) {
+      String line = part.trim();
+      if (!line.isEmpty()) {
+        lines.add(new PrescribedMedication(line, find(line)));
+      }
+    }
+    return lines;
+  }
+
+  /** The drug with the longest name appearing in {@code text} as whole words, or null. */
+  Drug find(String text) {
+    String folded = fold(text);
+    if (folded.isEmpty()) {
+      return null;
+    }
+    String[] words = folded.split(" ");
+    Drug best = null;
+    int bestWords = 0;
+    for (int start = 0; start < words.length; start++) {
+      for (int count = Math.min(maxNameWords, words.length - start); count > bestWords; count--) {
+        Drug drug = drugsByName.get(String.join(" ", Arrays.copyOfRange(words, start, start + count)));
+        if (drug != null) {
+          best = drug;
+          bestWords = count;
+          break;
+        }
+      }
+    }
+    return best;
+  }
+
+  /** The drug an allergen names exactly, or null. */
+  Drug drugNamed(String allergen) {
+    return drugsByName.get(fold(allergen));
+  }
+
+  /** The class an allergen names, singular or plural ("NSAIDs"), or null. */
+  String classNamed(String allergen) {
+    String folded = fold(allergen);
+    if (classes.contains(folded)) {
+      return folded;
+    }
+    if (folded.endsWith("s") && classes.contains(folded.substring(0, folded.length() - 1))) {
+      return folded.substring(0, folded.length() - 1);
+    }
+    return null;
+  }
+
+  DrugInteraction interaction(String drugClass, String otherDrugClass) {
+    return interactions.get(pairKey(drugClass, otherDrugClass));
+  }
+
+  static String fold(String text) {
+    return NON_ALNUM.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+  }
+
+  private static String pairKey(String drugClass, String otherDrugClass) {
+    return drugClass.compareTo(otherDrugClass) <= 0
+        ? drugClass + '|' + otherDrugClass
+        : otherDrugClass + '|' + drugClass;
+  }
+}
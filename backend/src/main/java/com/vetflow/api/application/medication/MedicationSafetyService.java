@@ -0,0 +1,215 @@
+package com.vetflow.api.application.medication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.application.medication.MedicationWarning.Type;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.model.PrescribedMedication;
+import com.vetflow.api.domain.port.DrugCatalog;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prescription safety check against the patient's allergies and the drug interaction table, answered from
+ * memory so {@code createMedicalRecord} pays no extra database round trip for it.
+ *
+ * <p>The catalogue and every patient's allergies are loaded at startup and reloaded every
+ * {@code refresh-interval}. Allergy edits are applied as soon as they commit, whether made on this node or
+ * relayed from another one over the change bus; when the bus reports that notifications may have been missed,
+ * everything is reloaded straight away. Event handling and reloads share a lock, so an edit committed while a
+ * reload is reading is applied on top of the reloaded data rather than lost.
+ */
+@Slf4j
+@Service
+public class MedicationSafetyService {
+
+  static final String CHECK_METRIC = "vetflow.medication.safety-check";
+  static final String RELOAD_METRIC = "vetflow.medication.reload";
+
+  private final DrugCatalog drugCatalog;
+  private final PatientAllergyRepository allergyRepository;
+  private final Timer checkTimer;
+  private final Counter reloadFailures;
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile MedicationCatalog catalog;
+  private volatile Map<Long, List<PatientAllergy>> allergiesByPatient = new ConcurrentHashMap<>();
+
+  public MedicationSafetyService(DrugCatalog drugCatalog, PatientAllergyRepository allergyRepository,
+      MeterRegistry meterRegistry) {
+    this.drugCatalog = drugCatalog;
+    this.allergyRepository = allergyRepository;
+    this.checkTimer = Timer.builder(CHECK_METRIC)
+        .description("Time to check a prescription against allergies and interactions")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.reloadFailures = Counter.builder(RELOAD_METRIC + ".failures")
+        .description("Reloads of the drug catalogue and allergies abandoned on a database error")
+        .register(meterRegistry);
+    Gauge.builder("vetflow.medication.patients-with-allergies", this,
+            service -> service.allergiesByPatient.size())
+        .register(meterRegistry);
+  }
+
+  /** Splits free-text medications into lines linked to catalogue drugs; lines stay unlinked until loaded. */
+  public List<PrescribedMedication> prescribe(String medications) {
+    MedicationCatalog snapshot = catalog;
+    return (snapshot == null ? MedicationCatalog.EMPTY : snapshot).parse(medications);
+  }
+
+  /**
+   * Warnings for giving {@code medications} to the patient: each line matching one of the patient's
+   * allergies, and each pair of lines in interacting drug classes.
+   */
+  public List<MedicationWarning> check(Long patientId, List<PrescribedMedication> medications) {
+    if (medications.isEmpty()) {
+      return List.of();
+    }
+    MedicationCatalog snapshot = catalog;
+    if (snapshot == null) {
+      return List.of(new MedicationWarning(Type.UNCHECKED, null,
+          "Medication safety data is still loading; allergies and interactions were not checked"));
+    }
+    Timer.Sample sample = Timer.start();
+    try {
+      List<MedicationWarning> warnings = new ArrayList<>();
+      List<PatientAllergy> allergies = allergiesByPatient.getOrDefault(patientId, List.of());
+      for (PrescribedMedication medication : medications) {
+        for (PatientAllergy allergy : allergies) {
+          String conflict = allergyConflict(medication, allergy);
+          if (conflict != null) {
+            warnings.add(new MedicationWarning(Type.ALLERGY, medication.description(), conflict));
+          }
+        }
+      }
+      for (int i = 0; i < medications.size(); i++) {
+        Drug drug = medications.get(i).drug();
+        for (int j = i + 1; j < medications.size() && drug != null; j++) {
+          Drug other = medications.get(j).drug();
+          DrugInteraction interaction = other == null
+              ? null
+              : snapshot.interaction(drug.drugClass(), other.drugClass());
+          if (interaction != null) {
+            warnings.add(new MedicationWarning(Type.INTERACTION, medications.get(j).description(),
+                "%s interaction between %s and %s: %s".formatted(interaction.severity().name().toLowerCase(Locale.ROOT),
+                    drug.name(), other.name(), interaction.description())));
+          }
+        }
+      }
+      return warnings;
+    } finally {
+      sample.stop(checkTimer);
+    }
+  }
+
+  /**
+   * Links an allergen to the catalogue drug or class it names. Refused until the catalogue is loaded, since
+   * an allergy stored unlinked would only ever match prescriptions mentioning it by name.
+   */
+  public PatientAllergy resolve(Long patientId, String allergen) {
+    MedicationCatalog snapshot = catalog;
+    if (snapshot == null) {
+      throw new ServiceUnavailableException("Drug catalogue is still loading");
+    }
+    Drug drug = snapshot.drugNamed(allergen);
+    return drug != null
+        ? new PatientAllergy(null, patientId, allergen, drug.id(), drug.drugClass())
+        : new PatientAllergy(null, patientId, allergen, null, snapshot.classNamed(allergen));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAllergiesChanged(PatientAllergiesChangedEvent event) {
+    lock.lock();
+    try {
+      apply(allergiesByPatient, event.patientId(), event.allergies());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    reload();
+  }
+
+  @EventListener
+  public void onResync(ChangeBusResyncEvent event) {
+    reload();
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.medication-safety.refresh-interval:PT5M}",
+      initialDelayString = "${vetflow.api.medication-safety.refresh-interval:PT5M}")
+  public void refresh() {
+    reload();
+  }
+
+  /** Reloads the catalogue and all allergies and swaps them in; on failure the loaded data stays in service. */
+  public boolean reload() {
+    lock.lock();
+    try {
+      MedicationCatalog loaded = new MedicationCatalog(drugCatalog.findAllDrugs(),
+          drugCatalog.findAllInteractions());
+      Map<Long, List<PatientAllergy>> grouped = new ConcurrentHashMap<>();
+      allergyRepository.forEach(allergy -> grouped.computeIfAbsent(allergy.patientId(), id -> new ArrayList<>())
+          .add(allergy));
+      grouped.replaceAll((patientId, allergies) -> List.copyOf(allergies));
+      catalog = loaded;
+      allergiesByPatient = grouped;
+      log.info("Medication safety data loaded: {} drugs, allergies for {} patients", loaded.drugCount(),
+          grouped.size());
+      return true;
+    } catch (RuntimeException ex) {
+      reloadFailures.increment();
+      log.warn("Medication safety data reload failed; keeping the previous data", ex);
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void apply(Map<Long, List<PatientAllergy>> target, Long patientId,
+      List<PatientAllergy> allergies) {
+    if (allergies.isEmpty()) {
+      target.remove(patientId);
+    } else {
+      target.put(patientId, allergies);
+    }
+  }
+
+  private static String allergyConflict(PrescribedMedication medication, PatientAllergy allergy) {
+    Drug drug = medication.drug();
+    if (drug != null && allergy.drugId() != null && allergy.drugId().equals(drug.id())) {
+      return "Patient is allergic to " + allergy.allergen();
+    }
+    if (drug != null && allergy.drugClass() != null && allergy.drugClass().equals(drug.drugClass())) {
+      return "%s is a %s; patient is allergic to %s".formatted(drug.name(), drug.drugClass(), allergy.allergen());
+    }
+    if (allergy.drugId() == null && allergy.drugClass() == null) {
+      String allergen = MedicationCatalog.fold(allergy.allergen());
+      if (!allergen.isEmpty()
+          && (" " + MedicationCatalog.fold(medication.description()) + " ").contains(" " + allergen + " ")) {
+        return "Medication mentions " + allergy.allergen() + ", a recorded allergy";
+      }
+    }
+    return null;
+  }
+}
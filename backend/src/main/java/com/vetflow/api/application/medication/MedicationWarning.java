@@ -0,0 +1,18 @@
+package com.vetflow.api.application.medication;
+
+/**
+ * A problem found by the prescription safety check. Warnings never block a record from being saved; they are
+ * returned so the veterinarian can review them. {@code medication} is the offending line, or null for
+ * {@link Type#UNCHECKED}.
+ */
+public record MedicationWarning(Type type, String medication, String message) {
+
+  public enum Type {
+    /** The medication matches one of the patient's recorded allergies. */
+    ALLERGY,
+    /** Two medications of the prescription belong to interacting drug classes. */
+    INTERACTION,
+    /** The check could not run because the drug catalogue has not been loaded yet. */
+    UNCHECKED
+  }
+}
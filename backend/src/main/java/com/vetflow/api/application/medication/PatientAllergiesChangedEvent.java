@@ -0,0 +1,23 @@
+package com.vetflow.api.application.medication;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+
+/**
+ * Published by {@link PatientAllergyService} once an allergy has been added or removed, carrying the patient's
+ * full allergy list as persisted, and by {@link PatientAllergyChangeRelay} for changes committed on another
+ * node, which are flagged {@code remote}.
+ */
+public record PatientAllergiesChangedEvent(Long patientId, List<PatientAllergy> allergies, boolean remote) {
+
+  public PatientAllergiesChangedEvent {
+    Objects.requireNonNull(patientId, "patientId must not be null");
+    allergies = List.copyOf(allergies);
+  }
+
+  public PatientAllergiesChangedEvent(Long patientId, List<PatientAllergy> allergies) {
+    this(patientId, allergies, false);
+  }
+}
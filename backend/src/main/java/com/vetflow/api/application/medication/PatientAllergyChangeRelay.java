@@ -0,0 +1,58 @@
+package com.vetflow.api.application.medication;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects allergy changes to the {@link ChangeBus}, keyed by patient: local changes are announced to the
+ * other nodes, and changes announced by other nodes are answered by reloading the patient's allergies and
+ * republishing them as a remote {@link PatientAllergiesChangedEvent}, so every node's prescription check sees
+ * an allergy as soon as it is committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PatientAllergyChangeRelay {
+
+  static final String TABLE = "patient_allergies";
+  static final String ACTION = "updated";
+
+  private final ChangeBus changeBus;
+  private final PatientAllergyRepository allergyRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener
+  public void onLocalChange(PatientAllergiesChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    // Allergies carry no version; the receiving node always reloads the patient's full list.
+    changeBus.publish(TABLE, event.patientId(), 0L, ACTION);
+  }
+
+  @EventListener
+  public void onRemoteChange(ChangeNotification notification) {
+    if (!notification.remote() || !notification.concerns(TABLE) || notification.id() == null) {
+      return;
+    }
+    try {
+      List<PatientAllergy> allergies = allergyRepository.findByPatientId(notification.id());
+      eventPublisher.publishEvent(new PatientAllergiesChangedEvent(notification.id(), allergies, true));
+    } catch (DataAccessException ex) {
+      // The safety service reloads everything on the resync that follows a lost connection, or on its timer.
+      log.warn("Could not reload allergies of patient {} announced by another node", notification.id(), ex);
+    }
+  }
+}
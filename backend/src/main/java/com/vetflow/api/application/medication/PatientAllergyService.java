@@ -0,0 +1,77 @@
+package com.vetflow.api.application.medication;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/** Application service recording a patient's allergies for the prescription safety check. */
+@Service
+@RequiredArgsConstructor
+public class PatientAllergyService {
+
+  static final int MAX_ALLERGEN_LENGTH = 100;
+
+  private final PatientAllergyRepository allergyRepository;
+  private final PatientRepository patientRepository;
+  private final MedicationSafetyService medicationSafetyService;
+  private final AuditService auditService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public List<PatientAllergy> listByPatient(Long patientId) {
+    requirePatient(patientId);
+    return allergyRepository.findByPatientId(patientId);
+  }
+
+  public PatientAllergy addAllergy(Long patientId, String allergen) {
+    requirePatient(patientId);
+    String name = allergen == null ? "" : allergen.trim();
+    if (name.isEmpty() || name.length() > MAX_ALLERGEN_LENGTH) {
+      throw new ValidationException("allergen must be 1 to %d characters".formatted(MAX_ALLERGEN_LENGTH));
+    }
+    List<PatientAllergy> existing = allergyRepository.findByPatientId(patientId);
+    String key = name.toLowerCase(Locale.ROOT);
+    if (existing.stream().anyMatch(allergy -> allergy.allergen().toLowerCase(Locale.ROOT).equals(key))) {
+      throw new ValidationException("Patient %d already has allergy '%s'".formatted(patientId, name));
+    }
+
+    PatientAllergy saved = allergyRepository.save(medicationSafetyService.resolve(patientId, name));
+    auditService.recordCreation("patient_allergies", saved.id(), saved);
+    publish(patientId);
+    return saved;
+  }
+
+  public void removeAllergy(Long patientId, Long allergyId) {
+    requirePatient(patientId);
+    PatientAllergy allergy = allergyRepository.findById(allergyId)
+        .filter(found -> found.patientId().equals(patientId))
+        .orElseThrow(() -> new ResourceNotFoundException(
+            "Allergy %d not found for patient %d".formatted(allergyId, patientId)));
+    allergyRepository.deleteById(allergy.id());
+    publish(patientId);
+  }
+
+  private void requirePatient(Long patientId) {
+    if (patientId == null) {
+      throw new ValidationException("patientId is required");
+    }
+    if (patientRepository.findById(patientId).isEmpty()) {
+      throw new ResourceNotFoundException("Patient %d not found".formatted(patientId));
+    }
+  }
+
+  private void publish(Long patientId) {
+    eventPublisher.publishEvent(new PatientAllergiesChangedEvent(patientId,
+        allergyRepository.findByPatientId(patientId)));
+  }
+}
@@ -3,13 +3,18 @@ package com.vetflow.api.application.owner;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.vetflow.api.application.shared.OptimisticLocking;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
 import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.domain.port.OwnerRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -23,13 +28,14 @@ public class OwnerApplicationService {
 
   private final OwnerRepository ownerRepository;
   private final AuditService auditService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public OwnerResult createOwner(CreateOwnerCommand command) {
     Objects.requireNonNull(command, "command must not be null");
     Owner owner = Owner.create(command.name(), command.phone(), command.email(), command.address());
     Owner saved = ownerRepository.save(owner);
     auditService.recordCreation("owners", saved.getId(), saved);
-    return toResult(saved);
+    return published(toResult(saved));
   }
 
   public OwnerResult updateOwner(UpdateOwnerCommand command) {
@@ -38,24 +44,27 @@ public class OwnerApplicationService {
       throw new ValidationException("ownerId is required");
     }
 
-    Owner owner = ownerRepository.findById(command.ownerId())
-        .orElseThrow(() -> new ResourceNotFoundException("Owner %d not found".formatted(command.ownerId())));
+    return published(OptimisticLocking.update(command.expectedVersion(), () -> {
+      Owner owner = ownerRepository.findById(command.ownerId())
+          .orElseThrow(() -> new ResourceNotFoundException("Owner %d not found".formatted(command.ownerId())));
+      OptimisticLocking.checkVersion("Owner", owner.getId(), command.expectedVersion(), owner.getVersion());
 
-    Map<String, Object> before = auditService.snapshot(owner);
+      Map<String, Object> before = auditService.snapshot(owner);
 
-    if (command.email() != null) {
-      owner.changeEmail(command.email());
-    }
-    if (command.phone() != null) {
-      owner.changePhone(command.phone());
-    }
-    if (command.address() != null) {
-      owner.updateAddress(command.address());
-    }
+      if (command.email() != null) {
+        owner.changeEmail(command.email());
+      }
+      if (command.phone() != null) {
+        owner.changePhone(command.phone());
+      }
+      if (command.address() != null) {
+        owner.updateAddress(command.address());
+      }
 
-    Owner saved = ownerRepository.save(owner);
-    auditService.recordUpdate("owners", saved.getId(), before, saved);
-    return toResult(saved);
+      Owner saved = ownerRepository.save(owner);
+      auditService.recordUpdate("owners", saved.getId(), before, saved);
+      return toResult(saved);
+    }));
   }
 
   public List<OwnerResult> listAll() {
@@ -73,6 +82,27 @@ public class OwnerApplicationService {
     return toResult(owner);
   }
 
+  /**
+   * Current version and last write of the owner, read without loading the aggregate so conditional
+   * requests stay cheap. Empty when the owner does not exist.
+   */
+  public Optional<VersionStamp> currentVersion(Long ownerId) {
+    if (ownerId == null) {
+      throw new ValidationException("ownerId is required");
+    }
+    return ownerRepository.findVersionStampById(ownerId);
+  }
+
+  /** Fingerprint of {@link #listAll()} computed with a single aggregate query. */
+  public Optional<CollectionStamp> listStamp() {
+    return Optional.of(ownerRepository.stampAll());
+  }
+
+  private OwnerResult published(OwnerResult result) {
+    eventPublisher.publishEvent(new OwnerChangedEvent(result));
+    return result;
+  }
+
   private OwnerResult toResult(Owner owner) {
     return new OwnerResult(owner.getId(),
         owner.getName(),
@@ -80,6 +110,7 @@ public class OwnerApplicationService {
         owner.getEmail(),
         owner.getAddress(),
         owner.getCreatedAt(),
-        owner.getUpdatedAt());
+        owner.getUpdatedAt(),
+        owner.getVersion());
   }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.vetflow.api.application.owner;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects owner changes to the {@link ChangeBus}: local changes are announced to the other nodes, and
+ * changes announced by other nodes are reloaded and republished here as remote {@link OwnerChangedEvent}s,
+ * so node-local views such as the autocomplete index see every node's writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OwnerChangeRelay {
+
+  static final String TABLE = "owners";
+  static final String ACTION = "updated";
+
+  private final ChangeBus changeBus;
+  private final OwnerApplicationService ownerApplicationService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener
+  public void onLocalChange(OwnerChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    Long version = event.owner().version();
+    changeBus.publish(TABLE, event.owner().id(), version == null ? 0L : version, ACTION);
+  }
+
+  @EventListener
+  public void onRemoteChange(ChangeNotification notification) {
+    if (!notification.remote() || !notification.concerns(TABLE) || notification.id() == null) {
+      return;
+    }
+    try {
+      OwnerResult owner = ownerApplicationService.getById(notification.id());
+      eventPublisher.publishEvent(new OwnerChangedEvent(owner, true));
+    } catch (ResourceNotFoundException ex) {
+      log.debug("Owner {} announced by another node no longer exists", notification.id());
+    } catch (DataAccessException ex) {
+      log.warn("Could not reload owner {} announced by another node", notification.id(), ex);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.vetflow.api.application.owner;
+
+import java.util.Objects;
+
+/**
+ * Published by {@link OwnerApplicationService} once a created or updated owner has been persisted, and by
+ * {@link OwnerChangeRelay} for changes committed on another node, which are flagged {@code remote}.
+ */
+public record OwnerChangedEvent(OwnerResult owner, boolean remote) {
+
+  public OwnerChangedEvent {
+    Objects.requireNonNull(owner, "owner must not be null");
+  }
+
+  public OwnerChangedEvent(OwnerResult owner) {
+    this(owner, false);
+  }
+}
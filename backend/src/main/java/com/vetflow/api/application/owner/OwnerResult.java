@@ -9,4 +9,5 @@ public record OwnerResult(Long id,
                           String email,
                           String address,
                           LocalDateTime createdAt,
-                          LocalDateTime updatedAt) {}
\ No newline at end of file
+                          LocalDateTime updatedAt,
+                          Long version) {}
\ No newline at end of file
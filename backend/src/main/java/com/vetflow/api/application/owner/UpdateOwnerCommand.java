@@ -1,4 +1,4 @@
 package com.vetflow.api.application.owner;
 
 /** Command object for updating contact information for an existing owner. */
-public record UpdateOwnerCommand(Long ownerId, String phone, String email, String address) {}
\ No newline at end of file
+public record UpdateOwnerCommand(Long ownerId, String phone, String email, String address, Long expectedVersion) {}
\ No newline at end of file
@@ -1,4 +1,4 @@
 package com.vetflow.api.application.patient;
 
 /** Command to activate a deactivated patient. */
-public record ActivatePatientCommand(Long patientId) {}
+public record ActivatePatientCommand(Long patientId, Long expectedVersion) {}
@@ -1,4 +1,4 @@
 package com.vetflow.api.application.patient;
 
 /** Command to deactivate an existing patient (soft delete). */
-public record DeactivatePatientCommand(Long patientId) {}
+public record DeactivatePatientCommand(Long patientId, Long expectedVersion) {}
@@ -3,15 +3,20 @@ package com.vetflow.api.application.patient;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.vetflow.api.application.shared.OptimisticLocking;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
 import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Owner;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.domain.port.OwnerRepository;
 import com.vetflow.api.domain.port.PatientRepository;
 
@@ -25,6 +30,7 @@ public class PatientApplicationService {
   private final PatientRepository patientRepository;
   private final OwnerRepository ownerRepository;
   private final AuditService auditService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public PatientResult registerPatient(RegisterPatientCommand command) {
     Objects.requireNonNull(command, "command must not be null");
@@ -37,7 +43,9 @@ public class PatientApplicationService {
         owner);
     Patient saved = patientRepository.save(patient);
     auditService.recordCreation("patients", saved.getId(), saved);
-    return toResult(saved);
+    PatientResult result = toResult(saved);
+    eventPublisher.publishEvent(new PatientChangedEvent(result, true));
+    return result;
   }
 
   public PatientResult updatePatient(UpdatePatientCommand command) {
@@ -46,28 +54,29 @@ public class PatientApplicationService {
       throw new ValidationException("patientId is required");
     }
 
-    Patient patient = patientRepository.findById(command.patientId())
-        .orElseThrow(() -> new ResourceNotFoundException("Patient %d not found".formatted(command.patientId())));
+    return published(OptimisticLocking.update(command.expectedVersion(), () -> {
+      Patient patient = loadPatient(command.patientId(), command.expectedVersion());
 
-    Map<String, Object> before = auditService.snapshot(patient);
+      Map<String, Object> before = auditService.snapshot(patient);
 
-    if (command.name() != null) {
-      patient.rename(command.name());
-    }
+      if (command.name() != null) {
+        patient.rename(command.name());
+      }
 
-    if (command.weight() != null) {
-      patient.updateWeight(command.weight());
-    }
+      if (command.weight() != null) {
+        patient.updateWeight(command.weight());
+      }
 
-    Owner owner = command.ownerId() != null ? loadOwner(command.ownerId()) : patient.getOwner();
-    patient.updateProfile(command.species() != null ? command.species() : patient.getSpecies().name(),
-        command.breed() != null ? command.breed() : patient.getBreed(),
-        command.birthDate() != null ? command.birthDate() : patient.getBirthDate(),
-        owner);
+      Owner owner = command.ownerId() != null ? loadOwner(command.ownerId()) : patient.getOwner();
+      patient.updateProfile(command.species() != null ? command.species() : patient.getSpecies().name(),
+          command.breed() != null ? command.breed() : patient.getBreed(),
+          command.birthDate() != null ? command.birthDate() : patient.getBirthDate(),
+          owner);
 
-    Patient saved = patientRepository.save(patient);
-    auditService.recordUpdate("patients", saved.getId(), before, saved);
-    return toResult(saved);
+      Patient saved = patientRepository.save(patient);
+      auditService.recordUpdate("patients", saved.getId(), before, saved);
+      return toResult(saved);
+    }));
   }
 
   public List<PatientResult> listAll() {
@@ -112,14 +121,14 @@ public class PatientApplicationService {
       throw new ValidationException("patientId is required");
     }
 
-    Patient patient = patientRepository.findById(command.patientId())
-        .orElseThrow(() -> new ResourceNotFoundException("Patient %d not found".formatted(command.patientId())));
-
-    Map<String, Object> before = auditService.snapshot(patient);
-    patient.deactivate();
-    Patient saved = patientRepository.save(patient);
-    auditService.recordUpdate("patients", saved.getId(), before, saved);
-    return toResult(saved);
+    return published(OptimisticLocking.update(command.expectedVersion(), () -> {
+      Patient patient = loadPatient(command.patientId(), command.expectedVersion());
+      Map<String, Object> before = auditService.snapshot(patient);
+      patient.deactivate();
+      Patient saved = patientRepository.save(patient);
+      auditService.recordUpdate("patients", saved.getId(), before, saved);
+      return toResult(saved);
+    }));
   }
 
   public PatientResult activatePatient(ActivatePatientCommand command) {
@@ -128,14 +137,49 @@ public class PatientApplicationService {
       throw new ValidationException("patientId is required");
     }
 
-    Patient patient = patientRepository.findById(command.patientId())
-        .orElseThrow(() -> new ResourceNotFoundException("Patient %d not found".formatted(command.patientId())));
+    return published(OptimisticLocking.update(command.expectedVersion(), () -> {
+      Patient patient = loadPatient(command.patientId(), command.expectedVersion());
+      Map<String, Object> before = auditService.snapshot(patient);
+      patient.activate();
+      Patient saved = patientRepository.save(patient);
+      auditService.recordUpdate("patients", saved.getId(), before, saved);
+      return toResult(saved);
+    }));
+  }
 
-    Map<String, Object> before = auditService.snapshot(patient);
-    patient.activate();
-    Patient saved = patientRepository.save(patient);
-    auditService.recordUpdate("patients", saved.getId(), before, saved);
-    return toResult(saved);
+  /**
+   * Current version and last write of the patient, read without loading the aggregate so conditional
+   * requests stay cheap. Empty when the patient does not exist.
+   */
+  public Optional<VersionStamp> currentVersion(Long patientId) {
+    if (patientId == null) {
+      throw new ValidationException("patientId is required");
+    }
+    return patientRepository.findVersionStampById(patientId);
+  }
+
+  /** Fingerprint of {@link #listAll(boolean)} computed with a single aggregate query. */
+  public Optional<CollectionStamp> listStamp(boolean includeInactive) {
+    return Optional.of(patientRepository.stampAll(includeInactive));
+  }
+
+  /**
+   * Fingerprint of {@link #listByOwner(Long, boolean)} computed with a single aggregate query.
+   * Empty when the owner does not exist.
+   */
+  public Optional<CollectionStamp> listByOwnerStamp(Long ownerId, boolean includeInactive) {
+    if (ownerId == null) {
+      throw new ValidationException("ownerId is required");
+    }
+    return ownerRepository.findVersionStampById(ownerId)
+        .map(ignored -> patientRepository.stampByOwnerId(ownerId, includeInactive));
+  }
+
+  private Patient loadPatient(Long patientId, Long expectedVersion) {
+    Patient patient = patientRepository.findById(patientId)
+        .orElseThrow(() -> new ResourceNotFoundException("Patient %d not found".formatted(patientId)));
+    OptimisticLocking.checkVersion("Patient", patientId, expectedVersion, patient.getVersion());
+    return patient;
   }
 
   private Owner loadOwner(Long ownerId) {
@@ -146,6 +190,11 @@ public class PatientApplicationService {
         .orElseThrow(() -> new ResourceNotFoundException("Owner %d not found".formatted(ownerId)));
   }
 
+  private PatientResult published(PatientResult result) {
+    eventPublisher.publishEvent(new PatientChangedEvent(result));
+    return result;
+  }
+
   private PatientResult toResult(Patient patient) {
     return new PatientResult(patient.getId(),
         patient.getName(),
@@ -156,6 +205,7 @@ public class PatientApplicationService {
         patient.isActive(),
         patient.getOwner().getId(),
         patient.getCreatedAt(),
-        patient.getUpdatedAt());
+        patient.getUpdatedAt(),
+        patient.getVersion());
   }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.vetflow.api.application.patient;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects patient changes to the {@link ChangeBus}: local changes are announced to the other nodes, and
+ * changes announced by other nodes are reloaded and republished here as remote {@link PatientChangedEvent}s,
+ * so node-local views such as the autocomplete index see every node's writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PatientChangeRelay {
+
+  static final String TABLE = "patients";
+
+  private final ChangeBus changeBus;
+  private final PatientApplicationService patientApplicationService;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener
+  public void onLocalChange(PatientChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    Long version = event.patient().version();
+    changeBus.publish(TABLE, event.patient().id(), version == null ? 0L : version,
+        event.registered() ? "registered" : "updated");
+  }
+
+  @EventListener
+  public void onRemoteChange(ChangeNotification notification) {
+    if (!notification.remote() || !notification.concerns(TABLE) || notification.id() == null) {
+      return;
+    }
+    try {
+      PatientResult patient = patientApplicationService.findById(notification.id());
+      eventPublisher.publishEvent(new PatientChangedEvent(patient, false, true));
+    } catch (ResourceNotFoundException ex) {
+      log.debug("Patient {} announced by another node no longer exists", notification.id());
+    } catch (DataAccessException ex) {
+      log.warn("Could not reload patient {} announced by another node", notification.id(), ex);
+    }
+  }
+}
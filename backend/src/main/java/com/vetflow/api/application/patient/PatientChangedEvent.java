@@ -0,0 +1,26 @@
+package com.vetflow.api.application.patient;
+
+import java.util.Objects;
+
+/**
+ * Published by {@link PatientApplicationService} once a registered, updated, activated or deactivated patient
+ * has been persisted. {@code registered} is set only for a newly registered patient.
+ *
+ * <p>{@link PatientChangeRelay} republishes changes committed on another node flagged {@code remote}; those
+ * never have {@code registered} set, so per-registration counters are only ever bumped on the writing
+ * node.</p>
+ */
+public record PatientChangedEvent(PatientResult patient, boolean registered, boolean remote) {
+
+  public PatientChangedEvent {
+    Objects.requireNonNull(patient, "patient must not be null");
+  }
+
+  public PatientChangedEvent(PatientResult patient, boolean registered) {
+    this(patient, registered, false);
+  }
+
+  public PatientChangedEvent(PatientResult patient) {
+    this(patient, false, false);
+  }
+}
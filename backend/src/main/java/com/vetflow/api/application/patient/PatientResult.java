@@ -14,4 +14,5 @@ public record PatientResult(Long id,
                             boolean isActive,
                             Long ownerId,
                             LocalDateTime createdAt,
-                            LocalDateTime updatedAt) {}
\ No newline at end of file
+                            LocalDateTime updatedAt,
+                            Long version) {}
\ No newline at end of file
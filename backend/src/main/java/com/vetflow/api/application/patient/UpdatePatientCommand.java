@@ -10,4 +10,5 @@ public record UpdatePatientCommand(Long patientId,
                                    String breed,
                                    LocalDate birthDate,
                                    BigDecimal weight,
-                                   Long ownerId) {}
\ No newline at end of file
+                                   Long ownerId,
+                                   Long expectedVersion) {}
\ No newline at end of file
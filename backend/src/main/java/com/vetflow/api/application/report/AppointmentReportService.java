@@ -0,0 +1,215 @@
+package com.vetflow.api.application.report;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.config.ReportProperties;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.MonthlyAppointmentVolume;
+import com.vetflow.api.domain.port.AppointmentReportSource;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Monthly management reports built from pre-aggregated appointment volumes rather than ad-hoc queries over the
+ * appointment table. Rows are pushed to the caller as they are read, grouping only the rows of the current
+ * veterinarian or month, so a report of any length streams in constant memory.
+ *
+ * <p>The aggregates are refreshed every {@code refresh-interval}; reports trail the appointment table by at
+ * most that long. The refresh runs on the reporting pool partition, like the reports themselves.
+ */
+@Slf4j
+@Service
+public class AppointmentReportService {
+
+  static final String REFRESH_METRIC = "vetflow.reports.refresh";
+
+  private final AppointmentReportSource source;
+  private final ReportProperties properties;
+  private final Clock clock;
+  private final Timer refreshTimer;
+  private final Counter refreshFailures;
+
+  @Autowired
+  public AppointmentReportService(AppointmentReportSource source, ReportProperties properties,
+      MeterRegistry meterRegistry) {
+    this(source, properties, meterRegistry, Clock.systemDefaultZone());
+  }
+
+  AppointmentReportService(AppointmentReportSource source, ReportProperties properties,
+      MeterRegistry meterRegistry, Clock clock) {
+    this.source = source;
+    this.properties = properties;
+    this.clock = clock;
+    this.refreshTimer = Timer.builder(REFRESH_METRIC)
+        .description("Time to refresh the report aggregates")
+        .register(meterRegistry);
+    this.refreshFailures = Counter.builder(REFRESH_METRIC + ".failures")
+        .description("Refreshes of the report aggregates abandoned on a database error")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Validates a requested period. {@code to} defaults to the current month and {@code from} to {@code to}.
+   * Callers streaming a response validate first, so bad input is rejected before the response is committed.
+   */
+  public ReportPeriod period(YearMonth from, YearMonth to) {
+    YearMonth end = to == null ? YearMonth.now(clock) : to;
+    YearMonth start = from == null ? end : from;
+    if (start.isAfter(end)) {
+      throw new ValidationException("from must not be after to");
+    }
+    if (ChronoUnit.MONTHS.between(start, end) >= properties.getMaxMonths()) {
+      throw new ValidationException("A report may cover at most %d months".formatted(properties.getMaxMonths()));
+    }
+    return new ReportPeriod(start, end);
+  }
+
+  /** Utilisation per assigned veterinarian and month, ordered by month then veterinarian. */
+  public void vetUtilisation(ReportPeriod period, Consumer<VetUtilisation> consumer) {
+    Objects.requireNonNull(period, "period must not be null");
+    VetMonth[] current = new VetMonth[1];
+    source.forEachMonthlyVolume(period.from(), period.to(), volume -> {
+      if (volume.veterinarianId() == null) {
+        return;
+      }
+      if (current[0] != null && !current[0].holds(volume)) {
+        consumer.accept(current[0].toRow());
+        current[0] = null;
+      }
+      if (current[0] == null) {
+        current[0] = new VetMonth(volume.month(), volume.veterinarianId(), volume.veterinarianName(),
+            availableHours(volume.month()));
+      }
+      current[0].add(volume, bookedHours(volume));
+    });
+    if (current[0] != null) {
+      consumer.accept(current[0].toRow());
+    }
+  }
+
+  /** No-show and cancellation rates per month and appointment type, assigned or not. */
+  public void noShowRates(ReportPeriod period, Consumer<NoShowRate> consumer) {
+    Objects.requireNonNull(period, "period must not be null");
+    Map<Type, long[]> byType = new EnumMap<>(Type.class);
+    YearMonth[] month = new YearMonth[1];
+    source.forEachMonthlyVolume(period.from(), period.to(), volume -> {
+      if (month[0] != null && !month[0].equals(volume.month())) {
+        flush(month[0], byType, consumer);
+      }
+      month[0] = volume.month();
+      long[] counts = byType.computeIfAbsent(volume.type(), type -> new long[4]);
+      counts[0] += volume.appointments();
+      counts[1] += volume.completed();
+      counts[2] += volume.noShows();
+      counts[3] += volume.cancelled();
+    });
+    if (month[0] != null) {
+      flush(month[0], byType, consumer);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.reports.refresh-interval:PT1H}",
+      initialDelayString = "${vetflow.api.reports.refresh-interval:PT1H}")
+  public void refresh() {
+    WorkloadContext.run(Workload.REPORTING, this::refreshAggregates);
+  }
+
+  private void refreshAggregates() {
+    Timer.Sample sample = Timer.start();
+    try {
+      if (source.refresh()) {
+        sample.stop(refreshTimer);
+        log.info("Report aggregates refreshed");
+      } else {
+        log.debug("Report aggregates are being refreshed by another node");
+      }
+    } catch (RuntimeException ex) {
+      refreshFailures.increment();
+      log.warn("Report aggregate refresh failed; reports keep the previous data", ex);
+    }
+  }
+
+  private double availableHours(YearMonth month) {
+    long days = 0;
+    for (LocalDate day = month.atDay(1); !day.isAfter(month.atEndOfMonth()); day = day.plusDays(1)) {
+      if (properties.getWorkingDays().contains(day.getDayOfWeek())) {
+        days++;
+      }
+    }
+    return days * hours(properties.getWorkingHours());
+  }
+
+  private double bookedHours(MonthlyAppointmentVolume volume) {
+    Duration length = properties.getAppointmentLengths().getOrDefault(volume.type(), Duration.ZERO);
+    return (volume.appointments() - volume.cancelled()) * hours(length);
+  }
+
+  private static double hours(Duration duration) {
+    return duration.toMinutes() / 60.0;
+  }
+
+  private static void flush(YearMonth month, Map<Type, long[]> byType, Consumer<NoShowRate> consumer) {
+    byType.forEach((type, counts) -> {
+      long closed = counts[1] + counts[2];
+      consumer.accept(new NoShowRate(month, type, counts[0], counts[1], counts[2], counts[3],
+          closed == 0 ? null : (double) counts[2] / closed,
+          counts[0] == 0 ? 0 : (double) counts[3] / counts[0]));
+    });
+    byType.clear();
+  }
+
+  /** Running totals for one veterinarian's month. */
+  private static final class VetMonth {
+    private final YearMonth month;
+    private final long veterinarianId;
+    private final String veterinarianName;
+    private final double availableHours;
+    private long booked;
+    private double bookedHours;
+    private long completed;
+    private long noShows;
+    private long cancelled;
+
+    VetMonth(YearMonth month, long veterinarianId, String veterinarianName, double availableHours) {
+      this.month = month;
+      this.veterinarianId = veterinarianId;
+      this.veterinarianName = veterinarianName;
+      this.availableHours = availableHours;
+    }
+
+    boolean holds(MonthlyAppointmentVolume volume) {
+      return month.equals(volume.month()) && veterinarianId == volume.veterinarianId();
+    }
+
+    void add(MonthlyAppointmentVolume volume, double hours) {
+      booked += volume.appointments() - volume.cancelled();
+      bookedHours += hours;
+      completed += volume.completed();
+      noShows += volume.noShows();
+      cancelled += volume.cancelled();
+    }
+
+    VetUtilisation toRow() {
+      return new VetUtilisation(month, veterinarianId, veterinarianName, booked, bookedHours, availableHours,
+          availableHours == 0 ? 0 : bookedHours / availableHours, completed, noShows, cancelled);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.vetflow.api.application.report;
+
+import java.time.YearMonth;
+
+import com.vetflow.api.domain.model.Appointment.Type;
+
+/**
+ * Outcomes of one month's appointments of one type. {@code noShowRate} is no-shows over completed plus no-show
+ * appointments, or {@code null} before any has been closed; {@code cancellationRate} is over all appointments.
+ */
+public record NoShowRate(YearMonth month,
+                         Type type,
+                         long appointments,
+                         long completed,
+                         long noShows,
+                         long cancelled,
+                         Double noShowRate,
+                         double cancellationRate) {}
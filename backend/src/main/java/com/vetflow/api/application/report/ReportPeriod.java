@@ -0,0 +1,6 @@
+package com.vetflow.api.application.report;
+
+import java.time.YearMonth;
+
+/** Months {@code from} to {@code to}, both inclusive, covered by a report. */
+public record ReportPeriod(YearMonth from, YearMonth to) {}
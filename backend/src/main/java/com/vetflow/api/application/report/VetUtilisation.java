@@ -0,0 +1,19 @@
+package com.vetflow.api.application.report;
+
+import java.time.YearMonth;
+
+/**
+ * One veterinarian's month: appointments booked with them and the hours those take, against the hours they
+ * are available. Cancelled appointments are counted but book no time; {@code utilisation} is booked over
+ * available hours and may exceed 1 when the diary is overbooked.
+ */
+public record VetUtilisation(YearMonth month,
+                             long veterinarianId,
+                             String veterinarianName,
+                             long bookedAppointments,
+                             double bookedHours,
+                             double availableHours,
+                             double utilisation,
+                             long completed,
+                             long noShows,
+                             long cancelled) {}
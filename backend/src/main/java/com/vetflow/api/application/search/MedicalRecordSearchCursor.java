@@ -0,0 +1,39 @@
+package com.vetflow.api.application.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+
+/**
+ * Rank and id of the last hit a client has seen. Ranks are recomputed identically for the same query, so the
+ * pair is enough to resume; the cursor is only meaningful with the query that produced it. The encoded form is
+ * opaque to clients.
+ */
+record MedicalRecordSearchCursor(double rank, long id) {
+
+  private static final String VERSION = "v1";
+
+  static MedicalRecordSearchCursor of(MedicalRecordHit hit) {
+    return new MedicalRecordSearchCursor(hit.rank(), hit.id());
+  }
+
+  String encode() {
+    String raw = String.join(";", VERSION, Double.toString(rank), Long.toString(id));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static MedicalRecordSearchCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(";");
+      if (parts.length != 3 || !VERSION.equals(parts[0])) {
+        throw new ValidationException("cursor is not a valid search cursor");
+      }
+      return new MedicalRecordSearchCursor(Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException ex) {
+      throw new ValidationException("cursor is not a valid search cursor");
+    }
+  }
+}
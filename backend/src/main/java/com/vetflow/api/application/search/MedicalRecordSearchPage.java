@@ -0,0 +1,8 @@
+package com.vetflow.api.application.search;
+
+import java.util.List;
+
+import com.vetflow.api.domain.model.MedicalRecordHit;
+
+/** One page of medical record hits, best first; {@code nextCursor} is null on the last page. */
+public record MedicalRecordSearchPage(List<MedicalRecordHit> hits, String nextCursor) {}
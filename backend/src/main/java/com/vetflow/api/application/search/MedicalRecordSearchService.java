@@ -0,0 +1,72 @@
+package com.vetflow.api.application.search;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.domain.model.TextQuery;
+import com.vetflow.api.domain.port.MedicalRecordSearch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Searches the text of medical records, optionally narrowed to one veterinarian and a range of visit dates,
+ * best match first and paged with a cursor.
+ */
+@Service
+public class MedicalRecordSearchService {
+
+  static final String LATENCY_METRIC = "vetflow.search.medical-records.latency";
+
+  private final MedicalRecordSearch medicalRecordSearch;
+  private final Timer latency;
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public MedicalRecordSearchService(MedicalRecordSearch medicalRecordSearch,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${vetflow.api.search.medical-records.default-limit:20}") int defaultLimit,
+                                    @Value("${vetflow.api.search.medical-records.max-limit:100}") int maxLimit) {
+    this.medicalRecordSearch = medicalRecordSearch;
+    this.latency = Timer.builder(LATENCY_METRIC)
+        .description("Time to answer a medical record search")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  /** {@code from} and {@code to} are visit dates, both inclusive. */
+  public MedicalRecordSearchPage search(String text, Long veterinarianId, LocalDate from, LocalDate to,
+      String cursor, Integer limit) {
+    TextQuery query = TextQuery.parse(text);
+    if (from != null && to != null && from.isAfter(to)) {
+      throw new ValidationException("from must not be after to");
+    }
+    int pageSize = limit == null ? defaultLimit : limit;
+    if (pageSize < 1 || pageSize > maxLimit) {
+      throw new ValidationException("limit must be between 1 and %d".formatted(maxLimit));
+    }
+    MedicalRecordSearchCursor after = cursor == null || cursor.isBlank()
+        ? null
+        : MedicalRecordSearchCursor.decode(cursor);
+
+    LocalDateTime start = from == null ? null : from.atStartOfDay();
+    LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+    // One extra row tells whether another page follows without a second query.
+    List<MedicalRecordHit> hits = latency.record(() -> medicalRecordSearch.search(query, veterinarianId, start, end,
+        after == null ? null : after.rank(), after == null ? 0L : after.id(), pageSize + 1));
+    if (hits.size() <= pageSize) {
+      return new MedicalRecordSearchPage(hits, null);
+    }
+    List<MedicalRecordHit> page = hits.subList(0, pageSize);
+    return new MedicalRecordSearchPage(List.copyOf(page),
+        MedicalRecordSearchCursor.of(page.get(pageSize - 1)).encode());
+  }
+}
@@ -0,0 +1,8 @@
+package com.vetflow.api.application.search;
+
+import java.util.List;
+
+import com.vetflow.api.domain.model.SearchHit;
+
+/** Hits for one search, best first; {@code query} is the term as it was matched. */
+public record SearchResult(String query, List<SearchHit> hits) {}
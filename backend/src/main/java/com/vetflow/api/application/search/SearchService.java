@@ -0,0 +1,62 @@
+package com.vetflow.api.application.search;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.SearchHit;
+import com.vetflow.api.domain.port.SearchIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Searches patients and owners by name, breed, email or phone. Terms shorter than three characters are
+ * rejected: they carry no full trigram, so no index can answer them and they would scan every row.
+ */
+@Service
+public class SearchService {
+
+  static final int MIN_TERM_LENGTH = 3;
+  static final int MAX_TERM_LENGTH = 100;
+  static final String LATENCY_METRIC = "vetflow.search.latency";
+
+  private final SearchIndex searchIndex;
+  private final Timer latency;
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public SearchService(SearchIndex searchIndex,
+                       MeterRegistry meterRegistry,
+                       @Value("${vetflow.api.search.default-limit:20}") int defaultLimit,
+                       @Value("${vetflow.api.search.max-limit:50}") int maxLimit) {
+    this.searchIndex = searchIndex;
+    this.latency = Timer.builder(LATENCY_METRIC)
+        .description("Time to answer a patient and owner search")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  public SearchResult search(String query, Integer limit) {
+    String term = normalize(query);
+    if (term.length() < MIN_TERM_LENGTH || term.length() > MAX_TERM_LENGTH) {
+      throw new ValidationException("q must be between %d and %d characters".formatted(MIN_TERM_LENGTH,
+          MAX_TERM_LENGTH));
+    }
+    int size = limit == null ? defaultLimit : limit;
+    if (size < 1 || size > maxLimit) {
+      throw new ValidationException("limit must be between 1 and %d".formatted(maxLimit));
+    }
+    List<SearchHit> hits = latency.record(() -> searchIndex.search(term, size));
+    return new SearchResult(term, hits);
+  }
+
+  static String normalize(String query) {
+    return query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,58 @@
+package com.vetflow.api.application.shared;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Helpers for version-aware updates. Aggregates carry the version they were loaded at and the save fails if
+ * the row moved on in the meantime, so concurrent edits never overwrite each other and no row locks are held.
+ */
+public final class OptimisticLocking {
+
+  static final int MAX_ATTEMPTS = 3;
+  private static final long BACKOFF_NANOS = 5_000_000L;
+
+  private OptimisticLocking() {
+  }
+
+  /**
+   * Rejects a command pinned to a version the aggregate is no longer at. A {@code null} expected version
+   * means the caller did not pin one.
+   */
+  public static void checkVersion(String resource, Long id, Long expectedVersion, Long currentVersion) {
+    if (expectedVersion != null && !Objects.equals(expectedVersion, currentVersion)) {
+      throw new VersionConflictException("%s %d is at version %d, not %d".formatted(resource, id, currentVersion,
+          expectedVersion));
+    }
+  }
+
+  /**
+   * Runs a load-modify-save cycle. When the caller pinned a version the first conflict is final, since it
+   * must see the other change before deciding again. Otherwise the update is re-applied to fresh state a few
+   * times before giving up, which is safe because each attempt reloads the aggregate.
+   */
+  public static <T> T update(Long expectedVersion, Supplier<T> update) {
+    if (expectedVersion != null) {
+      return update.get();
+    }
+    return retry(update);
+  }
+
+  /** Re-runs {@code update} when its save loses an optimistic-lock race, with a short jittered backoff. */
+  public static <T> T retry(Supplier<T> update) {
+    for (int attempt = 1;; attempt++) {
+      try {
+        return update.get();
+      } catch (OptimisticLockingFailureException ex) {
+        if (attempt >= MAX_ATTEMPTS) {
+          throw ex;
+        }
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(BACKOFF_NANOS / 2, BACKOFF_NANOS) * attempt);
+      }
+    }
+  }
+}
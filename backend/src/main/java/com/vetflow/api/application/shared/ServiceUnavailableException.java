@@ -0,0 +1,16 @@
+package com.vetflow.api.application.shared;
+
+/**
+ * Thrown when a request cannot be served right now because a dependency is slow or saturated. Unlike other
+ * application errors the same request may succeed if retried a little later.
+ */
+public class ServiceUnavailableException extends ApplicationException {
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+
+  public ServiceUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
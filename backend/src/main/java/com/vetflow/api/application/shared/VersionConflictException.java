@@ -0,0 +1,12 @@
+package com.vetflow.api.application.shared;
+
+/**
+ * Thrown when a command was issued against a version of an aggregate that is no longer current, i.e. someone
+ * else changed it after the client read it.
+ */
+public class VersionConflictException extends ApplicationException {
+
+  public VersionConflictException(String message) {
+    super(message);
+  }
+}
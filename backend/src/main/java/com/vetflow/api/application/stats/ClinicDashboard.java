@@ -0,0 +1,19 @@
+package com.vetflow.api.application.stats;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Dashboard figures for one day. The appointment counts cover appointments booked for {@code date};
+ * {@code byType} and {@code byVeterinarian} leave out cancelled ones. {@code noShowRate} is no-shows over
+ * completed plus no-show appointments, or {@code null} before any has been closed. {@code newPatientsThisWeek}
+ * counts registrations from {@code weekStart}, the Monday of that week, through {@code date}.
+ */
+public record ClinicDashboard(LocalDate date,
+                              long appointments,
+                              Map<String, Long> byStatus,
+                              Map<String, Long> byType,
+                              Map<String, Long> byVeterinarian,
+                              Double noShowRate,
+                              LocalDate weekStart,
+                              long newPatientsThisWeek) {}
@@ -0,0 +1,183 @@
+package com.vetflow.api.application.stats;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent;
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.patient.PatientChangedEvent;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.DailyStat;
+import com.vetflow.api.domain.model.DailyStat.Metric;
+import com.vetflow.api.domain.port.ClinicStatsStore;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clinic dashboard statistics read from per-day counters rather than computed over the appointment table.
+ *
+ * <p>Counters move with every appointment and patient change this node commits: a change takes the previous
+ * state's contributions away and adds the new state's. Changes relayed from other nodes are ignored, since the
+ * originating node has already written the shared table. Every {@code reconcile-interval} the counters from
+ * {@code reconcile-days} ago onwards are recomputed from the source tables, which corrects drift from failed
+ * increments or races and picks up changes made outside the command services. It scans the source tables, so
+ * it runs on the reporting pool partition rather than the one serving requests.
+ */
+@Slf4j
+@Service
+public class ClinicStatsService {
+
+  static final String INCREMENT_METRIC = "vetflow.stats.increment";
+  static final String RECONCILE_METRIC = "vetflow.stats.reconcile";
+  static final String UNASSIGNED = "unassigned";
+
+  private final ClinicStatsStore store;
+  private final int reconcileDays;
+  private final Clock clock;
+  private final Counter incrementFailures;
+  private final Counter reconcileFailures;
+
+  @Autowired
+  public ClinicStatsService(ClinicStatsStore store,
+      @Value("${vetflow.api.stats.reconcile-days:31}") int reconcileDays,
+      MeterRegistry meterRegistry) {
+    this(store, reconcileDays, meterRegistry, Clock.systemDefaultZone());
+  }
+
+  ClinicStatsService(ClinicStatsStore store, int reconcileDays, MeterRegistry meterRegistry, Clock clock) {
+    this.store = store;
+    this.reconcileDays = reconcileDays;
+    this.clock = clock;
+    this.incrementFailures = Counter.builder(INCREMENT_METRIC + ".failures")
+        .description("Counter updates lost on a database error, left for reconciliation to correct")
+        .register(meterRegistry);
+    this.reconcileFailures = Counter.builder(RECONCILE_METRIC + ".failures")
+        .description("Reconciliations of the dashboard counters abandoned on a database error")
+        .register(meterRegistry);
+  }
+
+  /** Dashboard for {@code date}, today when null. Reads a bounded number of counter rows for its week. */
+  public ClinicDashboard dashboard(LocalDate date) {
+    LocalDate day = date == null ? LocalDate.now(clock) : date;
+    LocalDate weekStart = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    long total = 0;
+    long newPatients = 0;
+    Map<String, Long> byStatus = new TreeMap<>();
+    Map<String, Long> byType = new TreeMap<>();
+    Map<String, Long> byVeterinarian = new TreeMap<>();
+    for (DailyStat stat : store.findBetween(weekStart, day)) {
+      if (stat.metric() == Metric.NEW_PATIENTS) {
+        newPatients += stat.count();
+      } else if (stat.date().equals(day) && stat.count() != 0) {
+        switch (stat.metric()) {
+          case TOTAL -> total += stat.count();
+          case STATUS -> byStatus.put(stat.key(), stat.count());
+          case TYPE -> byType.put(stat.key(), stat.count());
+          case VETERINARIAN -> byVeterinarian.put(stat.key(), stat.count());
+          default -> { }
+        }
+      }
+    }
+    long noShows = byStatus.getOrDefault(statusKey(Status.NO_SHOW), 0L);
+    long closed = noShows + byStatus.getOrDefault(statusKey(Status.COMPLETED), 0L);
+    Double noShowRate = closed == 0 ? null : (double) noShows / closed;
+    return new ClinicDashboard(day, total, byStatus, byType, byVeterinarian, noShowRate, weekStart, newPatients);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAppointmentChanged(AppointmentChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    Map<DailyStat.Key, Long> deltas = new HashMap<>();
+    if (event.previous() != null) {
+      contribute(deltas, event.previous(), -1);
+    }
+    contribute(deltas, event.appointment(), 1);
+    increment(deltas);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPatientChanged(PatientChangedEvent event) {
+    if (!event.remote() && event.registered() && event.patient().createdAt() != null) {
+      increment(Map.of(new DailyStat.Key(event.patient().createdAt().toLocalDate(), Metric.NEW_PATIENTS, ""), 1L));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.stats.reconcile-interval:PT1H}",
+      initialDelayString = "${vetflow.api.stats.reconcile-interval:PT1H}")
+  public void reconcile() {
+    WorkloadContext.run(Workload.REPORTING, this::reconcileCounters);
+  }
+
+  private void reconcileCounters() {
+    LocalDate from = LocalDate.now(clock).minusDays(reconcileDays);
+    try {
+      OptionalInt rows = store.reconcileFrom(from);
+      if (rows.isPresent()) {
+        log.info("Clinic statistics reconciled from {}: {} counters", from, rows.getAsInt());
+      } else {
+        log.debug("Clinic statistics reconciliation skipped; another node is running it");
+      }
+    } catch (RuntimeException ex) {
+      reconcileFailures.increment();
+      log.warn("Clinic statistics reconciliation failed; counters stay as they are", ex);
+    }
+  }
+
+  private void increment(Map<DailyStat.Key, Long> deltas) {
+    try {
+      try {
+        store.increment(deltas);
+      } catch (DataIntegrityViolationException ex) {
+        // Another writer created one of the counters first; it exists now, so the retry updates it.
+        store.increment(deltas);
+      }
+    } catch (RuntimeException ex) {
+      // The command has already committed; reconciliation restores the counters.
+      incrementFailures.increment();
+      log.warn("Clinic statistics update failed; counters are off until the next reconciliation", ex);
+    }
+  }
+
+  private static void contribute(Map<DailyStat.Key, Long> deltas, AppointmentResult appointment, long sign) {
+    if (appointment.appointmentDate() == null || appointment.status() == null) {
+      return;
+    }
+    LocalDate date = appointment.appointmentDate().toLocalDate();
+    deltas.merge(new DailyStat.Key(date, Metric.TOTAL, ""), sign, Long::sum);
+    deltas.merge(new DailyStat.Key(date, Metric.STATUS, statusKey(appointment.status())), sign, Long::sum);
+    if (appointment.status() != Status.CANCELLED) {
+      if (appointment.type() != null) {
+        deltas.merge(new DailyStat.Key(date, Metric.TYPE, appointment.type().name().toLowerCase(Locale.ROOT)),
+            sign, Long::sum);
+      }
+      String veterinarian = appointment.veterinarianId() == null
+          ? UNASSIGNED
+          : appointment.veterinarianId().toString();
+      deltas.merge(new DailyStat.Key(date, Metric.VETERINARIAN, veterinarian), sign, Long::sum);
+    }
+  }
+
+  private static String statusKey(Status status) {
+    return status.name().toLowerCase(Locale.ROOT);
+  }
+}
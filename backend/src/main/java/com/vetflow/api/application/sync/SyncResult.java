@@ -0,0 +1,26 @@
+package com.vetflow.api.application.sync;
+
+import java.util.List;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+
+/**
+ * Changes since a client's last sync. {@code token} is passed back as {@code since} on the next call; when
+ * {@code hasMore} is set the client should call again straight away.
+ *
+ * <p>{@code reset} is set when the client's token was older than the tombstone retention, so removals it
+ * missed may no longer be known. The result is then a fresh full download: the client must drop its local
+ * copy before applying it.</p>
+ */
+public record SyncResult(String token,
+                         boolean hasMore,
+                         boolean reset,
+                         Changes<OwnerResult> owners,
+                         Changes<PatientResult> patients,
+                         Changes<AppointmentResult> appointments) {
+
+  /** Rows to insert or replace by id, and ids the client should drop. */
+  public record Changes<T>(List<T> upserts, List<Long> removed) {}
+}
@@ -0,0 +1,215 @@
+package com.vetflow.api.application.sync;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.sync.SyncResult.Changes;
+import com.vetflow.api.application.sync.SyncToken.Cursor;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.Tombstone;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.OwnerRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.TombstoneRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delta sync for offline-capable clients. Each resource is read in {@code (updated_at, id)} order from the
+ * client's cursor, so a sync costs one indexed range scan per table and scales with the amount of change.
+ * Deactivated patients and hard-deleted rows are reported as removals; the tombstones of hard-deleted rows
+ * are paged per table in {@code (deleted_at, id)} order the same way.
+ *
+ * <p>Once a table is fully drained its cursor is parked {@code overlap} behind the current time rather than
+ * at the newest row: transactions that stamped {@code updated_at} earlier but committed later would
+ * otherwise be skipped. Clients upsert by id, so re-delivering the overlap window is harmless.
+ *
+ * <p>Tombstones are purged once older than {@code tombstone-retention}. A token whose removal cursors are
+ * older than that may have missed purged removals, so it is answered with a full download flagged
+ * {@link SyncResult#reset()}.
+ */
+@Slf4j
+@Service
+public class SyncService {
+
+  static final String OWNERS = "owners";
+  static final String PATIENTS = "patients";
+  static final String APPOINTMENTS = "appointments";
+
+  private final OwnerRepository ownerRepository;
+  private final PatientRepository patientRepository;
+  private final AppointmentRepository appointmentRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final int pageSize;
+  private final Duration overlap;
+  private final Duration tombstoneRetention;
+  private final Clock clock;
+
+  @Autowired
+  public SyncService(OwnerRepository ownerRepository,
+                     PatientRepository patientRepository,
+                     AppointmentRepository appointmentRepository,
+                     TombstoneRepository tombstoneRepository,
+                     @Value("${vetflow.api.sync.page-size:500}") int pageSize,
+                     @Value("${vetflow.api.sync.overlap:PT1M}") Duration overlap,
+                     @Value("${vetflow.api.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+    this(ownerRepository, patientRepository, appointmentRepository, tombstoneRepository, pageSize, overlap,
+        tombstoneRetention, Clock.systemDefaultZone());
+  }
+
+  SyncService(OwnerRepository ownerRepository,
+              PatientRepository patientRepository,
+              AppointmentRepository appointmentRepository,
+              TombstoneRepository tombstoneRepository,
+              int pageSize,
+              Duration overlap,
+              Duration tombstoneRetention,
+              Clock clock) {
+    this.ownerRepository = ownerRepository;
+    this.patientRepository = patientRepository;
+    this.appointmentRepository = appointmentRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.pageSize = pageSize;
+    this.overlap = overlap;
+    this.tombstoneRetention = tombstoneRetention;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the changes since {@code since}, or everything when the client has no token yet or its token
+   * predates the tombstone retention.
+   *
+   * @throws com.vetflow.api.application.shared.ValidationException if the token cannot be decoded
+   */
+  public SyncResult changesSince(String since) {
+    SyncToken from = since == null || since.isBlank() ? null : SyncToken.decode(since);
+    LocalDateTime now = LocalDateTime.now(clock);
+    boolean reset = from != null && from.earliestRemoval().isBefore(now.minus(tombstoneRetention));
+    boolean initial = from == null || reset;
+    if (initial) {
+      from = SyncToken.initial();
+    }
+    // Taken before reading so nothing committed during the sync falls behind the next cursor.
+    LocalDateTime watermark = now.minus(overlap);
+
+    // A full download has nothing to remove; its removals start from the watermark.
+    Page<Tombstone> removedOwners = removals(initial, OWNERS, from.removedOwners(), watermark);
+    Page<Tombstone> removedPatients = removals(initial, PATIENTS, from.removedPatients(), watermark);
+    Page<Tombstone> removedAppointments = removals(initial, APPOINTMENTS, from.removedAppointments(), watermark);
+
+    Page<Owner> owners = page(ownerRepository.findChangedSince(from.owners().since(), from.owners().afterId(),
+        pageSize + 1), watermark, Owner::getUpdatedAt, Owner::getId);
+    Page<Patient> patients = page(patientRepository.findChangedSince(from.patients().since(),
+        from.patients().afterId(), pageSize + 1), watermark, Patient::getUpdatedAt, Patient::getId);
+    Page<Appointment> appointments = page(appointmentRepository.findChangedSince(from.appointments().since(),
+        from.appointments().afterId(), pageSize + 1), watermark, Appointment::getUpdatedAt, Appointment::getId);
+
+    List<Long> patientRemovals = new ArrayList<>(recordIds(removedPatients));
+    List<PatientResult> activePatients = new ArrayList<>();
+    for (Patient patient : patients.rows()) {
+      if (patient.isActive()) {
+        activePatients.add(toResult(patient));
+      } else {
+        patientRemovals.add(patient.getId());
+      }
+    }
+
+    SyncToken next = new SyncToken(owners.next(), patients.next(), appointments.next(),
+        removedOwners.next(), removedPatients.next(), removedAppointments.next());
+    return new SyncResult(next.encode(),
+        owners.hasMore() || patients.hasMore() || appointments.hasMore()
+            || removedOwners.hasMore() || removedPatients.hasMore() || removedAppointments.hasMore(),
+        reset,
+        new Changes<>(owners.rows().stream().map(this::toResult).toList(), recordIds(removedOwners)),
+        new Changes<>(activePatients, patientRemovals),
+        new Changes<>(appointments.rows().stream().map(this::toResult).toList(), recordIds(removedAppointments)));
+  }
+
+  /** Drops tombstones past the retention; tokens older than that are answered with a reset. */
+  @Scheduled(fixedDelayString = "${vetflow.api.sync.purge-interval:PT1H}")
+  public void purgeTombstones() {
+    int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now(clock).minus(tombstoneRetention));
+    if (purged > 0) {
+      log.debug("Purged {} sync tombstones older than {}", purged, tombstoneRetention);
+    }
+  }
+
+  private Page<Tombstone> removals(boolean initial, String table, Cursor from, LocalDateTime watermark) {
+    if (initial) {
+      return new Page<>(List.of(), new Cursor(watermark, 0L), false);
+    }
+    return page(tombstoneRepository.findDeletedSince(table, from.since(), from.afterId(), pageSize + 1),
+        watermark, Tombstone::deletedAt, Tombstone::id);
+  }
+
+  private <T> Page<T> page(List<T> rows, LocalDateTime watermark,
+      Function<T, LocalDateTime> updatedAt, Function<T, Long> id) {
+    if (rows.size() > pageSize) {
+      List<T> trimmed = rows.subList(0, pageSize);
+      T last = trimmed.get(pageSize - 1);
+      return new Page<>(trimmed, Cursor.from(updatedAt.apply(last), id.apply(last)), true);
+    }
+    return new Page<>(rows, new Cursor(watermark, 0L), false);
+  }
+
+  private static List<Long> recordIds(Page<Tombstone> tombstones) {
+    return tombstones.rows().stream()
+        .map(Tombstone::recordId)
+        .distinct()
+        .toList();
+  }
+
+  private OwnerResult toResult(Owner owner) {
+    return new OwnerResult(owner.getId(),
+        owner.getName(),
+        owner.getPhone(),
+        owner.getEmail(),
+        owner.getAddress(),
+        owner.getCreatedAt(),
+        owner.getUpdatedAt(),
+        owner.getVersion());
+  }
+
+  private PatientResult toResult(Patient patient) {
+    return new PatientResult(patient.getId(),
+        patient.getName(),
+        patient.getSpecies().name(),
+        patient.getBreed(),
+        patient.getBirthDate(),
+        patient.getWeight(),
+        patient.isActive(),
+        patient.getOwner().getId(),
+        patient.getCreatedAt(),
+        patient.getUpdatedAt(),
+        patient.getVersion());
+  }
+
+  private AppointmentResult toResult(Appointment appointment) {
+    return new AppointmentResult(appointment.getId(),
+        appointment.getPatient().getId(),
+        appointment.getVeterinarianId(),
+        appointment.getAppointmentDate(),
+        appointment.getType(),
+        appointment.getStatus(),
+        appointment.getPriority(),
+        appointment.getNotes(),
+        appointment.getCreatedAt(),
+        appointment.getVersion());
+  }
+
+  private record Page<T>(List<T> rows, Cursor next, boolean hasMore) {}
+}
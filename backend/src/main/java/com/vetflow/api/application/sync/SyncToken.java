@@ -0,0 +1,88 @@
+package com.vetflow.api.application.sync;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.vetflow.api.application.shared.ValidationException;
+
+/**
+ * Position of a client in each resource's change sequence and in its removals. A cursor is the
+ * {@code (updatedAt, id)} of the last row, or the {@code (deletedAt, id)} of the last tombstone, the client
+ * has seen; both are delivered in that order, so the pair is enough to resume exactly. The encoded form is
+ * opaque to clients.
+ *
+ * <p>Tokens issued before removals were paged ({@code v1}) carry no removal cursors; they resume removals
+ * from the row cursor of the same resource, as they did then.</p>
+ */
+record SyncToken(Cursor owners, Cursor patients, Cursor appointments,
+                 Cursor removedOwners, Cursor removedPatients, Cursor removedAppointments) {
+
+  private static final String VERSION = "v2";
+  private static final String LEGACY_VERSION = "v1";
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  record Cursor(LocalDateTime since, long afterId) {
+
+    static Cursor from(LocalDateTime since, Long afterId) {
+      return new Cursor(since, afterId == null ? 0L : afterId);
+    }
+  }
+
+  static SyncToken initial() {
+    Cursor start = new Cursor(EPOCH, 0L);
+    return new SyncToken(start, start, start, start, start, start);
+  }
+
+  /** The oldest removal position; tombstones purged after it would be missing from the next sync. */
+  LocalDateTime earliestRemoval() {
+    LocalDateTime earliest = removedOwners.since();
+    if (removedPatients.since().isBefore(earliest)) {
+      earliest = removedPatients.since();
+    }
+    if (removedAppointments.since().isBefore(earliest)) {
+      earliest = removedAppointments.since();
+    }
+    return earliest;
+  }
+
+  String encode() {
+    String raw = String.join(";", VERSION, encode(owners), encode(patients), encode(appointments),
+        encode(removedOwners), encode(removedPatients), encode(removedAppointments));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static SyncToken decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(";");
+      if (parts.length == 7 && VERSION.equals(parts[0])) {
+        return new SyncToken(decodeCursor(parts[1]), decodeCursor(parts[2]), decodeCursor(parts[3]),
+            decodeCursor(parts[4]), decodeCursor(parts[5]), decodeCursor(parts[6]));
+      }
+      if (parts.length == 4 && LEGACY_VERSION.equals(parts[0])) {
+        Cursor owners = decodeCursor(parts[1]);
+        Cursor patients = decodeCursor(parts[2]);
+        Cursor appointments = decodeCursor(parts[3]);
+        return new SyncToken(owners, patients, appointments, new Cursor(owners.since(), 0L),
+            new Cursor(patients.since(), 0L), new Cursor(appointments.since(), 0L));
+      }
+      throw new ValidationException("since is not a valid sync token");
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new ValidationException("since is not a valid sync token");
+    }
+  }
+
+  private static String encode(Cursor cursor) {
+    return cursor.since() + "," + cursor.afterId();
+  }
+
+  private static Cursor decodeCursor(String value) {
+    int comma = value.indexOf(',');
+    if (comma < 0) {
+      throw new IllegalArgumentException("missing cursor id");
+    }
+    return new Cursor(LocalDateTime.parse(value.substring(0, comma)), Long.parseLong(value.substring(comma + 1)));
+  }
+}
@@ -0,0 +1,51 @@
+package com.vetflow.api.application.timeline;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily merges iterators that are each already sorted by the same order. Only the current head of every
+ * source is held, in a heap of size k, so a caller that stops early never pulls more than it consumed plus
+ * one element per source.
+ */
+final class KWayMerge<T> implements Iterator<T> {
+
+  private final PriorityQueue<Head<T>> heads;
+
+  private KWayMerge(List<? extends Iterator<T>> sources, Comparator<? super T> order) {
+    this.heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> order.compare(a.value, b.value));
+    for (Iterator<T> source : sources) {
+      advance(source);
+    }
+  }
+
+  static <T> Iterator<T> merge(List<? extends Iterator<T>> sources, Comparator<? super T> order) {
+    return new KWayMerge<>(sources, order);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public T next() {
+    Head<T> head = heads.poll();
+    if (head == null) {
+      throw new NoSuchElementException();
+    }
+    advance(head.source);
+    return head.value;
+  }
+
+  private void advance(Iterator<T> source) {
+    if (source.hasNext()) {
+      heads.add(new Head<>(source.next(), source));
+    }
+  }
+
+  private record Head<T>(T value, Iterator<T> source) {}
+}
@@ -0,0 +1,47 @@
+package com.vetflow.api.application.timeline;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Iterates one date-ordered query chunk by chunk, asking for the next chunk only once the previous one is
+ * used up. {@code fetch} receives the last element returned so far (null at the start) and the chunk size.
+ */
+final class KeysetSource<T> implements Iterator<T> {
+
+  private final BiFunction<T, Integer, List<T>> fetch;
+  private final int chunkSize;
+  private Iterator<T> chunk;
+  private T last;
+  private boolean exhausted;
+
+  KeysetSource(BiFunction<T, Integer, List<T>> fetch, int chunkSize) {
+    this.fetch = fetch;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (chunk != null && chunk.hasNext()) {
+      return true;
+    }
+    if (exhausted) {
+      return false;
+    }
+    List<T> rows = fetch.apply(last, chunkSize);
+    exhausted = rows.size() < chunkSize;
+    chunk = rows.iterator();
+    return chunk.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    last = chunk.next();
+    return last;
+  }
+}
@@ -0,0 +1,141 @@
+package com.vetflow.api.application.timeline;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.timeline.TimelineEntry.Kind;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.AuditEntry;
+import com.vetflow.api.domain.model.MedicalRecord;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.AuditEntryRepository;
+import com.vetflow.api.domain.port.MedicalRecordRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+
+/**
+ * Builds a patient's history, newest first, from appointments, medical records and audit entries on the
+ * patient. Each source is read with a keyset query from the cursor position and the three are merged lazily,
+ * so a page costs at most one bounded query per source however long the history is.
+ */
+@Service
+public class PatientTimelineService {
+
+  static final String PATIENTS_TABLE = "patients";
+
+  private final PatientRepository patientRepository;
+  private final AppointmentRepository appointmentRepository;
+  private final MedicalRecordRepository medicalRecordRepository;
+  private final AuditEntryRepository auditEntryRepository;
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public PatientTimelineService(PatientRepository patientRepository,
+                                AppointmentRepository appointmentRepository,
+                                MedicalRecordRepository medicalRecordRepository,
+                                AuditEntryRepository auditEntryRepository,
+                                @Value("${vetflow.api.timeline.default-limit:50}") int defaultLimit,
+                                @Value("${vetflow.api.timeline.max-limit:200}") int maxLimit) {
+    this.patientRepository = patientRepository;
+    this.appointmentRepository = appointmentRepository;
+    this.medicalRecordRepository = medicalRecordRepository;
+    this.auditEntryRepository = auditEntryRepository;
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+  }
+
+  public TimelinePage timeline(Long patientId, String cursor, Integer limit) {
+    if (patientId == null) {
+      throw new ValidationException("patientId is required");
+    }
+    int pageSize = limit == null ? defaultLimit : limit;
+    if (pageSize < 1 || pageSize > maxLimit) {
+      throw new ValidationException("limit must be between 1 and %d".formatted(maxLimit));
+    }
+    TimelineCursor from = cursor == null || cursor.isBlank() ? TimelineCursor.start() : TimelineCursor.decode(cursor);
+    if (patientRepository.findVersionStampById(patientId).isEmpty()) {
+      throw new ResourceNotFoundException("Patient %d not found".formatted(patientId));
+    }
+
+    // One extra row per source tells whether anything follows the page without a second query.
+    int chunk = pageSize + 1;
+    Iterator<TimelineEntry> merged = KWayMerge.merge(List.of(
+        new KeysetSource<>((last, size) -> appointments(patientId, position(from, last), size), chunk),
+        new KeysetSource<>((last, size) -> medicalRecords(patientId, position(from, last), size), chunk),
+        new KeysetSource<>((last, size) -> auditEntries(patientId, position(from, last), size), chunk)),
+        TimelineCursor.ORDER);
+
+    List<TimelineEntry> entries = new ArrayList<>(pageSize);
+    while (entries.size() < pageSize && merged.hasNext()) {
+      entries.add(merged.next());
+    }
+    String next = merged.hasNext() ? TimelineCursor.of(entries.get(entries.size() - 1)).encode() : null;
+    return new TimelinePage(entries, next);
+  }
+
+  private static TimelineCursor position(TimelineCursor from, TimelineEntry last) {
+    return last == null ? from : TimelineCursor.of(last);
+  }
+
+  private List<TimelineEntry> appointments(Long patientId, TimelineCursor position, int size) {
+    return appointmentRepository.findByPatientBefore(patientId, position.at(),
+            position.beforeIdFor(Kind.APPOINTMENT), size)
+        .stream()
+        .map(PatientTimelineService::toEntry)
+        .toList();
+  }
+
+  private List<TimelineEntry> medicalRecords(Long patientId, TimelineCursor position, int size) {
+    return medicalRecordRepository.findByPatientBefore(patientId, position.at(),
+            position.beforeIdFor(Kind.MEDICAL_RECORD), size)
+        .stream()
+        .map(PatientTimelineService::toEntry)
+        .toList();
+  }
+
+  private List<TimelineEntry> auditEntries(Long patientId, TimelineCursor position, int size) {
+    return auditEntryRepository.findByRecordBefore(PATIENTS_TABLE, patientId, position.at(),
+            position.beforeIdFor(Kind.AUDIT), size)
+        .stream()
+        .map(PatientTimelineService::toEntry)
+        .toList();
+  }
+
+  private static TimelineEntry toEntry(Appointment appointment) {
+    return new TimelineEntry(Kind.APPOINTMENT,
+        appointment.getId(),
+        appointment.getAppointmentDate(),
+        appointment.getType().name(),
+        appointment.getStatus().name(),
+        appointment.getNotes(),
+        appointment.getVeterinarianId(),
+        null);
+  }
+
+  private static TimelineEntry toEntry(MedicalRecord medicalRecord) {
+    return new TimelineEntry(Kind.MEDICAL_RECORD,
+        medicalRecord.getId(),
+        medicalRecord.getVisitDate(),
+        medicalRecord.getDiagnosis(),
+        null,
+        medicalRecord.getTreatment(),
+        medicalRecord.getVeterinarianId(),
+        null);
+  }
+
+  private static TimelineEntry toEntry(AuditEntry auditEntry) {
+    return new TimelineEntry(Kind.AUDIT,
+        auditEntry.id(),
+        auditEntry.changedAt(),
+        auditEntry.action(),
+        null,
+        null,
+        null,
+        auditEntry.changedBy());
+  }
+}
@@ -0,0 +1,63 @@
+package com.vetflow.api.application.timeline;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.timeline.TimelineEntry.Kind;
+
+/**
+ * Position of the last entry a client has seen. Entries are ordered by {@code occurredAt} descending, then
+ * kind, then id descending, so the triple is enough to resume exactly. The encoded form is opaque to clients.
+ */
+record TimelineCursor(LocalDateTime at, Kind kind, long id) {
+
+  private static final String VERSION = "v1";
+  /** Later than anything stored, including appointments booked far ahead. */
+  private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+  static final Comparator<TimelineEntry> ORDER = Comparator.comparing(TimelineEntry::occurredAt).reversed()
+      .thenComparing(TimelineEntry::kind)
+      .thenComparing(TimelineEntry::id, Comparator.reverseOrder());
+
+  static TimelineCursor start() {
+    return new TimelineCursor(END_OF_TIME, Kind.APPOINTMENT, Long.MAX_VALUE);
+  }
+
+  static TimelineCursor of(TimelineEntry entry) {
+    return new TimelineCursor(entry.occurredAt(), entry.kind(), entry.id());
+  }
+
+  /**
+   * Id bound for a source of the given kind: rows at exactly {@link #at} come after this cursor only if their
+   * kind sorts later, or if it is the same kind and their id is lower.
+   */
+  long beforeIdFor(Kind source) {
+    int byKind = source.compareTo(kind);
+    if (byKind > 0) {
+      return Long.MAX_VALUE;
+    }
+    return byKind == 0 ? id : Long.MIN_VALUE;
+  }
+
+  String encode() {
+    String raw = String.join(";", VERSION, at.toString(), kind.name(), Long.toString(id));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static TimelineCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(";");
+      if (parts.length != 4 || !VERSION.equals(parts[0])) {
+        throw new ValidationException("cursor is not a valid timeline cursor");
+      }
+      return new TimelineCursor(LocalDateTime.parse(parts[1]), Kind.valueOf(parts[2]), Long.parseLong(parts[3]));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new ValidationException("cursor is not a valid timeline cursor");
+    }
+  }
+}
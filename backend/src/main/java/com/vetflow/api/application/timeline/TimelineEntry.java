@@ -0,0 +1,30 @@
+package com.vetflow.api.application.timeline;
+
+import java.time.LocalDateTime;
+
+/**
+ * One event in a patient's history. {@code id} is the id of the underlying appointment, medical record or
+ * audit entry, so {@code (kind, id)} identifies the source row.
+ *
+ * <ul>
+ * <li>APPOINTMENT: title is the appointment type, status its status, detail its notes.</li>
+ * <li>MEDICAL_RECORD: title is the diagnosis, detail the treatment.</li>
+ * <li>AUDIT: title is the action (INSERT or UPDATE) on the patient profile, actor who made it.</li>
+ * </ul>
+ */
+public record TimelineEntry(Kind kind,
+                            Long id,
+                            LocalDateTime occurredAt,
+                            String title,
+                            String status,
+                            String detail,
+                            Long veterinarianId,
+                            String actor) {
+
+  /** Declaration order breaks ties between entries of different kinds at the same instant. */
+  public enum Kind {
+    APPOINTMENT,
+    MEDICAL_RECORD,
+    AUDIT
+  }
+}
@@ -0,0 +1,6 @@
+package com.vetflow.api.application.timeline;
+
+import java.util.List;
+
+/** A page of timeline entries, newest first. {@code nextCursor} is null on the last page. */
+public record TimelinePage(List<TimelineEntry> entries, String nextCursor) {}
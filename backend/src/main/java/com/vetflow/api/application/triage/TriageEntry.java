@@ -0,0 +1,38 @@
+package com.vetflow.api.application.triage;
+
+import java.time.LocalDateTime;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Type;
+
+/** Immutable view of an open appointment waiting in the triage queue. */
+public record TriageEntry(Long appointmentId,
+                          Long patientId,
+                          Long veterinarianId,
+                          LocalDateTime appointmentDate,
+                          Type type,
+                          Priority priority,
+                          String notes) {
+
+  static TriageEntry from(AppointmentResult result) {
+    return new TriageEntry(result.id(),
+        result.patientId(),
+        result.veterinarianId(),
+        result.appointmentDate(),
+        result.type(),
+        result.priority(),
+        result.notes());
+  }
+
+  static TriageEntry from(Appointment appointment) {
+    return new TriageEntry(appointment.getId(),
+        appointment.getPatient().getId(),
+        appointment.getVeterinarianId(),
+        appointment.getAppointmentDate(),
+        appointment.getType(),
+        appointment.getPriority(),
+        appointment.getNotes());
+  }
+}
@@ -0,0 +1,4 @@
+package com.vetflow.api.application.triage;
+
+/** Published by {@link TriageQueueService} after the queue content has changed. */
+public record TriageQueueChangedEvent(TriageSnapshot snapshot) {}
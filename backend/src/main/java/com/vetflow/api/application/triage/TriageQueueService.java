@@ -0,0 +1,215 @@
+package com.vetflow.api.application.triage;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent;
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.port.AppointmentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Live triage queue holding today's open (scheduled) appointments.
+ *
+ * <p>Entries are ordered by priority (CRITICAL first), emergencies ahead of other visits with the same
+ * priority, then by expected arrival (appointment time) and id. The queue is seeded at startup and at
+ * midnight, and is otherwise maintained incrementally from {@link AppointmentChangedEvent}s.</p>
+ *
+ * <p>Writers serialise on a lock and publish an immutable {@link TriageSnapshot}; readers only perform a
+ * volatile read, so the exam-room screens polling the queue never contend with each other or with writers.</p>
+ *
+ * <p>A reload reads the appointments before it takes the lock, so changes applied meanwhile are remembered
+ * and win over the rows read unless a row carries a newer version.</p>
+ */
+@Slf4j
+@Service
+public class TriageQueueService {
+
+  static final Comparator<TriageEntry> TRIAGE_ORDER = Comparator
+      .comparing(TriageEntry::priority, Comparator.reverseOrder())
+      .thenComparing(entry -> entry.type() != Type.EMERGENCY)
+      .thenComparing(TriageEntry::appointmentDate)
+      .thenComparing(TriageEntry::appointmentId);
+
+  private final AppointmentRepository appointmentRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Clock clock;
+
+  private final ConcurrentSkipListSet<TriageEntry> queue = new ConcurrentSkipListSet<>(TRIAGE_ORDER);
+  private final Map<Long, TriageEntry> entriesByAppointment = new ConcurrentHashMap<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+  // Guarded by writeLock: changes applied while a reload reads the database, replayed over what it read.
+  private final Map<Long, AppointmentResult> changedDuringReload = new HashMap<>();
+  private int reloadsRunning;
+  private volatile TriageSnapshot snapshot;
+
+  @Autowired
+  public TriageQueueService(AppointmentRepository appointmentRepository, ApplicationEventPublisher eventPublisher) {
+    this(appointmentRepository, eventPublisher, Clock.systemDefaultZone());
+  }
+
+  TriageQueueService(AppointmentRepository appointmentRepository, ApplicationEventPublisher eventPublisher,
+      Clock clock) {
+    this.appointmentRepository = appointmentRepository;
+    this.eventPublisher = eventPublisher;
+    this.clock = clock;
+    // Seeding the version from the clock keeps validators from repeating across restarts.
+    this.snapshot = new TriageSnapshot(clock.millis(), List.of());
+  }
+
+  /** Current queue content, highest urgency first. Lock-free. */
+  public TriageSnapshot snapshot() {
+    return snapshot;
+  }
+
+  /** The most urgent open appointment, if any. Lock-free. */
+  public Optional<TriageEntry> peek() {
+    List<TriageEntry> entries = snapshot.entries();
+    return entries.isEmpty() ? Optional.empty() : Optional.of(entries.get(0));
+  }
+
+  /**
+   * Rebuilds the queue from today's scheduled appointments. Also runs when the change bus may have missed
+   * another node's changes.
+   */
+  @EventListener({ ApplicationReadyEvent.class, ChangeBusResyncEvent.class })
+  @Scheduled(cron = "${vetflow.api.triage.reload-cron:0 0 0 * * *}")
+  public void reload() {
+    LocalDate today = LocalDate.now(clock);
+    writeLock.lock();
+    try {
+      reloadsRunning++;
+    } finally {
+      writeLock.unlock();
+    }
+    TriageSnapshot published;
+    try {
+      List<Appointment> appointments;
+      try {
+        appointments = appointmentRepository.findByDateRange(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+      } catch (DataAccessException ex) {
+        log.warn("Could not load today's appointments into the triage queue", ex);
+        return;
+      }
+      writeLock.lock();
+      try {
+        rebuild(appointments);
+        published = publishSnapshot();
+      } finally {
+        writeLock.unlock();
+      }
+    } finally {
+      writeLock.lock();
+      try {
+        if (--reloadsRunning == 0) {
+          changedDuringReload.clear();
+        }
+      } finally {
+        writeLock.unlock();
+      }
+    }
+    log.debug("Triage queue reloaded with {} open appointments", published.entries().size());
+    eventPublisher.publishEvent(new TriageQueueChangedEvent(published));
+  }
+
+  @EventListener
+  public void onAppointmentChanged(AppointmentChangedEvent event) {
+    apply(event.appointment());
+  }
+
+  void apply(AppointmentResult appointment) {
+    boolean open = isOpen(appointment);
+    TriageSnapshot published = null;
+    writeLock.lock();
+    try {
+      if (reloadsRunning > 0) {
+        changedDuringReload.merge(appointment.id(), appointment,
+            (recorded, change) -> isNewer(recorded.version(), change.version()) ? recorded : change);
+      }
+      boolean changed = remove(appointment.id());
+      if (open) {
+        insert(TriageEntry.from(appointment));
+        changed = true;
+      }
+      if (changed) {
+        published = publishSnapshot();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+    if (published != null) {
+      eventPublisher.publishEvent(new TriageQueueChangedEvent(published));
+    }
+  }
+
+  /** Refills the queue from the rows read, keeping the changes applied since unless a row is newer. */
+  private void rebuild(List<Appointment> appointments) {
+    queue.clear();
+    entriesByAppointment.clear();
+    Map<Long, AppointmentResult> changed = new HashMap<>(changedDuringReload);
+    for (Appointment appointment : appointments) {
+      AppointmentResult change = changed.get(appointment.getId());
+      if (change != null) {
+        if (!isNewer(appointment.getVersion(), change.version())) {
+          continue;
+        }
+        changed.remove(appointment.getId());
+      }
+      if (appointment.getStatus() == Status.SCHEDULED) {
+        insert(TriageEntry.from(appointment));
+      }
+    }
+    changed.values().stream().filter(this::isOpen).map(TriageEntry::from).forEach(this::insert);
+  }
+
+  private boolean isOpen(AppointmentResult appointment) {
+    return appointment.status() == Status.SCHEDULED && isToday(appointment.appointmentDate());
+  }
+
+  /** Whether {@code version} is known to be later than {@code other}; unknown versions are never newer. */
+  private static boolean isNewer(Long version, Long other) {
+    return version != null && other != null && version > other;
+  }
+
+  private void insert(TriageEntry entry) {
+    queue.add(entry);
+    entriesByAppointment.put(entry.appointmentId(), entry);
+  }
+
+  private boolean remove(Long appointmentId) {
+    TriageEntry existing = entriesByAppointment.remove(appointmentId);
+    return existing != null && queue.remove(existing);
+  }
+
+  private TriageSnapshot publishSnapshot() {
+    TriageSnapshot next = new TriageSnapshot(snapshot.version() + 1, List.copyOf(queue));
+    snapshot = next;
+    return next;
+  }
+
+  private boolean isToday(LocalDateTime dateTime) {
+    return dateTime != null && dateTime.toLocalDate().equals(LocalDate.now(clock));
+  }
+}
@@ -0,0 +1,14 @@
+package com.vetflow.api.application.triage;
+
+import java.util.List;
+
+/**
+ * Point-in-time copy of the triage queue. {@code version} changes whenever the queue changes, so it
+ * doubles as a cheap validator for polling clients.
+ */
+public record TriageSnapshot(long version, List<TriageEntry> entries) {
+
+  public TriageSnapshot {
+    entries = List.copyOf(entries);
+  }
+}
@@ -0,0 +1,9 @@
+package com.vetflow.api.application.typeahead;
+
+import com.vetflow.api.domain.model.SearchHit.Kind;
+
+/**
+ * One autocomplete entry. For owners {@code detail} is the phone number and {@code ownerId} is the owner's own
+ * id; for patients it is the species.
+ */
+public record Suggestion(Kind kind, long id, String label, String detail, long ownerId) {}
@@ -0,0 +1,67 @@
+package com.vetflow.api.application.typeahead;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits names, emails and phone numbers into the lower-cased, accent-free tokens the autocomplete index
+ * matches prefixes against, so "José" is found by "jose" and "ana.ruiz@x.com" by "ruiz".
+ */
+final class Tokenizer {
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+", Pattern.UNICODE_CHARACTER_CLASS);
+  private static final Pattern NON_DIGITS = Pattern.compile("[^0-9]+");
+  private static final Pattern PHONE_LIKE = Pattern.compile("[0-9\\s+().-]+");
+
+  private Tokenizer() {
+  }
+
+  /** Tokens of every field; formatted phone numbers also yield their digits run together. */
+  static List<String> tokens(String... fields) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String field : fields) {
+      if (field == null) {
+        continue;
+      }
+      List<String> parts = split(field);
+      tokens.addAll(parts);
+      if (PHONE_LIKE.matcher(field).matches() && parts.size() > 1) {
+        tokens.add(NON_DIGITS.matcher(field).replaceAll(""));
+      }
+    }
+    return List.copyOf(tokens);
+  }
+
+  /**
+   * Terms of a typed query, each to be matched as a prefix. A query that looks like a phone number is a
+   * single term of its digits, so "55 1111" and "551111" find the same owner.
+   */
+  static List<String> queryTerms(String query) {
+    if (query == null) {
+      return List.of();
+    }
+    if (PHONE_LIKE.matcher(query).matches()) {
+      String digits = NON_DIGITS.matcher(query).replaceAll("");
+      return digits.isEmpty() ? List.of() : List.of(digits);
+    }
+    return List.copyOf(new LinkedHashSet<>(split(query)));
+  }
+
+  private static List<String> split(String value) {
+    String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+        .toLowerCase(Locale.ROOT);
+    List<String> parts = new ArrayList<>();
+    for (String part : SEPARATORS.split(folded)) {
+      if (!part.isEmpty()) {
+        parts.add(part);
+      }
+    }
+    return parts;
+  }
+}
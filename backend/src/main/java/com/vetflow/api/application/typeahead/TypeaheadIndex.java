@@ -0,0 +1,272 @@
+package com.vetflow.api.application.typeahead;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import com.vetflow.api.domain.model.SearchHit.Kind;
+
+/**
+ * Immutable prefix index over autocomplete entries. Distinct tokens are kept in one sorted array, and the
+ * entries holding each token in one shared array of entry ordinals, so every prefix maps to a single contiguous
+ * run found with two binary searches. Entries are stored column-wise in primitive arrays; there is no object
+ * per entry.
+ *
+ * <p>Matches come back in token order: entries whose token equals the typed prefix first, then those whose
+ * token extends it, shortest extension first.
+ */
+final class TypeaheadIndex {
+
+  static final TypeaheadIndex EMPTY = builder(Long.MAX_VALUE).build();
+
+  /** Postings examined per lookup at most, bounding the cost of one-letter prefixes on large indexes. */
+  static final int MAX_SCAN = 50_000;
+
+  private static final Kind[] KINDS = Kind.values();
+
+  /** A matching entry with the token it matched on, which orders it among other matches. */
+  record Match(Suggestion suggestion, String token) {}
+
+  /** An entry with its tokens joined into one string, each preceded by a space. */
+  record Entry(Suggestion suggestion, String text) {
+
+    static Entry of(Suggestion suggestion, String... fields) {
+      return new Entry(suggestion, " " + String.join(" ", Tokenizer.tokens(fields)));
+    }
+
+    boolean matches(List<String> terms) {
+      return TypeaheadIndex.matches(text, terms);
+    }
+
+    /** The smallest of the entry's tokens starting with {@code term}. */
+    String tokenFor(String term) {
+      String best = null;
+      for (String token : text.substring(1).split(" ")) {
+        if (token.startsWith(term) && (best == null || token.compareTo(best) < 0)) {
+          best = token;
+        }
+      }
+      return best;
+    }
+  }
+
+  private final String[] tokens;
+  private final int[] postingStart;
+  private final int[] postings;
+  private final long[] ids;
+  private final long[] ownerIds;
+  private final byte[] kinds;
+  private final String[] labels;
+  private final String[] details;
+  private final String[] texts;
+  private final long estimatedBytes;
+
+  private TypeaheadIndex(String[] tokens, int[] postingStart, int[] postings, long[] ids, long[] ownerIds,
+      byte[] kinds, String[] labels, String[] details, String[] texts, long estimatedBytes) {
+    this.tokens = tokens;
+    this.postingStart = postingStart;
+    this.postings = postings;
+    this.ids = ids;
+    this.ownerIds = ownerIds;
+    this.kinds = kinds;
+    this.labels = labels;
+    this.details = details;
+    this.texts = texts;
+    this.estimatedBytes = estimatedBytes;
+  }
+
+  static Builder builder(long maxBytes) {
+    return new Builder(maxBytes);
+  }
+
+  static long key(Kind kind, long id) {
+    return id << 1 | kind.ordinal();
+  }
+
+  int size() {
+    return ids.length;
+  }
+
+  int tokenCount() {
+    return tokens.length;
+  }
+
+  long estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  /**
+   * The term with the fewest postings; scanning its run and checking the other terms against each entry's
+   * text touches the fewest entries.
+   */
+  String primaryTerm(List<String> terms) {
+    String primary = terms.get(0);
+    int fewest = Integer.MAX_VALUE;
+    for (String term : terms) {
+      int[] range = range(term);
+      int count = postingStart[range[1]] - postingStart[range[0]];
+      if (count < fewest) {
+        fewest = count;
+        primary = term;
+      }
+    }
+    return primary;
+  }
+
+  /**
+   * Up to {@code limit} entries with a token starting with every term, skipping entries whose key
+   * {@code excluded} accepts.
+   */
+  List<Match> lookup(List<String> terms, int limit, LongPredicate excluded) {
+    List<Match> matches = new ArrayList<>(Math.min(limit, 64));
+    if (terms.isEmpty() || limit < 1) {
+      return matches;
+    }
+    int[] range = range(primaryTerm(terms));
+    Set<Integer> seen = new HashSet<>();
+    int budget = MAX_SCAN;
+    for (int t = range[0]; t < range[1]; t++) {
+      for (int p = postingStart[t]; p < postingStart[t + 1]; p++) {
+        if (--budget < 0) {
+          return matches;
+        }
+        int ordinal = postings[p];
+        if (!seen.add(ordinal)
+            || excluded.test(key(KINDS[kinds[ordinal]], ids[ordinal]))
+            || !matches(texts[ordinal], terms)) {
+          continue;
+        }
+        matches.add(new Match(suggestion(ordinal), tokens[t]));
+        if (matches.size() == limit) {
+          return matches;
+        }
+      }
+    }
+    return matches;
+  }
+
+  private Suggestion suggestion(int ordinal) {
+    return new Suggestion(KINDS[kinds[ordinal]], ids[ordinal], labels[ordinal], details[ordinal],
+        ownerIds[ordinal]);
+  }
+
+  /** Half-open range of token positions starting with {@code prefix}. */
+  private int[] range(String prefix) {
+    return new int[] { insertionPoint(prefix), insertionPoint(prefix + Character.MAX_VALUE) };
+  }
+
+  private int insertionPoint(String value) {
+    int found = Arrays.binarySearch(tokens, value);
+    return found >= 0 ? found : -found - 1;
+  }
+
+  private static boolean matches(String text, List<String> terms) {
+    for (String term : terms) {
+      if (!text.contains(" " + term)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Accumulates entries, failing as soon as the estimated size of the finished index exceeds the budget. */
+  static final class Builder {
+
+    /** Per entry: two longs, a byte and three references in the column arrays. */
+    private static final int ENTRY_BYTES = 8 + 8 + 1 + 3 * 4;
+    /** Per distinct token: its slot in the token and posting-start arrays plus the builder's posting list. */
+    private static final int TOKEN_BYTES = 4 + 4;
+    private static final int STRING_OVERHEAD = 40;
+
+    private final long maxBytes;
+    private final Map<String, int[]> postingsByToken = new HashMap<>();
+    private long[] ids = new long[1024];
+    private long[] ownerIds = new long[1024];
+    private byte[] kinds = new byte[1024];
+    private String[] labels = new String[1024];
+    private String[] details = new String[1024];
+    private String[] texts = new String[1024];
+    private int size;
+    private int postingCount;
+    private long estimatedBytes;
+
+    private Builder(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    Builder add(Entry entry) {
+      if (size == ids.length) {
+        grow();
+      }
+      Suggestion suggestion = entry.suggestion();
+      int ordinal = size++;
+      ids[ordinal] = suggestion.id();
+      ownerIds[ordinal] = suggestion.ownerId();
+      kinds[ordinal] = (byte) suggestion.kind().ordinal();
+      labels[ordinal] = suggestion.label();
+      details[ordinal] = suggestion.detail();
+      texts[ordinal] = entry.text();
+      estimatedBytes += ENTRY_BYTES + bytes(suggestion.label()) + bytes(suggestion.detail()) + bytes(entry.text());
+
+      for (String token : entry.text().substring(1).split(" ")) {
+        if (token.isEmpty()) {
+          continue;
+        }
+        int[] list = postingsByToken.get(token);
+        if (list == null) {
+          // Slot 0 holds the list's size.
+          list = new int[3];
+          estimatedBytes += TOKEN_BYTES + bytes(token);
+        } else if (list[0] + 1 == list.length) {
+          list = Arrays.copyOf(list, list.length * 2);
+        }
+        list[++list[0]] = ordinal;
+        postingsByToken.put(token, list);
+        postingCount++;
+        estimatedBytes += 4;
+      }
+      if (estimatedBytes > maxBytes) {
+        throw new IllegalStateException("Autocomplete index exceeds its memory budget of %d bytes after %d entries"
+            .formatted(maxBytes, size));
+      }
+      return this;
+    }
+
+    TypeaheadIndex build() {
+      String[] sortedTokens = postingsByToken.keySet().toArray(String[]::new);
+      Arrays.sort(sortedTokens);
+      int[] postingStart = new int[sortedTokens.length + 1];
+      int[] postings = new int[postingCount];
+      int next = 0;
+      for (int t = 0; t < sortedTokens.length; t++) {
+        int[] list = postingsByToken.get(sortedTokens[t]);
+        postingStart[t] = next;
+        System.arraycopy(list, 1, postings, next, list[0]);
+        next += list[0];
+      }
+      postingStart[sortedTokens.length] = next;
+      return new TypeaheadIndex(sortedTokens, postingStart, postings, Arrays.copyOf(ids, size),
+          Arrays.copyOf(ownerIds, size), Arrays.copyOf(kinds, size), Arrays.copyOf(labels, size),
+          Arrays.copyOf(details, size), Arrays.copyOf(texts, size), estimatedBytes);
+    }
+
+    private void grow() {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      ownerIds = Arrays.copyOf(ownerIds, capacity);
+      kinds = Arrays.copyOf(kinds, capacity);
+      labels = Arrays.copyOf(labels, capacity);
+      details = Arrays.copyOf(details, capacity);
+      texts = Arrays.copyOf(texts, capacity);
+    }
+
+    private static long bytes(String value) {
+      return value == null ? 0 : STRING_OVERHEAD + value.length();
+    }
+  }
+}
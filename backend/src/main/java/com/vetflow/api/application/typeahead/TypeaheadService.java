@@ -0,0 +1,226 @@
+package com.vetflow.api.application.typeahead;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.application.owner.OwnerChangedEvent;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientChangedEvent;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.typeahead.TypeaheadIndex.Entry;
+import com.vetflow.api.application.typeahead.TypeaheadIndex.Match;
+import com.vetflow.api.config.TypeaheadProperties;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.domain.port.TypeaheadSource;
+import com.vetflow.api.domain.port.TypeaheadSource.OwnerRow;
+import com.vetflow.api.domain.port.TypeaheadSource.PatientRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-node autocomplete over owner names, phones and emails and active patient names, answered from memory
+ * so keystroke-rate traffic never reaches the database.
+ *
+ * <p>The index is built at startup by streaming every owner and patient, and rebuilt when it ages past
+ * {@code rebuild-interval}. Owner and patient changes are held in a small pending map on top of it, masking
+ * the entries they replace, until the next rebuild folds them in. Changes made on other nodes arrive the same
+ * way, relayed over the change bus, so they show within moments of their commit. When the bus reports that
+ * notifications may have been missed, the index is rebuilt at the next refresh check.
+ */
+@Slf4j
+@Service
+public class TypeaheadService {
+
+  static final String REBUILD_METRIC = "vetflow.typeahead.rebuild";
+
+  private static final Comparator<Match> ORDER = Comparator.comparing(Match::token)
+      .thenComparing(match -> match.suggestion().label(), String.CASE_INSENSITIVE_ORDER)
+      .thenComparing(match -> match.suggestion().kind())
+      .thenComparingLong(match -> match.suggestion().id());
+
+  /** A local write not yet in the index; {@code entry} is null when the write removed the entry. */
+  private record Pending(long sequence, Entry entry) {}
+
+  private final TypeaheadSource source;
+  private final TypeaheadProperties properties;
+  private final Clock clock;
+  private final Timer rebuildTimer;
+  private final Counter rebuildFailures;
+  private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+  private volatile TypeaheadIndex index;
+  private volatile Instant builtAt;
+  private volatile boolean resyncRequested;
+
+  @Autowired
+  public TypeaheadService(TypeaheadSource source, TypeaheadProperties properties, MeterRegistry meterRegistry) {
+    this(source, properties, meterRegistry, Clock.systemUTC());
+  }
+
+  TypeaheadService(TypeaheadSource source, TypeaheadProperties properties, MeterRegistry meterRegistry,
+      Clock clock) {
+    this.source = source;
+    this.properties = properties;
+    this.clock = clock;
+    this.rebuildTimer = Timer.builder(REBUILD_METRIC)
+        .description("Time to rebuild the autocomplete index from the database")
+        .register(meterRegistry);
+    this.rebuildFailures = Counter.builder(REBUILD_METRIC + ".failures")
+        .description("Rebuilds abandoned on a database error or the memory budget")
+        .register(meterRegistry);
+    Gauge.builder("vetflow.typeahead.entries", this, service -> service.current().size())
+        .register(meterRegistry);
+    Gauge.builder("vetflow.typeahead.memory", this, service -> service.current().estimatedBytes())
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("vetflow.typeahead.pending", pending, Map::size)
+        .register(meterRegistry);
+  }
+
+  public List<Suggestion> suggest(String query, Integer limit) {
+    List<String> terms = Tokenizer.queryTerms(query);
+    if (terms.isEmpty()) {
+      throw new ValidationException("q must contain a letter or digit");
+    }
+    int size = limit == null ? properties.getDefaultLimit() : limit;
+    if (size < 1 || size > properties.getMaxLimit()) {
+      throw new ValidationException("limit must be between 1 and %d".formatted(properties.getMaxLimit()));
+    }
+    TypeaheadIndex snapshot = index;
+    if (snapshot == null) {
+      throw new ServiceUnavailableException("Autocomplete index is still loading");
+    }
+
+    List<Match> matches = new ArrayList<>(snapshot.lookup(terms, size, pending::containsKey));
+    String primary = snapshot.primaryTerm(terms);
+    for (Pending change : pending.values()) {
+      if (change.entry() != null && change.entry().matches(terms)) {
+        matches.add(new Match(change.entry().suggestion(), change.entry().tokenFor(primary)));
+      }
+    }
+    matches.sort(ORDER);
+    return matches.stream().limit(size).map(Match::suggestion).toList();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onOwnerChanged(OwnerChangedEvent event) {
+    OwnerResult owner = event.owner();
+    put(Kind.OWNER, owner.id(), ownerEntry(owner.id(), owner.name(), owner.phone(), owner.email()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPatientChanged(PatientChangedEvent event) {
+    PatientResult patient = event.patient();
+    put(Kind.PATIENT, patient.id(), patient.isActive()
+        ? patientEntry(patient.id(), patient.name(), patient.species(), patient.ownerId())
+        : null);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    rebuild();
+  }
+
+  /** Left to the next refresh check, which also bounds the rebuilds while the bus keeps reporting gaps. */
+  @EventListener
+  public void onResync(ChangeBusResyncEvent event) {
+    resyncRequested = true;
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.typeahead.refresh-check-interval:PT1M}")
+  public void refreshIfStale() {
+    Instant built = builtAt;
+    if (built == null
+        || resyncRequested
+        || pending.size() >= properties.getMaxPendingChanges()
+        || Duration.between(built, clock.instant()).compareTo(properties.getRebuildInterval()) >= 0) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Rebuilds the index from the database and swaps it in. On failure the previous index stays in service.
+   * Returns false when the rebuild failed or another one was already running.
+   */
+  public boolean rebuild() {
+    if (!rebuildLock.tryLock()) {
+      return false;
+    }
+    try {
+      // Writes announced up to here were committed before the read below starts, so the new index holds them.
+      long covered = sequence.get();
+      resyncRequested = false;
+      Timer.Sample sample = Timer.start();
+      TypeaheadIndex.Builder builder = TypeaheadIndex.builder(properties.getMaxMemory().toBytes());
+      source.forEachOwner(row -> builder.add(ownerEntry(row)));
+      source.forEachPatient(row -> {
+        if (row.active()) {
+          builder.add(patientEntry(row));
+        }
+      });
+      TypeaheadIndex built = builder.build();
+      index = built;
+      builtAt = clock.instant();
+      pending.values().removeIf(change -> change.sequence() <= covered);
+      sample.stop(rebuildTimer);
+      log.info("Autocomplete index rebuilt: {} entries, {} tokens, ~{} KB", built.size(), built.tokenCount(),
+          built.estimatedBytes() / 1024);
+      return true;
+    } catch (RuntimeException ex) {
+      rebuildFailures.increment();
+      log.warn("Autocomplete index rebuild failed; keeping the previous index", ex);
+      return false;
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private void put(Kind kind, long id, Entry entry) {
+    pending.put(TypeaheadIndex.key(kind, id), new Pending(sequence.incrementAndGet(), entry));
+  }
+
+  private TypeaheadIndex current() {
+    TypeaheadIndex snapshot = index;
+    return snapshot == null ? TypeaheadIndex.EMPTY : snapshot;
+  }
+
+  private static Entry ownerEntry(OwnerRow row) {
+    return ownerEntry(row.id(), row.name(), row.phone(), row.email());
+  }
+
+  private static Entry ownerEntry(long id, String name, String phone, String email) {
+    return Entry.of(new Suggestion(Kind.OWNER, id, name, phone, id), name, phone, email);
+  }
+
+  private static Entry patientEntry(PatientRow row) {
+    return patientEntry(row.id(), row.name(), row.species(), row.ownerId());
+  }
+
+  private static Entry patientEntry(long id, String name, String species, long ownerId) {
+    return Entry.of(new Suggestion(Kind.PATIENT, id, name, species.toLowerCase(Locale.ROOT), ownerId), name);
+  }
+}
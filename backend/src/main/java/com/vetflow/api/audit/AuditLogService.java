@@ -16,17 +16,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vetflow.api.infrastructure.persistence.entity.AuditLogEntity;
 import com.vetflow.api.infrastructure.persistence.repository.AuditLogJpaRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AuditLogService implements AuditService {
 
+  static final String WRITES_METRIC = "vetflow.audit.writes";
+
   private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
 
   private final AuditLogJpaRepository repository;
   private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  public AuditLogService(AuditLogJpaRepository repository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+  }
 
   @Override
   public Map<String, Object> snapshot(Object value) {
@@ -56,6 +64,7 @@ public class AuditLogService implements AuditService {
     String actor = resolveActor();
     AuditLogEntity entity = new AuditLogEntity(tableName, recordId, action, oldValueJson, newValueJson, actor, LocalDateTime.now());
     repository.save(entity);
+    meterRegistry.counter(WRITES_METRIC, "table", tableName, "action", action).increment();
   }
 
   private String resolveActor() {
@@ -0,0 +1,67 @@
+package com.vetflow.api.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadDataSourcePostProcessor;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadTaskExecutor;
+import com.vetflow.api.web.v1.bulkhead.BulkheadInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+  private static final String ENABLED_PROPERTY = "vetflow.api.bulkhead.enabled";
+
+  /** Static, as a post-processor must be created before the beans it processes. */
+  @Bean
+  public static WorkloadDataSourcePostProcessor workloadDataSourcePostProcessor(
+      ObjectProvider<BulkheadProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+    return new WorkloadDataSourcePostProcessor(properties, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+  public BulkheadInterceptor bulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+    return new BulkheadInterceptor(properties, meterRegistry);
+  }
+
+  /** Runs Spring MVC's asynchronous work, such as streamed report bodies, on the lane of the request. */
+  @Bean
+  @ConditionalOnProperty(name = ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+  public WorkloadTaskExecutor bulkheadTaskExecutor(BulkheadProperties properties, Environment environment) {
+    Map<Workload, ExecutorService> executors = new EnumMap<>(Workload.class);
+    for (Workload workload : Workload.values()) {
+      String prefix = "bulkhead-" + workload.tag() + "-";
+      if (Threading.VIRTUAL.isActive(environment)) {
+        executors.put(workload, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory()));
+      } else {
+        // A request holds its lane place until its asynchronous work completes, so at most maxConcurrent tasks
+        // are ever submitted; the queue only covers a thread finishing as the next request arrives.
+        int threads = properties.lane(workload).getMaxConcurrent();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(threads), new CustomizableThreadFactory(prefix));
+        pool.allowCoreThreadTimeOut(true);
+        executors.put(workload, pool);
+      }
+    }
+    return new WorkloadTaskExecutor(executors);
+  }
+}
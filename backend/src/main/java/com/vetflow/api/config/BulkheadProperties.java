@@ -0,0 +1,70 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the bulkheads: per workload, how many requests run at once, how many may wait and
+ * for how long, and the connection pool partition they draw from.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.bulkhead")
+public class BulkheadProperties {
+
+  private boolean enabled = true;
+
+  /** Unannotated endpoints. Their connections come from the {@code spring.datasource} pool itself. */
+  private Lane interactive = new Lane(100, 100, Duration.ofSeconds(2), 0, null);
+
+  /** Endpoints annotated {@code @Bulkhead(Workload.REPORTING)}. */
+  private Lane reporting = new Lane(2, 4, Duration.ofSeconds(5), 2, Duration.ofSeconds(10));
+
+  /** Endpoints annotated {@code @Bulkhead(Workload.BULK)}. */
+  private Lane bulk = new Lane(4, 8, Duration.ofSeconds(5), 2, Duration.ofSeconds(10));
+
+  public Lane lane(Workload workload) {
+    return switch (workload) {
+      case INTERACTIVE -> interactive;
+      case REPORTING -> reporting;
+      case BULK -> bulk;
+    };
+  }
+
+  @Getter
+  @Setter
+  public static class Lane {
+
+    /** Requests running at once, including the asynchronous writing of streamed responses. */
+    private int maxConcurrent;
+
+    /** Requests waiting for one of those places; any more are refused with a 503 at once. */
+    private int maxQueue;
+
+    /** How long a request waits for a place before it is refused with a 503. */
+    private Duration queueTimeout;
+
+    /** Connections in the lane's own pool; ignored for the interactive lane. */
+    private int poolSize;
+
+    /** How long a request waits for one of those connections; unset uses the main pool's timeout. */
+    private Duration connectionTimeout;
+
+    public Lane() {
+    }
+
+    Lane(int maxConcurrent, int maxQueue, Duration queueTimeout, int poolSize, Duration connectionTimeout) {
+      this.maxConcurrent = maxConcurrent;
+      this.maxQueue = maxQueue;
+      this.queueTimeout = queueTimeout;
+      this.poolSize = poolSize;
+      this.connectionTimeout = connectionTimeout;
+    }
+  }
+}
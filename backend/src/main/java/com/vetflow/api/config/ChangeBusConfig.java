@@ -0,0 +1,39 @@
+package com.vetflow.api.config;
+
+import java.sql.DriverManager;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.vetflow.api.infrastructure.changes.InMemoryChangeBus;
+import com.vetflow.api.infrastructure.changes.PostgresChangeBus;
+
+@Configuration
+@EnableConfigurationProperties(ChangeBusProperties.class)
+public class ChangeBusConfig {
+
+  private static final String TYPE_PROPERTY = "vetflow.api.changes.type";
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "postgres")
+  public PostgresChangeBus postgresChangeBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+      ApplicationEventPublisher eventPublisher, ChangeBusProperties properties) {
+    // The listener holds its connection indefinitely, so it is opened outside the pool.
+    PostgresChangeBus.ConnectionSource connectionSource = () -> DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword());
+    return new PostgresChangeBus(jdbcTemplate, connectionSource, eventPublisher, properties);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "memory", matchIfMissing = true)
+  public InMemoryChangeBus inMemoryChangeBus(ApplicationEventPublisher eventPublisher) {
+    return new InMemoryChangeBus(eventPublisher);
+  }
+}
@@ -0,0 +1,41 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the cross-node change bus.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.changes")
+public class ChangeBusProperties {
+
+  public enum Type { MEMORY, POSTGRES }
+
+  /** {@code postgres} fans changes out to every node through LISTEN/NOTIFY; {@code memory} stays in-process. */
+  private Type type = Type.MEMORY;
+
+  /** Notification channel shared by all nodes. Must be a plain SQL identifier. */
+  private String channel = "vetflow_changes";
+
+  /** Identifies this node so it can ignore its own notifications. */
+  private String nodeId = UUID.randomUUID().toString();
+
+  /** How long the listener waits for notifications before checking the connection. */
+  private Duration pollTimeout = Duration.ofSeconds(10);
+
+  /** First delay before reconnecting a dropped listener connection; doubled on every failed attempt. */
+  private Duration reconnectMinBackoff = Duration.ofSeconds(1);
+
+  /** Upper bound for the reconnect delay. */
+  private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+
+  /** While disconnected, how often subscribers are told to reload from the database instead. */
+  private Duration fallbackPollInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,47 @@
+package com.vetflow.api.config;
+
+import java.time.Clock;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.vetflow.api.application.chart.PatientChartService;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.MedicalRecordRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.VeterinarianRepository;
+
+@Configuration
+@EnableConfigurationProperties(ChartProperties.class)
+public class ChartConfig {
+
+  @Bean(destroyMethod = "shutdown")
+  public PatientChartService patientChartService(PatientRepository patientRepository,
+      AppointmentRepository appointmentRepository, MedicalRecordRepository medicalRecordRepository,
+      VeterinarianRepository veterinarianRepository, ChartProperties properties, Environment environment) {
+    ExecutorService executor;
+    if (Threading.VIRTUAL.isActive(environment)) {
+      // A virtual thread per fetch; a fetch blocked on the connection pool then holds no platform thread.
+      executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chart-fetch-", 0).factory());
+    } else {
+      // Bounded on both threads and queue; when saturated the request thread fetches for itself, which slows
+      // that chart down instead of failing it.
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+          60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+          new CustomizableThreadFactory("chart-fetch-"), new ThreadPoolExecutor.CallerRunsPolicy());
+      pool.allowCoreThreadTimeOut(true);
+      executor = pool;
+    }
+    return new PatientChartService(patientRepository, appointmentRepository, medicalRecordRepository,
+        veterinarianRepository, properties, executor, Clock.systemDefaultZone());
+  }
+}
@@ -0,0 +1,39 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the aggregated patient chart.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.chart")
+public class ChartProperties {
+
+  /**
+   * Threads fetching chart sections; bounds the database connections a burst of chart loads can take. With
+   * virtual threads each fetch gets its own and only the connection pool bounds them.
+   */
+  private int threads = 16;
+
+  /** Fetches waiting for a thread; beyond this the request thread runs the fetch itself. Platform threads only. */
+  private int queueCapacity = 200;
+
+  /** The patient is required, so running out of this time fails the whole chart. */
+  private Duration patientTimeout = Duration.ofSeconds(2);
+
+  /** The remaining sections are optional and are reported as unavailable when they run out of time. */
+  private Duration appointmentsTimeout = Duration.ofSeconds(2);
+
+  private Duration medicalRecordsTimeout = Duration.ofSeconds(2);
+
+  private Duration veterinariansTimeout = Duration.ofSeconds(1);
+
+  /** Past appointments and medical records included, newest first. */
+  private int recentLimit = 20;
+}
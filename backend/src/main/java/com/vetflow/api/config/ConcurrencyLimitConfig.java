@@ -0,0 +1,33 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.web.v1.limit.ConcurrencyLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+  @Bean
+  public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    return new ConcurrencyLimitFilter(properties, objectMapper, meterRegistry);
+  }
+
+  /** Ahead of the SQL statistics and the security chain, so a refused request costs no token check or lookup. */
+  @Bean
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+      ConcurrencyLimitFilter filter, ConcurrencyLimitProperties properties) {
+    FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+    registration.setEnabled(properties.isEnabled());
+    return registration;
+  }
+}
@@ -0,0 +1,79 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.vetflow.api.web.v1.limit.EndpointClass;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the adaptive concurrency limits: one limit per endpoint class, each moving between
+ * its bounds as latency rises and falls.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  private boolean enabled = true;
+
+  /** Sent as {@code Retry-After} with every 503 for a request over the limit. */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  /** Latency growth over the long-term average taken as normal; beyond it the limit shrinks. */
+  private double rttTolerance = 1.5;
+
+  /** Weight of each new limit estimate against the current limit, between 0 and 1. */
+  private double smoothing = 0.2;
+
+  /** Samples the long-term latency average spans. */
+  private int longWindow = 600;
+
+  /** Share of the limit kept after a request fails with a 5xx or an exception. */
+  private double backoffRatio = 0.9;
+
+  /** Login and token refresh: BCrypt makes them CPU-bound. */
+  private Limits auth = new Limits(8, 2, 32);
+
+  /** GET, HEAD and OPTIONS outside the export paths. */
+  private Limits read = new Limits(40, 4, 400);
+
+  /** POST, PUT, PATCH and DELETE. */
+  private Limits write = new Limits(20, 4, 200);
+
+  /** CSV reports and delta sync pages: long-running and not urgent. */
+  private Limits export = new Limits(2, 1, 8);
+
+  public Limits limits(EndpointClass endpointClass) {
+    return switch (endpointClass) {
+      case AUTH -> auth;
+      case READ -> read;
+      case WRITE -> write;
+      case EXPORT -> export;
+    };
+  }
+
+  @Getter
+  @Setter
+  public static class Limits {
+
+    /** Concurrent requests allowed before the first samples. */
+    private int initialLimit;
+
+    private int minLimit;
+
+    private int maxLimit;
+
+    public Limits() {
+    }
+
+    Limits(int initialLimit, int minLimit, int maxLimit) {
+      this.initialLimit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+    }
+  }
+}
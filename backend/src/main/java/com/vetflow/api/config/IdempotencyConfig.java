@@ -0,0 +1,29 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.application.idempotency.IdempotencyStore;
+import com.vetflow.api.web.v1.idempotency.IdempotencyFilter;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+  @Bean
+  public IdempotencyFilter idempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper,
+      IdempotencyProperties properties) {
+    return new IdempotencyFilter(store, objectMapper, properties);
+  }
+
+  /** The filter needs the authenticated principal, so it runs inside the security chain and not on its own. */
+  @Bean
+  public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter filter) {
+    FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setEnabled(false);
+    return registration;
+  }
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for {@code Idempotency-Key} handling on POST requests.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.idempotency")
+public class IdempotencyProperties {
+
+  /** How long a stored response is replayed; clients must not retry with the same key after this. */
+  private Duration ttl = Duration.ofHours(24);
+
+  /** Upper bound on stored responses; the oldest are evicted first when it is exceeded. */
+  private int maxEntries = 100_000;
+
+  /**
+   * Lease on a key claimed by a request that is still running. Must outlast the slowest POST; a claim left by
+   * a node that died is taken over once it expires.
+   */
+  private Duration pendingTimeout = Duration.ofMinutes(1);
+
+  /** How long a retry waits for the original request to finish before it is refused with a 409. */
+  private Duration pendingWait = Duration.ofSeconds(10);
+
+  /** Request bodies above this are refused with a 413 before they are read. */
+  private int maxRequestBytes = 1024 * 1024;
+
+  /** Responses with larger bodies are passed through without being stored. */
+  private int maxBodyBytes = 256 * 1024;
+}
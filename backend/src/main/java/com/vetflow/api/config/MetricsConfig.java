@@ -0,0 +1,21 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.vetflow.api.infrastructure.metrics.LayerTimingAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(MetricsProperties.class)
+public class MetricsConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "vetflow.api.metrics.layer-timers", havingValue = "true", matchIfMissing = true)
+  public LayerTimingAspect layerTimingAspect(MeterRegistry meterRegistry, MetricsProperties properties) {
+    return new LayerTimingAspect(meterRegistry, properties.getSampleRate(), properties.isPercentileHistograms());
+  }
+}
@@ -0,0 +1,28 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the per-layer call timers. Hikari, Hibernate, HTTP and JVM metrics are configured
+ * through Spring Boot's own {@code management.metrics} properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.metrics")
+public class MetricsProperties {
+
+  /** Whether controller, application service and adapter calls are timed at all. */
+  private boolean layerTimers = true;
+
+  /**
+   * Fraction of calls timed, from 0 to 1. Below 1 the timers' counts cover only the sampled calls, while their
+   * percentiles stay representative; {@code http.server.requests} still counts every request.
+   */
+  private double sampleRate = 1.0;
+
+  /** Whether the layer timers publish percentile histogram buckets, which multiply their time series. */
+  private boolean percentileHistograms = true;
+}
@@ -0,0 +1,27 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.web.v1.ratelimit.RateLimitInterceptor;
+import com.vetflow.api.web.v1.ratelimit.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimiter rateLimiter(RateLimitProperties properties) {
+    return new RateLimiter(properties);
+  }
+
+  @Bean
+  public RateLimitInterceptor rateLimitInterceptor(RateLimiter rateLimiter, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry, RateLimitProperties properties) {
+    return new RateLimitInterceptor(rateLimiter, objectMapper, meterRegistry, properties.isEnabled());
+  }
+}
@@ -0,0 +1,81 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for per-user rate limits: a token bucket per authenticated user and route, sized by the
+ * user's role unless an endpoint has its own limit.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Upper bound on buckets held. Beyond it a caller needing a new bucket gives up their idlest one, and a
+   * caller holding none is refused with a 429 until idle buckets are dropped.
+   */
+  private int maxKeys = 100_000;
+
+  /** Upper bound on one user's buckets, one per endpoint they call; beyond it their idlest one is dropped. */
+  private int maxKeysPerUser = 64;
+
+  /** Buckets that have been full this long are dropped, as a new bucket would behave the same. */
+  private Duration idleEviction = Duration.ofMinutes(5);
+
+  /** How often idle buckets are looked for; also the {@code Retry-After} of a caller refused for a full map. */
+  private Duration purgeInterval = Duration.ofMinutes(1);
+
+  /** Limits by role, keyed by the role name in lower case. */
+  private Map<String, Limit> roles = new LinkedHashMap<>(Map.of(
+      "admin", new Limit(100, 20),
+      "assistant", new Limit(60, 10),
+      "veterinarian", new Limit(60, 10)));
+
+  /** For users whose role is not listed in {@link #roles}. */
+  private Limit defaultLimit = new Limit(30, 5);
+
+  /** Limits for single routes, which replace the role's limit for every user. */
+  private List<EndpointLimit> endpoints = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Limit {
+
+    /** Requests allowed in a burst. */
+    private int capacity;
+
+    /** Requests per second allowed once the burst is spent. */
+    private double refillPerSecond;
+
+    public Limit() {
+    }
+
+    Limit(int capacity, double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class EndpointLimit extends Limit {
+
+    /** HTTP method, or empty for every method. */
+    private String method = "";
+
+    /** Path pattern as the controller maps it, for example {@code /api/v1/patients/{patientId}/appointments}. */
+    private String path;
+  }
+}
@@ -0,0 +1,30 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.vetflow.api.infrastructure.report.LiveAppointmentReportSource;
+import com.vetflow.api.infrastructure.report.MaterializedAppointmentReportSource;
+
+@Configuration
+@EnableConfigurationProperties(ReportProperties.class)
+public class ReportConfig {
+
+  private static final String TYPE_PROPERTY = "vetflow.api.reports.type";
+
+  @Bean
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "materialized")
+  public MaterializedAppointmentReportSource materializedAppointmentReportSource(
+      NamedParameterJdbcTemplate jdbcTemplate) {
+    return new MaterializedAppointmentReportSource(jdbcTemplate);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "live", matchIfMissing = true)
+  public LiveAppointmentReportSource liveAppointmentReportSource(NamedParameterJdbcTemplate jdbcTemplate) {
+    return new LiveAppointmentReportSource(jdbcTemplate);
+  }
+}
@@ -0,0 +1,43 @@
+package com.vetflow.api.config;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.vetflow.api.domain.model.Appointment.Type;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the management reports. Appointments carry no duration and veterinarians no
+ * rota, so utilisation assumes a typical length per appointment type and the same working week for every
+ * veterinarian.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.reports")
+public class ReportProperties {
+
+  /** Longest period, in months, one report request may cover. */
+  private int maxMonths = 24;
+
+  /** Days each veterinarian is available. */
+  private Set<DayOfWeek> workingDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+  /** Hours each veterinarian is available per working day. */
+  private Duration workingHours = Duration.ofHours(8);
+
+  /** Time booked by one appointment of each type. */
+  private Map<Type, Duration> appointmentLengths = new EnumMap<>(Map.of(
+      Type.CHECKUP, Duration.ofMinutes(30),
+      Type.VACCINATION, Duration.ofMinutes(15),
+      Type.SURGERY, Duration.ofHours(2),
+      Type.GROOMING, Duration.ofHours(1),
+      Type.EMERGENCY, Duration.ofHours(1)));
+}
@@ -0,0 +1,12 @@
+package com.vetflow.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance jobs (triage queue roll-over and similar housekeeping).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
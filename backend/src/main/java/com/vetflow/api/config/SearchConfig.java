@@ -0,0 +1,42 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.vetflow.api.infrastructure.search.FullTextMedicalRecordSearch;
+import com.vetflow.api.infrastructure.search.LikeMedicalRecordSearch;
+import com.vetflow.api.infrastructure.search.LikeSearchIndex;
+import com.vetflow.api.infrastructure.search.TrigramSearchIndex;
+
+@Configuration
+public class SearchConfig {
+
+  private static final String TYPE_PROPERTY = "vetflow.api.search.type";
+  private static final String MEDICAL_RECORDS_TYPE_PROPERTY = "vetflow.api.search.medical-records.type";
+
+  @Bean
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "trigram")
+  public TrigramSearchIndex trigramSearchIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+    return new TrigramSearchIndex(jdbcTemplate);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = TYPE_PROPERTY, havingValue = "like", matchIfMissing = true)
+  public LikeSearchIndex likeSearchIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+    return new LikeSearchIndex(jdbcTemplate);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = MEDICAL_RECORDS_TYPE_PROPERTY, havingValue = "fulltext")
+  public FullTextMedicalRecordSearch fullTextMedicalRecordSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+    return new FullTextMedicalRecordSearch(jdbcTemplate);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = MEDICAL_RECORDS_TYPE_PROPERTY, havingValue = "like", matchIfMissing = true)
+  public LikeMedicalRecordSearch likeMedicalRecordSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+    return new LikeMedicalRecordSearch(jdbcTemplate);
+  }
+}
@@ -0,0 +1,44 @@
+package com.vetflow.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.vetflow.api.infrastructure.sql.SqlProxyDataSourcePostProcessor;
+import com.vetflow.api.infrastructure.sql.SqlStatementListener;
+import com.vetflow.api.web.v1.sql.SqlStatsFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(SqlProperties.class)
+public class SqlConfig {
+
+  /** Static, as a post-processor must be created before the beans it processes. */
+  @Bean
+  public static SqlProxyDataSourcePostProcessor sqlProxyDataSourcePostProcessor(
+      ObjectProvider<SqlStatementListener> listener) {
+    return new SqlProxyDataSourcePostProcessor(listener);
+  }
+
+  @Bean
+  public SqlStatementListener sqlStatementListener(SqlProperties properties, MeterRegistry meterRegistry) {
+    return new SqlStatementListener(properties.getSlowThreshold(), meterRegistry);
+  }
+
+  @Bean
+  public SqlStatsFilter sqlStatsFilter(SqlProperties properties, MeterRegistry meterRegistry) {
+    return new SqlStatsFilter(properties, meterRegistry);
+  }
+
+  /** Ahead of the security chain, so the user lookup behind each token is counted too. */
+  @Bean
+  public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilterRegistration(SqlStatsFilter filter) {
+    FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+}
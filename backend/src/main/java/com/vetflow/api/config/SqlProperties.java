@@ -0,0 +1,49 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the per-request SQL statistics: the slow-query log, N+1 detection and statement
+ * budgets.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.sql")
+public class SqlProperties {
+
+  /** Statements running at least this long are logged at WARN. */
+  private Duration slowThreshold = Duration.ofMillis(500);
+
+  /** A statement run this many times in one request is logged as a likely N+1 load. */
+  private int repeatThreshold = 5;
+
+  /** Whether responses carry a {@code Server-Timing} header with the request's statement count and time. */
+  private boolean serverTiming = true;
+
+  private Budget budget = new Budget();
+
+  @Getter
+  @Setter
+  public static class Budget {
+
+    /** Statements allowed per request to an endpoint without its own budget; 0 for no limit. */
+    private int defaultLimit;
+
+    /** Statements allowed per request by endpoint, keyed {@code METHOD /pattern}, e.g. {@code GET /api/v1/patients/{id}}. */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Throw {@code SqlBudgetExceededException} for requests over budget, for tests. The response has usually
+     * been committed by then, so this fails the test without changing what a client receives; leave it off
+     * in deployments, where requests over budget are logged and counted.
+     */
+    private boolean failOnExceed;
+  }
+}
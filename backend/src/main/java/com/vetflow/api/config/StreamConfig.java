@@ -0,0 +1,32 @@
+package com.vetflow.api.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.web.v1.stream.SseStreamHub;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(StreamProperties.class)
+public class StreamConfig {
+
+  @Bean(destroyMethod = "shutdown")
+  public SseStreamHub sseStreamHub(StreamProperties properties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry, Environment environment) {
+    // Each dispatch writes to one client's socket; with virtual threads a slow client blocks no platform thread
+    ExecutorService dispatcher = Threading.VIRTUAL.isActive(environment)
+        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-dispatch-", 0).factory())
+        : Executors.newFixedThreadPool(properties.getDispatcherThreads(), new CustomizableThreadFactory("sse-dispatch-"));
+    return new SseStreamHub(properties, objectMapper, meterRegistry, dispatcher,
+        Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-heartbeat-")));
+  }
+}
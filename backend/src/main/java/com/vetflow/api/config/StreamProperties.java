@@ -0,0 +1,35 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the Server-Sent Events channels.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.stream")
+public class StreamProperties {
+
+  /** Events buffered per connection; a client falling further behind is disconnected and resumes. */
+  private int connectionBufferSize = 64;
+
+  /** Recent events retained per channel so reconnecting clients can resume via Last-Event-ID. */
+  private int replayBufferSize = 512;
+
+  /** Interval between keep-alive comments, short enough to outlive proxy idle timeouts. */
+  private Duration heartbeatInterval = Duration.ofSeconds(20);
+
+  /** Lifetime of a single stream before the client is asked to reconnect. */
+  private Duration timeout = Duration.ofMinutes(30);
+
+  /** Maximum concurrent connections per channel on this node. */
+  private int maxConnections = 5000;
+
+  /** Threads writing queued events to connections; with virtual threads each write gets its own instead. */
+  private int dispatcherThreads = 4;
+}
@@ -0,0 +1,9 @@
+package com.vetflow.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TypeaheadProperties.class)
+public class TypeaheadConfig {
+}
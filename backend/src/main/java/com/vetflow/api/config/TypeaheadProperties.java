@@ -0,0 +1,35 @@
+package com.vetflow.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Externalised settings for the in-memory autocomplete index.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "vetflow.api.typeahead")
+public class TypeaheadProperties {
+
+  /** Estimated heap the index may take; a rebuild that would exceed it is abandoned and the old index kept. */
+  private DataSize maxMemory = DataSize.ofMegabytes(256);
+
+  /**
+   * Age at which the index is rebuilt from the database. Writes on every node are applied as they happen,
+   * relayed over the change bus, so this only bounds how long a notification lost without a resync (or a
+   * write made outside the API) takes to appear.
+   */
+  private Duration rebuildInterval = Duration.ofHours(1);
+
+  /** Local writes held on top of the index; reaching this triggers a rebuild that folds them in. */
+  private int maxPendingChanges = 10_000;
+
+  private int defaultLimit = 10;
+
+  private int maxLimit = 25;
+}
@@ -57,6 +57,8 @@ public class Appointment {
 
   private String notes; // optional, business text
   private LocalDateTime createdAt;
+  private LocalDateTime updatedAt; // stamped by persistence on every write
+  private Long version; // optimistic lock, assigned by persistence
 
   // ========= FACTORY METHODS =========
 
@@ -0,0 +1,10 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One recorded change to a row, as written by the audit service. Old and new values are left out; callers
+ * that need them read the audit log directly.
+ */
+public record AuditEntry(Long id, String tableName, Long recordId, String action, String changedBy,
+    LocalDateTime changedAt) {}
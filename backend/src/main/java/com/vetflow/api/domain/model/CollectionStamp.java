@@ -0,0 +1,9 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of a collection: its size and newest {@code updatedAt}. Any insert, update or delete
+ * changes at least one of the two, so it can stand in for the rows when checking whether a list changed.
+ */
+public record CollectionStamp(long count, LocalDateTime lastUpdatedAt) {}
@@ -0,0 +1,46 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * One dashboard counter: the number of {@code metric} items with {@code key} on {@code date}. {@code key} is
+ * empty for {@link Metric#TOTAL} and {@link Metric#NEW_PATIENTS}.
+ */
+public record DailyStat(LocalDate date, Metric metric, String key, long count) {
+
+  public enum Metric {
+    /** Every appointment booked for the day. */
+    TOTAL,
+    /** Appointments by lower-case status. */
+    STATUS,
+    /** Appointments not cancelled, by lower-case type. */
+    TYPE,
+    /** Appointments not cancelled, by veterinarian id or {@code unassigned}. */
+    VETERINARIAN,
+    /** Patients registered on the day. */
+    NEW_PATIENTS;
+
+    public String dbValue() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Metric fromDbValue(String value) {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+  }
+
+  public DailyStat {
+    Objects.requireNonNull(date, "date must not be null");
+    Objects.requireNonNull(metric, "metric must not be null");
+    key = key == null ? "" : key;
+  }
+
+  /** The counter this stat belongs to, without its count. */
+  public Key counter() {
+    return new Key(date, metric, key);
+  }
+
+  public record Key(LocalDate date, Metric metric, String key) {}
+}
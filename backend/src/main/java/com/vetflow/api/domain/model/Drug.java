@@ -0,0 +1,7 @@
+package com.vetflow.api.domain.model;
+
+/**
+ * A catalogue drug. {@code name} is lower-case; {@code drugClass} groups drugs that cross-react for allergy
+ * purposes or interact alike, so one class-level rule covers every drug in it.
+ */
+public record Drug(Long id, String name, String drugClass) {}
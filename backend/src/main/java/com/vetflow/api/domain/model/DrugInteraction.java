@@ -0,0 +1,7 @@
+package com.vetflow.api.domain.model;
+
+/** Two drug classes that should not be given together. The pair is unordered; a class may pair with itself. */
+public record DrugInteraction(String drugClass, String otherDrugClass, Severity severity, String description) {
+
+  public enum Severity { MINOR, MODERATE, MAJOR }
+}
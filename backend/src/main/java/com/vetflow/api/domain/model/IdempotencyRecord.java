@@ -0,0 +1,28 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * First response to a POST sent with an {@code Idempotency-Key}, kept so that retries of the same request
+ * get the same answer instead of creating a duplicate. Until that response exists the record is a pending
+ * claim, with no status code, held by the request that is running and expiring at the end of its lease.
+ */
+public record IdempotencyRecord(
+    String principal,
+    String key,
+    String requestFingerprint,
+    Integer statusCode,
+    String contentType,
+    String location,
+    String responseBody,
+    LocalDateTime createdAt,
+    LocalDateTime expiresAt) {
+
+  public boolean isPending() {
+    return statusCode == null;
+  }
+
+  public boolean matches(String fingerprint) {
+    return requestFingerprint.equals(fingerprint);
+  }
+}
@@ -40,6 +40,8 @@ public class MedicalRecord {
   private String notes;       // optional
 
   private LocalDateTime createdAt;
+  private LocalDateTime updatedAt; // stamped by persistence on every write
+  private Long version; // optimistic lock, assigned by persistence
 
   // ===== Parameter Object to satisfy Sonar S107 =====
   @Getter
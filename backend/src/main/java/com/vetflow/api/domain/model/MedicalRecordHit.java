@@ -0,0 +1,17 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A medical record matching a text search. {@code rank} orders hits within one query, higher first, and is
+ * only comparable between hits of the same query.
+ */
+public record MedicalRecordHit(Long id,
+                               Long patientId,
+                               String patientName,
+                               Long veterinarianId,
+                               LocalDateTime visitDate,
+                               String diagnosis,
+                               String treatment,
+                               String medications,
+                               double rank) {}
@@ -0,0 +1,25 @@
+package com.vetflow.api.domain.model;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+import com.vetflow.api.domain.model.Appointment.Type;
+
+/**
+ * Appointments of one type booked for one month with one veterinarian, by outcome. {@code veterinarianId} and
+ * {@code veterinarianName} are null for unassigned appointments; {@code appointments} includes cancelled ones.
+ */
+public record MonthlyAppointmentVolume(YearMonth month,
+                                       Long veterinarianId,
+                                       String veterinarianName,
+                                       Type type,
+                                       long appointments,
+                                       long completed,
+                                       long noShows,
+                                       long cancelled) {
+
+  public MonthlyAppointmentVolume {
+    Objects.requireNonNull(month, "month must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+  }
+}
@@ -54,6 +54,7 @@ public class Owner {
 
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long version; // optimistic lock, assigned by persistence
 
   private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
   private static final Pattern PHONE_ALLOWED_CHARS = Pattern.compile("^[+0-9()\\s-]+$");
@@ -78,6 +78,7 @@ public class Patient {
 
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long version; // optimistic lock, assigned by persistence
 
   // ========= FACTORY METHODS =========
 
@@ -0,0 +1,8 @@
+package com.vetflow.api.domain.model;
+
+/**
+ * An allergy recorded for a patient. {@code allergen} is kept as entered; {@code drugId} is set when it names a
+ * catalogue drug and {@code drugClass} when it names a drug or a class, so a penicillin allergy also flags
+ * amoxicillin. Allergens naming neither only match prescriptions that mention them by name.
+ */
+public record PatientAllergy(Long id, Long patientId, String allergen, Long drugId, String drugClass) {}
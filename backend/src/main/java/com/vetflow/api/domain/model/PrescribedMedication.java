@@ -0,0 +1,7 @@
+package com.vetflow.api.domain.model;
+
+/**
+ * One line of a medical record's medications, as written. {@code drug} is the catalogue drug the line names,
+ * or null when it names none.
+ */
+public record PrescribedMedication(String description, Drug drug) {}
@@ -0,0 +1,12 @@
+package com.vetflow.api.domain.model;
+
+/**
+ * One patient or owner matching a search. For patients {@code detail} is the breed (or species when the breed
+ * is unknown); for owners it is the email and {@code ownerId} is the owner's own id. {@code score} only orders
+ * hits within one search and is not comparable across searches.
+ */
+public record SearchHit(Kind kind, Long id, String name, String detail, Long ownerId, String ownerName,
+    double score) {
+
+  public enum Kind { PATIENT, OWNER }
+}
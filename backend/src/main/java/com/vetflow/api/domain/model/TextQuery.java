@@ -0,0 +1,74 @@
+package com.vetflow.api.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A parsed free-text search. Words must all match; {@code "quoted words"} must match as a phrase, a trailing
+ * {@code *} matches any word starting with what precedes it, and a leading {@code -} excludes records that
+ * match. Words are lower-cased and reduced to letters and digits, so they are safe to render into any query
+ * syntax.
+ */
+public record TextQuery(List<Term> include, List<Term> exclude) {
+
+  public static final int MAX_TERMS = 10;
+
+  private static final Pattern SEGMENT = Pattern.compile("(-?)(?:\"([^\"]*)\"?|(\\S+))");
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+", Pattern.UNICODE_CHARACTER_CLASS);
+
+  /** Consecutive words; {@code prefix} applies to the last one. */
+  public record Term(List<String> words, boolean prefix) {
+
+    public Term {
+      words = List.copyOf(words);
+      if (words.isEmpty()) {
+        throw new IllegalArgumentException("A search term needs at least one word");
+      }
+    }
+
+    public boolean isPhrase() {
+      return words.size() > 1;
+    }
+  }
+
+  public TextQuery {
+    include = List.copyOf(include);
+    exclude = List.copyOf(exclude);
+  }
+
+  public static TextQuery parse(String text) {
+    List<Term> include = new ArrayList<>();
+    List<Term> exclude = new ArrayList<>();
+    Matcher matcher = SEGMENT.matcher(text == null ? "" : text);
+    while (matcher.find()) {
+      boolean negated = !matcher.group(1).isEmpty();
+      String raw = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+      boolean prefix = raw.endsWith("*");
+      List<String> words = words(raw);
+      if (words.isEmpty()) {
+        continue;
+      }
+      (negated ? exclude : include).add(new Term(words, prefix));
+    }
+    if (include.isEmpty()) {
+      throw new IllegalArgumentException("Search text must contain at least one word that is not excluded");
+    }
+    if (include.size() + exclude.size() > MAX_TERMS) {
+      throw new IllegalArgumentException("Search text cannot have more than %d terms".formatted(MAX_TERMS));
+    }
+    return new TextQuery(include, exclude);
+  }
+
+  private static List<String> words(String raw) {
+    List<String> words = new ArrayList<>();
+    for (String word : NON_WORD.split(raw.toLowerCase(Locale.ROOT))) {
+      if (!word.isEmpty()) {
+        words.add(word);
+      }
+    }
+    return words;
+  }
+}
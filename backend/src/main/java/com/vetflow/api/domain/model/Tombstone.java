@@ -0,0 +1,8 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a row is physically deleted, so offline clients can drop their copy.
+ */
+public record Tombstone(Long id, String tableName, Long recordId, LocalDateTime deletedAt) {}
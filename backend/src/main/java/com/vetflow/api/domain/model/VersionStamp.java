@@ -0,0 +1,6 @@
+package com.vetflow.api.domain.model;
+
+import java.time.LocalDateTime;
+
+/** Version and last write time of a single aggregate, readable without loading it. */
+public record VersionStamp(Long version, LocalDateTime updatedAt) {}
@@ -0,0 +1,17 @@
+package com.vetflow.api.domain.port;
+
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
+import com.vetflow.api.domain.model.MonthlyAppointmentVolume;
+
+/** Pre-aggregated appointment volumes for the management reports. */
+public interface AppointmentReportSource {
+    /**
+     * Streams the volumes for months {@code from} to {@code to} inclusive, ordered by month, then veterinarian
+     * with unassigned last, then type.
+     */
+    void forEachMonthlyVolume(YearMonth from, YearMonth to, Consumer<MonthlyAppointmentVolume> consumer);
+    /** Brings the aggregates up to date with the appointment table; false if another node is already doing so. */
+    boolean refresh();
+}
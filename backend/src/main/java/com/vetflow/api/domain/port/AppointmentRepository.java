@@ -12,5 +12,9 @@ public interface AppointmentRepository {
     List<Appointment> findAll();
     List<Appointment> findByPatient(Long patientId);
     List<Appointment> findByDateRange(LocalDateTime from, LocalDateTime to);
+    /** Rows written after the {@code (since, afterId)} position, in (updatedAt, id) order. */
+    List<Appointment> findChangedSince(LocalDateTime since, long afterId, int limit);
+    /** A patient's appointments positioned before {@code (before, beforeId)}, in (appointmentDate, id) descending order. */
+    List<Appointment> findByPatientBefore(Long patientId, LocalDateTime before, long beforeId, int limit);
     void deleteById(Long id);
 }
@@ -0,0 +1,12 @@
+package com.vetflow.api.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.vetflow.api.domain.model.AuditEntry;
+
+public interface AuditEntryRepository {
+    /** Entries for one row positioned before {@code (before, beforeId)}, in (changedAt, id) descending order. */
+    List<AuditEntry> findByRecordBefore(String tableName, Long recordId, LocalDateTime before, long beforeId,
+        int limit);
+}
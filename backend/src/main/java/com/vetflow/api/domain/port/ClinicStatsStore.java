@@ -0,0 +1,22 @@
+package com.vetflow.api.domain.port;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import com.vetflow.api.domain.model.DailyStat;
+
+/** The dashboard's per-day counters. */
+public interface ClinicStatsStore {
+    /** Adds each delta to its counter, creating counters that do not exist yet. */
+    void increment(Map<DailyStat.Key, Long> deltas);
+    /** Every counter dated between {@code from} and {@code to}, both inclusive. */
+    List<DailyStat> findBetween(LocalDate from, LocalDate to);
+    /**
+     * Recomputes every counter dated on or after {@code from} from the appointment and patient tables,
+     * replacing the incrementally maintained values. Returns the number of counters written, or nothing when
+     * another node is reconciling at the same time.
+     */
+    OptionalInt reconcileFrom(LocalDate from);
+}
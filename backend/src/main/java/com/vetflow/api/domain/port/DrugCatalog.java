@@ -0,0 +1,12 @@
+package com.vetflow.api.domain.port;
+
+import java.util.List;
+
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+
+/** Read access to the drug catalogue and the class interactions checked at prescription time. */
+public interface DrugCatalog {
+    List<Drug> findAllDrugs();
+    List<DrugInteraction> findAllInteractions();
+}
@@ -0,0 +1,31 @@
+package com.vetflow.api.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.vetflow.api.domain.model.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository {
+    /** The record for this principal and key, unless it expired before {@code now}. */
+    Optional<IdempotencyRecord> findActive(String principal, String key, LocalDateTime now);
+
+    /** Inserts the record, replacing an expired one for the same principal and key. */
+    void save(IdempotencyRecord record);
+
+    /**
+     * Inserts the pending record unless an unexpired one exists for the principal and key, taking over an
+     * expired one. Returns whether the key was claimed; a concurrent insert may fail on the unique constraint.
+     */
+    boolean claim(IdempotencyRecord pending, LocalDateTime now);
+
+    /** Stores the response on the pending record claimed at {@code createdAt}; false if the claim was lost. */
+    boolean complete(IdempotencyRecord record);
+
+    /** Deletes the pending record claimed at {@code claimedAt}, so the key can be used again. */
+    void release(String principal, String key, LocalDateTime claimedAt);
+
+    int deleteExpired(LocalDateTime now);
+
+    /** Deletes the oldest records until at most {@code maxEntries} remain. */
+    int trimTo(int maxEntries);
+}
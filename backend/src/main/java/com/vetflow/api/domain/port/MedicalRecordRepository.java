@@ -1,5 +1,6 @@
 package com.vetflow.api.domain.port;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +11,7 @@ public interface MedicalRecordRepository {
     Optional<MedicalRecord> findById(Long id);
     List<MedicalRecord> findByPatientId(Long patientId);
     List<MedicalRecord> findAll();
+    /** A patient's records positioned before {@code (before, beforeId)}, in (visitDate, id) descending order. */
+    List<MedicalRecord> findByPatientBefore(Long patientId, LocalDateTime before, long beforeId, int limit);
     void deleteById(Long id);
 }
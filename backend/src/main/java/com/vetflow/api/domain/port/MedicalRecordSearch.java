@@ -0,0 +1,17 @@
+package com.vetflow.api.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.domain.model.TextQuery;
+
+public interface MedicalRecordSearch {
+    /**
+     * Records matching {@code query} in (rank, id) descending order, positioned after {@code (afterRank, afterId)}
+     * when {@code afterRank} is not null. {@code veterinarianId}, {@code from} (inclusive) and {@code to}
+     * (exclusive) narrow the results when not null.
+     */
+    List<MedicalRecordHit> search(TextQuery query, Long veterinarianId, LocalDateTime from, LocalDateTime to,
+        Double afterRank, long afterId, int limit);
+}
@@ -1,14 +1,21 @@
 package com.vetflow.api.domain.port;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.VersionStamp;
 
 public interface OwnerRepository {
     Owner save(Owner owner);
     Optional<Owner> findById(Long id);
     List<Owner> findAll();
     Optional<Owner> findByEmail(String email);
+    Optional<VersionStamp> findVersionStampById(Long id);
+    CollectionStamp stampAll();
+    /** Rows written after the {@code (since, afterId)} position, in (updatedAt, id) order. */
+    List<Owner> findChangedSince(LocalDateTime since, long afterId, int limit);
     void deleteById(Long id);
 }
@@ -0,0 +1,16 @@
+package com.vetflow.api.domain.port;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+
+public interface PatientAllergyRepository {
+    PatientAllergy save(PatientAllergy allergy);
+    Optional<PatientAllergy> findById(Long id);
+    List<PatientAllergy> findByPatientId(Long patientId);
+    /** Streams every recorded allergy to {@code sink}. */
+    void forEach(Consumer<PatientAllergy> sink);
+    void deleteById(Long id);
+}
@@ -1,9 +1,12 @@
 package com.vetflow.api.domain.port;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.VersionStamp;
 
 public interface PatientRepository {
     Patient save(Patient patient);
@@ -12,5 +15,10 @@ public interface PatientRepository {
     List<Patient> findByOwnerId(Long ownerId);
     List<Patient> findByActive(boolean active);
     List<Patient> findByOwnerIdAndActive(Long ownerId, boolean active);
+    Optional<VersionStamp> findVersionStampById(Long id);
+    CollectionStamp stampAll(boolean includeInactive);
+    CollectionStamp stampByOwnerId(Long ownerId, boolean includeInactive);
+    /** Rows written after the {@code (since, afterId)} position, in (updatedAt, id) order. */
+    List<Patient> findChangedSince(LocalDateTime since, long afterId, int limit);
     void deleteById(Long id);
 }
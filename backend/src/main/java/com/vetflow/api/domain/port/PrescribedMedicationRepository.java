@@ -0,0 +1,11 @@
+package com.vetflow.api.domain.port;
+
+import java.util.List;
+
+import com.vetflow.api.domain.model.PrescribedMedication;
+
+public interface PrescribedMedicationRepository {
+    /** Stores the lines of a record's medications in order, replacing none; the record must be new. */
+    void saveAll(Long medicalRecordId, List<PrescribedMedication> medications);
+    List<PrescribedMedication> findByMedicalRecordId(Long medicalRecordId);
+}
@@ -0,0 +1,13 @@
+package com.vetflow.api.domain.port;
+
+import java.util.List;
+
+import com.vetflow.api.domain.model.SearchHit;
+
+public interface SearchIndex {
+    /**
+     * Active patients matching {@code term} on name or breed and owners matching it on name, email or phone,
+     * best match first. {@code term} is already trimmed and lower-cased.
+     */
+    List<SearchHit> search(String term, int limit);
+}
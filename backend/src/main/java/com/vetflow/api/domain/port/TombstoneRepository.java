@@ -0,0 +1,13 @@
+package com.vetflow.api.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.vetflow.api.domain.model.Tombstone;
+
+public interface TombstoneRepository {
+    /** Tombstones of {@code table} after the {@code (since, afterId)} position, in (deletedAt, id) order. */
+    List<Tombstone> findDeletedSince(String table, LocalDateTime since, long afterId, int limit);
+    /** Deletes the tombstones written before {@code cutoff} and returns how many there were. */
+    int deleteOlderThan(LocalDateTime cutoff);
+}
@@ -0,0 +1,17 @@
+package com.vetflow.api.domain.port;
+
+import java.util.function.Consumer;
+
+/** Bulk read of the owner and patient fields the autocomplete index is built from. */
+public interface TypeaheadSource {
+
+    record OwnerRow(long id, String name, String phone, String email) {}
+
+    record PatientRow(long id, String name, String species, long ownerId, boolean active) {}
+
+    /** Streams every owner to {@code sink} without loading aggregates or holding them in memory. */
+    void forEachOwner(Consumer<OwnerRow> sink);
+
+    /** Streams every patient, active or not, to {@code sink}. */
+    void forEachPatient(Consumer<PatientRow> sink);
+}
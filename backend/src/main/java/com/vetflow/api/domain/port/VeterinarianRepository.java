@@ -1,5 +1,6 @@
 package com.vetflow.api.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,14 @@ public interface VeterinarianRepository {
    */
   Optional<Veterinarian> findById(Long id);
 
+  /**
+   * Finds the veterinarians among the given IDs in one query.
+   * 
+   * @param ids system user IDs; IDs that are not veterinarians are skipped
+   * @return the matching veterinarians, in no particular order
+   */
+  List<Veterinarian> findAllById(Collection<Long> ids);
+
   /**
    * Finds all active veterinarians.
    * 
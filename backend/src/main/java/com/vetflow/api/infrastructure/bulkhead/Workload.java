@@ -0,0 +1,24 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+import java.util.Locale;
+
+/**
+ * The kinds of traffic that each get their own execution lane and connection pool partition, so a long report
+ * or a full sync download cannot take the threads and connections the front desk needs.
+ */
+public enum Workload {
+
+  /** Quick reads and commands made while someone waits at the desk; the default for unannotated endpoints. */
+  INTERACTIVE,
+
+  /** Management reports: heavy aggregate queries over months of appointments. */
+  REPORTING,
+
+  /** Bulk downloads such as the delta sync, which can page through every row. */
+  BULK;
+
+  /** The lower-case name used in metric tags and pool names. */
+  public String tag() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
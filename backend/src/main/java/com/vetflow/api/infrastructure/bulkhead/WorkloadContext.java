@@ -0,0 +1,43 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+/**
+ * The {@link Workload} of the work running on the current thread, which picks the connection pool partition.
+ * Bound by the web layer for each request, by the lane executors for the work they run and by the heavy
+ * scheduled jobs through {@link #run}; unbound threads, such as other scheduled jobs and the security filters,
+ * count as {@link Workload#INTERACTIVE}.
+ */
+public final class WorkloadContext {
+
+  private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+  private WorkloadContext() {
+  }
+
+  public static void bind(Workload workload) {
+    CURRENT.set(workload);
+  }
+
+  /** The workload bound to this thread, or null when none is. */
+  public static Workload current() {
+    return CURRENT.get();
+  }
+
+  public static void unbind() {
+    CURRENT.remove();
+  }
+
+  /** Runs {@code task} with {@code workload} bound, then restores whatever was bound before. */
+  public static void run(Workload workload, Runnable task) {
+    Workload previous = CURRENT.get();
+    CURRENT.set(workload);
+    try {
+      task.run();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import com.vetflow.api.config.BulkheadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Splits the Hikari {@code DataSource} bean into one pool partition per {@link Workload} behind a
+ * {@link WorkloadRoutingDataSource}. The configured pool serves interactive work; every other workload with a
+ * {@code pool-size} gets a copy of its settings with that size, its own connection timeout and a pool name
+ * ending in the workload, so its metrics are told apart. Runs before the SQL proxy, which then wraps the
+ * router and still sees every statement.
+ */
+public class WorkloadDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+  private final ObjectProvider<BulkheadProperties> properties;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public WorkloadDataSourcePostProcessor(ObjectProvider<BulkheadProperties> properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (!(bean instanceof HikariDataSource interactive)) {
+      return bean;
+    }
+    BulkheadProperties bulkheads = properties.getObject();
+    if (!bulkheads.isEnabled()) {
+      return bean;
+    }
+    String prefix = interactive.getPoolName() != null ? interactive.getPoolName() : "vetflow";
+    if (interactive.getPoolName() == null) {
+      interactive.setPoolName(prefix + "-" + Workload.INTERACTIVE.tag());
+    }
+    Map<Workload, HikariDataSource> partitions = new EnumMap<>(Workload.class);
+    partitions.put(Workload.INTERACTIVE, interactive);
+    for (Workload workload : Workload.values()) {
+      BulkheadProperties.Lane lane = bulkheads.lane(workload);
+      if (workload != Workload.INTERACTIVE && lane.getPoolSize() > 0) {
+        partitions.put(workload, partition(interactive, prefix + "-" + workload.tag(), lane));
+      }
+    }
+    return new WorkloadRoutingDataSource(partitions);
+  }
+
+  /** Ahead of the SQL proxy post-processor, which is unordered. */
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  private HikariDataSource partition(HikariDataSource interactive, String poolName, BulkheadProperties.Lane lane) {
+    // Started on first use, like the interactive pool.
+    HikariDataSource partition = new HikariDataSource();
+    interactive.copyStateTo(partition);
+    partition.setPoolName(poolName);
+    partition.setMaximumPoolSize(lane.getPoolSize());
+    if (partition.getMinimumIdle() > lane.getPoolSize()) {
+      partition.setMinimumIdle(lane.getPoolSize());
+    }
+    if (lane.getConnectionTimeout() != null) {
+      partition.setConnectionTimeout(lane.getConnectionTimeout().toMillis());
+    }
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry != null && partition.getMetricsTrackerFactory() == null && partition.getMetricRegistry() == null) {
+      partition.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+    }
+    return partition;
+  }
+}
@@ -0,0 +1,47 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Hands out connections from the pool partition of the current thread's {@link Workload}, or from the
+ * interactive pool when no workload is bound or it has no partition of its own. Closing it closes every
+ * partition.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+  private final Map<Workload, HikariDataSource> partitions;
+
+  public WorkloadRoutingDataSource(Map<Workload, HikariDataSource> partitions) {
+    if (!partitions.containsKey(Workload.INTERACTIVE)) {
+      throw new IllegalArgumentException("The interactive partition is required");
+    }
+    this.partitions = new EnumMap<>(partitions);
+    setTargetDataSources(new HashMap<>(this.partitions));
+    setDefaultTargetDataSource(this.partitions.get(Workload.INTERACTIVE));
+    afterPropertiesSet();
+  }
+
+  /** The pool serving a workload. */
+  public DataSource partition(Workload workload) {
+    return partitions.getOrDefault(workload, partitions.get(Workload.INTERACTIVE));
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return WorkloadContext.current();
+  }
+
+  @Override
+  public void close() {
+    partitions.values().forEach(HikariDataSource::close);
+  }
+}
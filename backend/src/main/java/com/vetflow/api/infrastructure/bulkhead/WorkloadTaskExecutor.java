@@ -0,0 +1,51 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Runs each task on the executor of the {@link Workload} bound to the submitting thread, and binds that
+ * workload on the thread running it. Spring MVC runs streamed response bodies on it, so a report's rows are
+ * written by the reporting lane's threads with connections from the reporting partition.
+ */
+public class WorkloadTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+  private final Map<Workload, ExecutorService> executors;
+
+  public WorkloadTaskExecutor(Map<Workload, ExecutorService> executors) {
+    if (!executors.keySet().containsAll(EnumSet.allOf(Workload.class))) {
+      throw new IllegalArgumentException("Every workload needs an executor");
+    }
+    this.executors = new EnumMap<>(executors);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    Workload bound = WorkloadContext.current();
+    Workload workload = bound != null ? bound : Workload.INTERACTIVE;
+    try {
+      executors.get(workload).execute(() -> {
+        WorkloadContext.bind(workload);
+        try {
+          task.run();
+        } finally {
+          WorkloadContext.unbind();
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      throw new TaskRejectedException("The %s lane has no thread free".formatted(workload.tag()), ex);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executors.values().forEach(ExecutorService::shutdown);
+  }
+}
@@ -0,0 +1,40 @@
+package com.vetflow.api.infrastructure.changes;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+
+/**
+ * Single-node {@link ChangeBus}: notifications only reach subscribers in this JVM. Used in tests and
+ * single-instance deployments, and as the local leg of {@link PostgresChangeBus}.
+ */
+public class InMemoryChangeBus implements ChangeBus {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public InMemoryChangeBus(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public void publish(String table, Long id, long version, String action) {
+    ChangeNotification notification = new ChangeNotification(table, id, version, action, false);
+    afterCommit(() -> eventPublisher.publishEvent(notification));
+  }
+
+  protected final void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,201 @@
+package com.vetflow.api.infrastructure.changes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.config.ChangeBusProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ChangeBus} spanning every API node through PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>{@code pg_notify} is issued on the caller's connection, so inside a transaction PostgreSQL itself holds
+ * the notification back until commit and drops it on rollback. Local subscribers are served directly after
+ * commit; other nodes receive the notification on a dedicated listener connection that lives outside the
+ * pool. When that connection drops the listener reconnects with exponential backoff and, until it is back,
+ * periodically publishes {@link ChangeBusResyncEvent}s so subscribers fall back to reloading.</p>
+ */
+@Slf4j
+public class PostgresChangeBus extends InMemoryChangeBus {
+
+  private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+  private static final String SEPARATOR = "|";
+
+  /** Opens the listener's dedicated connection. */
+  @FunctionalInterface
+  public interface ConnectionSource {
+    Connection open() throws SQLException;
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ConnectionSource connectionSource;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ChangeBusProperties properties;
+
+  private volatile boolean running;
+  private volatile boolean connected;
+  private Thread listener;
+
+  public PostgresChangeBus(JdbcTemplate jdbcTemplate, ConnectionSource connectionSource,
+      ApplicationEventPublisher eventPublisher, ChangeBusProperties properties) {
+    super(eventPublisher);
+    if (!IDENTIFIER.matcher(properties.getChannel()).matches()) {
+      throw new IllegalArgumentException("Invalid change bus channel: " + properties.getChannel());
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.connectionSource = connectionSource;
+    this.eventPublisher = eventPublisher;
+    this.properties = properties;
+  }
+
+  @Override
+  public void publish(String table, Long id, long version, String action) {
+    super.publish(table, id, version, action);
+    String payload = encode(table, id, version, action, properties.getNodeId());
+    try {
+      jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+          properties.getChannel(), payload);
+    } catch (DataAccessException ex) {
+      // Other nodes converge on their next resync; failing the caller's write would be worse.
+      log.warn("Could not notify other nodes of change to {} {}", table, id, ex);
+    }
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    listener = new Thread(this::listen, "change-bus-listener");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  public boolean isConnected() {
+    return connected;
+  }
+
+  private void listen() {
+    Duration backoff = properties.getReconnectMinBackoff();
+    boolean everConnected = false;
+    long lastResync = 0L;
+    while (running) {
+      try (Connection connection = connectionSource.open()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + properties.getChannel());
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        connected = true;
+        backoff = properties.getReconnectMinBackoff();
+        if (everConnected) {
+          // Anything committed while we were away was never delivered.
+          eventPublisher.publishEvent(new ChangeBusResyncEvent("listener reconnected"));
+        }
+        everConnected = true;
+        log.info("Change bus listening on channel {}", properties.getChannel());
+        receive(connection, pgConnection);
+      } catch (SQLException ex) {
+        if (!running) {
+          break;
+        }
+        if (connected || !everConnected) {
+          log.warn("Change bus listener connection lost: {}", ex.getMessage());
+        }
+      } finally {
+        connected = false;
+      }
+      if (!running) {
+        break;
+      }
+      long now = System.nanoTime();
+      if (lastResync == 0L || now - lastResync >= properties.getFallbackPollInterval().toNanos()) {
+        eventPublisher.publishEvent(new ChangeBusResyncEvent("listener disconnected"));
+        lastResync = now;
+      }
+      if (!sleep(backoff)) {
+        break;
+      }
+      backoff = backoff.multipliedBy(2);
+      if (backoff.compareTo(properties.getReconnectMaxBackoff()) > 0) {
+        backoff = properties.getReconnectMaxBackoff();
+      }
+    }
+    log.debug("Change bus listener stopped");
+  }
+
+  private void receive(Connection connection, PGConnection pgConnection) throws SQLException {
+    int timeout = (int) properties.getPollTimeout().toMillis();
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(timeout);
+      if (notifications == null || notifications.length == 0) {
+        // A quiet channel and a half-open socket look the same; a round trip tells them apart.
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("SELECT 1");
+        }
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        onPayload(notification.getParameter());
+      }
+    }
+  }
+
+  void onPayload(String payload) {
+    decode(payload, properties.getNodeId()).ifPresent(eventPublisher::publishEvent);
+  }
+
+  static String encode(String table, Long id, long version, String action, String nodeId) {
+    return String.join(SEPARATOR, table, id == null ? "" : id.toString(), Long.toString(version), action, nodeId);
+  }
+
+  /** Decodes a notification from another node; this node's own notifications decode to empty. */
+  static Optional<ChangeNotification> decode(String payload, String localNodeId) {
+    String[] parts = payload == null ? new String[0] : payload.split(Pattern.quote(SEPARATOR), -1);
+    if (parts.length != 5) {
+      log.debug("Ignoring malformed change notification: {}", payload);
+      return Optional.empty();
+    }
+    if (parts[4].equals(localNodeId)) {
+      return Optional.empty();
+    }
+    try {
+      Long id = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+      return Optional.of(new ChangeNotification(parts[0], id, Long.parseLong(parts[2]), parts[3], true));
+    } catch (NumberFormatException ex) {
+      log.debug("Ignoring malformed change notification: {}", payload);
+      return Optional.empty();
+    }
+  }
+
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.vetflow.api.infrastructure.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public call into a controller, an application service or an adapter (an infrastructure
+ * implementation of a domain port) as {@code vetflow.calls}, tagged with its {@code layer}, its
+ * {@code use.case} ({@code Class.method}) and whether it returned or threw. Only calls through the Spring
+ * proxy are seen, so a service calling its own methods counts once.
+ *
+ * <p>Success timers are resolved once per method; error timers, which most methods never need, on their first
+ * error. With a sample rate below 1, unsampled calls skip the clock entirely.
+ */
+@Aspect
+public class LayerTimingAspect {
+
+  static final String METRIC = "vetflow.calls";
+
+  private final MeterRegistry meterRegistry;
+  private final double sampleRate;
+  private final boolean percentileHistograms;
+  private final Map<Method, CallTimers> timers = new ConcurrentHashMap<>();
+
+  public LayerTimingAspect(MeterRegistry meterRegistry, double sampleRate, boolean percentileHistograms) {
+    if (sampleRate < 0 || sampleRate > 1) {
+      throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+    }
+    this.meterRegistry = meterRegistry;
+    this.sampleRate = sampleRate;
+    this.percentileHistograms = percentileHistograms;
+  }
+
+  @Pointcut("within(com.vetflow.api.web..*) && @within(org.springframework.web.bind.annotation.RestController)")
+  void controller() {
+  }
+
+  @Pointcut("within(com.vetflow.api.application..*) && @within(org.springframework.stereotype.Service)")
+  void applicationService() {
+  }
+
+  @Pointcut("within(com.vetflow.api.infrastructure..*) && execution(public * com.vetflow.api.domain.port..*+.*(..))")
+  void adapter() {
+  }
+
+  @Around("controller() && execution(public * *(..))")
+  public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, "web");
+  }
+
+  @Around("applicationService() && execution(public * *(..))")
+  public Object timeApplicationService(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, "application");
+  }
+
+  @Around("adapter()")
+  public Object timeAdapter(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, "adapter");
+  }
+
+  private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return joinPoint.proceed();
+    }
+    long start = System.nanoTime();
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    CallTimers callTimers = timers.computeIfAbsent(method, key -> register(joinPoint, layer));
+    try {
+      Object result = joinPoint.proceed();
+      callTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable ex) {
+      timer(layer, callTimers.useCase(), "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw ex;
+    }
+  }
+
+  private CallTimers register(ProceedingJoinPoint joinPoint, String layer) {
+    String useCase = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "."
+        + joinPoint.getSignature().getName();
+    return new CallTimers(useCase, timer(layer, useCase, "success"));
+  }
+
+  private Timer timer(String layer, String useCase, String outcome) {
+    return Timer.builder(METRIC)
+        .description("Time spent in calls into each layer, by use case")
+        .tag("layer", layer)
+        .tag("use.case", useCase)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram(percentileHistograms)
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofSeconds(30))
+        .register(meterRegistry);
+  }
+
+  private record CallTimers(String useCase, Timer success) {
+  }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -65,6 +66,24 @@ public class AppointmentRepositoryAdapter implements AppointmentRepository {
         .toList();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<Appointment> findChangedSince(LocalDateTime since, long afterId, int limit) {
+    return jpa.findChangedSince(since, afterId, PageRequest.of(0, limit))
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Appointment> findByPatientBefore(Long patientId, LocalDateTime before, long beforeId, int limit) {
+    return jpa.findByPatientBefore(patientId, before, beforeId, PageRequest.of(0, limit))
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
   @Override
   public void deleteById(Long id) {
     jpa.deleteById(id);
@@ -0,0 +1,33 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.AuditEntry;
+import com.vetflow.api.domain.port.AuditEntryRepository;
+import com.vetflow.api.infrastructure.persistence.repository.AuditLogJpaRepository;
+
+@Component
+@Transactional(readOnly = true)
+public class AuditEntryRepositoryAdapter implements AuditEntryRepository {
+
+  private final AuditLogJpaRepository jpa;
+
+  public AuditEntryRepositoryAdapter(AuditLogJpaRepository jpa) {
+    this.jpa = jpa;
+  }
+
+  @Override
+  public List<AuditEntry> findByRecordBefore(String tableName, Long recordId, LocalDateTime before, long beforeId,
+      int limit) {
+    return jpa.findByRecordBefore(tableName, recordId, before, beforeId, PageRequest.of(0, limit))
+        .stream()
+        .map(entity -> new AuditEntry(entity.getId(), entity.getTableName(), entity.getRecordId(),
+            entity.getAction(), entity.getChangedBy(), entity.getChangedAt()))
+        .toList();
+  }
+}
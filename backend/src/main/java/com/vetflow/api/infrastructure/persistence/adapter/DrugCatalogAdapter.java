@@ -0,0 +1,42 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+import com.vetflow.api.domain.port.DrugCatalog;
+import com.vetflow.api.infrastructure.persistence.repository.DrugInteractionJpaRepository;
+import com.vetflow.api.infrastructure.persistence.repository.DrugJpaRepository;
+
+@Component
+@Transactional(readOnly = true)
+public class DrugCatalogAdapter implements DrugCatalog {
+
+  private final DrugJpaRepository drugs;
+  private final DrugInteractionJpaRepository interactions;
+
+  public DrugCatalogAdapter(DrugJpaRepository drugs, DrugInteractionJpaRepository interactions) {
+    this.drugs = drugs;
+    this.interactions = interactions;
+  }
+
+  @Override
+  public List<Drug> findAllDrugs() {
+    return drugs.findAll().stream()
+        .map(entity -> new Drug(entity.getId(), entity.getName(), entity.getDrugClass()))
+        .toList();
+  }
+
+  @Override
+  public List<DrugInteraction> findAllInteractions() {
+    return interactions.findAll().stream()
+        .map(entity -> new DrugInteraction(entity.getDrugClass(), entity.getOtherDrugClass(),
+            DrugInteraction.Severity.valueOf(entity.getSeverity().toUpperCase(Locale.ROOT)),
+            entity.getDescription()))
+        .toList();
+  }
+}
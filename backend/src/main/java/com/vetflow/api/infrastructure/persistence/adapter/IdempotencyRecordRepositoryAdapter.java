@@ -0,0 +1,93 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.IdempotencyRecord;
+import com.vetflow.api.domain.port.IdempotencyRecordRepository;
+import com.vetflow.api.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import com.vetflow.api.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+
+@Component
+@Transactional
+public class IdempotencyRecordRepositoryAdapter implements IdempotencyRecordRepository {
+
+  private final IdempotencyKeyJpaRepository jpa;
+
+  public IdempotencyRecordRepositoryAdapter(IdempotencyKeyJpaRepository jpa) {
+    this.jpa = jpa;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<IdempotencyRecord> findActive(String principal, String key, LocalDateTime now) {
+    return jpa.findByPrincipalAndIdempotencyKey(principal, key)
+        .filter(entity -> entity.getExpiresAt().isAfter(now))
+        .map(IdempotencyRecordRepositoryAdapter::toRecord);
+  }
+
+  @Override
+  public void save(IdempotencyRecord record) {
+    IdempotencyKeyEntity entity = jpa.findByPrincipalAndIdempotencyKey(record.principal(), record.key())
+        .orElseGet(IdempotencyKeyEntity::new);
+    jpa.save(fill(entity, record));
+  }
+
+  @Override
+  public boolean claim(IdempotencyRecord pending, LocalDateTime now) {
+    Optional<IdempotencyKeyEntity> existing = jpa.findByPrincipalAndIdempotencyKey(pending.principal(),
+        pending.key());
+    if (existing.isEmpty()) {
+      jpa.saveAndFlush(fill(new IdempotencyKeyEntity(), pending));
+      return true;
+    }
+    return jpa.takeOver(existing.get().getId(), pending.requestFingerprint(), pending.createdAt(),
+        pending.expiresAt(), now) == 1;
+  }
+
+  @Override
+  public boolean complete(IdempotencyRecord record) {
+    return jpa.complete(record.principal(), record.key(), record.createdAt(), record.statusCode(),
+        record.contentType(), record.location(), record.responseBody(), record.expiresAt()) == 1;
+  }
+
+  @Override
+  public void release(String principal, String key, LocalDateTime claimedAt) {
+    jpa.release(principal, key, claimedAt);
+  }
+
+  @Override
+  public int deleteExpired(LocalDateTime now) {
+    return jpa.deleteExpired(now);
+  }
+
+  @Override
+  public int trimTo(int maxEntries) {
+    List<Long> firstOutside = jpa.findIdsNewestFirst(PageRequest.of(maxEntries, 1));
+    return firstOutside.isEmpty() ? 0 : jpa.deleteUpTo(firstOutside.get(0));
+  }
+
+  private static IdempotencyKeyEntity fill(IdempotencyKeyEntity entity, IdempotencyRecord record) {
+    entity.setPrincipal(record.principal());
+    entity.setIdempotencyKey(record.key());
+    entity.setRequestFingerprint(record.requestFingerprint());
+    entity.setStatusCode(record.statusCode());
+    entity.setContentType(record.contentType());
+    entity.setLocation(record.location());
+    entity.setResponseBody(record.responseBody());
+    entity.setCreatedAt(record.createdAt());
+    entity.setExpiresAt(record.expiresAt());
+    return entity;
+  }
+
+  private static IdempotencyRecord toRecord(IdempotencyKeyEntity entity) {
+    return new IdempotencyRecord(entity.getPrincipal(), entity.getIdempotencyKey(), entity.getRequestFingerprint(),
+        entity.getStatusCode(), entity.getContentType(), entity.getLocation(), entity.getResponseBody(),
+        entity.getCreatedAt(), entity.getExpiresAt());
+  }
+}
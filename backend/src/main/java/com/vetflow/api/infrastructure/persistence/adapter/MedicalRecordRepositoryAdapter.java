@@ -1,9 +1,11 @@
 // src/main/java/com/vetflow/api/infrastructure/persistence/adapter/MedicalRecordRepositoryAdapter.java
 package com.vetflow.api.infrastructure.persistence.adapter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +49,15 @@ public class MedicalRecordRepositoryAdapter implements MedicalRecordRepository {
                   .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MedicalRecord> findByPatientBefore(Long patientId, LocalDateTime before, long beforeId, int limit) {
+        return jpa.findByPatientBefore(patientId, before, beforeId, PageRequest.of(0, limit))
+                  .stream()
+                  .map(mapper::toDomain)
+                  .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<MedicalRecord> findAll() {
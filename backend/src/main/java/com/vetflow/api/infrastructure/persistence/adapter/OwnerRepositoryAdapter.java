@@ -1,16 +1,21 @@
 // src/main/java/com/vetflow/api/infrastructure/persistence/adapter/OwnerRepositoryAdapter.java
 package com.vetflow.api.infrastructure.persistence.adapter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.domain.port.OwnerRepository;
 import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
 import com.vetflow.api.infrastructure.persistence.mapper.OwnerMapper;
+import com.vetflow.api.infrastructure.persistence.repository.CollectionStampView;
 import com.vetflow.api.infrastructure.persistence.repository.OwnerJpaRepository;
 
 @Component
@@ -52,6 +57,28 @@ public class OwnerRepositoryAdapter implements OwnerRepository {
         return jpa.findByEmail(email).map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionStamp> findVersionStampById(Long id) {
+        return jpa.findVersionStampById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionStamp stampAll() {
+        CollectionStampView view = jpa.stampAll();
+        return new CollectionStamp(view.getRowCount(), view.getLastUpdatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Owner> findChangedSince(LocalDateTime since, long afterId, int limit) {
+        return jpa.findChangedSince(since, afterId, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpa.deleteById(id);
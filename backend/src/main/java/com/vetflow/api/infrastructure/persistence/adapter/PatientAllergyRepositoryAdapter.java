@@ -0,0 +1,68 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+import com.vetflow.api.infrastructure.persistence.entity.PatientAllergyEntity;
+import com.vetflow.api.infrastructure.persistence.repository.PatientAllergyJpaRepository;
+
+@Component
+@Transactional
+public class PatientAllergyRepositoryAdapter implements PatientAllergyRepository {
+
+  private final PatientAllergyJpaRepository jpa;
+
+  public PatientAllergyRepositoryAdapter(PatientAllergyJpaRepository jpa) {
+    this.jpa = jpa;
+  }
+
+  @Override
+  public PatientAllergy save(PatientAllergy allergy) {
+    PatientAllergyEntity entity = new PatientAllergyEntity();
+    entity.setId(allergy.id());
+    entity.setPatientId(allergy.patientId());
+    entity.setAllergen(allergy.allergen());
+    entity.setDrugId(allergy.drugId());
+    entity.setDrugClass(allergy.drugClass());
+    return toDomain(jpa.save(entity));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<PatientAllergy> findById(Long id) {
+    return jpa.findById(id).map(PatientAllergyRepositoryAdapter::toDomain);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PatientAllergy> findByPatientId(Long patientId) {
+    return jpa.findByPatientIdOrderByAllergenAsc(patientId).stream()
+        .map(PatientAllergyRepositoryAdapter::toDomain)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void forEach(Consumer<PatientAllergy> sink) {
+    try (Stream<PatientAllergy> rows = jpa.streamAll()) {
+      rows.forEach(sink);
+    }
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    jpa.deleteById(id);
+  }
+
+  private static PatientAllergy toDomain(PatientAllergyEntity entity) {
+    return new PatientAllergy(entity.getId(), entity.getPatientId(), entity.getAllergen(), entity.getDrugId(),
+        entity.getDrugClass());
+  }
+}
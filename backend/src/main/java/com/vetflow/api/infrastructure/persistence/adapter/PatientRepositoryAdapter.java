@@ -1,16 +1,21 @@
 // src/main/java/com/vetflow/api/infrastructure/persistence/adapter/PatientRepositoryAdapter.java
 package com.vetflow.api.infrastructure.persistence.adapter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.domain.port.PatientRepository;
 import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
 import com.vetflow.api.infrastructure.persistence.mapper.PatientMapper;
+import com.vetflow.api.infrastructure.persistence.repository.CollectionStampView;
 import com.vetflow.api.infrastructure.persistence.repository.PatientJpaRepository;
 
 @Component
@@ -74,8 +79,39 @@ public class PatientRepositoryAdapter implements PatientRepository {
                   .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionStamp> findVersionStampById(Long id) {
+        return jpa.findVersionStampById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionStamp stampAll(boolean includeInactive) {
+        return toStamp(jpa.stampAll(includeInactive));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CollectionStamp stampByOwnerId(Long ownerId, boolean includeInactive) {
+        return toStamp(jpa.stampByOwnerId(ownerId, includeInactive));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Patient> findChangedSince(LocalDateTime since, long afterId, int limit) {
+        return jpa.findChangedSince(since, afterId, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpa.deleteById(id);
     }
+
+    private static CollectionStamp toStamp(CollectionStampView view) {
+        return new CollectionStamp(view.getRowCount(), view.getLastUpdatedAt());
+    }
 }
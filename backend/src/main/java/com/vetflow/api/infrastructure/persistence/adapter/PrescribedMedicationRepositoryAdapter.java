@@ -0,0 +1,63 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.PrescribedMedication;
+import com.vetflow.api.domain.port.PrescribedMedicationRepository;
+import com.vetflow.api.infrastructure.persistence.entity.MedicalRecordMedicationEntity;
+import com.vetflow.api.infrastructure.persistence.repository.DrugJpaRepository;
+import com.vetflow.api.infrastructure.persistence.repository.MedicalRecordMedicationJpaRepository;
+
+@Component
+@Transactional
+public class PrescribedMedicationRepositoryAdapter implements PrescribedMedicationRepository {
+
+  private final MedicalRecordMedicationJpaRepository jpa;
+  private final DrugJpaRepository drugs;
+
+  public PrescribedMedicationRepositoryAdapter(MedicalRecordMedicationJpaRepository jpa, DrugJpaRepository drugs) {
+    this.jpa = jpa;
+    this.drugs = drugs;
+  }
+
+  @Override
+  public void saveAll(Long medicalRecordId, List<PrescribedMedication> medications) {
+    List<MedicalRecordMedicationEntity> entities = new ArrayList<>(medications.size());
+    for (int line = 0; line < medications.size(); line++) {
+      PrescribedMedication medication = medications.get(line);
+      MedicalRecordMedicationEntity entity = new MedicalRecordMedicationEntity();
+      entity.setMedicalRecordId(medicalRecordId);
+      entity.setLineNumber(line);
+      entity.setDrugId(medication.drug() == null ? null : medication.drug().id());
+      entity.setDescription(medication.description());
+      entities.add(entity);
+    }
+    jpa.saveAll(entities);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PrescribedMedication> findByMedicalRecordId(Long medicalRecordId) {
+    List<MedicalRecordMedicationEntity> lines = jpa.findByMedicalRecordIdOrderByLineNumberAsc(medicalRecordId);
+    List<Long> drugIds = lines.stream().map(MedicalRecordMedicationEntity::getDrugId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    Map<Long, Drug> drugsById = drugs.findAllById(drugIds).stream()
+        .map(entity -> new Drug(entity.getId(), entity.getName(), entity.getDrugClass()))
+        .collect(Collectors.toMap(Drug::id, Function.identity()));
+    return lines.stream()
+        .map(line -> new PrescribedMedication(line.getDescription(),
+            line.getDrugId() == null ? null : drugsById.get(line.getDrugId())))
+        .toList();
+  }
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.Tombstone;
+import com.vetflow.api.domain.port.TombstoneRepository;
+import com.vetflow.api.infrastructure.persistence.repository.SyncTombstoneJpaRepository;
+
+@Component
+@Transactional(readOnly = true)
+public class TombstoneRepositoryAdapter implements TombstoneRepository {
+
+  private final SyncTombstoneJpaRepository jpa;
+
+  public TombstoneRepositoryAdapter(SyncTombstoneJpaRepository jpa) {
+    this.jpa = jpa;
+  }
+
+  @Override
+  public List<Tombstone> findDeletedSince(String table, LocalDateTime since, long afterId, int limit) {
+    return jpa.findDeletedSince(table, since, afterId, PageRequest.of(0, limit))
+        .stream()
+        .map(entity -> new Tombstone(entity.getId(), entity.getTableName(), entity.getRecordId(),
+            entity.getDeletedAt()))
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public int deleteOlderThan(LocalDateTime cutoff) {
+    return jpa.deleteOlderThan(cutoff);
+  }
+}
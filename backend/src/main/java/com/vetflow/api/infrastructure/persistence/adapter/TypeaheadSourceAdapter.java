@@ -0,0 +1,39 @@
+package com.vetflow.api.infrastructure.persistence.adapter;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.port.TypeaheadSource;
+import com.vetflow.api.infrastructure.persistence.repository.OwnerJpaRepository;
+import com.vetflow.api.infrastructure.persistence.repository.PatientJpaRepository;
+
+/** Streams constructor projections, so rows never enter the persistence context and memory stays flat. */
+@Component
+@Transactional(readOnly = true)
+public class TypeaheadSourceAdapter implements TypeaheadSource {
+
+  private final OwnerJpaRepository owners;
+  private final PatientJpaRepository patients;
+
+  public TypeaheadSourceAdapter(OwnerJpaRepository owners, PatientJpaRepository patients) {
+    this.owners = owners;
+    this.patients = patients;
+  }
+
+  @Override
+  public void forEachOwner(Consumer<OwnerRow> sink) {
+    try (Stream<OwnerRow> rows = owners.streamTypeaheadRows()) {
+      rows.forEach(sink);
+    }
+  }
+
+  @Override
+  public void forEachPatient(Consumer<PatientRow> sink) {
+    try (Stream<PatientRow> rows = patients.streamTypeaheadRows()) {
+      rows.forEach(sink);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.vetflow.api.infrastructure.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +32,16 @@ public class VeterinarianRepositoryAdapter implements VeterinarianRepository {
         .map(this::mapToDomain);
   }
 
+  @Override
+  public List<Veterinarian> findAllById(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return systemUserJpaRepository.findVeterinariansByIdIn(ids).stream()
+        .map(this::mapToDomain)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public List<Veterinarian> findAllActive() {
     return systemUserJpaRepository.findAllActiveVeterinarians().stream()
@@ -17,7 +17,9 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -31,7 +33,8 @@ import lombok.Setter;
     @Index(name = "idx_appointments_status", columnList = "status"),
     @Index(name = "idx_appointments_priority", columnList = "priority"),
     @Index(name = "idx_appointments_date_status", columnList = "appointment_date,status"),
-    @Index(name = "idx_appointments_veterinarian_date", columnList = "veterinarian_id,appointment_date")
+    @Index(name = "idx_appointments_veterinarian_date", columnList = "veterinarian_id,appointment_date"),
+    @Index(name = "idx_appointments_updated_at_id", columnList = "updated_at,id")
 })
 public class AppointmentEntity {
 
@@ -79,9 +82,22 @@ public class AppointmentEntity {
   @Column(name = "created_at")
   private LocalDateTime createdAt;
 
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @PrePersist
   void prePersist() {
     if (createdAt == null)
       createdAt = LocalDateTime.now();
+    updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  void preUpdate() {
+    updatedAt = LocalDateTime.now();
   }
 }
@@ -0,0 +1,31 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity mapped to table 'drugs', the catalogue seeded by V11.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "drugs", uniqueConstraints = @UniqueConstraint(name = "uq_drugs_name", columnNames = "name"))
+public class DrugEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "name", nullable = false, length = 100)
+  private String name;
+
+  @Column(name = "drug_class", nullable = false, length = 50)
+  private String drugClass;
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity mapped to table 'drug_interactions'. Severity is stored lower-case, as the DB CHECK expects.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "drug_interactions", uniqueConstraints = @UniqueConstraint(name = "uq_drug_interactions_pair",
+    columnNames = { "drug_class", "other_drug_class" }))
+public class DrugInteractionEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "drug_class", nullable = false, length = 50)
+  private String drugClass;
+
+  @Column(name = "other_drug_class", nullable = false, length = 50)
+  private String otherDrugClass;
+
+  @Column(name = "severity", nullable = false, length = 20)
+  private String severity;
+
+  @Column(name = "description", nullable = false)
+  private String description;
+}
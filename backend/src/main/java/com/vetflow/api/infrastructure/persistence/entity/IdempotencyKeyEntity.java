@@ -0,0 +1,59 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity mapped to table 'idempotency_keys'.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_principal_key",
+        columnNames = { "principal", "idempotency_key" }),
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+public class IdempotencyKeyEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "principal", nullable = false, length = 100)
+  private String principal;
+
+  @Column(name = "idempotency_key", nullable = false, length = 255)
+  private String idempotencyKey;
+
+  @Column(name = "request_fingerprint", nullable = false, length = 64)
+  private String requestFingerprint;
+
+  /** Null while the claiming request is still running. */
+  @Column(name = "status_code")
+  private Integer statusCode;
+
+  @Column(name = "content_type", length = 100)
+  private String contentType;
+
+  @Column(name = "location", length = 500)
+  private String location;
+
+  @Column(name = "response_body", columnDefinition = "TEXT")
+  private String responseBody;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+}
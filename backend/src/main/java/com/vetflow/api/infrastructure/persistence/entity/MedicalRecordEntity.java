@@ -12,7 +12,9 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -22,7 +24,8 @@ import lombok.Setter;
 @Table(name = "medical_records", indexes = {
     @Index(name = "idx_medical_records_patient_id", columnList = "patient_id"),
     @Index(name = "idx_medical_records_visit_date", columnList = "visit_date"),
-    @Index(name = "idx_medical_records_veterinarian", columnList = "veterinarian_id")
+    @Index(name = "idx_medical_records_veterinarian", columnList = "veterinarian_id"),
+    @Index(name = "idx_medical_records_updated_at_id", columnList = "updated_at,id")
 })
 public class MedicalRecordEntity {
 
@@ -55,9 +58,22 @@ public class MedicalRecordEntity {
   @Column(name = "created_at")
   private LocalDateTime createdAt = LocalDateTime.now();
 
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @PrePersist
   void prePersist() {
     if (createdAt == null)
       createdAt = LocalDateTime.now();
+    updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  void preUpdate() {
+    updatedAt = LocalDateTime.now();
   }
 }
@@ -0,0 +1,41 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity mapped to table 'medical_record_medications', one row per medication line of a record.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "medical_record_medications",
+    uniqueConstraints = @UniqueConstraint(name = "uq_record_medication_line",
+        columnNames = { "medical_record_id", "line_number" }),
+    indexes = @Index(name = "idx_record_medications_drug_id", columnList = "drug_id"))
+public class MedicalRecordMedicationEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "medical_record_id", nullable = false)
+  private Long medicalRecordId;
+
+  @Column(name = "line_number", nullable = false)
+  private int lineNumber;
+
+  @Column(name = "drug_id")
+  private Long drugId;
+
+  @Column(name = "description", nullable = false, length = 500)
+  private String description;
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 /**
  * JPA entity mapped to table 'owners'.
@@ -23,7 +24,8 @@ import jakarta.persistence.UniqueConstraint;
 @Table(name = "owners", indexes = {
         @Index(name = "idx_owners_email", columnList = "email"),
         @Index(name = "idx_owners_phone", columnList = "phone"),
-        @Index(name = "idx_owners_created_at", columnList = "created_at")
+        @Index(name = "idx_owners_created_at", columnList = "created_at"),
+        @Index(name = "idx_owners_updated_at_id", columnList = "updated_at,id")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "uk_owners_email", columnNames = "email")
 })
@@ -51,6 +53,10 @@ public class OwnerEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     void onCreate() {
         final LocalDateTime now = LocalDateTime.now();
@@ -111,4 +117,12 @@ public class OwnerEntity {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,49 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity mapped to table 'patient_allergies'. Patient and drug are kept as plain ids: the safety check
+ * loads every row in bulk and never needs the aggregates behind them.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "patient_allergies")
+public class PatientAllergyEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "patient_id", nullable = false)
+  private Long patientId;
+
+  @Column(name = "allergen", nullable = false, length = 100)
+  private String allergen;
+
+  @Column(name = "drug_id")
+  private Long drugId;
+
+  @Column(name = "drug_class", length = 50)
+  private String drugClass;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @PrePersist
+  void prePersist() {
+    if (createdAt == null)
+      createdAt = LocalDateTime.now();
+  }
+}
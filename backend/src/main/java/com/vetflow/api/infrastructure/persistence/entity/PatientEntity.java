@@ -17,6 +17,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA entity mapped to table 'patients'.
@@ -28,7 +29,8 @@ import jakarta.persistence.Table;
         @Index(name = "idx_patients_owner_id", columnList = "owner_id"),
         @Index(name = "idx_patients_species", columnList = "species"),
         @Index(name = "idx_patients_name", columnList = "name"),
-        @Index(name = "idx_patients_created_at", columnList = "created_at")
+        @Index(name = "idx_patients_created_at", columnList = "created_at"),
+        @Index(name = "idx_patients_updated_at_id", columnList = "updated_at,id")
 })
 public class PatientEntity {
 
@@ -55,9 +57,6 @@ public class PatientEntity {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
 
-    @Column(name = "allergies")
-    private String allergies;
-
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_patient_owner"))
     private OwnerEntity owner;
@@ -68,6 +67,10 @@ public class PatientEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     void onCreate() {
         final LocalDateTime now = LocalDateTime.now();
@@ -148,14 +151,6 @@ public class PatientEntity {
         this.isActive = isActive;
     }
 
-    public String getAllergies() {
-        return allergies;
-    }
-
-    public void setAllergies(String allergies) {
-        this.allergies = allergies;
-    }
-
     public OwnerEntity getOwner() {
         return owner;
     }
@@ -171,4 +166,12 @@ public class PatientEntity {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,37 @@
+package com.vetflow.api.infrastructure.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+/**
+ * JPA entity mapped to table 'sync_tombstones'. Rows are written by database triggers on delete, so the
+ * application only reads them and purges the ones past their retention.
+ */
+@Getter
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_table_deleted_at", columnList = "table_name,deleted_at,id")
+})
+public class SyncTombstoneEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "table_name", nullable = false, length = 50, updatable = false)
+  private String tableName;
+
+  @Column(name = "record_id", nullable = false, updatable = false)
+  private Long recordId;
+
+  @Column(name = "deleted_at", nullable = false, updatable = false)
+  private LocalDateTime deletedAt;
+}
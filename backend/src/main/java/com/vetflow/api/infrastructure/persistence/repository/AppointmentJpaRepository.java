@@ -3,7 +3,10 @@ package com.vetflow.api.infrastructure.persistence.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity;
 import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity.Status;
@@ -12,4 +15,21 @@ public interface AppointmentJpaRepository extends JpaRepository<AppointmentEntit
   List<AppointmentEntity> findByPatientId(Long patientId);
   List<AppointmentEntity> findByAppointmentDateBetween(LocalDateTime from, LocalDateTime to);
   List<AppointmentEntity> findByStatus(Status status);
+
+  @Query("""
+      select a from AppointmentEntity a join fetch a.patient p join fetch p.owner
+      where a.updatedAt > :since or (a.updatedAt = :since and a.id > :afterId)
+      order by a.updatedAt, a.id
+      """)
+  List<AppointmentEntity> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+      Pageable page);
+
+  @Query("""
+      select a from AppointmentEntity a join fetch a.patient p join fetch p.owner
+      where p.id = :patientId
+        and (a.appointmentDate < :before or (a.appointmentDate = :before and a.id < :beforeId))
+      order by a.appointmentDate desc, a.id desc
+      """)
+  List<AppointmentEntity> findByPatientBefore(@Param("patientId") Long patientId,
+      @Param("before") LocalDateTime before, @Param("beforeId") long beforeId, Pageable page);
 }
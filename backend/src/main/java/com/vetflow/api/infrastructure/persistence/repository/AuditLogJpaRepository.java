@@ -1,8 +1,23 @@
 package com.vetflow.api.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.vetflow.api.infrastructure.persistence.entity.AuditLogEntity;
 
 public interface AuditLogJpaRepository extends JpaRepository<AuditLogEntity, Long> {
+
+  @Query("""
+      select a from AuditLogEntity a
+      where a.tableName = :tableName and a.recordId = :recordId
+        and (a.changedAt < :before or (a.changedAt = :before and a.id < :beforeId))
+      order by a.changedAt desc, a.id desc
+      """)
+  List<AuditLogEntity> findByRecordBefore(@Param("tableName") String tableName, @Param("recordId") Long recordId,
+      @Param("before") LocalDateTime before, @Param("beforeId") long beforeId, Pageable page);
 }
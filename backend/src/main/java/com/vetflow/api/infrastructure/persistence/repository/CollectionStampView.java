@@ -0,0 +1,9 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/** Projection for {@code count(*), max(updated_at)} probes. */
+public interface CollectionStampView {
+    long getRowCount();
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,8 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.vetflow.api.infrastructure.persistence.entity.DrugInteractionEntity;
+
+public interface DrugInteractionJpaRepository extends JpaRepository<DrugInteractionEntity, Long> {
+}
@@ -0,0 +1,55 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.vetflow.api.infrastructure.persistence.entity.IdempotencyKeyEntity;
+
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+  Optional<IdempotencyKeyEntity> findByPrincipalAndIdempotencyKey(String principal, String idempotencyKey);
+
+  /** Takes over an expired record as a new pending claim; 0 when it is still active or already taken. */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update IdempotencyKeyEntity k set k.requestFingerprint = :fingerprint, k.statusCode = null, "
+      + "k.contentType = null, k.location = null, k.responseBody = null, k.createdAt = :claimedAt, "
+      + "k.expiresAt = :expiresAt where k.id = :id and k.expiresAt <= :now")
+  int takeOver(@Param("id") Long id, @Param("fingerprint") String fingerprint,
+      @Param("claimedAt") LocalDateTime claimedAt, @Param("expiresAt") LocalDateTime expiresAt,
+      @Param("now") LocalDateTime now);
+
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update IdempotencyKeyEntity k set k.statusCode = :statusCode, k.contentType = :contentType, "
+      + "k.location = :location, k.responseBody = :responseBody, k.expiresAt = :expiresAt "
+      + "where k.principal = :principal and k.idempotencyKey = :key and k.createdAt = :claimedAt "
+      + "and k.statusCode is null")
+  int complete(@Param("principal") String principal, @Param("key") String key,
+      @Param("claimedAt") LocalDateTime claimedAt, @Param("statusCode") int statusCode,
+      @Param("contentType") String contentType, @Param("location") String location,
+      @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("delete from IdempotencyKeyEntity k where k.principal = :principal and k.idempotencyKey = :key "
+      + "and k.createdAt = :claimedAt and k.statusCode is null")
+  int release(@Param("principal") String principal, @Param("key") String key,
+      @Param("claimedAt") LocalDateTime claimedAt);
+
+  @Modifying
+  @Query("delete from IdempotencyKeyEntity k where k.expiresAt <= :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+
+  /** Ids newest first; with an offset of N the first result is the newest id that falls outside the bound. */
+  @Query("select k.id from IdempotencyKeyEntity k order by k.id desc")
+  List<Long> findIdsNewestFirst(Pageable pageable);
+
+  @Modifying
+  @Query("delete from IdempotencyKeyEntity k where k.id <= :id")
+  int deleteUpTo(@Param("id") Long id);
+}
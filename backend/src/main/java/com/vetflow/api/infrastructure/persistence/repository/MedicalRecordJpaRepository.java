@@ -1,11 +1,24 @@
 package com.vetflow.api.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.vetflow.api.infrastructure.persistence.entity.MedicalRecordEntity;
 
 public interface MedicalRecordJpaRepository extends JpaRepository<MedicalRecordEntity, Long> {
   List<MedicalRecordEntity> findByPatientIdOrderByVisitDateDesc(Long patientId);
+
+  @Query("""
+      select m from MedicalRecordEntity m join fetch m.patient p join fetch p.owner
+      where p.id = :patientId
+        and (m.visitDate < :before or (m.visitDate = :before and m.id < :beforeId))
+      order by m.visitDate desc, m.id desc
+      """)
+  List<MedicalRecordEntity> findByPatientBefore(@Param("patientId") Long patientId,
+      @Param("before") LocalDateTime before, @Param("beforeId") long beforeId, Pageable page);
 }
@@ -0,0 +1,11 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.vetflow.api.infrastructure.persistence.entity.MedicalRecordMedicationEntity;
+
+public interface MedicalRecordMedicationJpaRepository extends JpaRepository<MedicalRecordMedicationEntity, Long> {
+    List<MedicalRecordMedicationEntity> findByMedicalRecordIdOrderByLineNumberAsc(Long medicalRecordId);
+}
@@ -1,11 +1,47 @@
 package com.vetflow.api.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import com.vetflow.api.domain.model.VersionStamp;
+import com.vetflow.api.domain.port.TypeaheadSource;
 import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
 
 public interface OwnerJpaRepository extends JpaRepository<OwnerEntity, Long> {
     Optional<OwnerEntity> findByEmail(String email);
+
+    @Query("""
+        select new com.vetflow.api.domain.model.VersionStamp(o.version, o.updatedAt)
+        from OwnerEntity o where o.id = :id
+        """)
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("select count(o) as rowCount, max(o.updatedAt) as lastUpdatedAt from OwnerEntity o")
+    CollectionStampView stampAll();
+
+    @Query("""
+        select o from OwnerEntity o
+        where o.updatedAt > :since or (o.updatedAt = :since and o.id > :afterId)
+        order by o.updatedAt, o.id
+        """)
+    List<OwnerEntity> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+        Pageable page);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.vetflow.api.domain.port.TypeaheadSource$OwnerRow(o.id, o.name, o.phone, o.email)
+        from OwnerEntity o
+        """)
+    Stream<TypeaheadSource.OwnerRow> streamTypeaheadRows();
 }
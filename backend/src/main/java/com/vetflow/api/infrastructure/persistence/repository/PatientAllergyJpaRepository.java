@@ -0,0 +1,26 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.infrastructure.persistence.entity.PatientAllergyEntity;
+
+public interface PatientAllergyJpaRepository extends JpaRepository<PatientAllergyEntity, Long> {
+    List<PatientAllergyEntity> findByPatientIdOrderByAllergenAsc(Long patientId);
+
+    /** Constructor projection for the safety check's bulk load; rows never enter the persistence context. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.vetflow.api.domain.model.PatientAllergy(a.id, a.patientId, a.allergen, a.drugId, a.drugClass)
+        from PatientAllergyEntity a
+        """)
+    Stream<PatientAllergy> streamAll();
+}
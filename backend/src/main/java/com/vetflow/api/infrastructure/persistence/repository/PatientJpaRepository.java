@@ -1,13 +1,60 @@
 package com.vetflow.api.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import com.vetflow.api.domain.model.VersionStamp;
+import com.vetflow.api.domain.port.TypeaheadSource;
 import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
 
 public interface PatientJpaRepository extends JpaRepository<PatientEntity, Long> {
     List<PatientEntity> findByOwnerId(Long ownerId);
     List<PatientEntity> findByIsActive(boolean isActive);
     List<PatientEntity> findByOwnerIdAndIsActive(Long ownerId, boolean isActive);
+
+    @Query("""
+        select new com.vetflow.api.domain.model.VersionStamp(p.version, p.updatedAt)
+        from PatientEntity p where p.id = :id
+        """)
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("""
+        select count(p) as rowCount, max(p.updatedAt) as lastUpdatedAt from PatientEntity p
+        where :includeInactive = true or p.isActive = true
+        """)
+    CollectionStampView stampAll(@Param("includeInactive") boolean includeInactive);
+
+    @Query("""
+        select count(p) as rowCount, max(p.updatedAt) as lastUpdatedAt from PatientEntity p
+        where p.owner.id = :ownerId and (:includeInactive = true or p.isActive = true)
+        """)
+    CollectionStampView stampByOwnerId(@Param("ownerId") Long ownerId,
+        @Param("includeInactive") boolean includeInactive);
+
+    @Query("""
+        select p from PatientEntity p join fetch p.owner
+        where p.updatedAt > :since or (p.updatedAt = :since and p.id > :afterId)
+        order by p.updatedAt, p.id
+        """)
+    List<PatientEntity> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+        Pageable page);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.vetflow.api.domain.port.TypeaheadSource$PatientRow(
+            p.id, p.name, p.species, p.owner.id, p.isActive)
+        from PatientEntity p
+        """)
+    Stream<TypeaheadSource.PatientRow> streamTypeaheadRows();
 }
@@ -0,0 +1,28 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.vetflow.api.infrastructure.persistence.entity.SyncTombstoneEntity;
+
+public interface SyncTombstoneJpaRepository extends JpaRepository<SyncTombstoneEntity, Long> {
+
+  @Query("""
+      select t from SyncTombstoneEntity t
+      where t.tableName = :table
+        and (t.deletedAt > :since or (t.deletedAt = :since and t.id > :afterId))
+      order by t.deletedAt, t.id
+      """)
+  List<SyncTombstoneEntity> findDeletedSince(@Param("table") String table, @Param("since") LocalDateTime since,
+      @Param("afterId") long afterId, Pageable page);
+
+  @Modifying
+  @Query("delete from SyncTombstoneEntity t where t.deletedAt < :cutoff")
+  int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,5 +1,6 @@
 package com.vetflow.api.infrastructure.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,9 @@ public interface SystemUserJpaRepository extends JpaRepository<SystemUserEntity,
   @Query("SELECT u FROM SystemUserEntity u WHERE u.id = :id AND u.role = 'veterinarian'")
   Optional<SystemUserEntity> findVeterinarianById(@Param("id") Long id);
 
+  @Query("SELECT u FROM SystemUserEntity u WHERE u.id IN :ids AND u.role = 'veterinarian'")
+  List<SystemUserEntity> findVeterinariansByIdIn(@Param("ids") Collection<Long> ids);
+
   @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM SystemUserEntity u WHERE u.id = :id AND u.role = 'veterinarian' AND u.active = true")
   boolean isActiveVeterinarian(@Param("id") Long id);
 }
@@ -0,0 +1,91 @@
+package com.vetflow.api.infrastructure.report;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.MonthlyAppointmentVolume;
+import com.vetflow.api.domain.port.AppointmentReportSource;
+
+/**
+ * Portable report source aggregating the appointment table on every request, for databases without
+ * materialized views such as the H2 database used in tests. Production runs
+ * {@link MaterializedAppointmentReportSource} instead.
+ */
+@Transactional(readOnly = true)
+public class LiveAppointmentReportSource implements AppointmentReportSource {
+
+  private static final String SQL = """
+      SELECT r.report_year, r.report_month, r.veterinarian_id, u.username, r.type,
+             r.appointments, r.completed, r.no_shows, r.cancelled
+      FROM (%s) r
+      LEFT JOIN system_users u ON u.id = r.veterinarian_id
+      ORDER BY r.report_year, r.report_month, CASE WHEN r.veterinarian_id = 0 THEN 1 ELSE 0 END,
+               r.veterinarian_id, r.type
+      """;
+
+  private static final String VOLUMES = """
+      SELECT CAST(EXTRACT(YEAR FROM appointment_date) AS INTEGER) AS report_year,
+             CAST(EXTRACT(MONTH FROM appointment_date) AS INTEGER) AS report_month,
+             COALESCE(veterinarian_id, 0) AS veterinarian_id, type,
+             COUNT(*) AS appointments,
+             SUM(CASE WHEN status = 'completed' THEN 1 ELSE 0 END) AS completed,
+             SUM(CASE WHEN status = 'no_show' THEN 1 ELSE 0 END) AS no_shows,
+             SUM(CASE WHEN status = 'cancelled' THEN 1 ELSE 0 END) AS cancelled
+      FROM appointments
+      WHERE appointment_date >= :from AND appointment_date < :to
+      GROUP BY CAST(EXTRACT(YEAR FROM appointment_date) AS INTEGER),
+               CAST(EXTRACT(MONTH FROM appointment_date) AS INTEGER),
+               COALESCE(veterinarian_id, 0), type
+      """;
+
+  protected final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public LiveAppointmentReportSource(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void forEachMonthlyVolume(YearMonth from, YearMonth to, Consumer<MonthlyAppointmentVolume> consumer) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("from", Date.valueOf(from.atDay(1)))
+        .addValue("to", Date.valueOf(to.plusMonths(1).atDay(1)));
+    jdbcTemplate.query(SQL.formatted(volumesQuery()), params,
+        (RowCallbackHandler) rs -> consumer.accept(volume(rs)));
+  }
+
+  /** Nothing to refresh: every request reads the appointment table. */
+  @Override
+  public boolean refresh() {
+    return true;
+  }
+
+  /**
+   * Query producing one row per year, month, veterinarian (0 when unassigned) and lower-case type between
+   * the {@code :from} and {@code :to} dates, end exclusive.
+   */
+  protected String volumesQuery() {
+    return VOLUMES;
+  }
+
+  private static MonthlyAppointmentVolume volume(ResultSet rs) throws SQLException {
+    long veterinarianId = rs.getLong("veterinarian_id");
+    return new MonthlyAppointmentVolume(YearMonth.of(rs.getInt("report_year"), rs.getInt("report_month")),
+        veterinarianId == 0 ? null : veterinarianId,
+        rs.getString("username"),
+        Type.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+        rs.getLong("appointments"),
+        rs.getLong("completed"),
+        rs.getLong("no_shows"),
+        rs.getLong("cancelled"));
+  }
+}
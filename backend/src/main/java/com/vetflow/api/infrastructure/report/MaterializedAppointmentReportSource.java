@@ -0,0 +1,48 @@
+package com.vetflow.api.infrastructure.report;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PostgreSQL report source reading the {@code report_appointments_monthly} materialized view from V13.
+ *
+ * <p>{@link #refresh()} rebuilds the view with {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, which computes
+ * the new contents beside the old and swaps in the difference, so report reads are never blocked. Every node
+ * schedules a refresh; a transaction-scoped advisory lock lets only the first one run it and the others skip.
+ */
+public class MaterializedAppointmentReportSource extends LiveAppointmentReportSource {
+
+  /** Arbitrary key shared by every node for the refresh lock. */
+  static final long REFRESH_LOCK_KEY = 0x7665_7466_6c6f_7701L;
+
+  private static final String VOLUMES = """
+      SELECT CAST(EXTRACT(YEAR FROM month) AS INTEGER) AS report_year,
+             CAST(EXTRACT(MONTH FROM month) AS INTEGER) AS report_month,
+             veterinarian_id, type, appointments, completed, no_shows, cancelled
+      FROM report_appointments_monthly
+      WHERE month >= :from AND month < :to
+      """;
+
+  public MaterializedAppointmentReportSource(NamedParameterJdbcTemplate jdbcTemplate) {
+    super(jdbcTemplate);
+  }
+
+  @Override
+  @Transactional
+  public boolean refresh() {
+    Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(:key)",
+        Map.of("key", REFRESH_LOCK_KEY), Boolean.class);
+    if (!Boolean.TRUE.equals(locked)) {
+      return false;
+    }
+    jdbcTemplate.getJdbcTemplate().execute("REFRESH MATERIALIZED VIEW CONCURRENTLY report_appointments_monthly");
+    return true;
+  }
+
+  @Override
+  protected String volumesQuery() {
+    return VOLUMES;
+  }
+}
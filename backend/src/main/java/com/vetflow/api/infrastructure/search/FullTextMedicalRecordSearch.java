@@ -0,0 +1,53 @@
+package com.vetflow.api.infrastructure.search;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.vetflow.api.domain.model.TextQuery;
+import com.vetflow.api.domain.model.TextQuery.Term;
+
+/**
+ * PostgreSQL medical record search over the weighted {@code search_vector} column from V10, answered from its
+ * GIN index and ranked with {@code ts_rank}. Phrases become {@code <->} sequences and prefix terms
+ * {@code :*} lexemes.
+ */
+public class FullTextMedicalRecordSearch extends LikeMedicalRecordSearch {
+
+  public FullTextMedicalRecordSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+    super(jdbcTemplate);
+  }
+
+  @Override
+  protected String textCondition(TextQuery query, MapSqlParameterSource params) {
+    params.addValue("tsquery", toTsQuery(query));
+    return "m.search_vector @@ to_tsquery('simple', :tsquery)";
+  }
+
+  /** Cast so the rank survives a round trip through the cursor exactly. */
+  @Override
+  protected String rankExpression(TextQuery query, MapSqlParameterSource params) {
+    return "CAST(ts_rank(m.search_vector, to_tsquery('simple', :tsquery)) AS DOUBLE PRECISION)";
+  }
+
+  static String toTsQuery(TextQuery query) {
+    String included = query.include().stream()
+        .map(FullTextMedicalRecordSearch::render)
+        .collect(Collectors.joining(" & "));
+    String excluded = query.exclude().stream()
+        .map(term -> " & !(" + render(term) + ")")
+        .collect(Collectors.joining());
+    return included + excluded;
+  }
+
+  private static String render(Term term) {
+    List<String> words = term.words();
+    String last = words.get(words.size() - 1) + (term.prefix() ? ":*" : "");
+    if (!term.isPhrase()) {
+      return last;
+    }
+    return "(" + String.join(" <-> ", words.subList(0, words.size() - 1)) + " <-> " + last + ")";
+  }
+}
@@ -0,0 +1,122 @@
+package com.vetflow.api.infrastructure.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.domain.model.TextQuery;
+import com.vetflow.api.domain.model.TextQuery.Term;
+import com.vetflow.api.domain.port.MedicalRecordSearch;
+
+/**
+ * Portable medical record search with {@code LIKE} matching, for databases without PostgreSQL full-text
+ * search such as the H2 database used in tests. Phrases match as contiguous text and every word matches
+ * anywhere in a word; records matching in the diagnosis or medications rank above those matching only in the
+ * treatment or notes. It scans the table, so production runs {@link FullTextMedicalRecordSearch} instead.
+ */
+@Transactional(readOnly = true)
+public class LikeMedicalRecordSearch implements MedicalRecordSearch {
+
+  private static final String SQL = """
+      SELECT * FROM (
+          SELECT m.id, m.patient_id, p.name AS patient_name, m.veterinarian_id, m.visit_date,
+                 m.diagnosis, m.treatment, m.medications, %s AS relevance
+          FROM medical_records m
+          JOIN patients p ON p.id = m.patient_id
+          WHERE %s
+      ) r
+      WHERE %s
+      ORDER BY r.relevance DESC, r.id DESC
+      LIMIT :limit
+      """;
+
+  private static final String[] PRIMARY_FIELDS = { "m.diagnosis", "m.medications" };
+  private static final String[] ALL_FIELDS = { "m.diagnosis", "m.medications", "m.treatment", "m.notes" };
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public LikeMedicalRecordSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public List<MedicalRecordHit> search(TextQuery query, Long veterinarianId, LocalDateTime from, LocalDateTime to,
+      Double afterRank, long afterId, int limit) {
+    MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+    List<String> conditions = new ArrayList<>();
+    conditions.add(textCondition(query, params));
+    if (veterinarianId != null) {
+      conditions.add("m.veterinarian_id = :veterinarianId");
+      params.addValue("veterinarianId", veterinarianId);
+    }
+    if (from != null) {
+      conditions.add("m.visit_date >= :from");
+      params.addValue("from", from);
+    }
+    if (to != null) {
+      conditions.add("m.visit_date < :to");
+      params.addValue("to", to);
+    }
+    String position = "1 = 1";
+    if (afterRank != null) {
+      position = "r.relevance < :afterRank OR (r.relevance = :afterRank AND r.id < :afterId)";
+      params.addValue("afterRank", afterRank).addValue("afterId", afterId);
+    }
+    String sql = SQL.formatted(rankExpression(query, params), String.join(" AND ", conditions), position);
+    return jdbcTemplate.query(sql, params, this::hit);
+  }
+
+  /** SQL condition selecting records that match {@code query}; may bind parameters. */
+  protected String textCondition(TextQuery query, MapSqlParameterSource params) {
+    List<String> parts = new ArrayList<>();
+    for (int i = 0; i < query.include().size(); i++) {
+      parts.add(matches(ALL_FIELDS, pattern(query.include().get(i), "include" + i, params)));
+    }
+    for (int i = 0; i < query.exclude().size(); i++) {
+      parts.add("NOT " + matches(ALL_FIELDS, pattern(query.exclude().get(i), "exclude" + i, params)));
+    }
+    return String.join(" AND ", parts);
+  }
+
+  /** SQL double expression ranking a matching record; parameters bound by {@link #textCondition} are in scope. */
+  protected String rankExpression(TextQuery query, MapSqlParameterSource params) {
+    List<String> parts = new ArrayList<>();
+    for (int i = 0; i < query.include().size(); i++) {
+      parts.add("CASE WHEN " + matches(PRIMARY_FIELDS, ":include" + i) + " THEN 1.0 ELSE 0.5 END");
+    }
+    return "CAST((" + String.join(" + ", parts) + ") / " + parts.size() + " AS DOUBLE PRECISION)";
+  }
+
+  private static String pattern(Term term, String name, MapSqlParameterSource params) {
+    // Words hold only letters and digits, so there is nothing to escape.
+    params.addValue(name, "%" + String.join(" ", term.words()) + "%");
+    return ":" + name;
+  }
+
+  private static String matches(String[] fields, String parameter) {
+    List<String> parts = new ArrayList<>();
+    for (String field : fields) {
+      parts.add("lower(coalesce(" + field + ", '')) LIKE " + parameter);
+    }
+    return "(" + String.join(" OR ", parts) + ")";
+  }
+
+  private MedicalRecordHit hit(ResultSet rs, int rowNum) throws SQLException {
+    return new MedicalRecordHit(rs.getLong("id"),
+        rs.getLong("patient_id"),
+        rs.getString("patient_name"),
+        rs.getLong("veterinarian_id"),
+        rs.getObject("visit_date", LocalDateTime.class),
+        rs.getString("diagnosis"),
+        rs.getString("treatment"),
+        rs.getString("medications"),
+        rs.getDouble("relevance"));
+  }
+}
@@ -0,0 +1,128 @@
+package com.vetflow.api.infrastructure.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.SearchHit;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.domain.port.SearchIndex;
+
+/**
+ * Portable search using plain {@code LIKE} matching, for databases without {@code pg_trgm} such as the H2
+ * database used in tests. Hits are ranked exact match first, then prefix, then substring; it scans the tables,
+ * so production runs {@link TrigramSearchIndex} instead.
+ */
+@Transactional(readOnly = true)
+public class LikeSearchIndex implements SearchIndex {
+
+  /** Queries with fewer digits than this are not matched against phone numbers. */
+  static final int MIN_PHONE_DIGITS = 3;
+
+  static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::score).reversed()
+      .thenComparing(SearchHit::name, String.CASE_INSENSITIVE_ORDER)
+      .thenComparing(SearchHit::kind)
+      .thenComparing(SearchHit::id);
+
+  private static final String PATIENTS_SQL = """
+      SELECT p.id, p.name, p.species, p.breed, o.id AS owner_id, o.name AS owner_name,
+             CASE WHEN lower(p.name) = :term THEN 1.0
+                  WHEN lower(p.name) LIKE :prefix ESCAPE '\\' THEN 0.8
+                  WHEN lower(p.name) LIKE :contains ESCAPE '\\' THEN 0.6
+                  ELSE 0.4 END AS score
+      FROM patients p
+      JOIN owners o ON o.id = p.owner_id
+      WHERE p.is_active = TRUE
+        AND (lower(p.name) LIKE :contains ESCAPE '\\' OR lower(p.breed) LIKE :contains ESCAPE '\\')
+      ORDER BY score DESC, p.name, p.id
+      LIMIT :limit
+      """;
+
+  private static final String OWNERS_SQL = """
+      SELECT o.id, o.name, o.email,
+             CASE WHEN lower(o.name) = :term OR lower(o.email) = :term THEN 1.0
+                  WHEN lower(o.name) LIKE :prefix ESCAPE '\\' OR lower(o.email) LIKE :prefix ESCAPE '\\' THEN 0.8
+                  WHEN lower(o.name) LIKE :contains ESCAPE '\\' OR lower(o.email) LIKE :contains ESCAPE '\\' THEN 0.6
+                  ELSE 0.5 END AS score
+      FROM owners o
+      WHERE lower(o.name) LIKE :contains ESCAPE '\\' OR lower(o.email) LIKE :contains ESCAPE '\\'
+      """;
+
+  private static final String OWNERS_ORDER = """
+      ORDER BY score DESC, o.name, o.id
+      LIMIT :limit
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public LikeSearchIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public List<SearchHit> search(String term, int limit) {
+    String digits = term.replaceAll("[^0-9]", "");
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("term", term)
+        .addValue("prefix", escapeLike(term) + "%")
+        .addValue("contains", "%" + escapeLike(term) + "%")
+        .addValue("digits", "%" + digits + "%")
+        .addValue("limit", limit);
+
+    // Each side is limited on its own, so the merged list never needs more than limit rows from either.
+    List<SearchHit> hits = new ArrayList<>(jdbcTemplate.query(patientsSql(), params, this::patientHit));
+    hits.addAll(jdbcTemplate.query(ownersQuery(digits.length() >= MIN_PHONE_DIGITS), params, this::ownerHit));
+    hits.sort(RANKING);
+    return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+  }
+
+  /** Patient query; binds {@code term}, {@code prefix}, {@code contains} and {@code limit}. */
+  protected String patientsSql() {
+    return PATIENTS_SQL;
+  }
+
+  /**
+   * Owner query up to its {@code WHERE} conditions, which the phone clause and the ordering are appended to;
+   * binds the patient parameters, plus {@code digits} when phones are matched.
+   */
+  protected String ownersSql() {
+    return OWNERS_SQL;
+  }
+
+  /**
+   * The full owner query. Joined rather than formatted: the trigram operator is a bare {@code %}, which
+   * {@code String.format} would take for a conversion.
+   */
+  final String ownersQuery(boolean matchPhone) {
+    String phoneClause = matchPhone ? "   OR " + phoneDigitsExpression("o.phone") + " LIKE :digits\n" : "";
+    return ownersSql() + phoneClause + OWNERS_ORDER;
+  }
+
+  /** SQL stripping everything but digits from {@code column}. */
+  protected String phoneDigitsExpression(String column) {
+    return "regexp_replace(" + column + ", '[^0-9]', '')";
+  }
+
+  static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  private SearchHit patientHit(ResultSet rs, int rowNum) throws SQLException {
+    String breed = rs.getString("breed");
+    return new SearchHit(Kind.PATIENT, rs.getLong("id"), rs.getString("name"),
+        breed == null || breed.isBlank() ? rs.getString("species") : breed,
+        rs.getLong("owner_id"), rs.getString("owner_name"), rs.getDouble("score"));
+  }
+
+  private SearchHit ownerHit(ResultSet rs, int rowNum) throws SQLException {
+    long id = rs.getLong("id");
+    String name = rs.getString("name");
+    return new SearchHit(Kind.OWNER, id, name, rs.getString("email"), id, name, rs.getDouble("score"));
+  }
+}
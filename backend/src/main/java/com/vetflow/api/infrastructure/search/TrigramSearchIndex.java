@@ -0,0 +1,60 @@
+package com.vetflow.api.infrastructure.search;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * PostgreSQL search backed by the {@code pg_trgm} GIN indexes from V9. Substring matches and near misses on
+ * patient names ({@code %} similarity, so "bela" still finds "Bella") are both answered from the indexes,
+ * and hits are ranked by trigram similarity with a bonus for prefix matches.
+ *
+ * <p>Every predicate is written against exactly the expression its index was built on
+ * ({@code lower(column)}, or the phone digits); any other spelling falls back to a sequential scan.
+ */
+public class TrigramSearchIndex extends LikeSearchIndex {
+
+  private static final String PATIENTS_SQL = """
+      SELECT p.id, p.name, p.species, p.breed, o.id AS owner_id, o.name AS owner_name,
+             LEAST(1.0, GREATEST(similarity(lower(p.name), :term),
+                                 0.8 * similarity(lower(coalesce(p.breed, '')), :term))
+                        + CASE WHEN lower(p.name) LIKE :prefix ESCAPE '\\' THEN 0.3 ELSE 0.0 END) AS score
+      FROM patients p
+      JOIN owners o ON o.id = p.owner_id
+      WHERE p.is_active
+        AND (lower(p.name) LIKE :contains ESCAPE '\\'
+             OR lower(p.name) % :term
+             OR lower(p.breed) LIKE :contains ESCAPE '\\')
+      ORDER BY score DESC, p.name, p.id
+      LIMIT :limit
+      """;
+
+  private static final String OWNERS_SQL = """
+      SELECT o.id, o.name, o.email,
+             LEAST(1.0, GREATEST(similarity(lower(o.name), :term), similarity(lower(o.email), :term))
+                        + CASE WHEN lower(o.name) LIKE :prefix ESCAPE '\\'
+                                 OR lower(o.email) LIKE :prefix ESCAPE '\\' THEN 0.3 ELSE 0.0 END) AS score
+      FROM owners o
+      WHERE lower(o.name) LIKE :contains ESCAPE '\\'
+         OR lower(o.name) % :term
+         OR lower(o.email) LIKE :contains ESCAPE '\\'
+      """;
+
+  public TrigramSearchIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+    super(jdbcTemplate);
+  }
+
+  @Override
+  protected String patientsSql() {
+    return PATIENTS_SQL;
+  }
+
+  @Override
+  protected String ownersSql() {
+    return OWNERS_SQL;
+  }
+
+  /** PostgreSQL replaces only the first match without the {@code g} flag; this must also match the index. */
+  @Override
+  protected String phoneDigitsExpression(String column) {
+    return "regexp_replace(" + column + ", '[^0-9]', '', 'g')";
+  }
+}
@@ -0,0 +1,68 @@
+package com.vetflow.api.infrastructure.sql;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Statements run on behalf of the current request: how many, how long they took in total, and how often each
+ * distinct statement ran, which exposes N+1 loads. Bound to the request thread between {@link #begin()} and
+ * {@link #end()}, so statements on other threads, such as the chart's parallel sections, are not counted.
+ */
+public final class RequestSqlStats {
+
+  private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, Integer> executions = new HashMap<>();
+  private int statements;
+  private long nanos;
+
+  private RequestSqlStats() {
+  }
+
+  /** Starts counting for the current thread and returns the new stats. */
+  public static RequestSqlStats begin() {
+    RequestSqlStats stats = new RequestSqlStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  /** The stats of the request on this thread, or null outside a request. */
+  public static RequestSqlStats current() {
+    return CURRENT.get();
+  }
+
+  public static void end() {
+    CURRENT.remove();
+  }
+
+  public void record(String sql, long elapsedNanos) {
+    statements++;
+    nanos += elapsedNanos;
+    executions.merge(sql, 1, Integer::sum);
+  }
+
+  public int statements() {
+    return statements;
+  }
+
+  public long nanos() {
+    return nanos;
+  }
+
+  /** The statement run most often, or null when none ran. */
+  public Map.Entry<String, Integer> mostRepeated() {
+    Map.Entry<String, Integer> most = null;
+    for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+      if (most == null || entry.getValue() > most.getValue()) {
+        most = entry;
+      }
+    }
+    return most;
+  }
+
+  /** The value of a {@code Server-Timing} header describing these statements. */
+  public String serverTiming() {
+    return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"", nanos / 1e6, statements);
+  }
+}
@@ -0,0 +1,33 @@
+package com.vetflow.api.infrastructure.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps every {@code DataSource} bean in a datasource-proxy that reports each statement to the
+ * {@link SqlStatementListener}, so JPA, JdbcTemplate and plain JDBC are all seen. {@code unwrap} still reaches
+ * the pool and the driver's connection.
+ */
+public class SqlProxyDataSourcePostProcessor implements BeanPostProcessor {
+
+  private final ObjectProvider<SqlStatementListener> listener;
+
+  public SqlProxyDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+      return ProxyDataSourceBuilder.create(beanName, dataSource)
+          .listener(listener.getObject())
+          .build();
+    }
+    return bean;
+  }
+}
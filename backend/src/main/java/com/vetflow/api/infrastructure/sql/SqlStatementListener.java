@@ -0,0 +1,110 @@
+package com.vetflow.api.infrastructure.sql;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Sees every statement through the proxied {@code DataSource}: times it into {@code vetflow.sql.statements} by
+ * statement type, adds it to the current request's {@link RequestSqlStats}, and logs it at WARN when slower
+ * than the threshold, or at DEBUG always. Logged statements have their string literals redacted; bind
+ * parameters are never logged.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+  static final String STATEMENTS_METRIC = "vetflow.sql.statements";
+  static final String SLOW_METRIC = "vetflow.sql.slow";
+
+  private static final String START = SqlStatementListener.class.getName() + ".start";
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final List<String> TYPES = List.of("select", "insert", "update", "delete");
+  private static final String OTHER = "other";
+
+  private final long slowThresholdNanos;
+  private final Map<String, Timer> timers = new HashMap<>();
+  private final Counter slow;
+
+  public SqlStatementListener(Duration slowThreshold, MeterRegistry meterRegistry) {
+    this.slowThresholdNanos = slowThreshold.toNanos();
+    for (String type : TYPES) {
+      timers.put(type, timer(meterRegistry, type));
+    }
+    timers.put(OTHER, timer(meterRegistry, OTHER));
+    this.slow = Counter.builder(SLOW_METRIC)
+        .description("Statements slower than the slow-query threshold")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long start = execInfo.getCustomValue(START, Long.class);
+    long elapsed = start == null ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime()) : System.nanoTime() - start;
+    RequestSqlStats stats = RequestSqlStats.current();
+    // A batch runs several statements in one execution; its time is shared between them.
+    long each = elapsed / Math.max(1, queryInfoList.size());
+    for (QueryInfo queryInfo : queryInfoList) {
+      String sql = queryInfo.getQuery();
+      if (stats != null) {
+        stats.record(sql, each);
+      }
+      timers.get(type(sql)).record(each, TimeUnit.NANOSECONDS);
+    }
+    if (elapsed >= slowThresholdNanos) {
+      slow.increment();
+      log.warn("Slow SQL ({} ms, {} parameter sets{}): {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+          parameterSets(queryInfoList), execInfo.isSuccess() ? "" : ", failed", redact(queryInfoList));
+    } else if (log.isDebugEnabled()) {
+      log.debug("SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsed), redact(queryInfoList));
+    }
+  }
+
+  /** The statement with whitespace collapsed and string literals replaced by {@code '?'}. */
+  public static String redact(String sql) {
+    return STRING_LITERAL.matcher(WHITESPACE.matcher(sql.strip()).replaceAll(" ")).replaceAll("'?'");
+  }
+
+  static String type(String sql) {
+    String start = sql.stripLeading();
+    int end = 0;
+    while (end < start.length() && Character.isLetter(start.charAt(end))) {
+      end++;
+    }
+    String keyword = start.substring(0, end).toLowerCase(Locale.ROOT);
+    return TYPES.contains(keyword) ? keyword : OTHER;
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String type) {
+    return Timer.builder(STATEMENTS_METRIC)
+        .description("Time spent executing SQL statements")
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+
+  private static String redact(List<QueryInfo> queryInfoList) {
+    return queryInfoList.size() == 1 ? redact(queryInfoList.get(0).getQuery())
+        : queryInfoList.stream().map(queryInfo -> redact(queryInfo.getQuery())).toList().toString();
+  }
+
+  private static int parameterSets(List<QueryInfo> queryInfoList) {
+    return queryInfoList.stream().mapToInt(queryInfo -> queryInfo.getParametersList().size()).sum();
+  }
+}
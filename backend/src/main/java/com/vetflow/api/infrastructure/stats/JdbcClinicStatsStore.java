@@ -0,0 +1,141 @@
+package com.vetflow.api.infrastructure.stats;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.DailyStat;
+import com.vetflow.api.domain.model.DailyStat.Metric;
+import com.vetflow.api.domain.port.ClinicStatsStore;
+
+/**
+ * {@link ClinicStatsStore} over the {@code clinic_stats} table. Increments are single-row
+ * {@code UPDATE ... SET stat_count = stat_count + :delta} statements, applied in key order so concurrent
+ * writers lock rows in the same order. A missing row is inserted; if another writer inserts it first, the
+ * primary key rejects the insert with a {@link org.springframework.dao.DataIntegrityViolationException} and the
+ * whole increment rolls back, to be retried by the caller.
+ *
+ * <p>Every node schedules {@link #reconcileFrom}. With {@code vetflow.api.stats.advisory-lock} on, a
+ * transaction-scoped PostgreSQL advisory lock lets only the first node run it and the others skip, instead of
+ * failing on the primary key or holding up increments twice. Leave it off on databases without advisory locks.
+ */
+@Component
+@Transactional
+public class JdbcClinicStatsStore implements ClinicStatsStore {
+
+  private static final Comparator<DailyStat.Key> KEY_ORDER = Comparator.comparing(DailyStat.Key::date)
+      .thenComparing(DailyStat.Key::metric)
+      .thenComparing(DailyStat.Key::key);
+
+  private static final String UPDATE = """
+      UPDATE clinic_stats SET stat_count = stat_count + :delta
+      WHERE stat_date = :date AND metric = :metric AND metric_key = :key
+      """;
+
+  private static final String INSERT = """
+      INSERT INTO clinic_stats (stat_date, metric, metric_key, stat_count)
+      VALUES (:date, :metric, :key, :delta)
+      """;
+
+  private static final String SELECT = """
+      SELECT stat_date, metric, metric_key, stat_count FROM clinic_stats
+      WHERE stat_date BETWEEN :from AND :to
+      """;
+
+  /** Arbitrary key shared by every node for the reconciliation lock. */
+  static final long RECONCILE_LOCK_KEY = 0x7665_7466_6c6f_7702L;
+
+  private static final String DELETE_FROM = "DELETE FROM clinic_stats WHERE stat_date >= :from";
+
+  /** Mirrors the initial fill in V12, restricted to days on or after {@code :from}. */
+  private static final String RECOMPUTE_FROM = """
+      INSERT INTO clinic_stats (stat_date, metric, metric_key, stat_count)
+      SELECT CAST(appointment_date AS DATE), 'total', '', COUNT(*)
+      FROM appointments WHERE appointment_date >= :from
+      GROUP BY CAST(appointment_date AS DATE)
+      UNION ALL
+      SELECT CAST(appointment_date AS DATE), 'status', status, COUNT(*)
+      FROM appointments WHERE appointment_date >= :from
+      GROUP BY CAST(appointment_date AS DATE), status
+      UNION ALL
+      SELECT CAST(appointment_date AS DATE), 'type', type, COUNT(*)
+      FROM appointments WHERE appointment_date >= :from AND status <> 'cancelled'
+      GROUP BY CAST(appointment_date AS DATE), type
+      UNION ALL
+      SELECT CAST(appointment_date AS DATE), 'veterinarian',
+             COALESCE(CAST(veterinarian_id AS VARCHAR), 'unassigned'), COUNT(*)
+      FROM appointments WHERE appointment_date >= :from AND status <> 'cancelled'
+      GROUP BY CAST(appointment_date AS DATE), COALESCE(CAST(veterinarian_id AS VARCHAR), 'unassigned')
+      UNION ALL
+      SELECT CAST(created_at AS DATE), 'new_patients', '', COUNT(*)
+      FROM patients WHERE created_at >= :from
+      GROUP BY CAST(created_at AS DATE)
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final boolean advisoryLock;
+
+  public JdbcClinicStatsStore(NamedParameterJdbcTemplate jdbcTemplate,
+      @Value("${vetflow.api.stats.advisory-lock:false}") boolean advisoryLock) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.advisoryLock = advisoryLock;
+  }
+
+  /**
+   * Runs in its own transaction: callers apply deltas after the command that caused them has committed, when
+   * the surrounding transaction can no longer write.
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void increment(Map<DailyStat.Key, Long> deltas) {
+    deltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+        .forEach(entry -> increment(entry.getKey(), entry.getValue()));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<DailyStat> findBetween(LocalDate from, LocalDate to) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("from", Date.valueOf(from))
+        .addValue("to", Date.valueOf(to));
+    return jdbcTemplate.query(SELECT, params, (rs, rowNum) -> new DailyStat(rs.getDate("stat_date").toLocalDate(),
+        Metric.fromDbValue(rs.getString("metric")), rs.getString("metric_key"), rs.getLong("stat_count")));
+  }
+
+  @Override
+  public OptionalInt reconcileFrom(LocalDate from) {
+    if (advisoryLock) {
+      Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(:key)",
+          Map.of("key", RECONCILE_LOCK_KEY), Boolean.class);
+      if (!Boolean.TRUE.equals(locked)) {
+        return OptionalInt.empty();
+      }
+    }
+    MapSqlParameterSource params = new MapSqlParameterSource("from", Date.valueOf(from));
+    jdbcTemplate.update(DELETE_FROM, params);
+    return OptionalInt.of(jdbcTemplate.update(RECOMPUTE_FROM, params));
+  }
+
+  private void increment(DailyStat.Key key, long delta) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("date", Date.valueOf(key.date()))
+        .addValue("metric", key.metric().dbValue())
+        .addValue("key", key.key())
+        .addValue("delta", delta);
+    if (jdbcTemplate.update(UPDATE, params) == 0) {
+      jdbcTemplate.update(INSERT, params);
+    }
+  }
+}
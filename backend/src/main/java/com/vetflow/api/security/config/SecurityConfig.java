@@ -5,11 +5,17 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authorization.AuthorizationEventPublisher;
+import org.springframework.security.authorization.SpringAuthorizationEventPublisher;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -19,6 +25,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -27,8 +34,12 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vetflow.api.security.jwt.JwtAuthenticationFilter;
 import com.vetflow.api.security.jwt.JwtTokenService;
+import com.vetflow.api.security.web.AuthFailureMetrics;
 import com.vetflow.api.security.web.RestAccessDeniedHandler;
 import com.vetflow.api.security.web.RestAuthenticationEntryPoint;
+import com.vetflow.api.web.v1.idempotency.IdempotencyFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableMethodSecurity
@@ -42,7 +53,8 @@ public class SecurityConfig {
       JwtAuthenticationFilter jwtAuthenticationFilter,
       RestAuthenticationEntryPoint authenticationEntryPoint,
       RestAccessDeniedHandler accessDeniedHandler,
-      SecurityProperties securityProperties)
+      SecurityProperties securityProperties,
+      IdempotencyFilter idempotencyFilter)
       throws Exception {
     boolean csrfDisabled = securityProperties.isDisableCsrf();
 
@@ -61,6 +73,10 @@ public class SecurityConfig {
         .authorizeHttpRequests(authorize -> authorize
             .requestMatchers("/api/v1/auth/token").permitAll()
             .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
+            // Scraped without a token; the prod profile serves actuator on management.server.port, off the
+            // public one
+            .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .anyRequest().authenticated())
         .exceptionHandling(exceptions -> exceptions
             .authenticationEntryPoint(authenticationEntryPoint)
@@ -80,6 +96,7 @@ public class SecurityConfig {
                 .maxAgeInSeconds(31536000)));
 
     http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+    http.addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
     return http.build();
   }
 
@@ -104,6 +121,28 @@ public class SecurityConfig {
     return new RestAccessDeniedHandler(objectMapper);
   }
 
+  /**
+   * Publishes login outcomes as events, which {@link AuthFailureMetrics} counts. Failures without a dedicated
+   * event, such as a user lookup error, are published as bad credentials so none go uncounted.
+   */
+  @Bean
+  public AuthenticationEventPublisher authenticationEventPublisher(ApplicationEventPublisher publisher) {
+    DefaultAuthenticationEventPublisher eventPublisher = new DefaultAuthenticationEventPublisher(publisher);
+    eventPublisher.setDefaultAuthenticationFailureEvent(AuthenticationFailureBadCredentialsEvent.class);
+    return eventPublisher;
+  }
+
+  /** Publishes denied requests as events, which {@link AuthFailureMetrics} counts. */
+  @Bean
+  public AuthorizationEventPublisher authorizationEventPublisher(ApplicationEventPublisher publisher) {
+    return new SpringAuthorizationEventPublisher(publisher);
+  }
+
+  @Bean
+  public AuthFailureMetrics authFailureMetrics(MeterRegistry meterRegistry) {
+    return new AuthFailureMetrics(meterRegistry);
+  }
+
   @Bean
   public DaoAuthenticationProvider authenticationProvider(
       UserDetailsService userDetailsService,
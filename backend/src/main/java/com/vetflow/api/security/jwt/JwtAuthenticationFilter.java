@@ -46,6 +46,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  /**
+   * The security chain authorises the dispatch that ends an asynchronous request too: the streamed CSV reports
+   * and the appointment event streams both end on one. A stateless API keeps no context between dispatches, so
+   * without the token that dispatch would be denied.
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
   private String resolveToken(HttpServletRequest request) {
     String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
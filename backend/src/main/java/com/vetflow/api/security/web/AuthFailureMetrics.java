@@ -0,0 +1,54 @@
+package com.vetflow.api.security.web;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authorization.event.AuthorizationDeniedEvent;
+import org.springframework.security.core.Authentication;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts authentication and authorisation failures from Spring Security's events as {@code vetflow.auth.failures}:
+ * {@code login} for rejected credentials at the token endpoint, {@code unauthenticated} for requests denied for
+ * lack of a valid token (answered 401), {@code forbidden} for authenticated requests denied by role (403).
+ */
+public class AuthFailureMetrics {
+
+  static final String METRIC = "vetflow.auth.failures";
+
+  private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+  private final Counter login;
+  private final Counter unauthenticated;
+  private final Counter forbidden;
+
+  public AuthFailureMetrics(MeterRegistry meterRegistry) {
+    this.login = counter(meterRegistry, "login");
+    this.unauthenticated = counter(meterRegistry, "unauthenticated");
+    this.forbidden = counter(meterRegistry, "forbidden");
+  }
+
+  @EventListener
+  public void onAuthenticationFailure(AbstractAuthenticationFailureEvent event) {
+    login.increment();
+  }
+
+  @EventListener
+  public void onAuthorizationDenied(AuthorizationDeniedEvent<?> event) {
+    Authentication authentication = event.getAuthentication().get();
+    if (authentication == null || trustResolver.isAnonymous(authentication)) {
+      unauthenticated.increment();
+    } else {
+      forbidden.increment();
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder(METRIC)
+        .description("Requests rejected by authentication or authorisation")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
@@ -3,6 +3,8 @@ package com.vetflow.api.web.v1;
 import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -11,8 +13,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.vetflow.api.config.OpenApiConfig;
 
@@ -24,6 +28,7 @@ import com.vetflow.api.application.appointment.ScheduleAppointmentCommand;
 import com.vetflow.api.domain.model.Appointment.Priority;
 import com.vetflow.api.domain.model.Appointment.Type;
 import com.vetflow.api.web.v1.appointment.AppointmentResponse;
+import com.vetflow.api.web.v1.appointment.AppointmentStreamPublisher;
 import com.vetflow.api.web.v1.appointment.CancelAppointmentRequest;
 import com.vetflow.api.web.v1.appointment.RescheduleAppointmentRequest;
 import com.vetflow.api.web.v1.appointment.ScheduleAppointmentRequest;
@@ -45,7 +50,10 @@ import lombok.RequiredArgsConstructor;
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
 public class AppointmentController {
 
+  private static final String APPOINTMENT_ETAG = "appointment";
+
   private final AppointmentApplicationService appointmentApplicationService;
+  private final AppointmentStreamPublisher appointmentStreamPublisher;
 
   @GetMapping("/appointments")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
@@ -56,6 +64,16 @@ public class AppointmentController {
         .toList();
   }
 
+  @GetMapping(path = "/appointments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Stream appointment changes",
+      description = "Server-Sent Events stream of scheduled, rescheduled and cancelled appointments. "
+          + "Reconnect with Last-Event-ID to resume; a 'reset' event means the list must be refetched.")
+  public SseEmitter streamAppointments(
+      @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+    return appointmentStreamPublisher.subscribe(lastEventId);
+  }
+
   @PostMapping("/appointments")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
   @Operation(summary = "Schedule appointment", description = "Creates a new appointment for a patient.")
@@ -74,22 +92,29 @@ public class AppointmentController {
 
   @PatchMapping("/appointments/{appointmentId}/reschedule")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "Reschedule appointment", description = "Moves an existing appointment to a new date/time.")
-  public AppointmentResponse rescheduleAppointment(@PathVariable Long appointmentId,
+  @Operation(summary = "Reschedule appointment",
+      description = "Moves an existing appointment to a new date/time. If-Match: \"appointment-{id}-{version}\" "
+          + "rejects the change with 412 if the appointment was modified since that version.")
+  public ResponseEntity<AppointmentResponse> rescheduleAppointment(@PathVariable Long appointmentId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody RescheduleAppointmentRequest request) {
-    AppointmentResult result = appointmentApplicationService
-        .rescheduleAppointment(new RescheduleAppointmentCommand(appointmentId, request.newDate()));
-    return toResponse(result);
+    AppointmentResult result = appointmentApplicationService.rescheduleAppointment(
+        new RescheduleAppointmentCommand(appointmentId, request.newDate(),
+            ConditionalRequests.expectedVersion(ifMatch, APPOINTMENT_ETAG, appointmentId)));
+    return toVersionedResponse(result);
   }
 
   @PatchMapping("/appointments/{appointmentId}/cancel")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "Cancel appointment", description = "Cancels an appointment and captures the reason.")
-  public AppointmentResponse cancelAppointment(@PathVariable Long appointmentId,
+  @Operation(summary = "Cancel appointment",
+      description = "Cancels an appointment and captures the reason. Honours If-Match like rescheduling.")
+  public ResponseEntity<AppointmentResponse> cancelAppointment(@PathVariable Long appointmentId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody CancelAppointmentRequest request) {
-    AppointmentResult result = appointmentApplicationService
-        .cancelAppointment(new CancelAppointmentCommand(appointmentId, request.reason()));
-    return toResponse(result);
+    AppointmentResult result = appointmentApplicationService.cancelAppointment(
+        new CancelAppointmentCommand(appointmentId, request.reason(),
+            ConditionalRequests.expectedVersion(ifMatch, APPOINTMENT_ETAG, appointmentId)));
+    return toVersionedResponse(result);
   }
 
   @GetMapping("/patients/{patientId}/appointments")
@@ -109,15 +134,11 @@ public class AppointmentController {
     return priority == null ? null : Priority.valueOf(priority.name());
   }
 
+  private static ResponseEntity<AppointmentResponse> toVersionedResponse(AppointmentResult result) {
+    return ConditionalRequests.ok(APPOINTMENT_ETAG, result.id(), result.version(), null, toResponse(result));
+  }
+
   private static AppointmentResponse toResponse(AppointmentResult result) {
-    return new AppointmentResponse(result.id(),
-        result.patientId(),
-        result.veterinarianId(),
-        result.appointmentDate(),
-        result.type().name(),
-        result.status().name(),
-        result.priority().name(),
-        result.notes(),
-        result.createdAt());
+    return AppointmentResponse.from(result);
   }
 }
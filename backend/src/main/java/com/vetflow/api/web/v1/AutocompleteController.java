@@ -0,0 +1,38 @@
+package com.vetflow.api.web.v1;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.typeahead.TypeaheadService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.search.AutocompleteResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for keystroke-rate owner and patient suggestions. */
+@RestController
+@RequestMapping("/api/v1/autocomplete")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Patient and owner lookup")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class AutocompleteController {
+
+  private final TypeaheadService typeaheadService;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Autocomplete owners and patients",
+      description = "Owners whose name, email or phone and active patients whose name start with every word of q. "
+          + "Served from memory on each node; changes made on another node can take up to the rebuild interval "
+          + "to appear.")
+  public AutocompleteResponse autocomplete(@RequestParam(required = false) String q,
+      @RequestParam(required = false) Integer limit) {
+    return AutocompleteResponse.from(typeaheadService.suggest(q, limit));
+  }
+}
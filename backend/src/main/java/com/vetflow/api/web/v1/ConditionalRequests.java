@@ -0,0 +1,104 @@
+package com.vetflow.api.web.v1;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.vetflow.api.application.shared.VersionConflictException;
+import com.vetflow.api.domain.model.CollectionStamp;
+import com.vetflow.api.domain.model.VersionStamp;
+
+/**
+ * Strong validators for conditional requests. Controllers check a cheap probe (a single row's version, or a
+ * collection's count and newest {@code updated_at}) before loading anything, and answer 304 when the client's
+ * copy is current. On writes, the version in an If-Match tag is handed to the command so a stale edit is
+ * rejected instead of overwriting someone else's.
+ */
+final class ConditionalRequests {
+
+  private ConditionalRequests() {
+  }
+
+  /** Checks If-None-Match / If-Modified-Since for a single resource; on a match the response is already 304. */
+  static boolean notModified(WebRequest request, String resource, Long id, VersionStamp stamp) {
+    String etag = etag(resource, id, stamp.version());
+    if (stamp.updatedAt() == null) {
+      return request.checkNotModified(etag);
+    }
+    return request.checkNotModified(etag, epochMillis(stamp.updatedAt()));
+  }
+
+  /**
+   * Checks If-None-Match for a collection. Lists carry no Last-Modified: a hard delete does not move the
+   * newest timestamp, so only the count in the ETag notices it.
+   */
+  static boolean notModified(WebRequest request, String collection, CollectionStamp stamp) {
+    return request.checkNotModified(etag(collection, stamp));
+  }
+
+  /**
+   * Version the client expects the resource to be at, taken from an If-Match header carrying one of our
+   * ETags. {@code null} when there is no precondition ({@code *} or no header).
+   *
+   * @throws VersionConflictException if the header names no current version of this resource, including weak
+   *         tags, which never match under If-Match
+   */
+  static Long expectedVersion(String ifMatch, String resource, Long id) {
+    if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    String prefix = "\"" + resource + "-" + id + "-";
+    for (String tag : ifMatch.split(",")) {
+      String candidate = tag.trim();
+      if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+        try {
+          return Long.parseLong(candidate.substring(prefix.length(), candidate.length() - 1));
+        } catch (NumberFormatException ignored) {
+          // not one of ours; keep looking
+        }
+      }
+    }
+    throw new VersionConflictException("If-Match does not name a version of %s %d".formatted(resource, id));
+  }
+
+  static <T> ResponseEntity<T> ok(String resource, Long id, Long version, LocalDateTime updatedAt, T body) {
+    if (version == null) {
+      return ResponseEntity.ok(body);
+    }
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag(resource, id, version));
+    if (updatedAt != null) {
+      builder.lastModified(epochMillis(updatedAt));
+    }
+    return builder.body(body);
+  }
+
+  static <T> ResponseEntity<T> ok(String collection, CollectionStamp stamp, T body) {
+    return ResponseEntity.ok()
+        .eTag(etag(collection, stamp))
+        .body(body);
+  }
+
+  static String etag(String resource, Long id, Long version) {
+    return "\"" + resource + "-" + id + "-" + version + "\"";
+  }
+
+  static String etag(String collection, CollectionStamp stamp) {
+    return "\"" + collection + "-" + stamp.count() + "-" + version(stamp.lastUpdatedAt()) + "\"";
+  }
+
+  /** Nanosecond resolution, so two writes within the same millisecond still produce different tags. */
+  private static String version(LocalDateTime updatedAt) {
+    if (updatedAt == null) {
+      return "0";
+    }
+    return Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)) + "." + Integer.toHexString(updatedAt.getNano());
+  }
+
+  /** Timestamps are written in the JVM's zone (see the entities' {@code @PreUpdate}). */
+  private static long epochMillis(LocalDateTime updatedAt) {
+    return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -73,14 +73,6 @@ public class MedicalRecordController {
   }
 
   private static MedicalRecordResponse toResponse(MedicalRecordResult result) {
-    return new MedicalRecordResponse(result.id(),
-        result.patientId(),
-        result.veterinarianId(),
-        result.visitDate(),
-        result.diagnosis(),
-        result.treatment(),
-        result.medications(),
-        result.notes(),
-        result.createdAt());
+    return MedicalRecordResponse.from(result);
   }
 }
@@ -0,0 +1,47 @@
+package com.vetflow.api.web.v1;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.search.MedicalRecordSearchService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.medicalrecord.MedicalRecordSearchResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for searching the text of medical records. */
+@RestController
+@RequestMapping("/api/v1/medical-records")
+@RequiredArgsConstructor
+@Tag(name = "Medical Records", description = "Capture and review clinical history")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class MedicalRecordSearchController {
+
+  private final MedicalRecordSearchService medicalRecordSearchService;
+
+  @GetMapping("/search")
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Search medical records",
+      description = "Matches diagnosis, medications, treatment and notes, best match first. All words must match; "
+          + "use \"quotes\" for a phrase, a trailing * for a prefix (amox*) and a leading - to exclude a word. "
+          + "from and to are inclusive visit dates. Pass nextCursor as cursor with the same q and filters to "
+          + "fetch the following page.")
+  public MedicalRecordSearchResponse search(@RequestParam(required = false) String q,
+      @RequestParam(required = false) Long veterinarianId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    return MedicalRecordSearchResponse.from(
+        medicalRecordSearchService.search(q, veterinarianId, from, to, cursor, limit));
+  }
+}
@@ -2,7 +2,9 @@ package com.vetflow.api.web.v1;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -11,8 +13,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.vetflow.api.config.OpenApiConfig;
 
@@ -20,6 +24,8 @@ import com.vetflow.api.application.owner.CreateOwnerCommand;
 import com.vetflow.api.application.owner.OwnerApplicationService;
 import com.vetflow.api.application.owner.OwnerResult;
 import com.vetflow.api.application.owner.UpdateOwnerCommand;
+import com.vetflow.api.domain.model.CollectionStamp;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.web.v1.owner.CreateOwnerRequest;
 import com.vetflow.api.web.v1.owner.OwnerResponse;
 import com.vetflow.api.web.v1.owner.UpdateOwnerRequest;
@@ -39,15 +45,25 @@ import lombok.RequiredArgsConstructor;
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
 public class OwnerController {
 
+  private static final String OWNER_ETAG = "owner";
+  private static final String OWNERS_ETAG = "owners";
+
   private final OwnerApplicationService ownerApplicationService;
 
   @GetMapping
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "List all owners", description = "Fetches all registered pet owners.")
-  public List<OwnerResponse> listAllOwners() {
-    return ownerApplicationService.listAll().stream()
+  @Operation(summary = "List all owners",
+      description = "Fetches all registered pet owners. Supports If-None-Match for cheap polling.")
+  public ResponseEntity<List<OwnerResponse>> listAllOwners(WebRequest webRequest) {
+    Optional<CollectionStamp> stamp = ownerApplicationService.listStamp();
+    if (stamp.isPresent() && ConditionalRequests.notModified(webRequest, OWNERS_ETAG, stamp.get())) {
+      return null;
+    }
+    List<OwnerResponse> owners = ownerApplicationService.listAll().stream()
         .map(OwnerController::toResponse)
         .toList();
+    return stamp.map(value -> ConditionalRequests.ok(OWNERS_ETAG, value, owners))
+        .orElseGet(() -> ResponseEntity.ok(owners));
   }
 
   @PostMapping
@@ -61,27 +77,35 @@ public class OwnerController {
 
   @GetMapping("/{ownerId}")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "Get owner", description = "Fetches owner details by identifier.")
-  public OwnerResponse getOwner(@PathVariable Long ownerId) {
-    return toResponse(ownerApplicationService.getById(ownerId));
+  @Operation(summary = "Get owner",
+      description = "Fetches owner details by identifier. Supports If-None-Match and If-Modified-Since.")
+  public ResponseEntity<OwnerResponse> getOwner(@PathVariable Long ownerId, WebRequest webRequest) {
+    Optional<VersionStamp> current = ownerApplicationService.currentVersion(ownerId);
+    if (current.isPresent() && ConditionalRequests.notModified(webRequest, OWNER_ETAG, ownerId, current.get())) {
+      return null;
+    }
+    return toVersionedResponse(ownerApplicationService.getById(ownerId));
   }
 
   @PutMapping("/{ownerId}")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT')")
-  @Operation(summary = "Update owner", description = "Updates phone, email or address for an owner.")
-  public OwnerResponse updateOwner(@PathVariable Long ownerId, @Valid @RequestBody UpdateOwnerRequest request) {
-    OwnerResult result = ownerApplicationService
-        .updateOwner(new UpdateOwnerCommand(ownerId, request.phone(), request.email(), request.address()));
-    return toResponse(result);
+  @Operation(summary = "Update owner",
+      description = "Updates phone, email or address for an owner. Send the owner's ETag in If-Match to reject "
+          + "the update with 412 if someone else changed the owner first.")
+  public ResponseEntity<OwnerResponse> updateOwner(@PathVariable Long ownerId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody UpdateOwnerRequest request) {
+    Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, OWNER_ETAG, ownerId);
+    OwnerResult result = ownerApplicationService.updateOwner(
+        new UpdateOwnerCommand(ownerId, request.phone(), request.email(), request.address(), expectedVersion));
+    return toVersionedResponse(result);
+  }
+
+  private static ResponseEntity<OwnerResponse> toVersionedResponse(OwnerResult result) {
+    return ConditionalRequests.ok(OWNER_ETAG, result.id(), result.version(), result.updatedAt(), toResponse(result));
   }
 
   private static OwnerResponse toResponse(OwnerResult result) {
-    return new OwnerResponse(result.id(),
-        result.name(),
-        result.phone(),
-        result.email(),
-        result.address(),
-        result.createdAt(),
-        result.updatedAt());
+    return OwnerResponse.from(result);
   }
 }
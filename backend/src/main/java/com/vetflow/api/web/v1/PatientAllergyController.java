@@ -0,0 +1,66 @@
+package com.vetflow.api.web.v1;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.medication.PatientAllergyService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.web.v1.patient.AddAllergyRequest;
+import com.vetflow.api.web.v1.patient.AllergyResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoints for a patient's recorded allergies. */
+@RestController
+@RequestMapping("/api/v1/patients/{patientId}/allergies")
+@RequiredArgsConstructor
+@Tag(name = "Patients", description = "Patient onboarding and profile updates")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class PatientAllergyController {
+
+  private final PatientAllergyService patientAllergyService;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "List patient allergies", description = "Returns the allergies recorded for a patient.")
+  public List<AllergyResponse> listAllergies(@PathVariable Long patientId) {
+    return patientAllergyService.listByPatient(patientId).stream()
+        .map(AllergyResponse::from)
+        .toList();
+  }
+
+  @PostMapping
+  @PreAuthorize("hasAnyRole('ADMIN','VETERINARIAN')")
+  @Operation(summary = "Record patient allergy",
+      description = "Records an allergy. Naming a catalogue drug or drug class (for example \"penicillin\") makes "
+          + "new medical records warn about every drug in that class.")
+  public ResponseEntity<AllergyResponse> addAllergy(@PathVariable Long patientId,
+      @Valid @RequestBody AddAllergyRequest request) {
+    PatientAllergy saved = patientAllergyService.addAllergy(patientId, request.allergen());
+    return ResponseEntity.created(URI.create("/api/v1/patients/%d/allergies/%d".formatted(patientId, saved.id())))
+        .body(AllergyResponse.from(saved));
+  }
+
+  @DeleteMapping("/{allergyId}")
+  @PreAuthorize("hasAnyRole('ADMIN','VETERINARIAN')")
+  @Operation(summary = "Remove patient allergy", description = "Deletes an allergy recorded in error.")
+  public ResponseEntity<Void> removeAllergy(@PathVariable Long patientId, @PathVariable Long allergyId) {
+    patientAllergyService.removeAllergy(patientId, allergyId);
+    return ResponseEntity.noContent().build();
+  }
+}
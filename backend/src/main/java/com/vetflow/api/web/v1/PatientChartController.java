@@ -0,0 +1,37 @@
+package com.vetflow.api.web.v1;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.chart.PatientChartService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.patient.PatientChartResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint returning everything needed to open a patient in one round trip. */
+@RestController
+@RequestMapping("/api/v1/patients")
+@RequiredArgsConstructor
+@Tag(name = "Patients", description = "Patient onboarding and profile updates")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class PatientChartController {
+
+  private final PatientChartService patientChartService;
+
+  @GetMapping("/{patientId}/chart")
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Get patient chart",
+      description = "Returns the patient with its owner, upcoming and past appointments, recent medical records "
+          + "and the veterinarians they reference. Sections that could not be loaded in time are listed in "
+          + "unavailableSections and returned empty.")
+  public PatientChartResponse getChart(@PathVariable Long patientId) {
+    return PatientChartResponse.from(patientChartService.chart(patientId));
+  }
+}
@@ -2,7 +2,9 @@ package com.vetflow.api.web.v1;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -12,9 +14,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.vetflow.api.config.OpenApiConfig;
 
@@ -24,6 +28,8 @@ import com.vetflow.api.application.patient.PatientApplicationService;
 import com.vetflow.api.application.patient.PatientResult;
 import com.vetflow.api.application.patient.RegisterPatientCommand;
 import com.vetflow.api.application.patient.UpdatePatientCommand;
+import com.vetflow.api.domain.model.CollectionStamp;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.web.v1.patient.PatientResponse;
 import com.vetflow.api.web.v1.patient.RegisterPatientRequest;
 import com.vetflow.api.web.v1.patient.UpdatePatientRequest;
@@ -44,23 +50,39 @@ import lombok.RequiredArgsConstructor;
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
 public class PatientController {
 
+  private static final String PATIENT_ETAG = "patient";
+  private static final String PATIENTS_ETAG = "patients";
+
   private final PatientApplicationService patientApplicationService;
 
   @GetMapping("/patients")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "List all patients", description = "Fetches all registered patients. By default, only active patients are returned.")
-  public List<PatientResponse> listAllPatients(
-      @RequestParam(name = "includeInactive", defaultValue = "false") boolean includeInactive) {
-    return patientApplicationService.listAll(includeInactive).stream()
+  @Operation(summary = "List all patients", description = "Fetches all registered patients. By default, only active patients are returned. Supports If-None-Match for cheap polling.")
+  public ResponseEntity<List<PatientResponse>> listAllPatients(
+      @RequestParam(name = "includeInactive", defaultValue = "false") boolean includeInactive,
+      WebRequest webRequest) {
+    Optional<CollectionStamp> stamp = patientApplicationService.listStamp(includeInactive);
+    if (stamp.isPresent() && ConditionalRequests.notModified(webRequest, PATIENTS_ETAG, stamp.get())) {
+      return null;
+    }
+    List<PatientResponse> patients = patientApplicationService.listAll(includeInactive).stream()
         .map(PatientController::toResponse)
         .toList();
+    return stamp.map(value -> ConditionalRequests.ok(PATIENTS_ETAG, value, patients))
+        .orElseGet(() -> ResponseEntity.ok(patients));
   }
 
   @GetMapping("/patients/{patientId}")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "Get patient by ID", description = "Fetches a single patient by ID.")
-  public PatientResponse getPatientById(@PathVariable Long patientId) {
-    return toResponse(patientApplicationService.findById(patientId));
+  @Operation(summary = "Get patient by ID",
+      description = "Fetches a single patient by ID. Supports If-None-Match and If-Modified-Since.")
+  public ResponseEntity<PatientResponse> getPatientById(@PathVariable Long patientId, WebRequest webRequest) {
+    Optional<VersionStamp> current = patientApplicationService.currentVersion(patientId);
+    if (current.isPresent()
+        && ConditionalRequests.notModified(webRequest, PATIENT_ETAG, patientId, current.get())) {
+      return null;
+    }
+    return toVersionedResponse(patientApplicationService.findById(patientId));
   }
 
   @PostMapping("/patients")
@@ -79,8 +101,11 @@ public class PatientController {
 
   @PutMapping("/patients/{patientId}")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "Update patient", description = "Updates a patient's core information.")
-  public PatientResponse updatePatient(@PathVariable Long patientId,
+  @Operation(summary = "Update patient",
+      description = "Updates a patient's core information. Send the patient's ETag in If-Match to reject the "
+          + "update with 412 if someone else changed the patient first.")
+  public ResponseEntity<PatientResponse> updatePatient(@PathVariable Long patientId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody UpdatePatientRequest request) {
     PatientResult result = patientApplicationService.updatePatient(
         new UpdatePatientCommand(patientId,
@@ -89,45 +114,52 @@ public class PatientController {
             request.breed(),
             request.birthDate(),
             request.weight(),
-            request.ownerId()));
-    return toResponse(result);
+            request.ownerId(),
+            ConditionalRequests.expectedVersion(ifMatch, PATIENT_ETAG, patientId)));
+    return toVersionedResponse(result);
   }
 
   @GetMapping("/owners/{ownerId}/patients")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
-  @Operation(summary = "List patients by owner", description = "Returns every patient belonging to the given owner. By default, only active patients are returned.")
-  public List<PatientResponse> listByOwner(
+  @Operation(summary = "List patients by owner", description = "Returns every patient belonging to the given owner. By default, only active patients are returned. Supports If-None-Match for cheap polling.")
+  public ResponseEntity<List<PatientResponse>> listByOwner(
       @PathVariable Long ownerId,
-      @RequestParam(name = "includeInactive", defaultValue = "false") boolean includeInactive) {
-    return patientApplicationService.listByOwner(ownerId, includeInactive).stream()
+      @RequestParam(name = "includeInactive", defaultValue = "false") boolean includeInactive,
+      WebRequest webRequest) {
+    Optional<CollectionStamp> stamp = patientApplicationService.listByOwnerStamp(ownerId, includeInactive);
+    if (stamp.isPresent() && ConditionalRequests.notModified(webRequest, PATIENTS_ETAG, stamp.get())) {
+      return null;
+    }
+    List<PatientResponse> patients = patientApplicationService.listByOwner(ownerId, includeInactive).stream()
         .map(PatientController::toResponse)
         .toList();
+    return stamp.map(value -> ConditionalRequests.ok(PATIENTS_ETAG, value, patients))
+        .orElseGet(() -> ResponseEntity.ok(patients));
   }
 
   @PatchMapping("/patients/{patientId}")
   @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT')")
-  @Operation(summary = "Update patient status", description = "Activates or deactivates a patient (soft delete).")
-  public PatientResponse updatePatientStatus(@PathVariable Long patientId,
+  @Operation(summary = "Update patient status",
+      description = "Activates or deactivates a patient (soft delete). Honours If-Match like the full update.")
+  public ResponseEntity<PatientResponse> updatePatientStatus(@PathVariable Long patientId,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody UpdatePatientStatusRequest request) {
+    Long expectedVersion = ConditionalRequests.expectedVersion(ifMatch, PATIENT_ETAG, patientId);
     PatientResult result;
     if (request.isActive()) {
-      result = patientApplicationService.activatePatient(new ActivatePatientCommand(patientId));
+      result = patientApplicationService.activatePatient(new ActivatePatientCommand(patientId, expectedVersion));
     } else {
-      result = patientApplicationService.deactivatePatient(new DeactivatePatientCommand(patientId));
+      result = patientApplicationService.deactivatePatient(new DeactivatePatientCommand(patientId, expectedVersion));
     }
-    return toResponse(result);
+    return toVersionedResponse(result);
+  }
+
+  private static ResponseEntity<PatientResponse> toVersionedResponse(PatientResult result) {
+    return ConditionalRequests.ok(PATIENT_ETAG, result.id(), result.version(), result.updatedAt(),
+        toResponse(result));
   }
 
   private static PatientResponse toResponse(PatientResult result) {
-    return new PatientResponse(result.id(),
-        result.name(),
-        result.species(),
-        result.breed(),
-        result.birthDate(),
-        result.weight(),
-        result.isActive(),
-        result.ownerId(),
-        result.createdAt(),
-        result.updatedAt());
+    return PatientResponse.from(result);
   }
 }
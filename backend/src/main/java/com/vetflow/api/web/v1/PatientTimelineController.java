@@ -0,0 +1,39 @@
+package com.vetflow.api.web.v1;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.timeline.PatientTimelineService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.patient.TimelineResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for a patient's combined history. */
+@RestController
+@RequestMapping("/api/v1/patients")
+@RequiredArgsConstructor
+@Tag(name = "Patients", description = "Patient onboarding and profile updates")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class PatientTimelineController {
+
+  private final PatientTimelineService patientTimelineService;
+
+  @GetMapping("/{patientId}/timeline")
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Get patient timeline",
+      description = "Appointments, medical records and profile changes of a patient in one list, newest first. "
+          + "Pass nextCursor as cursor to fetch the following page; it is absent on the last page.")
+  public TimelineResponse getTimeline(@PathVariable Long patientId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    return TimelineResponse.from(patientTimelineService.timeline(patientId, cursor, limit));
+  }
+}
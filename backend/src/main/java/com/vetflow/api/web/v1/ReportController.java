@@ -0,0 +1,93 @@
+package com.vetflow.api.web.v1;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Locale;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.vetflow.api.application.report.AppointmentReportService;
+import com.vetflow.api.application.report.ReportPeriod;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.web.v1.bulkhead.Bulkhead;
+import com.vetflow.api.web.v1.report.CsvWriter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoints downloading the monthly management reports as CSV. */
+@RestController
+@Bulkhead(Workload.REPORTING)
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Monthly management reports")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class ReportController {
+
+  static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+  private final AppointmentReportService reportService;
+
+  @GetMapping("/vet-utilisation")
+  @PreAuthorize("hasAnyRole('ADMIN','VETERINARIAN')")
+  @Operation(summary = "Veterinarian utilisation report (CSV)",
+      description = "Per veterinarian and month: appointments booked, the hours they take and the hours available. "
+          + "from and to are inclusive months (yyyy-MM); to defaults to this month and from to to. Figures trail "
+          + "live bookings by up to the report refresh interval.")
+  public ResponseEntity<StreamingResponseBody> vetUtilisation(
+      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+    ReportPeriod period = reportService.period(from, to);
+    return csv("vet-utilisation", period, out -> {
+      try (CsvWriter csv = new CsvWriter(out)) {
+        csv.row("month", "veterinarian_id", "veterinarian", "booked_appointments", "booked_hours",
+            "available_hours", "utilisation", "completed", "no_shows", "cancelled");
+        reportService.vetUtilisation(period, row -> csv.row(row.month(), row.veterinarianId(),
+            row.veterinarianName(), row.bookedAppointments(), row.bookedHours(), row.availableHours(),
+            row.utilisation(), row.completed(), row.noShows(), row.cancelled()));
+      }
+    });
+  }
+
+  @GetMapping("/no-shows")
+  @PreAuthorize("hasAnyRole('ADMIN','VETERINARIAN')")
+  @Operation(summary = "No-show and cancellation rates report (CSV)",
+      description = "Per month and appointment type: outcomes, the no-show rate over completed and no-show "
+          + "appointments, and the cancellation rate. from and to as for the utilisation report.")
+  public ResponseEntity<StreamingResponseBody> noShows(
+      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+      @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+    ReportPeriod period = reportService.period(from, to);
+    return csv("no-shows", period, out -> {
+      try (CsvWriter csv = new CsvWriter(out)) {
+        csv.row("month", "type", "appointments", "completed", "no_shows", "cancelled", "no_show_rate",
+            "cancellation_rate");
+        reportService.noShowRates(period, row -> csv.row(row.month(), row.type().name().toLowerCase(Locale.ROOT),
+            row.appointments(), row.completed(), row.noShows(), row.cancelled(), row.noShowRate(),
+            row.cancellationRate()));
+      }
+    });
+  }
+
+  private static ResponseEntity<StreamingResponseBody> csv(String name, ReportPeriod period,
+      StreamingResponseBody body) {
+    String filename = "%s-%s-%s.csv".formatted(name, period.from(), period.to());
+    return ResponseEntity.ok()
+        .contentType(TEXT_CSV)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+}
@@ -0,0 +1,37 @@
+package com.vetflow.api.web.v1;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.search.SearchService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.search.SearchResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for finding patients and owners from a single search box. */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Patient and owner lookup")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class SearchController {
+
+  private final SearchService searchService;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Search patients and owners",
+      description = "Matches active patients by name or breed and owners by name, email or phone digits, "
+          + "best match first. q needs at least three characters.")
+  public SearchResponse search(@RequestParam(required = false) String q,
+      @RequestParam(required = false) Integer limit) {
+    return SearchResponse.from(searchService.search(q, limit));
+  }
+}
@@ -0,0 +1,42 @@
+package com.vetflow.api.web.v1;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.stats.ClinicStatsService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.stats.StatsResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for the clinic dashboard statistics. */
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+@Tag(name = "Statistics", description = "Clinic dashboard figures")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class StatsController {
+
+  private final ClinicStatsService clinicStatsService;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Clinic dashboard statistics",
+      description = "Appointments booked for the day by status, type and veterinarian, the day's no-show rate and "
+          + "patients registered since Monday. date defaults to today. Read from counters maintained as "
+          + "appointments and patients change; changes made outside the API appear after the hourly "
+          + "reconciliation.")
+  public StatsResponse stats(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    return StatsResponse.from(clinicStatsService.dashboard(date));
+  }
+}
@@ -0,0 +1,40 @@
+package com.vetflow.api.web.v1;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.vetflow.api.application.sync.SyncService;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.web.v1.bulkhead.Bulkhead;
+import com.vetflow.api.web.v1.sync.SyncResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoint for incremental client sync. */
+@RestController
+@Bulkhead(Workload.BULK)
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Incremental download of owners, patients and appointments")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class SyncController {
+
+  private final SyncService syncService;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Delta sync",
+      description = "Returns rows changed or removed since the given token; omit the token for a full download. "
+          + "Pass the returned token on the next call, immediately if hasMore is true. When reset is true the "
+          + "token was too old to resume: drop the local copy and apply the response as a full download.")
+  public SyncResponse sync(@RequestParam(required = false) String since) {
+    return SyncResponse.from(syncService.changesSince(since));
+  }
+}
@@ -0,0 +1,58 @@
+package com.vetflow.api.web.v1;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.vetflow.api.application.triage.TriageQueueService;
+import com.vetflow.api.application.triage.TriageSnapshot;
+import com.vetflow.api.config.OpenApiConfig;
+import com.vetflow.api.web.v1.triage.TriageEntryResponse;
+import com.vetflow.api.web.v1.triage.TriageStreamPublisher;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/** REST endpoints exposing today's triage queue. */
+@RestController
+@RequestMapping("/api/v1/triage")
+@RequiredArgsConstructor
+@Tag(name = "Triage", description = "Today's open appointments ordered by urgency")
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class TriageController {
+
+  private final TriageQueueService triageQueueService;
+  private final TriageStreamPublisher triageStreamPublisher;
+
+  @GetMapping
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Get triage queue",
+      description = "Returns today's open appointments, most urgent first. Supports If-None-Match for cheap polling.")
+  public ResponseEntity<List<TriageEntryResponse>> getQueue(WebRequest webRequest) {
+    TriageSnapshot snapshot = triageQueueService.snapshot();
+    String etag = "\"triage-" + snapshot.version() + "\"";
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .body(TriageEntryResponse.fromSnapshot(snapshot));
+  }
+
+  @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasAnyRole('ADMIN','ASSISTANT','VETERINARIAN')")
+  @Operation(summary = "Stream triage queue",
+      description = "Server-Sent Events stream that pushes the full queue whenever it changes.")
+  public SseEmitter streamQueue() {
+    return triageStreamPublisher.subscribe(triageQueueService.snapshot());
+  }
+}
@@ -2,6 +2,8 @@ package com.vetflow.api.web.v1.appointment;
 
 import java.time.LocalDateTime;
 
+import com.vetflow.api.application.appointment.AppointmentResult;
+
 /** Response payload representing an appointment. */
 public record AppointmentResponse(Long id,
                                   Long patientId,
@@ -11,5 +13,19 @@ public record AppointmentResponse(Long id,
                                   String status,
                                   String priority,
                                   String notes,
-                                  LocalDateTime createdAt) {
-}
\ No newline at end of file
+                                  LocalDateTime createdAt,
+                                  Long version) {
+
+  public static AppointmentResponse from(AppointmentResult result) {
+    return new AppointmentResponse(result.id(),
+        result.patientId(),
+        result.veterinarianId(),
+        result.appointmentDate(),
+        result.type().name(),
+        result.status().name(),
+        result.priority().name(),
+        result.notes(),
+        result.createdAt(),
+        result.version());
+  }
+}
@@ -0,0 +1,48 @@
+package com.vetflow.api.web.v1.appointment;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent;
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.web.v1.stream.SseChannel;
+import com.vetflow.api.web.v1.stream.SseStreamHub;
+
+/**
+ * Relays appointment changes to the {@code appointments} stream. The event name is the change type
+ * ({@code scheduled}, {@code rescheduled}, {@code cancelled}) and the data is the appointment as returned by
+ * the REST API, so clients can upsert it into their list by id.
+ */
+@Component
+public class AppointmentStreamPublisher {
+
+  static final String CHANNEL = "appointments";
+
+  private final SseChannel channel;
+
+  public AppointmentStreamPublisher(SseStreamHub streamHub) {
+    this.channel = streamHub.channel(CHANNEL);
+  }
+
+  public SseEmitter subscribe(String lastEventId) {
+    return channel.subscribe(lastEventId);
+  }
+
+  /** Runs after commit when a transaction is active, so clients never see changes that were rolled back. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAppointmentChanged(AppointmentChangedEvent event) {
+    channel.publish(event.changeType().name().toLowerCase(Locale.ROOT),
+        AppointmentResponse.from(event.appointment()));
+  }
+
+  /** Changes from other nodes may have been missed, so clients are told to refetch. */
+  @EventListener
+  public void onResync(ChangeBusResyncEvent event) {
+    channel.publish(SseChannel.RESET_EVENT, Map.of("reason", event.reason()));
+  }
+}
@@ -0,0 +1,22 @@
+package com.vetflow.api.web.v1.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+
+/**
+ * Runs an endpoint, or every endpoint of a controller, in the lane of a {@link Workload}: within that lane's
+ * concurrency and queue limits, with connections from its pool partition. Endpoints without it are
+ * {@link Workload#INTERACTIVE}.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+  Workload value();
+}
@@ -0,0 +1,167 @@
+package com.vetflow.api.web.v1.bulkhead;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.config.BulkheadProperties;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admits each API request to the lane of its endpoint's {@link Bulkhead} workload, or the interactive lane
+ * without one, and binds that workload to the request thread so its statements use the lane's pool
+ * partition. A request the lane cannot take in time is refused with a 503. A request that goes asynchronous,
+ * like a streamed CSV report, keeps its place until it completes. Publishes each lane's requests running and
+ * waiting as {@code vetflow.bulkhead.active} and {@code vetflow.bulkhead.queued}, and refusals as
+ * {@code vetflow.bulkhead.rejected}.
+ *
+ * <p>Event streams are left out: their connections last minutes and are capped by the stream limits.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+  static final String ACTIVE_METRIC = "vetflow.bulkhead.active";
+  static final String QUEUED_METRIC = "vetflow.bulkhead.queued";
+  static final String REJECTED_METRIC = "vetflow.bulkhead.rejected";
+
+  private static final String PERMITS_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permits";
+
+  private final Map<Workload, LanePermits> lanes = new EnumMap<>(Workload.class);
+  private final Map<Workload, Counter> rejected = new EnumMap<>(Workload.class);
+  private final Map<Method, Workload> workloads = new ConcurrentHashMap<>();
+
+  public BulkheadInterceptor(BulkheadProperties properties, MeterRegistry meterRegistry) {
+    for (Workload workload : Workload.values()) {
+      BulkheadProperties.Lane lane = properties.lane(workload);
+      LanePermits permits = new LanePermits(lane.getMaxConcurrent(), lane.getMaxQueue(), lane.getQueueTimeout());
+      lanes.put(workload, permits);
+      Gauge.builder(ACTIVE_METRIC, permits, LanePermits::active)
+          .description("Requests running in the lane")
+          .tag("workload", workload.tag())
+          .register(meterRegistry);
+      Gauge.builder(QUEUED_METRIC, permits, LanePermits::waiting)
+          .description("Requests waiting for a place in the lane")
+          .tag("workload", workload.tag())
+          .register(meterRegistry);
+      rejected.put(workload, Counter.builder(REJECTED_METRIC)
+          .description("Requests refused with a 503 for finding the lane full")
+          .tag("workload", workload.tag())
+          .register(meterRegistry));
+    }
+  }
+
+  LanePermits lane(Workload workload) {
+    return lanes.get(workload);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws Exception {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    Workload workload = workloads.computeIfAbsent(handlerMethod.getMethod(), method -> workloadOf(handlerMethod));
+    if (workload == null) {
+      return true;
+    }
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      // Back from asynchronous processing; the place was taken on the original dispatch.
+      WorkloadContext.bind(workload);
+      return true;
+    }
+    LanePermits permits = lanes.get(workload);
+    boolean admitted;
+    try {
+      admitted = permits.tryAcquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      admitted = false;
+    }
+    if (!admitted) {
+      rejected.get(workload).increment();
+      throw new ServiceUnavailableException("The %s lane is full; retry shortly".formatted(workload.tag()));
+    }
+    request.setAttribute(PERMITS_ATTRIBUTE, permits);
+    WorkloadContext.bind(workload);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    WorkloadContext.unbind();
+    LanePermits permits = (LanePermits) request.getAttribute(PERMITS_ATTRIBUTE);
+    if (permits != null) {
+      request.removeAttribute(PERMITS_ATTRIBUTE);
+      request.getAsyncContext().addListener(new ReleaseOnCompletion(permits));
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+      Exception ex) {
+    WorkloadContext.unbind();
+    LanePermits permits = (LanePermits) request.getAttribute(PERMITS_ATTRIBUTE);
+    if (permits != null) {
+      request.removeAttribute(PERMITS_ATTRIBUTE);
+      permits.release();
+    }
+  }
+
+  /** The method's workload, else its controller's, else interactive; null for event streams. */
+  private static Workload workloadOf(HandlerMethod handlerMethod) {
+    if (ResponseBodyEmitter.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType())) {
+      return null;
+    }
+    Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), Bulkhead.class);
+    if (bulkhead == null) {
+      bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+    }
+    return bulkhead == null ? Workload.INTERACTIVE : bulkhead.value();
+  }
+
+  /** Releases an asynchronous request's place once the response is complete. */
+  private static final class ReleaseOnCompletion implements AsyncListener {
+
+    private final LanePermits permits;
+
+    ReleaseOnCompletion(LanePermits permits) {
+      this.permits = permits;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      permits.release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // Listeners are dropped when a request goes asynchronous again; stay registered for the new cycle.
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
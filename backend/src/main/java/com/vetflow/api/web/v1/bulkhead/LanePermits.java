@@ -0,0 +1,58 @@
+package com.vetflow.api.web.v1.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The places in one lane: up to {@code maxConcurrent} requests hold one, up to {@code maxQueue} more wait for
+ * one for at most {@code queueTimeout}, and any beyond that are refused at once. Waiting requests are served
+ * in arrival order.
+ */
+public class LanePermits {
+
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final int maxQueue;
+  private final long queueTimeoutNanos;
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  public LanePermits(int maxConcurrent, int maxQueue, Duration queueTimeout) {
+    if (maxConcurrent < 1 || maxQueue < 0) {
+      throw new IllegalArgumentException("A lane needs maxConcurrent >= 1 and maxQueue >= 0");
+    }
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueue = maxQueue;
+    this.queueTimeoutNanos = queueTimeout.toNanos();
+  }
+
+  /** Takes a place, waiting in the queue if there is room in it; each place taken must be {@link #release}d. */
+  public boolean tryAcquire() throws InterruptedException {
+    if (permits.tryAcquire()) {
+      return true;
+    }
+    if (waiting.incrementAndGet() > maxQueue) {
+      waiting.decrementAndGet();
+      return false;
+    }
+    try {
+      return permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  public int active() {
+    return maxConcurrent - permits.availablePermits();
+  }
+
+  public int waiting() {
+    return waiting.get();
+  }
+}
@@ -0,0 +1,35 @@
+package com.vetflow.api.web.v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.vetflow.api.infrastructure.bulkhead.WorkloadTaskExecutor;
+import com.vetflow.api.web.v1.bulkhead.BulkheadInterceptor;
+
+/** Routes API requests through their bulkhead lanes when bulkheads are enabled. */
+@Configuration
+public class BulkheadWebConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<BulkheadInterceptor> interceptor;
+  private final ObjectProvider<WorkloadTaskExecutor> taskExecutor;
+
+  public BulkheadWebConfig(ObjectProvider<BulkheadInterceptor> interceptor,
+      ObjectProvider<WorkloadTaskExecutor> taskExecutor) {
+    this.interceptor = interceptor;
+    this.taskExecutor = taskExecutor;
+  }
+
+  @Override
+  public void addInterceptors(@NonNull InterceptorRegistry registry) {
+    interceptor.ifAvailable(bulkheads -> registry.addInterceptor(bulkheads).addPathPatterns("/api/**"));
+  }
+
+  @Override
+  public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+    taskExecutor.ifAvailable(configurer::setTaskExecutor);
+  }
+}
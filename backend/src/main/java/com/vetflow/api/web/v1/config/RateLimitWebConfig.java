@@ -0,0 +1,28 @@
+package com.vetflow.api.web.v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.vetflow.api.web.v1.ratelimit.RateLimitInterceptor;
+
+/** Rate limits API requests once the dispatcher has matched them to a handler. */
+@Configuration
+public class RateLimitWebConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<RateLimitInterceptor> interceptor;
+
+  public RateLimitWebConfig(ObjectProvider<RateLimitInterceptor> interceptor) {
+    this.interceptor = interceptor;
+  }
+
+  @Override
+  public void addInterceptors(@NonNull InterceptorRegistry registry) {
+    // Ahead of the bulkhead lanes, so a refused request never takes a place in one.
+    interceptor.ifAvailable(limits -> registry.addInterceptor(limits).addPathPatterns("/api/**")
+        .order(Ordered.HIGHEST_PRECEDENCE));
+  }
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +15,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
 import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.shared.VersionConflictException;
+import com.vetflow.api.web.v1.stream.StreamCapacityExceededException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -26,6 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GlobalExceptionHandler {
 
+  private static final String STREAM_RETRY_AFTER_SECONDS = "5";
+  private static final String UNAVAILABLE_RETRY_AFTER_SECONDS = "1";
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
       HttpServletRequest request) {
@@ -69,6 +76,42 @@ public class GlobalExceptionHandler {
     return buildResponse(HttpStatus.CONFLICT, "Request conflicts with existing data", null, request.getRequestURI());
   }
 
+  @ExceptionHandler(VersionConflictException.class)
+  public ResponseEntity<ErrorResponse> handleVersionConflict(VersionConflictException ex, HttpServletRequest request) {
+    return buildResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), null, request.getRequestURI());
+  }
+
+  /** Another request saved the same row between our read and our write. */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrentUpdate(OptimisticLockingFailureException ex,
+      HttpServletRequest request) {
+    return buildResponse(HttpStatus.CONFLICT, "Resource was modified concurrently; reload and retry", null,
+        request.getRequestURI());
+  }
+
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleUnavailable(ServiceUnavailableException ex, HttpServletRequest request) {
+    log.warn("Service unavailable for {}: {}", request.getRequestURI(), ex.getMessage());
+    ErrorResponse body = new ErrorResponse(Instant.now(),
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+        ex.getMessage(),
+        request.getRequestURI(),
+        null);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, UNAVAILABLE_RETRY_AFTER_SECONDS)
+        .body(body);
+  }
+
+  /** No body: the client asked for an event stream, which an error JSON document cannot satisfy. */
+  @ExceptionHandler(StreamCapacityExceededException.class)
+  public ResponseEntity<Void> handleStreamCapacity(StreamCapacityExceededException ex, HttpServletRequest request) {
+    log.warn("Refusing stream connection to {}: {}", request.getRequestURI(), ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, STREAM_RETRY_AFTER_SECONDS)
+        .build();
+  }
+
   @ExceptionHandler(AccessDeniedException.class)
   public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
     return buildResponse(HttpStatus.FORBIDDEN, "Access is denied", null, request.getRequestURI());
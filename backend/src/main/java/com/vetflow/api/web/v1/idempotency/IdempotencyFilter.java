@@ -0,0 +1,304 @@
+package com.vetflow.api.web.v1.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.application.idempotency.IdempotencyStore;
+import com.vetflow.api.config.IdempotencyProperties;
+import com.vetflow.api.domain.model.IdempotencyRecord;
+import com.vetflow.api.web.v1.error.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Honours the {@code Idempotency-Key} header on API POST requests. The first response for a caller's key is
+ * stored and replayed verbatim on retries, so a create repeated over a flaky connection yields one resource.
+ * The key is claimed before the request runs, so only one of two retries reaching different nodes runs it.
+ * A retry arriving while the original is still running waits for it and then replays its response, or gets
+ * a 409 when it takes longer than {@code pending-wait}. Bodies above {@code max-request-bytes} are refused
+ * with a 413 before they are buffered for the fingerprint.
+ *
+ * <p>Must run after authentication: keys are scoped to the authenticated principal.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyStore store;
+  private final ObjectMapper objectMapper;
+  private final int maxRequestBytes;
+  private final int maxBodyBytes;
+  private final Duration pendingWait;
+
+  public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, IdempotencyProperties properties) {
+    this.store = store;
+    this.objectMapper = objectMapper;
+    this.maxRequestBytes = properties.getMaxRequestBytes();
+    this.maxBodyBytes = properties.getMaxBodyBytes();
+    this.pendingWait = properties.getPendingWait();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.POST.matches(request.getMethod())
+        || request.getHeader(HEADER) == null
+        || !request.getRequestURI().startsWith("/api/v1/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = request.getHeader(HEADER).trim();
+    if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+      writeError(request, response, HttpStatus.BAD_REQUEST,
+          "%s must be between 1 and %d characters".formatted(HEADER, MAX_KEY_LENGTH));
+      return;
+    }
+    String principal = currentPrincipal();
+    if (principal == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    byte[] body = readBody(request);
+    if (body == null) {
+      writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+          "Requests with %s are limited to %d bytes".formatted(HEADER, maxRequestBytes));
+      return;
+    }
+    String fingerprint = fingerprint(request, body);
+
+    IdempotencyStore.Claim claim = claim(principal, key, fingerprint);
+    if (claim == null) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, pendingWait.toSeconds())));
+      writeError(request, response, HttpStatus.CONFLICT,
+          "A request with this %s is still being processed".formatted(HEADER));
+      return;
+    }
+    if (!claim.acquired()) {
+      IdempotencyRecord stored = claim.holder();
+      if (stored.matches(fingerprint)) {
+        replay(stored, response);
+      } else {
+        writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+            HEADER + " was already used for a different request");
+      }
+      return;
+    }
+
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    boolean completed = false;
+    try {
+      filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+      if (isFinal(wrapper.getStatus()) && wrapper.getContentSize() <= maxBodyBytes) {
+        store.complete(claim, wrapper.getStatus(), wrapper.getContentType(),
+            wrapper.getHeader(HttpHeaders.LOCATION),
+            new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+        completed = true;
+      }
+    } finally {
+      if (!completed) {
+        store.release(claim);
+      }
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  /**
+   * Claims the key, waiting up to {@code pending-wait} while another request holds it pending. Returns a claim
+   * that is acquired or held by a completed record, or null when the holder is still running.
+   */
+  private IdempotencyStore.Claim claim(String principal, String key, String fingerprint) throws IOException {
+    long deadline = System.nanoTime() + pendingWait.toNanos();
+    while (true) {
+      IdempotencyStore.Claim claim = store.claim(principal, key, fingerprint);
+      IdempotencyRecord holder = claim.holder();
+      // A different request holding the key is refused at once: it cannot be replayed whatever it returns.
+      if (claim.acquired() || (holder != null && (!holder.isPending() || !holder.matches(fingerprint)))) {
+        return claim;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return null;
+      }
+      try {
+        store.awaitRelease(principal, key, Duration.ofNanos(remaining));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for a request with the same " + HEADER, ex);
+      }
+    }
+  }
+
+  /** The request body, or null when it is larger than {@code max-request-bytes}. */
+  private byte[] readBody(HttpServletRequest request) throws IOException {
+    if (request.getContentLengthLong() > maxRequestBytes) {
+      return null;
+    }
+    InputStream input = request.getInputStream();
+    ByteArrayOutputStream body = new ByteArrayOutputStream(Math.max(0, request.getContentLength()));
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      if (body.size() + read > maxRequestBytes) {
+        return null;
+      }
+      body.write(buffer, 0, read);
+    }
+    return body.toByteArray();
+  }
+
+  /**
+   * Server errors and authorisation or throttling rejections may succeed on retry, so they are not pinned to
+   * the key; everything else is the definitive answer to the request.
+   */
+  static boolean isFinal(int status) {
+    return status < 500
+        && status != HttpStatus.UNAUTHORIZED.value()
+        && status != HttpStatus.FORBIDDEN.value()
+        && status != HttpStatus.REQUEST_TIMEOUT.value()
+        && status != HttpStatus.TOO_MANY_REQUESTS.value();
+  }
+
+  static String fingerprint(HttpServletRequest request, byte[] body) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update((request.getMethod() + ' ' + request.getRequestURI()).getBytes(StandardCharsets.UTF_8));
+      if (request.getQueryString() != null) {
+        digest.update(('?' + request.getQueryString()).getBytes(StandardCharsets.UTF_8));
+      }
+      digest.update((byte) '\n');
+      digest.update(body);
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private static String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+
+  private static void replay(IdempotencyRecord stored, HttpServletResponse response) throws IOException {
+    response.setStatus(stored.statusCode());
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (stored.location() != null) {
+      response.setHeader(HttpHeaders.LOCATION, stored.location());
+    }
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    if (stored.responseBody() != null) {
+      byte[] bytes = stored.responseBody().getBytes(StandardCharsets.UTF_8);
+      response.setContentLength(bytes.length);
+      response.getOutputStream().write(bytes);
+    }
+  }
+
+  private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+      String message) throws IOException {
+    ErrorResponse body = new ErrorResponse(Instant.now(),
+        status.value(),
+        status.getReasonPhrase(),
+        message,
+        request.getRequestURI(),
+        null);
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+
+  /** Replays a body that was already read to compute the fingerprint. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return input.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        /** The whole body is already in memory, so the listener is told at once that all of it is there. */
+        @Override
+        public void setReadListener(ReadListener listener) {
+          if (!isAsyncStarted()) {
+            throw new IllegalStateException("A read listener needs asynchronous processing to have started");
+          }
+          try {
+            if (!isFinished()) {
+              listener.onDataAvailable();
+            }
+            listener.onAllDataRead();
+          } catch (IOException ex) {
+            listener.onError(ex);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(),
+          encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.vetflow.api.web.v1.limit;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.config.ConcurrencyLimitProperties;
+import com.vetflow.api.web.v1.error.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caps the requests in flight per {@link EndpointClass} with a {@link GradientLimit} each, so when the
+ * database slows down the excess is answered at once with a 503 and {@code Retry-After} rather than queueing
+ * for a connection, and one class cannot starve the others. Publishes each class's limit and requests in
+ * flight as {@code vetflow.concurrency.limit} and {@code vetflow.concurrency.in.flight}, and refusals as
+ * {@code vetflow.concurrency.rejected}.
+ *
+ * <p>A request that goes asynchronous, like a streamed CSV report, holds its place until it completes.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  static final String LIMIT_METRIC = "vetflow.concurrency.limit";
+  static final String IN_FLIGHT_METRIC = "vetflow.concurrency.in.flight";
+  static final String REJECTED_METRIC = "vetflow.concurrency.rejected";
+
+  private final Map<EndpointClass, GradientLimit> limits = new EnumMap<>(EndpointClass.class);
+  private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+  private final ObjectMapper objectMapper;
+  private final String retryAfterSeconds;
+
+  public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+    for (EndpointClass endpointClass : EndpointClass.values()) {
+      ConcurrencyLimitProperties.Limits bounds = properties.limits(endpointClass);
+      GradientLimit limit = new GradientLimit(bounds.getInitialLimit(), bounds.getMinLimit(), bounds.getMaxLimit(),
+          properties.getRttTolerance(), properties.getSmoothing(), properties.getBackoffRatio(),
+          properties.getLongWindow());
+      String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+      limits.put(endpointClass, limit);
+      Gauge.builder(LIMIT_METRIC, limit, GradientLimit::limit)
+          .description("Concurrent requests allowed")
+          .tag("class", tag)
+          .register(meterRegistry);
+      Gauge.builder(IN_FLIGHT_METRIC, limit, GradientLimit::inFlight)
+          .description("Requests in flight")
+          .tag("class", tag)
+          .register(meterRegistry);
+      rejected.put(endpointClass, Counter.builder(REJECTED_METRIC)
+          .description("Requests refused with a 503 for being over the concurrency limit")
+          .tag("class", tag)
+          .register(meterRegistry));
+    }
+  }
+
+  GradientLimit limit(EndpointClass endpointClass) {
+    return limits.get(endpointClass);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    EndpointClass endpointClass = EndpointClass.of(request);
+    if (endpointClass == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    GradientLimit limit = limits.get(endpointClass);
+    if (!limit.tryAcquire()) {
+      rejected.get(endpointClass).increment();
+      reject(request, response);
+      return;
+    }
+    long start = System.nanoTime();
+    boolean released = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseOnCompletion(limit, start, response));
+        released = true;
+      }
+    } catch (IOException | ServletException | RuntimeException ex) {
+      limit.release(System.nanoTime() - start, true);
+      released = true;
+      throw ex;
+    } finally {
+      if (!released) {
+        limit.release(System.nanoTime() - start, isServerError(response));
+      }
+    }
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    ErrorResponse body = new ErrorResponse(Instant.now(),
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+        "Server is at capacity; retry shortly",
+        request.getRequestURI(),
+        null);
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+
+  private static boolean isServerError(HttpServletResponse response) {
+    return response.getStatus() >= 500;
+  }
+
+  /** Releases an asynchronous request's place once the response is complete. */
+  private static final class ReleaseOnCompletion implements AsyncListener {
+
+    private final GradientLimit limit;
+    private final long start;
+    private final HttpServletResponse response;
+
+    ReleaseOnCompletion(GradientLimit limit, long start, HttpServletResponse response) {
+      this.limit = limit;
+      this.start = start;
+      this.response = response;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      limit.release(System.nanoTime() - start, isServerError(response));
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // Listeners are dropped when a request goes asynchronous again; stay registered for the new cycle.
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.vetflow.api.web.v1.limit;
+
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The groups of endpoints that each get their own concurrency limit, so a slow class cannot take the
+ * capacity of another: a burst of exports must not lock users out of logging in.
+ */
+public enum EndpointClass {
+  AUTH,
+  READ,
+  WRITE,
+  EXPORT;
+
+  private static final String API = "/api/";
+
+  /** The event stream routes. Matched by path, as a request header would let any call out of the limit. */
+  private static final Set<String> STREAMS = Set.of("/api/v1/appointments/stream", "/api/v1/triage/stream");
+
+  /**
+   * The class of a request, or null when it is not limited: requests outside {@code /api/} (health checks,
+   * metrics, API docs) and event streams, whose connections last minutes and are capped by the stream limits.
+   */
+  public static EndpointClass of(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (!path.startsWith(API)) {
+      return null;
+    }
+    if ("GET".equals(request.getMethod()) && STREAMS.contains(path)) {
+      return null;
+    }
+    if (path.startsWith("/api/v1/auth/")) {
+      return AUTH;
+    }
+    if (path.startsWith("/api/v1/reports/") || path.startsWith("/api/v1/sync")) {
+      return EXPORT;
+    }
+    return switch (request.getMethod()) {
+      case "GET", "HEAD", "OPTIONS" -> READ;
+      default -> WRITE;
+    };
+  }
+}
@@ -0,0 +1,100 @@
+package com.vetflow.api.web.v1.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limit that follows latency: each completed request compares its latency with a long-term
+ * average, and the limit shrinks by that ratio once latency grows beyond {@code rttTolerance} times the
+ * average, or grows by a queue allowance of {@code sqrt(limit)} while it does not. Requests are admitted
+ * while fewer than the limit are in flight. When the database slows down, the limit falls toward what it
+ * can serve and the excess is refused at once instead of queueing.
+ *
+ * <p>The long-term average decays quickly once latency falls back below half of it, so the limit recovers
+ * after an incident instead of judging new samples against the slow period. A limit that is not being used
+ * (under half in flight) does not grow, as low latency then says nothing about capacity. Samples arriving
+ * while another is being applied are skipped; the next one will do.
+ */
+public class GradientLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double rttTolerance;
+  private final double smoothing;
+  private final double backoffRatio;
+  private final double longWindow;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final ReentrantLock update = new ReentrantLock();
+  private volatile double limit;
+  private double longRtt;
+
+  public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing,
+      double backoffRatio, int longWindow) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Limits need 1 <= minLimit <= maxLimit");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.rttTolerance = rttTolerance;
+    this.smoothing = smoothing;
+    this.backoffRatio = backoffRatio;
+    this.longWindow = longWindow;
+    this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+  }
+
+  /** Admits a request if fewer than the limit are in flight; each admitted one must be {@link #release}d. */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /** Ends an admitted request. {@code failed} marks a server-side failure, which backs the limit off. */
+  public void release(long latencyNanos, boolean failed) {
+    int wasInFlight = inFlight.getAndDecrement();
+    if (!update.tryLock()) {
+      return;
+    }
+    try {
+      if (failed) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        return;
+      }
+      sample(Math.max(1, latencyNanos), wasInFlight);
+    } finally {
+      update.unlock();
+    }
+  }
+
+  public int limit() {
+    return (int) limit;
+  }
+
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  private void sample(double rtt, int wasInFlight) {
+    if (longRtt == 0) {
+      longRtt = rtt;
+      return;
+    }
+    longRtt += (rtt - longRtt) / longWindow;
+    if (longRtt / rtt > 2) {
+      longRtt *= 0.95;
+    }
+    if (wasInFlight < limit / 2) {
+      return;
+    }
+    double gradient = Math.clamp(rttTolerance * longRtt / rtt, 0.5, 1.0);
+    double estimate = limit * gradient + Math.sqrt(limit);
+    limit = Math.clamp(limit * (1 - smoothing) + estimate * smoothing, minLimit, maxLimit);
+  }
+}
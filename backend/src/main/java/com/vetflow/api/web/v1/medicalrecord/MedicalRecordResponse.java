@@ -1,8 +1,15 @@
 package com.vetflow.api.web.v1.medicalrecord;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-/** Response payload representing a medical record. */
+import com.vetflow.api.application.medicalrecord.MedicalRecordResult;
+import com.vetflow.api.application.medication.MedicationWarning;
+
+/**
+ * Response payload representing a medical record. {@code warnings} lists the prescription safety check's
+ * findings in the response to creating the record, and is empty everywhere else.
+ */
 public record MedicalRecordResponse(Long id,
                                     Long patientId,
                                     Long veterinarianId,
@@ -11,5 +18,29 @@ public record MedicalRecordResponse(Long id,
                                     String treatment,
                                     String medications,
                                     String notes,
-                                    LocalDateTime createdAt) {
+                                    LocalDateTime createdAt,
+                                    Long version,
+                                    List<Warning> warnings) {
+
+  /** An allergy conflict or drug interaction found in the record's medications. */
+  public record Warning(MedicationWarning.Type type, String medication, String message) {
+
+    static Warning from(MedicationWarning warning) {
+      return new Warning(warning.type(), warning.medication(), warning.message());
+    }
+  }
+
+  public static MedicalRecordResponse from(MedicalRecordResult result) {
+    return new MedicalRecordResponse(result.id(),
+        result.patientId(),
+        result.veterinarianId(),
+        result.visitDate(),
+        result.diagnosis(),
+        result.treatment(),
+        result.medications(),
+        result.notes(),
+        result.createdAt(),
+        result.version(),
+        result.warnings().stream().map(Warning::from).toList());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.vetflow.api.web.v1.medicalrecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.vetflow.api.application.search.MedicalRecordSearchPage;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+
+/** Response payload for a page of medical record search hits. */
+public record MedicalRecordSearchResponse(List<Hit> hits, String nextCursor) {
+
+  public record Hit(Long id,
+                    Long patientId,
+                    String patientName,
+                    Long veterinarianId,
+                    LocalDateTime visitDate,
+                    String diagnosis,
+                    String treatment,
+                    String medications,
+                    double rank) {
+
+    static Hit from(MedicalRecordHit hit) {
+      return new Hit(hit.id(),
+          hit.patientId(),
+          hit.patientName(),
+          hit.veterinarianId(),
+          hit.visitDate(),
+          hit.diagnosis(),
+          hit.treatment(),
+          hit.medications(),
+          hit.rank());
+    }
+  }
+
+  public static MedicalRecordSearchResponse from(MedicalRecordSearchPage page) {
+    return new MedicalRecordSearchResponse(page.hits().stream().map(Hit::from).toList(), page.nextCursor());
+  }
+}
@@ -2,6 +2,8 @@ package com.vetflow.api.web.v1.owner;
 
 import java.time.LocalDateTime;
 
+import com.vetflow.api.application.owner.OwnerResult;
+
 /** Response payload representing an owner. */
 public record OwnerResponse(Long id,
                             String name,
@@ -9,5 +11,17 @@ public record OwnerResponse(Long id,
                             String email,
                             String address,
                             LocalDateTime createdAt,
-                            LocalDateTime updatedAt) {
-}
\ No newline at end of file
+                            LocalDateTime updatedAt,
+                            Long version) {
+
+  public static OwnerResponse from(OwnerResult result) {
+    return new OwnerResponse(result.id(),
+        result.name(),
+        result.phone(),
+        result.email(),
+        result.address(),
+        result.createdAt(),
+        result.updatedAt(),
+        result.version());
+  }
+}
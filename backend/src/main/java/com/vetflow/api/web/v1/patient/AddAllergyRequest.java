@@ -0,0 +1,11 @@
+package com.vetflow.api.web.v1.patient;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/** Request payload for recording a patient allergy, naming a drug, a drug class or any other allergen. */
+public record AddAllergyRequest(
+    @NotBlank(message = "allergen is required")
+    @Size(max = 100, message = "allergen must be at most 100 characters")
+    String allergen) {
+}
@@ -0,0 +1,14 @@
+package com.vetflow.api.web.v1.patient;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+
+/**
+ * Response payload representing a patient allergy. {@code drugId} and {@code drugClass} show what the allergen
+ * was linked to in the drug catalogue; both are null when it names neither a drug nor a class.
+ */
+public record AllergyResponse(Long id, String allergen, Long drugId, String drugClass) {
+
+  public static AllergyResponse from(PatientAllergy allergy) {
+    return new AllergyResponse(allergy.id(), allergy.allergen(), allergy.drugId(), allergy.drugClass());
+  }
+}
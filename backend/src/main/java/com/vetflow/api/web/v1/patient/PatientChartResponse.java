@@ -0,0 +1,30 @@
+package com.vetflow.api.web.v1.patient;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.vetflow.api.application.chart.PatientChart;
+import com.vetflow.api.web.v1.appointment.AppointmentResponse;
+import com.vetflow.api.web.v1.medicalrecord.MedicalRecordResponse;
+import com.vetflow.api.web.v1.owner.OwnerResponse;
+import com.vetflow.api.web.v1.veterinarian.VeterinarianResponse;
+
+/** Response payload for a patient chart. */
+public record PatientChartResponse(PatientResponse patient,
+                                   OwnerResponse owner,
+                                   List<AppointmentResponse> upcomingAppointments,
+                                   List<AppointmentResponse> pastAppointments,
+                                   List<MedicalRecordResponse> recentMedicalRecords,
+                                   List<VeterinarianResponse> veterinarians,
+                                   List<String> unavailableSections) {
+
+  public static PatientChartResponse from(PatientChart chart) {
+    return new PatientChartResponse(PatientResponse.from(chart.patient()),
+        OwnerResponse.from(chart.owner()),
+        chart.upcomingAppointments().stream().map(AppointmentResponse::from).toList(),
+        chart.pastAppointments().stream().map(AppointmentResponse::from).toList(),
+        chart.recentMedicalRecords().stream().map(MedicalRecordResponse::from).toList(),
+        chart.veterinarians().stream().map(VeterinarianResponse::from).toList(),
+        chart.unavailable().stream().map(section -> section.name().toLowerCase(Locale.ROOT)).toList());
+  }
+}
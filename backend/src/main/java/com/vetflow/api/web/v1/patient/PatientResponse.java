@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.vetflow.api.application.patient.PatientResult;
+
 /** Response payload representing a patient. */
 public record PatientResponse(Long id,
                               String name,
@@ -14,5 +16,20 @@ public record PatientResponse(Long id,
                               boolean isActive,
                               Long ownerId,
                               LocalDateTime createdAt,
-                              LocalDateTime updatedAt) {
-}
\ No newline at end of file
+                              LocalDateTime updatedAt,
+                              Long version) {
+
+  public static PatientResponse from(PatientResult result) {
+    return new PatientResponse(result.id(),
+        result.name(),
+        result.species(),
+        result.breed(),
+        result.birthDate(),
+        result.weight(),
+        result.isActive(),
+        result.ownerId(),
+        result.createdAt(),
+        result.updatedAt(),
+        result.version());
+  }
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.web.v1.patient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import com.vetflow.api.application.timeline.TimelineEntry;
+import com.vetflow.api.application.timeline.TimelinePage;
+
+/** Response payload for a page of a patient's timeline. */
+public record TimelineResponse(List<Entry> entries, String nextCursor) {
+
+  /** One timeline event; {@code kind} is appointment, medical_record or audit. */
+  public record Entry(String kind,
+                      Long id,
+                      LocalDateTime occurredAt,
+                      String title,
+                      String status,
+                      String detail,
+                      Long veterinarianId,
+                      String actor) {
+
+    static Entry from(TimelineEntry entry) {
+      return new Entry(entry.kind().name().toLowerCase(Locale.ROOT),
+          entry.id(),
+          entry.occurredAt(),
+          entry.title(),
+          entry.status(),
+          entry.detail(),
+          entry.veterinarianId(),
+          entry.actor());
+    }
+  }
+
+  public static TimelineResponse from(TimelinePage page) {
+    return new TimelineResponse(page.entries().stream().map(Entry::from).toList(), page.nextCursor());
+  }
+}
@@ -0,0 +1,115 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.web.v1.error.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rate limits API requests per authenticated user and route with the buckets of a {@link RateLimiter}, so one
+ * client looping on an endpoint is slowed down on its own instead of degrading the API for every clinic. The
+ * route is the pattern of the handler the request maps to, as the dispatcher has just matched it; requests
+ * without one share one route. Every limited response carries {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} and {@code RateLimit-Reset} (seconds until the bucket is full); a request over the
+ * limit gets a 429 with {@code Retry-After}. Refusals are counted as {@code vetflow.ratelimit.rejected} by role.
+ *
+ * <p>Runs after the security chain, so anonymous requests, such as logins, are not limited here. Only the
+ * original dispatch takes a token; the asynchronous and error dispatches of the same request pass through.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  public static final String LIMIT_HEADER = "RateLimit-Limit";
+  public static final String REMAINING_HEADER = "RateLimit-Remaining";
+  public static final String RESET_HEADER = "RateLimit-Reset";
+  static final String REJECTED_METRIC = "vetflow.ratelimit.rejected";
+  static final String BUCKETS_METRIC = "vetflow.ratelimit.buckets";
+
+  static final String UNMATCHED = "UNMATCHED";
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final RateLimiter rateLimiter;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+
+  public RateLimitInterceptor(RateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      boolean enabled) {
+    this.rateLimiter = rateLimiter;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    Gauge.builder(BUCKETS_METRIC, rateLimiter, RateLimiter::size)
+        .description("Rate limit buckets held")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws IOException {
+    if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST) {
+      return true;
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return true;
+    }
+    TokenBucket.Decision decision = rateLimiter.tryAcquire(authentication, request.getMethod(), patternOf(request));
+    response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+    response.setHeader(REMAINING_HEADER, Integer.toString(decision.remaining()));
+    response.setHeader(RESET_HEADER, Long.toString(toSeconds(decision.resetNanos())));
+    if (!decision.allowed()) {
+      Counter.builder(REJECTED_METRIC)
+          .description("Requests refused with a 429 for being over the caller's rate limit")
+          .tag("role", rateLimiter.roleTag(authentication))
+          .register(meterRegistry)
+          .increment();
+      reject(request, response, decision);
+      return false;
+    }
+    return true;
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response, TokenBucket.Decision decision)
+      throws IOException {
+    ErrorResponse body = new ErrorResponse(Instant.now(),
+        HttpStatus.TOO_MANY_REQUESTS.value(),
+        HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+        "Rate limit exceeded; retry after the time in Retry-After",
+        request.getRequestURI(),
+        null);
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, toSeconds(decision.retryAfterNanos()))));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+
+  /** The pattern the dispatcher matched the request to, or {@link #UNMATCHED}. */
+  private static String patternOf(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? UNMATCHED : pattern.toString();
+  }
+
+  /** Whole seconds, rounded up so a client waiting that long always finds the tokens it was told of. */
+  private static long toSeconds(long nanos) {
+    return Math.max(0, (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+  }
+}
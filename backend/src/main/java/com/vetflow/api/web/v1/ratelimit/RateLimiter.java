@@ -0,0 +1,197 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.vetflow.api.config.RateLimitProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds a {@link TokenBucket} per authenticated user and route. The route is the request method and the
+ * pattern of the handler it maps to, so {@code GET /api/v1/patients/7} and {@code GET /api/v1/patients/8}
+ * share the bucket of {@code GET /api/v1/patients/{patientId}}, and a user holds at most one bucket per
+ * endpoint. A bucket is sized by the endpoint's limit when one is configured and by the user's role otherwise.
+ *
+ * <p>The buckets live in {@link ConcurrentHashMap}s, one per user, so an existing one is found without
+ * locking. Buckets that have been full for {@code idle-eviction} are dropped by {@link #evictIdle()}. A user
+ * is held to {@code max-keys-per-user} buckets, and once {@code max-keys} are held in all, a user who needs
+ * another gives up their idlest one. A user holding none while the map is full is refused until the next
+ * eviction; no request goes through without a bucket.
+ */
+@Slf4j
+public class RateLimiter {
+
+  private static final String ROLE_PREFIX = "ROLE_";
+
+  private final Map<String, Map<String, TokenBucket>> buckets = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final Map<String, RateLimitProperties.Limit> roleLimits = new HashMap<>();
+  private final Map<String, RateLimitProperties.Limit> endpointLimits = new HashMap<>();
+  private final RateLimitProperties.Limit defaultLimit;
+  private final int maxKeys;
+  private final int maxKeysPerUser;
+  private final long idleNanos;
+  private final long fullRetryNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public RateLimiter(RateLimitProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  RateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+    properties.getRoles().forEach((role, limit) -> roleLimits.put(role.toUpperCase(Locale.ROOT), check(role, limit)));
+    for (RateLimitProperties.EndpointLimit endpoint : properties.getEndpoints()) {
+      if (endpoint.getPath() == null || endpoint.getPath().isBlank()) {
+        throw new IllegalStateException("Every rate limit endpoint needs a path");
+      }
+      String method = endpoint.getMethod() == null ? "" : endpoint.getMethod().toUpperCase(Locale.ROOT);
+      endpointLimits.put(method + ' ' + endpoint.getPath(), check(endpoint.getPath(), endpoint));
+    }
+    if (properties.getMaxKeys() < 1 || properties.getMaxKeysPerUser() < 1) {
+      throw new IllegalStateException("Rate limits need max-keys and max-keys-per-user above zero");
+    }
+    this.defaultLimit = check("default-limit", properties.getDefaultLimit());
+    this.maxKeys = properties.getMaxKeys();
+    this.maxKeysPerUser = properties.getMaxKeysPerUser();
+    this.idleNanos = properties.getIdleEviction().toNanos();
+    this.fullRetryNanos = properties.getPurgeInterval().toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /** Takes a token from the caller's bucket for the route: the method and the pattern of the matched handler. */
+  public TokenBucket.Decision tryAcquire(Authentication authentication, String method, String pattern) {
+    String principal = authentication.getName();
+    String route = method + ' ' + pattern;
+    long now = nanoClock.getAsLong();
+    Map<String, TokenBucket> routes = buckets.get(principal);
+    TokenBucket bucket = routes == null ? null : routes.get(route);
+    if (bucket == null) {
+      RateLimitProperties.Limit limit = limitFor(authentication, route, pattern);
+      bucket = newBucket(principal, route, limit, now);
+      if (bucket == null) {
+        return new TokenBucket.Decision(false, limit.getCapacity(), 0, 0, fullRetryNanos);
+      }
+    }
+    return bucket.tryAcquire(now);
+  }
+
+  /** The role of an authenticated user as the metrics tag it, or {@code other} for an unlisted role. */
+  public String roleTag(Authentication authentication) {
+    String role = roleOf(authentication);
+    return role == null ? "other" : role.toLowerCase(Locale.ROOT);
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+  @Scheduled(fixedDelayString = "${vetflow.api.rate-limit.purge-interval:PT1M}")
+  public void evictIdle() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      long now = nanoClock.getAsLong();
+      int before = size.get();
+      for (String principal : buckets.keySet()) {
+        buckets.computeIfPresent(principal, (p, routes) -> {
+          int held = routes.size();
+          routes.values().removeIf(bucket -> bucket.idleSince(now, idleNanos));
+          size.addAndGet(routes.size() - held);
+          return routes.isEmpty() ? null : routes;
+        });
+      }
+      int evicted = before - size.get();
+      if (evicted > 0) {
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * Adds the caller's bucket for the route, making room among the caller's own buckets when they are at their
+   * cap or the map is full. Returns null when the map is full and the caller holds no bucket to give up.
+   */
+  private TokenBucket newBucket(String principal, String route, RateLimitProperties.Limit limit, long now) {
+    TokenBucket[] added = new TokenBucket[1];
+    buckets.compute(principal, (p, routes) -> {
+      if (routes == null) {
+        if (size.get() >= maxKeys) {
+          return null;
+        }
+        routes = new ConcurrentHashMap<>();
+      }
+      added[0] = routes.get(route);
+      if (added[0] != null) {
+        return routes;
+      }
+      if (routes.size() >= maxKeysPerUser || size.get() >= maxKeys) {
+        removeIdlest(routes, now);
+      }
+      added[0] = new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+      routes.put(route, added[0]);
+      size.incrementAndGet();
+      return routes;
+    });
+    return added[0];
+  }
+
+  /** Drops the bucket that has been full longest or will be full soonest, which loses the least. */
+  private void removeIdlest(Map<String, TokenBucket> routes, long now) {
+    Map.Entry<String, TokenBucket> idlest = null;
+    for (Map.Entry<String, TokenBucket> entry : routes.entrySet()) {
+      if (idlest == null || entry.getValue().fullIn(now) < idlest.getValue().fullIn(now)) {
+        idlest = entry;
+      }
+    }
+    if (idlest != null && routes.remove(idlest.getKey()) != null) {
+      size.decrementAndGet();
+    }
+  }
+
+  private RateLimitProperties.Limit limitFor(Authentication authentication, String route, String pattern) {
+    RateLimitProperties.Limit limit = endpointLimits.get(route);
+    if (limit == null) {
+      limit = endpointLimits.get(" " + pattern);
+    }
+    if (limit == null) {
+      String role = roleOf(authentication);
+      limit = role == null ? null : roleLimits.get(role);
+    }
+    return limit == null ? defaultLimit : limit;
+  }
+
+  private String roleOf(Authentication authentication) {
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      String name = authority.getAuthority();
+      if (name != null && name.startsWith(ROLE_PREFIX)) {
+        String role = name.substring(ROLE_PREFIX.length());
+        if (roleLimits.containsKey(role)) {
+          return role;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static <T extends RateLimitProperties.Limit> T check(String name, T limit) {
+    if (limit.getCapacity() < 1 || !(limit.getRefillPerSecond() > 0)) {
+      throw new IllegalStateException(
+          "Rate limit %s needs both capacity and refill-per-second above zero".formatted(name));
+    }
+    return limit;
+  }
+}
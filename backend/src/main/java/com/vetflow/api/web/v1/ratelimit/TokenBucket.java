@@ -0,0 +1,67 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket held in a single {@link AtomicLong}: the time at which the bucket will be full again
+ * (generic cell rate algorithm). Each request moves that time forward by one refill interval and is admitted
+ * while it stays within {@code capacity} intervals of now, so a full bucket allows a burst of
+ * {@code capacity} requests and then one per interval. Taking a token is one compare-and-set, with no lock
+ * and no refill task.
+ *
+ * <p>Times are {@link System#nanoTime()} readings and are only ever compared by subtraction.
+ */
+public final class TokenBucket {
+
+  private final int capacity;
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final AtomicLong fullAt;
+
+  public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+    if (capacity < 1 || !(refillPerSecond > 0)) {
+      throw new IllegalArgumentException("A bucket needs a capacity and refill rate above zero");
+    }
+    this.capacity = capacity;
+    this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+    this.toleranceNanos = intervalNanos * capacity;
+    this.fullAt = new AtomicLong(nowNanos);
+  }
+
+  /** Takes a token if one is left at {@code nowNanos}. */
+  public Decision tryAcquire(long nowNanos) {
+    while (true) {
+      long current = fullAt.get();
+      long base = current - nowNanos > 0 ? current : nowNanos;
+      long next = base + intervalNanos;
+      long backlog = next - nowNanos;
+      if (backlog > toleranceNanos) {
+        return new Decision(false, capacity, 0, current - nowNanos, backlog - toleranceNanos);
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return new Decision(true, capacity, (int) ((toleranceNanos - backlog) / intervalNanos), backlog, 0);
+      }
+    }
+  }
+
+  /** Whether the bucket has been full for at least {@code idleNanos}, so dropping it loses nothing. */
+  public boolean idleSince(long nowNanos, long idleNanos) {
+    return nowNanos - fullAt.get() >= idleNanos;
+  }
+
+  /** Time from {@code nowNanos} until the bucket is full, negative once it has been full for that long. */
+  public long fullIn(long nowNanos) {
+    return fullAt.get() - nowNanos;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * The outcome of one request: whether it was admitted, the tokens left, the time until the bucket is full
+   * again and, when refused, the time until a token is free.
+   */
+  public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+  }
+}
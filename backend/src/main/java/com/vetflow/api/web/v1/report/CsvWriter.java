@@ -0,0 +1,55 @@
+package com.vetflow.api.web.v1.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Minimal RFC 4180 writer for report downloads: comma separated, CRLF line ends, fields quoted only when they
+ * contain a comma, quote or line break. Numbers are written with {@link Locale#ROOT} so a decimal comma never
+ * splits a field.
+ */
+public final class CsvWriter implements AutoCloseable {
+
+  private final Writer writer;
+
+  public CsvWriter(OutputStream out) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+  }
+
+  public CsvWriter row(Object... fields) {
+    try {
+      for (int i = 0; i < fields.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(format(fields[i]));
+      }
+      writer.write("\r\n");
+      return this;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.flush();
+  }
+
+  static String format(Object field) {
+    if (field == null) {
+      return "";
+    }
+    String text = field instanceof Double number ? String.format(Locale.ROOT, "%.4f", number) : field.toString();
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,26 @@
+package com.vetflow.api.web.v1.search;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.vetflow.api.application.typeahead.Suggestion;
+
+/** Response payload for autocomplete suggestions, best first. */
+public record AutocompleteResponse(List<Item> suggestions) {
+
+  /** One suggestion; {@code type} is owner or patient. */
+  public record Item(String type, long id, String label, String detail, long ownerId) {
+
+    static Item from(Suggestion suggestion) {
+      return new Item(suggestion.kind().name().toLowerCase(Locale.ROOT),
+          suggestion.id(),
+          suggestion.label(),
+          suggestion.detail(),
+          suggestion.ownerId());
+    }
+  }
+
+  public static AutocompleteResponse from(List<Suggestion> suggestions) {
+    return new AutocompleteResponse(suggestions.stream().map(Item::from).toList());
+  }
+}
@@ -0,0 +1,35 @@
+package com.vetflow.api.web.v1.search;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.vetflow.api.application.search.SearchResult;
+import com.vetflow.api.domain.model.SearchHit;
+
+/** Response payload for a patient and owner search. */
+public record SearchResponse(String query, List<Hit> hits) {
+
+  /** One match; {@code type} is patient or owner. Owner hits carry their own id as {@code ownerId}. */
+  public record Hit(String type,
+                    Long id,
+                    String name,
+                    String detail,
+                    Long ownerId,
+                    String ownerName,
+                    double score) {
+
+    static Hit from(SearchHit hit) {
+      return new Hit(hit.kind().name().toLowerCase(Locale.ROOT),
+          hit.id(),
+          hit.name(),
+          hit.detail(),
+          hit.ownerId(),
+          hit.ownerName(),
+          hit.score());
+    }
+  }
+
+  public static SearchResponse from(SearchResult result) {
+    return new SearchResponse(result.query(), result.hits().stream().map(Hit::from).toList());
+  }
+}
@@ -0,0 +1,42 @@
+package com.vetflow.api.web.v1.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.vetflow.api.infrastructure.sql.RequestSqlStats;
+
+/**
+ * Adds the {@code Server-Timing} header just before a response body is written, the last moment headers can
+ * still be set; by then the request's transaction has committed, so every statement is counted.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+  private final boolean enabled;
+
+  public ServerTimingAdvice(@Value("${vetflow.api.sql.server-timing:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return enabled;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    RequestSqlStats stats = RequestSqlStats.current();
+    if (stats != null) {
+      response.getHeaders().set(SqlStatsFilter.SERVER_TIMING, stats.serverTiming());
+    }
+    return body;
+  }
+}
@@ -0,0 +1,9 @@
+package com.vetflow.api.web.v1.sql;
+
+/** A request ran more statements than its endpoint's budget while budgets are enforced. */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+  public SqlBudgetExceededException(String endpoint, int statements, int budget) {
+    super("%s ran %d SQL statements, over its budget of %d".formatted(endpoint, statements, budget));
+  }
+}
@@ -0,0 +1,101 @@
+package com.vetflow.api.web.v1.sql;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.vetflow.api.config.SqlProperties;
+import com.vetflow.api.infrastructure.sql.RequestSqlStats;
+import com.vetflow.api.infrastructure.sql.SqlStatementListener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements each request runs, security lookups included. Per endpoint it records the count
+ * and total time as {@code vetflow.sql.request.statements} and {@code vetflow.sql.request.time}, flags a
+ * statement repeated {@code repeat-threshold} times as a likely N+1 load, and checks the endpoint's statement
+ * budget. Responses whose body is not written through {@link ServerTimingAdvice} get their
+ * {@code Server-Timing} header here, if not yet committed.
+ *
+ * <p>The budget can only be checked once the request has run, by which time its response is usually committed.
+ * A request over budget is therefore logged and counted in {@code vetflow.sql.budget.exceeded}, never refused.
+ * With {@code fail-on-exceed}, meant for tests, the filter also throws {@link SqlBudgetExceededException} so
+ * MockMvc fails the test; a client already holding the response does not see it.
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+  static final String SERVER_TIMING = "Server-Timing";
+  static final String STATEMENTS_METRIC = "vetflow.sql.request.statements";
+  static final String TIME_METRIC = "vetflow.sql.request.time";
+  static final String REPEATED_METRIC = "vetflow.sql.repeated";
+  static final String EXCEEDED_METRIC = "vetflow.sql.budget.exceeded";
+
+  private final SqlProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public SqlStatsFilter(SqlProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestSqlStats stats = RequestSqlStats.begin();
+    try {
+      filterChain.doFilter(request, response);
+      if (properties.isServerTiming() && !response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+        response.setHeader(SERVER_TIMING, stats.serverTiming());
+      }
+    } finally {
+      RequestSqlStats.end();
+    }
+    if (stats.statements() > 0) {
+      check(request, stats);
+    }
+  }
+
+  private void check(HttpServletRequest request, RequestSqlStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    String endpoint = request.getMethod() + " " + uri;
+    DistributionSummary.builder(STATEMENTS_METRIC)
+        .description("SQL statements run per request")
+        .tags("method", request.getMethod(), "uri", uri)
+        .register(meterRegistry)
+        .record(stats.statements());
+    Timer.builder(TIME_METRIC)
+        .description("Time per request spent executing SQL statements")
+        .tags("method", request.getMethod(), "uri", uri)
+        .register(meterRegistry)
+        .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+    Map.Entry<String, Integer> repeated = stats.mostRepeated();
+    if (repeated.getValue() >= properties.getRepeatThreshold()) {
+      meterRegistry.counter(REPEATED_METRIC, "method", request.getMethod(), "uri", uri).increment();
+      log.warn("Likely N+1 in {}: one statement ran {} times: {}", endpoint, repeated.getValue(),
+          SqlStatementListener.redact(repeated.getKey()));
+    }
+
+    SqlProperties.Budget budget = properties.getBudget();
+    int limit = budget.getEndpoints().getOrDefault(endpoint, budget.getDefaultLimit());
+    if (limit > 0 && stats.statements() > limit) {
+      meterRegistry.counter(EXCEEDED_METRIC, "method", request.getMethod(), "uri", uri).increment();
+      if (budget.isFailOnExceed()) {
+        throw new SqlBudgetExceededException(endpoint, stats.statements(), limit);
+      }
+      log.warn("{} ran {} SQL statements, over its budget of {}", endpoint, stats.statements(), limit);
+    }
+  }
+}
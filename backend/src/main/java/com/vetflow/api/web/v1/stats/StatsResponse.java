@@ -0,0 +1,28 @@
+package com.vetflow.api.web.v1.stats;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.vetflow.api.application.stats.ClinicDashboard;
+
+/** Response payload for the clinic dashboard statistics. */
+public record StatsResponse(LocalDate date,
+                            Appointments appointments,
+                            Double noShowRate,
+                            NewPatients newPatients) {
+
+  public record Appointments(long total,
+                             Map<String, Long> byStatus,
+                             Map<String, Long> byType,
+                             Map<String, Long> byVeterinarian) {}
+
+  public record NewPatients(LocalDate weekStart, long thisWeek) {}
+
+  public static StatsResponse from(ClinicDashboard dashboard) {
+    return new StatsResponse(dashboard.date(),
+        new Appointments(dashboard.appointments(), dashboard.byStatus(), dashboard.byType(),
+            dashboard.byVeterinarian()),
+        dashboard.noShowRate(),
+        new NewPatients(dashboard.weekStart(), dashboard.newPatientsThisWeek()));
+  }
+}
@@ -0,0 +1,318 @@
+package com.vetflow.api.web.v1.stream;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.config.StreamProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A named Server-Sent Events channel fanning events out to many long-lived connections.
+ *
+ * <p>Publishing never touches a socket: each connection owns a bounded queue that is drained by the shared
+ * dispatcher, one task per connection at a time. A client that falls more than
+ * {@link StreamProperties#getConnectionBufferSize()} events behind is disconnected instead of buffered
+ * without limit; its {@code EventSource} reconnects with {@code Last-Event-ID} and resumes from the replay
+ * buffer. When the requested id has already left the buffer the client receives a {@value #RESET_EVENT}
+ * event and should refetch its state.</p>
+ *
+ * <p>Event ids are {@code <epoch>-<sequence>}, the epoch being drawn at random for each channel instance.
+ * Behind a load balancer a reconnect can reach another node, or this one after a restart, whose sequence has
+ * nothing to do with the one the client saw; an id from another epoch is therefore answered with a reset
+ * instead of being compared against this channel's sequence.</p>
+ */
+@Slf4j
+public class SseChannel {
+
+  public static final String RESET_EVENT = "reset";
+
+  private static final char ID_SEPARATOR = '-';
+
+  private final String name;
+  private final StreamProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Executor dispatcher;
+  private final LongFunction<SseEmitter> emitterFactory;
+  private final String epoch;
+
+  private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+  private final ArrayDeque<StreamEvent> replay;
+  /** Not a monitor: publishers may be virtual threads, which a contended monitor pins to their carrier. */
+  private final ReentrantLock publishLock = new ReentrantLock();
+  private long lastSequence;
+
+  private final Counter published;
+  private final Counter rejected;
+  private final Counter resumed;
+  private final Counter reset;
+  private final MeterRegistry meterRegistry;
+
+  SseChannel(String name, StreamProperties properties, ObjectMapper objectMapper, Executor dispatcher,
+      MeterRegistry meterRegistry) {
+    this(name, properties, objectMapper, dispatcher, meterRegistry, SseEmitter::new, newEpoch());
+  }
+
+  SseChannel(String name, StreamProperties properties, ObjectMapper objectMapper, Executor dispatcher,
+      MeterRegistry meterRegistry, LongFunction<SseEmitter> emitterFactory, String epoch) {
+    this.name = name;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.dispatcher = dispatcher;
+    this.emitterFactory = emitterFactory;
+    this.meterRegistry = meterRegistry;
+    this.replay = new ArrayDeque<>(properties.getReplayBufferSize());
+    this.epoch = epoch;
+
+    Gauge.builder("vetflow.stream.connections", connections, Set::size)
+        .description("Open Server-Sent Events connections")
+        .tag("channel", name)
+        .register(meterRegistry);
+    this.published = counter("vetflow.stream.events.published", "Events published to the channel");
+    this.rejected = counter("vetflow.stream.connections.rejected", "Connections refused at the connection limit");
+    this.resumed = counter("vetflow.stream.resumes", "Reconnections served from the replay buffer");
+    this.reset = counter("vetflow.stream.resets", "Reconnections whose Last-Event-ID was outside the replay buffer or from another node");
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Opens a connection. With a {@code Last-Event-ID} the events published after it are replayed first.
+   */
+  public SseEmitter subscribe(String lastEventId) {
+    Connection connection = open();
+    publishLock.lock();
+    try {
+      if (lastEventId != null && !lastEventId.isBlank()) {
+        enqueueReplay(connection, lastEventId.trim());
+      }
+      connections.add(connection);
+    } finally {
+      publishLock.unlock();
+    }
+    connection.schedule();
+    return connection.emitter;
+  }
+
+  /**
+   * Opens a connection that starts with the caller's view of the current state rather than a replay, for
+   * channels whose events each carry the complete state.
+   */
+  public SseEmitter subscribeWithState(String eventName, Object state) {
+    String data = serialise(state);
+    Connection connection = open();
+    publishLock.lock();
+    try {
+      connection.offer(event(lastSequence, eventName, data));
+      connections.add(connection);
+    } finally {
+      publishLock.unlock();
+    }
+    connection.schedule();
+    return connection.emitter;
+  }
+
+  public void publish(String eventName, Object payload) {
+    String data = serialise(payload);
+    List<Connection> ready = new ArrayList<>(connections.size());
+    publishLock.lock();
+    try {
+      StreamEvent event = event(++lastSequence, eventName, data);
+      if (replay.size() == properties.getReplayBufferSize()) {
+        replay.removeFirst();
+      }
+      replay.addLast(event);
+      // Offers are non-blocking, so fanning out under the lock is cheap and keeps per-connection order.
+      for (Connection connection : connections) {
+        if (connection.offer(event)) {
+          ready.add(connection);
+        } else {
+          connection.close(DisconnectReason.OVERFLOW);
+        }
+      }
+    } finally {
+      publishLock.unlock();
+    }
+    published.increment();
+    ready.forEach(Connection::schedule);
+  }
+
+  /** Queues a keep-alive comment on idle connections; also how dead peers are noticed. */
+  void heartbeat() {
+    for (Connection connection : connections) {
+      if (connection.isIdle() && connection.offer(StreamEvent.HEARTBEAT)) {
+        connection.schedule();
+      }
+    }
+  }
+
+  void closeAll() {
+    connections.forEach(connection -> connection.close(DisconnectReason.SHUTDOWN));
+  }
+
+  int connectionCount() {
+    return connections.size();
+  }
+
+  private Connection open() {
+    if (connections.size() >= properties.getMaxConnections()) {
+      rejected.increment();
+      throw new StreamCapacityExceededException(name);
+    }
+    Connection connection = new Connection(emitterFactory.apply(properties.getTimeout().toMillis()),
+        properties.getConnectionBufferSize());
+    connection.emitter.onCompletion(() -> connection.close(DisconnectReason.COMPLETED));
+    connection.emitter.onTimeout(() -> connection.close(DisconnectReason.TIMEOUT));
+    connection.emitter.onError(ex -> connection.close(DisconnectReason.ERROR));
+    return connection;
+  }
+
+  private void enqueueReplay(Connection connection, String lastEventIdHeader) {
+    long resumeFrom = sequenceOf(lastEventIdHeader);
+    if (resumeFrom == lastSequence) {
+      return;
+    }
+    StreamEvent oldest = replay.peekFirst();
+    boolean retained = oldest != null && resumeFrom >= oldest.sequence() - 1 && resumeFrom < lastSequence;
+    if (!retained) {
+      reset.increment();
+      connection.offer(event(lastSequence, RESET_EVENT, "{}"));
+      return;
+    }
+    resumed.increment();
+    for (StreamEvent event : replay) {
+      if (event.sequence() > resumeFrom && !connection.offer(event)) {
+        // More missed events than the connection can hold; a reset is cheaper than a partial replay.
+        connection.pending.clear();
+        connection.offer(event(lastSequence, RESET_EVENT, "{}"));
+        return;
+      }
+    }
+  }
+
+  /** The sequence part of an id this channel issued, or {@link Long#MIN_VALUE} for any other id. */
+  private long sequenceOf(String eventId) {
+    int separator = eventId.lastIndexOf(ID_SEPARATOR);
+    if (separator != epoch.length() || !eventId.startsWith(epoch)) {
+      return Long.MIN_VALUE;
+    }
+    try {
+      return Long.parseLong(eventId.substring(separator + 1));
+    } catch (NumberFormatException ex) {
+      return Long.MIN_VALUE;
+    }
+  }
+
+  private StreamEvent event(long sequence, String eventName, String data) {
+    return new StreamEvent(epoch + ID_SEPARATOR + sequence, sequence, eventName, data);
+  }
+
+  private static String newEpoch() {
+    return Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, Character.MAX_RADIX);
+  }
+
+  private String serialise(Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Stream payload is not serialisable", ex);
+    }
+  }
+
+  private Counter counter(String meterName, String description) {
+    return Counter.builder(meterName)
+        .description(description)
+        .tag("channel", name)
+        .register(meterRegistry);
+  }
+
+  private enum DisconnectReason { COMPLETED, TIMEOUT, ERROR, OVERFLOW, SHUTDOWN }
+
+  private final class Connection {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamEvent> pending;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Connection(SseEmitter emitter, int capacity) {
+      this.emitter = emitter;
+      this.pending = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(StreamEvent event) {
+      return !closed.get() && pending.offer(event);
+    }
+
+    boolean isIdle() {
+      return pending.isEmpty() && !scheduled.get();
+    }
+
+    void schedule() {
+      if (closed.get() || !scheduled.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        dispatcher.execute(this::drain);
+      } catch (RejectedExecutionException ex) {
+        scheduled.set(false);
+        close(DisconnectReason.SHUTDOWN);
+      }
+    }
+
+    private void drain() {
+      try {
+        StreamEvent event;
+        while (!closed.get() && (event = pending.poll()) != null) {
+          emitter.send(event.toSse());
+        }
+      } catch (IOException | IllegalStateException ex) {
+        log.debug("Dropping {} stream subscriber: {}", name, ex.getMessage());
+        close(DisconnectReason.ERROR);
+      } finally {
+        scheduled.set(false);
+      }
+      if (!pending.isEmpty()) {
+        schedule();
+      }
+    }
+
+    void close(DisconnectReason reason) {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      connections.remove(this);
+      pending.clear();
+      meterRegistry.counter("vetflow.stream.disconnects", "channel", name, "reason",
+          reason.name().toLowerCase()).increment();
+      if (reason == DisconnectReason.OVERFLOW || reason == DisconnectReason.SHUTDOWN) {
+        try {
+          emitter.complete();
+        } catch (IllegalStateException ex) {
+          log.trace("{} stream connection already closed", name);
+        }
+      }
+    }
+  }
+}
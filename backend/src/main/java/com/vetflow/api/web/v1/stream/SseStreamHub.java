@@ -0,0 +1,53 @@
+package com.vetflow.api.web.v1.stream;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.config.StreamProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Owns the {@link SseChannel}s of this node together with the threads they share: a small dispatcher pool
+ * writing events to sockets and a single scheduler emitting heartbeats. Idle connections hold no thread.
+ */
+public class SseStreamHub {
+
+  private final StreamProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService dispatcher;
+  private final ScheduledExecutorService heartbeatScheduler;
+  private final Map<String, SseChannel> channels = new ConcurrentHashMap<>();
+
+  public SseStreamHub(StreamProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      ExecutorService dispatcher, ScheduledExecutorService heartbeatScheduler) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.dispatcher = dispatcher;
+    this.heartbeatScheduler = heartbeatScheduler;
+    long interval = properties.getHeartbeatInterval().toMillis();
+    heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /** Returns the channel with the given name, creating it on first use. */
+  public SseChannel channel(String name) {
+    return channels.computeIfAbsent(name,
+        key -> new SseChannel(key, properties, objectMapper, dispatcher, meterRegistry));
+  }
+
+  public void shutdown() {
+    heartbeatScheduler.shutdownNow();
+    channels.values().forEach(SseChannel::closeAll);
+    dispatcher.shutdown();
+  }
+
+  private void heartbeat() {
+    channels.values().forEach(SseChannel::heartbeat);
+  }
+}
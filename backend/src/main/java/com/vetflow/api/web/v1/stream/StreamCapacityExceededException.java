@@ -0,0 +1,9 @@
+package com.vetflow.api.web.v1.stream;
+
+/** Raised when a channel already holds its maximum number of connections on this node. */
+public class StreamCapacityExceededException extends RuntimeException {
+
+  public StreamCapacityExceededException(String channel) {
+    super("Stream '" + channel + "' has reached its connection limit");
+  }
+}
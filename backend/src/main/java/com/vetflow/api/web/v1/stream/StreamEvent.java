@@ -0,0 +1,25 @@
+package com.vetflow.api.web.v1.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * A pre-serialised event. Payloads are rendered to JSON once per publish rather than once per connection.
+ * The {@code id} is what clients see; {@code sequence} orders the events of the channel that issued them. A
+ * {@code null} id marks a keep-alive comment.
+ */
+record StreamEvent(String id, long sequence, String name, String data) {
+
+  static final StreamEvent HEARTBEAT = new StreamEvent(null, 0, null, "keepalive");
+
+  boolean isHeartbeat() {
+    return id == null;
+  }
+
+  SseEventBuilder toSse() {
+    if (isHeartbeat()) {
+      return SseEmitter.event().comment(data);
+    }
+    return SseEmitter.event().id(id).name(name).data(data);
+  }
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.web.v1.sync;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.vetflow.api.application.sync.SyncResult;
+import com.vetflow.api.web.v1.appointment.AppointmentResponse;
+import com.vetflow.api.web.v1.owner.OwnerResponse;
+import com.vetflow.api.web.v1.patient.PatientResponse;
+
+/**
+ * Response payload for a delta sync. When {@code reset} is set the client must discard its local copy before
+ * applying the response, which is a full download.
+ */
+public record SyncResponse(String token,
+                           boolean hasMore,
+                           boolean reset,
+                           Changes<OwnerResponse> owners,
+                           Changes<PatientResponse> patients,
+                           Changes<AppointmentResponse> appointments) {
+
+  /** Rows to upsert by id and ids to drop, for one resource type. */
+  public record Changes<T>(List<T> upserts, List<Long> removed) {
+
+    static <R, T> Changes<T> from(SyncResult.Changes<R> changes, Function<R, T> mapper) {
+      return new Changes<>(changes.upserts().stream().map(mapper).toList(), changes.removed());
+    }
+  }
+
+  public static SyncResponse from(SyncResult result) {
+    return new SyncResponse(result.token(),
+        result.hasMore(),
+        result.reset(),
+        Changes.from(result.owners(), OwnerResponse::from),
+        Changes.from(result.patients(), PatientResponse::from),
+        Changes.from(result.appointments(), AppointmentResponse::from));
+  }
+}
@@ -0,0 +1,38 @@
+package com.vetflow.api.web.v1.triage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.vetflow.api.application.triage.TriageEntry;
+import com.vetflow.api.application.triage.TriageSnapshot;
+
+/** Response payload representing one position in the triage queue. */
+public record TriageEntryResponse(int position,
+                                  Long appointmentId,
+                                  Long patientId,
+                                  Long veterinarianId,
+                                  LocalDateTime appointmentDate,
+                                  String type,
+                                  String priority,
+                                  String notes) {
+
+  public static TriageEntryResponse from(TriageEntry entry, int position) {
+    return new TriageEntryResponse(position,
+        entry.appointmentId(),
+        entry.patientId(),
+        entry.veterinarianId(),
+        entry.appointmentDate(),
+        entry.type().name(),
+        entry.priority().name(),
+        entry.notes());
+  }
+
+  /** Maps a snapshot to positioned responses (1-based, most urgent first). */
+  public static List<TriageEntryResponse> fromSnapshot(TriageSnapshot snapshot) {
+    List<TriageEntry> entries = snapshot.entries();
+    return IntStream.range(0, entries.size())
+        .mapToObj(i -> from(entries.get(i), i + 1))
+        .toList();
+  }
+}
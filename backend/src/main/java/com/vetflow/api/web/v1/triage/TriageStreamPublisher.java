@@ -0,0 +1,37 @@
+package com.vetflow.api.web.v1.triage;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.vetflow.api.application.triage.TriageQueueChangedEvent;
+import com.vetflow.api.application.triage.TriageSnapshot;
+import com.vetflow.api.web.v1.stream.SseChannel;
+import com.vetflow.api.web.v1.stream.SseStreamHub;
+
+/**
+ * Pushes the full triage queue to subscribed screens whenever it changes. The queue is small, so sending
+ * the whole snapshot keeps clients stateless and makes replay unnecessary: every subscriber starts from the
+ * current snapshot.
+ */
+@Component
+public class TriageStreamPublisher {
+
+  static final String CHANNEL = "triage";
+  static final String EVENT_NAME = "triage";
+
+  private final SseChannel channel;
+
+  public TriageStreamPublisher(SseStreamHub streamHub) {
+    this.channel = streamHub.channel(CHANNEL);
+  }
+
+  public SseEmitter subscribe(TriageSnapshot current) {
+    return channel.subscribeWithState(EVENT_NAME, TriageEntryResponse.fromSnapshot(current));
+  }
+
+  @EventListener
+  public void onQueueChanged(TriageQueueChangedEvent event) {
+    channel.publish(EVENT_NAME, TriageEntryResponse.fromSnapshot(event.snapshot()));
+  }
+}
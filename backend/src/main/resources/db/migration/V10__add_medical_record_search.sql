@@ -0,0 +1,21 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V10__add_medical_record_search.sql
+-- Description: Full-text search over medical records (GET /api/v1/medical-records/search)
+
+-- The vector is a stored generated column, so PostgreSQL recomputes it in the
+-- same statement that inserts or updates the row; there is no rebuild job.
+-- The 'simple' configuration lower-cases without stemming or stop words, which
+-- keeps drug names and abbreviations intact; prefix queries (amox*) cover the
+-- inflections stemming would have folded.
+-- Diagnosis and medications weigh most in ranking, then treatment, then notes.
+
+ALTER TABLE medical_records ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(diagnosis, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(medications, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(treatment, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_medical_records_search_vector
+    ON medical_records USING GIN (search_vector);
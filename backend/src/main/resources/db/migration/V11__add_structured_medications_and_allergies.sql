@@ -0,0 +1,169 @@
+-- =============================================
+-- V11: Structured medications and allergies
+-- =============================================
+-- Medications prescribed on a medical record and a patient's allergies move from free text into rows
+-- referencing a drug catalogue, so they can be indexed, queried and checked against each other. The free-text
+-- columns stay as they are: medical_records.medications remains the prescription as written, and
+-- patients.allergies is kept only as the source of the backfill below.
+
+-- Drug catalogue. Names are lower-case; classes group drugs that cross-react (penicillins) or interact alike.
+CREATE TABLE IF NOT EXISTS drugs (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    drug_class VARCHAR(50)  NOT NULL,
+    CONSTRAINT uq_drugs_name UNIQUE (name),
+    CONSTRAINT chk_drugs_name_lower CHECK (name = lower(name)),
+    CONSTRAINT chk_drugs_class_lower CHECK (drug_class = lower(drug_class))
+);
+
+-- Class pairs that should not be given together; drug_class <= other_drug_class so each pair has one row.
+CREATE TABLE IF NOT EXISTS drug_interactions (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    drug_class       VARCHAR(50)  NOT NULL,
+    other_drug_class VARCHAR(50)  NOT NULL,
+    severity         VARCHAR(20)  NOT NULL,
+    description      VARCHAR(255) NOT NULL,
+    CONSTRAINT uq_drug_interactions_pair UNIQUE (drug_class, other_drug_class),
+    CONSTRAINT chk_drug_interactions_order CHECK (drug_class <= other_drug_class),
+    CONSTRAINT chk_drug_interactions_severity CHECK (severity IN ('minor', 'moderate', 'major'))
+);
+
+-- One row per medication line of a record, numbered from 0 in the order written. drug_id is null for unrecognised lines.
+CREATE TABLE IF NOT EXISTS medical_record_medications (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    medical_record_id BIGINT       NOT NULL,
+    line_number       INTEGER      NOT NULL,
+    drug_id           BIGINT,
+    description       VARCHAR(500) NOT NULL,
+    CONSTRAINT fk_record_medication_record
+        FOREIGN KEY (medical_record_id) REFERENCES medical_records(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_record_medication_drug
+        FOREIGN KEY (drug_id) REFERENCES drugs(id)
+        ON DELETE SET NULL,
+    CONSTRAINT uq_record_medication_line UNIQUE (medical_record_id, line_number)
+);
+
+CREATE INDEX IF NOT EXISTS idx_record_medications_drug_id ON medical_record_medications (drug_id);
+
+-- A patient's allergies. The allergen is kept as entered; drug_id and drug_class are set when it names a
+-- catalogue drug or class, and drive the safety check.
+CREATE TABLE IF NOT EXISTS patient_allergies (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    patient_id BIGINT       NOT NULL,
+    allergen   VARCHAR(100) NOT NULL,
+    drug_id    BIGINT,
+    drug_class VARCHAR(50),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_patient_allergy_patient
+        FOREIGN KEY (patient_id) REFERENCES patients(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_patient_allergy_drug
+        FOREIGN KEY (drug_id) REFERENCES drugs(id)
+        ON DELETE SET NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_patient_allergies_allergen ON patient_allergies (patient_id, lower(allergen));
+
+-- =============================================
+-- Seed catalogue
+-- =============================================
+
+INSERT INTO drugs (name, drug_class) VALUES
+    ('amoxicillin', 'penicillin'),
+    ('amoxicillin-clavulanate', 'penicillin'),
+    ('amoxiclav', 'penicillin'),
+    ('ampicillin', 'penicillin'),
+    ('penicillin g', 'penicillin'),
+    ('cefalexin', 'cephalosporin'),
+    ('cephalexin', 'cephalosporin'),
+    ('cefovecin', 'cephalosporin'),
+    ('cefazolin', 'cephalosporin'),
+    ('enrofloxacin', 'fluoroquinolone'),
+    ('marbofloxacin', 'fluoroquinolone'),
+    ('pradofloxacin', 'fluoroquinolone'),
+    ('doxycycline', 'tetracycline'),
+    ('metronidazole', 'nitroimidazole'),
+    ('clindamycin', 'lincosamide'),
+    ('trimethoprim-sulfonamide', 'sulfonamide'),
+    ('meloxicam', 'nsaid'),
+    ('carprofen', 'nsaid'),
+    ('robenacoxib', 'nsaid'),
+    ('firocoxib', 'nsaid'),
+    ('grapiprant', 'nsaid'),
+    ('aspirin', 'nsaid'),
+    ('prednisolone', 'corticosteroid'),
+    ('prednisone', 'corticosteroid'),
+    ('dexamethasone', 'corticosteroid'),
+    ('methylprednisolone', 'corticosteroid'),
+    ('buprenorphine', 'opioid'),
+    ('methadone', 'opioid'),
+    ('butorphanol', 'opioid'),
+    ('tramadol', 'opioid'),
+    ('gabapentin', 'anticonvulsant'),
+    ('phenobarbital', 'anticonvulsant'),
+    ('maropitant', 'antiemetic'),
+    ('omeprazole', 'proton pump inhibitor'),
+    ('furosemide', 'loop diuretic'),
+    ('enalapril', 'ace inhibitor'),
+    ('benazepril', 'ace inhibitor'),
+    ('selegiline', 'mao inhibitor'),
+    ('fluoxetine', 'ssri'),
+    ('clomipramine', 'tricyclic antidepressant'),
+    ('ivermectin', 'macrocyclic lactone'),
+    ('milbemycin', 'macrocyclic lactone'),
+    ('spinosad', 'spinosyn')
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO drug_interactions (drug_class, other_drug_class, severity, description) VALUES
+    ('nsaid', 'nsaid', 'major', 'Two NSAIDs together sharply raise the risk of gastrointestinal ulceration'),
+    ('corticosteroid', 'nsaid', 'major', 'NSAIDs with corticosteroids risk gastrointestinal ulceration and perforation'),
+    ('ace inhibitor', 'nsaid', 'moderate', 'NSAIDs reduce the effect of ACE inhibitors and can impair renal function'),
+    ('loop diuretic', 'nsaid', 'moderate', 'NSAIDs reduce diuretic effect and raise the risk of kidney injury'),
+    ('mao inhibitor', 'opioid', 'major', 'Risk of serotonin syndrome'),
+    ('mao inhibitor', 'ssri', 'major', 'Risk of serotonin syndrome'),
+    ('mao inhibitor', 'tricyclic antidepressant', 'major', 'Risk of serotonin syndrome'),
+    ('opioid', 'ssri', 'moderate', 'Tramadol with SSRIs risks serotonin syndrome'),
+    ('macrocyclic lactone', 'spinosyn', 'moderate', 'Spinosad raises ivermectin levels and the risk of neurotoxicity'),
+    ('fluoroquinolone', 'nsaid', 'minor', 'May increase the risk of CNS stimulation and seizures')
+ON CONFLICT (drug_class, other_drug_class) DO NOTHING;
+
+-- =============================================
+-- Backfill from free text
+-- =============================================
+-- Lines are split on commas, semicolons and newlines. A line is linked to the longest catalogue name it
+-- contains as whole words, compared with punctuation folded to spaces, the same rule the application applies
+-- to new records; lines naming no catalogue drug are kept unlinked.
+
+INSERT INTO medical_record_medications (medical_record_id, line_number, drug_id, description)
+SELECT DISTINCT ON (line.record_id, line.line_number)
+       line.record_id, line.line_number, d.id, left(line.text, 500)
+FROM (
+    SELECT m.id AS record_id, btrim(part.text) AS text,
+           (ROW_NUMBER() OVER (PARTITION BY m.id ORDER BY part.ordinality) - 1)::INTEGER AS line_number
+    FROM medical_records m
+    CROSS JOIN LATERAL regexp_split_to_table(m.medications, '[,;\n]') WITH ORDINALITY AS part(text, ordinality)
+    WHERE m.medications IS NOT NULL AND btrim(part.text) <> ''
+) line
+LEFT JOIN drugs d
+       ON ' ' || btrim(regexp_replace(lower(line.text), '[^a-z0-9]+', ' ', 'g')) || ' '
+          LIKE '% ' || regexp_replace(d.name, '[^a-z0-9]+', ' ', 'g') || ' %'
+ORDER BY line.record_id, line.line_number, length(d.name) DESC NULLS LAST;
+
+-- An allergen naming a drug records the drug and its class; one naming a class (singular or plural) records
+-- just the class.
+INSERT INTO patient_allergies (patient_id, allergen, drug_id, drug_class)
+SELECT DISTINCT ON (a.patient_id, lower(a.allergen))
+       a.patient_id, a.allergen, d.id, coalesce(d.drug_class, c.drug_class)
+FROM (
+    SELECT p.id AS patient_id, left(btrim(part), 100) AS allergen,
+           btrim(regexp_replace(lower(part), '[^a-z0-9]+', ' ', 'g')) AS folded
+    FROM patients p
+    CROSS JOIN LATERAL regexp_split_to_table(p.allergies, '[,;\n]') AS part
+    WHERE p.allergies IS NOT NULL AND btrim(part) <> ''
+) a
+LEFT JOIN drugs d ON regexp_replace(d.name, '[^a-z0-9]+', ' ', 'g') = a.folded
+LEFT JOIN (SELECT DISTINCT drug_class FROM drugs) c
+       ON c.drug_class = a.folded OR c.drug_class || 's' = a.folded
+ORDER BY a.patient_id, lower(a.allergen), d.id NULLS LAST
+ON CONFLICT DO NOTHING;
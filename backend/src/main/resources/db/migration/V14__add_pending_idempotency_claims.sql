@@ -0,0 +1,8 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V14__add_pending_idempotency_claims.sql
+-- Description: Idempotency keys are claimed before the request runs and completed with its response after
+
+ALTER TABLE idempotency_keys ALTER COLUMN status_code DROP NOT NULL;
+
+COMMENT ON COLUMN idempotency_keys.status_code IS
+    'NULL while the claiming request is still running; expires_at is then the lease on the claim';
@@ -0,0 +1,12 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V15__page_sync_tombstones_by_table.sql
+-- Description: Delta sync pages tombstones per table; old tombstones are purged
+
+-- Each sync reads one page of tombstones per table in (deleted_at, id)
+-- order, so the index leads with the table and ends with the id tie-break.
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_table_deleted_at
+    ON sync_tombstones(table_name, deleted_at, id);
+DROP INDEX IF EXISTS idx_sync_tombstones_deleted_at;
+
+COMMENT ON TABLE sync_tombstones IS
+    'Ids of hard-deleted rows, kept for vetflow.api.sync.tombstone-retention so offline clients can drop them on their next delta sync';
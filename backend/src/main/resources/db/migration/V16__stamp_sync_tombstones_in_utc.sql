@@ -0,0 +1,28 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V16__stamp_sync_tombstones_in_utc.sql
+-- Description: Tombstones are stamped in UTC, like the updated_at columns they are compared with
+
+-- The application writes updated_at through Hibernate with
+-- hibernate.jdbc.time_zone=UTC, so those columns hold UTC wall-clock time.
+-- deleted_at defaulted to LOCALTIMESTAMP, the wall clock of the session time
+-- zone, which PgJDBC sets to the JVM's zone. One sync cursor is compared
+-- against both, so outside UTC deletions were skipped or sent again.
+
+-- Existing tombstones were written in the session zone of the application's
+-- connections, which is also the zone this migration runs in.
+UPDATE sync_tombstones
+SET deleted_at = (deleted_at AT TIME ZONE current_setting('TimeZone')) AT TIME ZONE 'UTC';
+
+ALTER TABLE sync_tombstones
+    ALTER COLUMN deleted_at SET DEFAULT (statement_timestamp() AT TIME ZONE 'UTC');
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (table_name, record_id, deleted_at)
+    VALUES (TG_TABLE_NAME, OLD.id, statement_timestamp() AT TIME ZONE 'UTC');
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON COLUMN sync_tombstones.deleted_at IS
+    'UTC wall-clock time of the delete, comparable with the updated_at columns written by the application';
@@ -0,0 +1,67 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V5__add_sync_change_tracking.sql
+-- Description: Change tracking for the delta-sync endpoint (GET /api/v1/sync)
+
+-- =============================================
+-- SECTION 1: UPDATED_AT ON APPOINTMENTS AND MEDICAL RECORDS
+-- =============================================
+
+ALTER TABLE appointments ADD COLUMN updated_at TIMESTAMP;
+UPDATE appointments SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP);
+ALTER TABLE appointments
+    ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN updated_at SET NOT NULL;
+
+ALTER TABLE medical_records ADD COLUMN updated_at TIMESTAMP;
+UPDATE medical_records SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP);
+ALTER TABLE medical_records
+    ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP,
+    ALTER COLUMN updated_at SET NOT NULL;
+
+UPDATE owners SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+UPDATE patients SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+
+-- =============================================
+-- SECTION 2: CHANGE SEQUENCE INDEXES
+-- =============================================
+-- Sync pages through each table in (updated_at, id) order; the composite
+-- index turns every page into a bounded range scan.
+
+CREATE INDEX IF NOT EXISTS idx_owners_updated_at_id          ON owners(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_patients_updated_at_id        ON patients(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_appointments_updated_at_id    ON appointments(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_medical_records_updated_at_id ON medical_records(updated_at, id);
+
+-- =============================================
+-- SECTION 3: TOMBSTONES FOR HARD DELETES
+-- =============================================
+-- Deactivated patients are still rows and sync as removals on their own;
+-- rows that are physically deleted leave a tombstone behind.
+
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    table_name VARCHAR(50) NOT NULL,
+    record_id  BIGINT      NOT NULL,
+    deleted_at TIMESTAMP   NOT NULL DEFAULT LOCALTIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at, table_name);
+
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (table_name, record_id) VALUES (TG_TABLE_NAME, OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_owners_sync_tombstone
+    AFTER DELETE ON owners FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone();
+CREATE TRIGGER trg_patients_sync_tombstone
+    AFTER DELETE ON patients FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone();
+CREATE TRIGGER trg_appointments_sync_tombstone
+    AFTER DELETE ON appointments FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone();
+CREATE TRIGGER trg_medical_records_sync_tombstone
+    AFTER DELETE ON medical_records FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone();
+
+COMMENT ON TABLE sync_tombstones IS
+    'Ids of hard-deleted rows, kept so offline clients can drop them on their next delta sync';
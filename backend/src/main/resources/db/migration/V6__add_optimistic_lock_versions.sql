@@ -0,0 +1,20 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V6__add_optimistic_lock_versions.sql
+-- Description: Version columns for optimistic locking on the mutable aggregates
+
+-- =============================================
+-- SECTION 1: VERSION COLUMNS
+-- =============================================
+-- Incremented by Hibernate on every update; an UPDATE that matches no row
+-- because the version moved on is reported as a concurrent modification.
+-- Existing rows start at 0.
+
+ALTER TABLE owners          ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE patients        ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE appointments    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE medical_records ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN owners.version          IS 'Optimistic lock version, incremented on every update';
+COMMENT ON COLUMN patients.version        IS 'Optimistic lock version, incremented on every update';
+COMMENT ON COLUMN appointments.version    IS 'Optimistic lock version, incremented on every update';
+COMMENT ON COLUMN medical_records.version IS 'Optimistic lock version, incremented on every update';
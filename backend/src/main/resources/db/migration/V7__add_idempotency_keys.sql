@@ -0,0 +1,24 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V7__add_idempotency_keys.sql
+-- Description: Stored first responses for POST requests carrying an Idempotency-Key header
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id                  BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    principal           VARCHAR(100) NOT NULL,
+    idempotency_key     VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(64)  NOT NULL,
+    status_code         INTEGER      NOT NULL,
+    content_type        VARCHAR(100),
+    location            VARCHAR(500),
+    response_body       TEXT,
+    created_at          TIMESTAMP    NOT NULL DEFAULT LOCALTIMESTAMP,
+    expires_at          TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_idempotency_keys_principal_key UNIQUE (principal, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+COMMENT ON TABLE idempotency_keys IS
+    'First response per (principal, Idempotency-Key), replayed when a client retries the same POST';
+COMMENT ON COLUMN idempotency_keys.request_fingerprint IS
+    'SHA-256 of method, path and body; a key reused for a different request is rejected';
@@ -0,0 +1,13 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V8__add_patient_timeline_indexes.sql
+-- Description: Keyset indexes for the patient timeline (GET /api/v1/patients/{id}/timeline)
+
+-- Each timeline source is read newest first from a (date, id) position within one
+-- patient; these indexes make every page a bounded backward range scan.
+
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_date_id
+    ON appointments(patient_id, appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_medical_records_patient_visit_id
+    ON medical_records(patient_id, visit_date, id);
+CREATE INDEX IF NOT EXISTS idx_audit_log_record_changed_id
+    ON audit_log(table_name, record_id, changed_at, id);
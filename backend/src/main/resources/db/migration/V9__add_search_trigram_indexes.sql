@@ -0,0 +1,24 @@
+-- VetFlow - Veterinary Management System
+-- Flyway Migration: V9__add_search_trigram_indexes.sql
+-- Description: Trigram indexes for patient and owner search (GET /api/v1/search)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Search matches substrings and near misses on lower-cased text, so every
+-- index is on the same lower(...) expression the search query uses; a plain
+-- B-tree on the column cannot serve '%term%' or similarity lookups.
+
+CREATE INDEX IF NOT EXISTS idx_patients_name_trgm
+    ON patients USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_patients_breed_trgm
+    ON patients USING GIN (lower(breed) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_owners_name_trgm
+    ON owners USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_owners_email_trgm
+    ON owners USING GIN (lower(email) gin_trgm_ops);
+
+-- Phone numbers are stored as typed ("+1 (555) 010-2030"); searching on the
+-- digits alone lets "5550102" find them whatever the formatting.
+CREATE INDEX IF NOT EXISTS idx_owners_phone_digits_trgm
+    ON owners USING GIN (regexp_replace(phone, '[^0-9]', '', 'g') gin_trgm_ops);
@@ -3,6 +3,7 @@ package com.vetflow.api.application.appointment;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -13,9 +14,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
@@ -35,6 +38,8 @@ class AppointmentApplicationServiceTest {
   private PatientRepository patientRepository;
   @Mock
   private AuditService auditService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private AppointmentApplicationService service;
@@ -92,7 +97,7 @@ class AppointmentApplicationServiceTest {
   void rescheduleAppointment_notFound() {
     when(appointmentRepository.findById(999L)).thenReturn(Optional.empty());
 
-    RescheduleAppointmentCommand command = new RescheduleAppointmentCommand(999L, LocalDateTime.now().plusDays(3));
+    RescheduleAppointmentCommand command = new RescheduleAppointmentCommand(999L, LocalDateTime.now().plusDays(3), null);
 
     assertThatThrownBy(() -> service.rescheduleAppointment(command))
         .isInstanceOf(ResourceNotFoundException.class);
@@ -100,7 +105,7 @@ class AppointmentApplicationServiceTest {
 
   @Test
   void rescheduleAppointment_requiresDate() {
-    RescheduleAppointmentCommand rescheduleAppointmentCommand = new RescheduleAppointmentCommand(1L, null);
+    RescheduleAppointmentCommand rescheduleAppointmentCommand = new RescheduleAppointmentCommand(1L, null, null);
     assertThatThrownBy(() -> service.rescheduleAppointment(rescheduleAppointmentCommand))
         .isInstanceOf(ValidationException.class);
   }
@@ -110,11 +115,26 @@ class AppointmentApplicationServiceTest {
     when(appointmentRepository.findById(scheduledAppointment.getId())).thenReturn(Optional.of(scheduledAppointment));
     when(appointmentRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
-    AppointmentResult result = service.cancelAppointment(new CancelAppointmentCommand(scheduledAppointment.getId(), "Busy"));
+    AppointmentResult result = service.cancelAppointment(new CancelAppointmentCommand(scheduledAppointment.getId(), "Busy", null));
 
     assertThat(result.status()).isEqualTo(Appointment.Status.CANCELLED);
   }
 
+  @Test
+  void cancelAppointment_publishesChangeWithPreviousState() {
+    when(appointmentRepository.findById(scheduledAppointment.getId())).thenReturn(Optional.of(scheduledAppointment));
+    when(appointmentRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+    service.cancelAppointment(new CancelAppointmentCommand(scheduledAppointment.getId(), "Busy", null));
+
+    ArgumentCaptor<AppointmentChangedEvent> captor = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    AppointmentChangedEvent event = captor.getValue();
+    assertThat(event.changeType()).isEqualTo(AppointmentChangedEvent.ChangeType.CANCELLED);
+    assertThat(event.appointment().status()).isEqualTo(Appointment.Status.CANCELLED);
+    assertThat(event.previous().status()).isEqualTo(Appointment.Status.SCHEDULED);
+  }
+
   @Test
   void listByPatient_sortsDescending() {
     Appointment older = scheduledAppointment.toBuilder()
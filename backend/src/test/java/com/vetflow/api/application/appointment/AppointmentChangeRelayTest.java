@@ -0,0 +1,89 @@
+package com.vetflow.api.application.appointment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent.ChangeType;
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentChangeRelayTest {
+
+  @Mock
+  private ChangeBus changeBus;
+  @Mock
+  private AppointmentApplicationService appointmentApplicationService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private AppointmentChangeRelay relay;
+
+  private final AppointmentResult appointment = new AppointmentResult(5L, 2L, null, LocalDateTime.now(),
+      Type.CHECKUP, Status.CANCELLED, Priority.NORMAL, null, LocalDateTime.now(), 0L);
+
+  @Test
+  void announcesLocalChanges() {
+    relay.onLocalChange(new AppointmentChangedEvent(ChangeType.CANCELLED, appointment, null));
+
+    verify(changeBus).publish("appointments", 5L, 0L, "cancelled");
+  }
+
+  @Test
+  void doesNotReannounceRemoteChanges() {
+    relay.onLocalChange(new AppointmentChangedEvent(ChangeType.CANCELLED, appointment, null, true));
+
+    verify(changeBus, never()).publish(anyString(), any(), anyLong(), anyString());
+  }
+
+  @Test
+  void republishesRemoteChangesLocally() {
+    when(appointmentApplicationService.getAppointment(5L)).thenReturn(appointment);
+
+    relay.onRemoteChange(new ChangeNotification("appointments", 5L, 0L, "cancelled", true));
+
+    ArgumentCaptor<AppointmentChangedEvent> captor = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue().remote()).isTrue();
+    assertThat(captor.getValue().changeType()).isEqualTo(ChangeType.CANCELLED);
+    assertThat(captor.getValue().appointment()).isEqualTo(appointment);
+  }
+
+  @Test
+  void ignoresLocalAndUnrelatedNotifications() {
+    relay.onRemoteChange(new ChangeNotification("appointments", 5L, 0L, "cancelled", false));
+    relay.onRemoteChange(new ChangeNotification("owners", 5L, 0L, "updated", true));
+
+    verifyNoInteractions(appointmentApplicationService, eventPublisher);
+  }
+
+  @Test
+  void skipsAppointmentsDeletedSinceTheNotification() {
+    when(appointmentApplicationService.getAppointment(5L)).thenThrow(new ResourceNotFoundException("gone"));
+
+    relay.onRemoteChange(new ChangeNotification("appointments", 5L, 0L, "rescheduled", true));
+
+    verifyNoInteractions(eventPublisher);
+  }
+}
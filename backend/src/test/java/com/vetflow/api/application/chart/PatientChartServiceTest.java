@@ -0,0 +1,149 @@
+package com.vetflow.api.application.chart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.chart.PatientChart.Section;
+import com.vetflow.api.application.medicalrecord.MedicalRecordResult;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.application.veterinarian.VeterinarianResult;
+import com.vetflow.api.config.ChartProperties;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.MedicalRecord;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.Veterinarian;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.MedicalRecordRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.VeterinarianRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PatientChartServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+  @Mock
+  private PatientRepository patientRepository;
+  @Mock
+  private AppointmentRepository appointmentRepository;
+  @Mock
+  private MedicalRecordRepository medicalRecordRepository;
+  @Mock
+  private VeterinarianRepository veterinarianRepository;
+
+  private final ChartProperties properties = new ChartProperties();
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private PatientChartService service;
+  private Patient patient;
+
+  @BeforeEach
+  void setUp() {
+    properties.setRecentLimit(2);
+    service = new PatientChartService(patientRepository, appointmentRepository, medicalRecordRepository,
+        veterinarianRepository, properties, executor, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    Owner owner = Owner.builder().id(1L).name("Alice").email("alice@example.com").phone("+12345678901").build();
+    patient = Patient.builder().id(10L).name("Rex").species(Patient.Species.DOG)
+        .birthDate(LocalDate.of(2020, 1, 1)).owner(owner).isActive(true).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void assemblesAllSections() {
+    when(patientRepository.findById(10L)).thenReturn(Optional.of(patient));
+    when(appointmentRepository.findByPatient(10L)).thenReturn(List.of(
+        appointment(1L, NOW.minusDays(3), 5L),
+        appointment(2L, NOW.plusDays(2), 6L),
+        appointment(3L, NOW.plusDays(1), null),
+        appointment(4L, NOW.minusDays(1), 5L),
+        appointment(5L, NOW.minusDays(9), 5L)));
+    when(medicalRecordRepository.findByPatientId(10L)).thenReturn(List.of(record(7L, NOW.minusDays(3), 7L)));
+    when(veterinarianRepository.findAllById(Set.of(5L, 6L, 7L))).thenReturn(List.of(
+        Veterinarian.builder().id(5L).username("dr.five").build()));
+
+    PatientChart chart = service.chart(10L);
+
+    assertThat(chart.patient().id()).isEqualTo(10L);
+    assertThat(chart.owner().name()).isEqualTo("Alice");
+    assertThat(chart.upcomingAppointments()).extracting(AppointmentResult::id).containsExactly(3L, 2L);
+    assertThat(chart.pastAppointments()).extracting(AppointmentResult::id).containsExactly(4L, 1L);
+    assertThat(chart.recentMedicalRecords()).extracting(MedicalRecordResult::id).containsExactly(7L);
+    assertThat(chart.veterinarians()).extracting(VeterinarianResult::id).containsExactly(5L);
+    assertThat(chart.unavailable()).isEmpty();
+  }
+
+  @Test
+  void missingPatientFailsTheChart() {
+    when(patientRepository.findById(10L)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.chart(10L)).isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  void slowPatientFailsTheChartAsUnavailable() {
+    properties.setPatientTimeout(Duration.ofMillis(50));
+    when(patientRepository.findById(10L)).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(500);
+      return Optional.of(patient);
+    });
+
+    assertThatThrownBy(() -> service.chart(10L)).isInstanceOf(ServiceUnavailableException.class);
+  }
+
+  @Test
+  void slowOptionalSectionIsReportedUnavailable() {
+    properties.setMedicalRecordsTimeout(Duration.ofMillis(50));
+    when(patientRepository.findById(10L)).thenReturn(Optional.of(patient));
+    when(appointmentRepository.findByPatient(10L)).thenReturn(List.of());
+    when(medicalRecordRepository.findByPatientId(10L)).thenAnswer(invocation -> {
+      TimeUnit.MILLISECONDS.sleep(500);
+      return List.of(record(7L, NOW.minusDays(3), 7L));
+    });
+
+    PatientChart chart = service.chart(10L);
+
+    assertThat(chart.unavailable()).containsExactly(Section.MEDICAL_RECORDS);
+    assertThat(chart.recentMedicalRecords()).isEmpty();
+    verify(veterinarianRepository, never()).findAllById(anyCollection());
+  }
+
+  private Appointment appointment(Long id, LocalDateTime date, Long veterinarianId) {
+    return Appointment.builder().id(id).patient(patient).appointmentDate(date).veterinarianId(veterinarianId)
+        .type(Appointment.Type.CHECKUP).status(Appointment.Status.SCHEDULED).priority(Appointment.Priority.NORMAL)
+        .build();
+  }
+
+  private MedicalRecord record(Long id, LocalDateTime visitDate, Long veterinarianId) {
+    return MedicalRecord.builder().id(id).patient(patient).visitDate(visitDate).veterinarianId(veterinarianId)
+        .diagnosis("Healthy").build();
+  }
+}
@@ -0,0 +1,117 @@
+package com.vetflow.api.application.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.vetflow.api.config.IdempotencyProperties;
+import com.vetflow.api.domain.model.IdempotencyRecord;
+import com.vetflow.api.domain.port.IdempotencyRecordRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+  private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+  @Mock
+  private IdempotencyRecordRepository repository;
+
+  private final IdempotencyProperties properties = new IdempotencyProperties();
+  private IdempotencyStore store;
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaxEntries(10);
+    store = new IdempotencyStore(repository, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void claimsKeyWithPendingRecordForTheLease() {
+    when(repository.claim(any(), any())).thenReturn(true);
+
+    IdempotencyStore.Claim claim = store.claim("alice", "key-1", "abc");
+
+    ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+    verify(repository).claim(captor.capture(), eq(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC)));
+    assertThat(claim.acquired()).isTrue();
+    assertThat(captor.getValue().isPending()).isTrue();
+    assertThat(captor.getValue().expiresAt())
+        .isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plus(properties.getPendingTimeout()));
+  }
+
+  @Test
+  void completesClaimWithResponseUntilTtl() {
+    when(repository.claim(any(), any())).thenReturn(true);
+    when(repository.complete(any())).thenReturn(true);
+    IdempotencyStore.Claim claim = store.claim("alice", "key-1", "abc");
+
+    store.complete(claim, 201, "application/json", "/api/v1/owners/1", "{}");
+
+    ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+    verify(repository).complete(captor.capture());
+    assertThat(captor.getValue().statusCode()).isEqualTo(201);
+    assertThat(captor.getValue().createdAt()).isEqualTo(claim.claimedAt());
+    assertThat(captor.getValue().expiresAt())
+        .isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plus(properties.getTtl()));
+  }
+
+  @Test
+  void firstWriterWinsAcrossNodes() {
+    IdempotencyRecord holder = new IdempotencyRecord("alice", "key-1", "abc", null, null, null, null,
+        LocalDateTime.ofInstant(NOW, ZoneOffset.UTC), LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusMinutes(1));
+    when(repository.claim(any(), any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+    when(repository.findActive(eq("alice"), eq("key-1"), any())).thenReturn(Optional.of(holder));
+
+    IdempotencyStore.Claim claim = store.claim("alice", "key-1", "abc");
+
+    assertThat(claim.acquired()).isFalse();
+    assertThat(claim.holder()).isEqualTo(holder);
+  }
+
+  @Test
+  void retryOnThisNodeWaitsForTheClaimToFinish() throws Exception {
+    when(repository.claim(any(), any())).thenReturn(true);
+    IdempotencyStore.Claim claim = store.claim("alice", "key-1", "abc");
+
+    IdempotencyStore.Claim retry = store.claim("alice", "key-1", "abc");
+    CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+      try {
+        store.awaitRelease("alice", "key-1", Duration.ofSeconds(10));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    store.release(claim);
+
+    assertThat(retry.acquired()).isFalse();
+    waiting.get(5, TimeUnit.SECONDS);
+    verify(repository).release("alice", "key-1", claim.claimedAt());
+  }
+
+  @Test
+  void purgeDropsExpiredAndExcessRecords() {
+    store.purge();
+
+    verify(repository).deleteExpired(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    verify(repository).trimTo(10);
+  }
+}
@@ -3,6 +3,11 @@ package com.vetflow.api.application.medicalrecord;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -17,14 +22,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.vetflow.api.application.medication.MedicationSafetyService;
+import com.vetflow.api.application.medication.MedicationWarning;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
 import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.Drug;
 import com.vetflow.api.domain.model.MedicalRecord;
 import com.vetflow.api.domain.model.Owner;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.PrescribedMedication;
 import com.vetflow.api.domain.port.MedicalRecordRepository;
 import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.PrescribedMedicationRepository;
 
 @ExtendWith(MockitoExtension.class)
 class MedicalRecordApplicationServiceTest {
@@ -35,6 +45,10 @@ class MedicalRecordApplicationServiceTest {
   private PatientRepository patientRepository;
   @Mock
   private AuditService auditService;
+  @Mock
+  private PrescribedMedicationRepository prescribedMedicationRepository;
+  @Mock
+  private MedicationSafetyService medicationSafetyService;
 
   @InjectMocks
   private MedicalRecordApplicationService service;
@@ -93,6 +107,26 @@ class MedicalRecordApplicationServiceTest {
 
     assertThat(result.id()).isEqualTo(10L);
     assertThat(result.patientId()).isEqualTo(patient.getId());
+    assertThat(result.warnings()).isEmpty();
+    verify(prescribedMedicationRepository, never()).saveAll(anyLong(), anyList());
+  }
+
+  @Test
+  void createMedicalRecord_storesMedicationLinesAndReturnsWarnings() {
+    when(patientRepository.findById(patient.getId())).thenReturn(Optional.of(patient));
+    when(medicalRecordRepository.save(any())).thenAnswer(inv -> inv.<MedicalRecord>getArgument(0).toBuilder().id(10L).build());
+    List<PrescribedMedication> lines = List.of(
+        new PrescribedMedication("Amoxicillin 250mg", new Drug(1L, "amoxicillin", "penicillin")));
+    MedicationWarning warning = new MedicationWarning(MedicationWarning.Type.ALLERGY, "Amoxicillin 250mg",
+        "amoxicillin is a penicillin; patient is allergic to penicillin");
+    when(medicationSafetyService.prescribe(anyString())).thenReturn(lines);
+    when(medicationSafetyService.check(patient.getId(), lines)).thenReturn(List.of(warning));
+
+    MedicalRecordResult result = service.createMedicalRecord(new CreateMedicalRecordCommand(patient.getId(),
+        8L, LocalDateTime.now(), "Otitis", null, "Amoxicillin 250mg", null));
+
+    assertThat(result.warnings()).containsExactly(warning);
+    verify(prescribedMedicationRepository).saveAll(10L, lines);
   }
 
   @Test
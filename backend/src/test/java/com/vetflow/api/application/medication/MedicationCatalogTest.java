@@ -0,0 +1,56 @@
+package com.vetflow.api.application.medication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+import com.vetflow.api.domain.model.DrugInteraction.Severity;
+import com.vetflow.api.domain.model.PrescribedMedication;
+
+class MedicationCatalogTest {
+
+  private static final Drug AMOXICILLIN = new Drug(1L, "amoxicillin", "penicillin");
+  private static final Drug AMOXICLAV = new Drug(2L, "amoxicillin-clavulanate", "penicillin");
+  private static final Drug MELOXICAM = new Drug(3L, "meloxicam", "nsaid");
+  private static final Drug PREDNISOLONE = new Drug(4L, "prednisolone", "corticosteroid");
+
+  private final MedicationCatalog catalog = new MedicationCatalog(
+      List.of(AMOXICILLIN, AMOXICLAV, MELOXICAM, PREDNISOLONE),
+      List.of(new DrugInteraction("corticosteroid", "nsaid", Severity.MAJOR, "GI ulceration")));
+
+  @Test
+  void splitsLinesAndLinksTheLongestDrugName() {
+    List<PrescribedMedication> lines = catalog.parse(
+        "Amoxicillin/Clavulanate 250mg BID;  Meloxicam 0.1 mg/kg SID\nVitamin B complex, ");
+
+    assertThat(lines).extracting(PrescribedMedication::description)
+        .containsExactly("Amoxicillin/Clavulanate 250mg BID", "Meloxicam 0.1 mg/kg SID", "Vitamin B complex");
+    assertThat(lines).extracting(PrescribedMedication::drug).containsExactly(AMOXICLAV, MELOXICAM, null);
+  }
+
+  @Test
+  void matchesWholeWordsOnly() {
+    assertThat(catalog.find("give amoxicillin with food")).isEqualTo(AMOXICILLIN);
+    assertThat(catalog.find("amoxicillins")).isNull();
+    assertThat(catalog.parse(null)).isEmpty();
+  }
+
+  @Test
+  void resolvesAllergensToDrugsOrClasses() {
+    assertThat(catalog.drugNamed(" Amoxicillin ")).isEqualTo(AMOXICILLIN);
+    assertThat(catalog.classNamed("Penicillins")).isEqualTo("penicillin");
+    assertThat(catalog.classNamed("NSAID")).isEqualTo("nsaid");
+    assertThat(catalog.classNamed("chicken")).isNull();
+  }
+
+  @Test
+  void findsInteractionsInEitherOrder() {
+    assertThat(catalog.interaction("nsaid", "corticosteroid")).isNotNull();
+    assertThat(catalog.interaction("corticosteroid", "nsaid")).isNotNull();
+    assertThat(catalog.interaction("nsaid", "penicillin")).isNull();
+  }
+}
@@ -0,0 +1,134 @@
+package com.vetflow.api.application.medication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.application.medication.MedicationWarning.Type;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.domain.model.Drug;
+import com.vetflow.api.domain.model.DrugInteraction;
+import com.vetflow.api.domain.model.DrugInteraction.Severity;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.DrugCatalog;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MedicationSafetyServiceTest {
+
+  @Mock
+  private DrugCatalog drugCatalog;
+  @Mock
+  private PatientAllergyRepository allergyRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private List<PatientAllergy> allergies = List.of(
+      new PatientAllergy(1L, 7L, "Penicillin", null, "penicillin"),
+      new PatientAllergy(2L, 7L, "Chlorhexidine", null, null));
+  private MedicationSafetyService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new MedicationSafetyService(drugCatalog, allergyRepository, meterRegistry);
+  }
+
+  @Test
+  void warnsAboutAllergyClassesNamesAndInteractions() {
+    load();
+
+    List<MedicationWarning> warnings = service.check(7L,
+        service.prescribe("Amoxicillin 250mg BID, Meloxicam 0.1mg/kg, Prednisolone 1mg/kg, Chlorhexidine wash"));
+
+    assertThat(warnings).extracting(MedicationWarning::type, MedicationWarning::medication)
+        .containsExactly(
+            tuple(Type.ALLERGY, "Amoxicillin 250mg BID"),
+            tuple(Type.ALLERGY, "Chlorhexidine wash"),
+            tuple(Type.INTERACTION, "Prednisolone 1mg/kg"));
+    assertThat(warnings.get(2).message()).startsWith("major interaction between meloxicam and prednisolone");
+    assertThat(service.check(8L, service.prescribe("Amoxicillin 250mg"))).isEmpty();
+    assertThat(meterRegistry.get(MedicationSafetyService.CHECK_METRIC).timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void appliesLocalAllergyChangesImmediately() {
+    load();
+    PatientAllergy meloxicam = new PatientAllergy(3L, 8L, "meloxicam", 3L, "nsaid");
+
+    service.onAllergiesChanged(new PatientAllergiesChangedEvent(8L, List.of(meloxicam)));
+    assertThat(service.check(8L, service.prescribe("Carprofen 4mg/kg")))
+        .extracting(MedicationWarning::type).containsExactly(Type.ALLERGY);
+
+    service.onAllergiesChanged(new PatientAllergiesChangedEvent(8L, List.of()));
+    assertThat(service.check(8L, service.prescribe("Carprofen 4mg/kg"))).isEmpty();
+  }
+
+  @Test
+  void appliesAllergyChangesFromOtherNodesAndReloadsOnResync() {
+    load();
+    PatientAllergy meloxicam = new PatientAllergy(3L, 8L, "meloxicam", 3L, "nsaid");
+
+    service.onAllergiesChanged(new PatientAllergiesChangedEvent(8L, List.of(meloxicam), true));
+    assertThat(service.check(8L, service.prescribe("Carprofen 4mg/kg")))
+        .extracting(MedicationWarning::type).containsExactly(Type.ALLERGY);
+
+    allergies = List.of(new PatientAllergy(4L, 9L, "Amoxicillin", 1L, "penicillin"));
+    service.onResync(new ChangeBusResyncEvent("listener reconnected"));
+    assertThat(service.check(9L, service.prescribe("Amoxicillin 250mg")))
+        .extracting(MedicationWarning::type).containsExactly(Type.ALLERGY);
+    assertThat(service.check(8L, service.prescribe("Carprofen 4mg/kg"))).isEmpty();
+  }
+
+  @Test
+  void reportsUncheckedUntilLoadedAndKeepsDataWhenAReloadFails() {
+    assertThat(service.check(7L, service.prescribe("Amoxicillin")))
+        .extracting(MedicationWarning::type).containsExactly(Type.UNCHECKED);
+    assertThatThrownBy(() -> service.resolve(7L, "penicillin")).isInstanceOf(ServiceUnavailableException.class);
+
+    load();
+    when(drugCatalog.findAllDrugs()).thenThrow(new DataAccessResourceFailureException("down"));
+
+    assertThat(service.reload()).isFalse();
+    assertThat(service.check(7L, service.prescribe("Amoxicillin")))
+        .extracting(MedicationWarning::type).containsExactly(Type.ALLERGY);
+  }
+
+  @Test
+  void resolvesAllergensAgainstTheCatalogue() {
+    load();
+
+    assertThat(service.resolve(9L, "Carprofen")).isEqualTo(new PatientAllergy(null, 9L, "Carprofen", 4L, "nsaid"));
+    assertThat(service.resolve(9L, "NSAIDs")).isEqualTo(new PatientAllergy(null, 9L, "NSAIDs", null, "nsaid"));
+    assertThat(service.resolve(9L, "Chicken")).isEqualTo(new PatientAllergy(null, 9L, "Chicken", null, null));
+  }
+
+  private void load() {
+    when(drugCatalog.findAllDrugs()).thenReturn(List.of(
+        new Drug(1L, "amoxicillin", "penicillin"),
+        new Drug(3L, "meloxicam", "nsaid"),
+        new Drug(4L, "carprofen", "nsaid"),
+        new Drug(5L, "prednisolone", "corticosteroid")));
+    when(drugCatalog.findAllInteractions()).thenReturn(List.of(
+        new DrugInteraction("corticosteroid", "nsaid", Severity.MAJOR, "GI ulceration")));
+    doAnswer(invocation -> {
+      allergies.forEach(invocation.<Consumer<PatientAllergy>>getArgument(0));
+      return null;
+    }).when(allergyRepository).forEach(any());
+    assertThat(service.reload()).isTrue();
+  }
+}
@@ -0,0 +1,80 @@
+package com.vetflow.api.application.medication;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PatientAllergyChangeRelayTest {
+
+  @Mock
+  private ChangeBus changeBus;
+  @Mock
+  private PatientAllergyRepository allergyRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private PatientAllergyChangeRelay relay;
+
+  private final PatientAllergy penicillin = new PatientAllergy(1L, 7L, "Penicillin", null, "penicillin");
+
+  @Test
+  void announcesLocalChangesByPatient() {
+    relay.onLocalChange(new PatientAllergiesChangedEvent(7L, List.of(penicillin)));
+
+    verify(changeBus).publish("patient_allergies", 7L, 0L, "updated");
+  }
+
+  @Test
+  void doesNotReannounceRemoteChanges() {
+    relay.onLocalChange(new PatientAllergiesChangedEvent(7L, List.of(penicillin), true));
+
+    verify(changeBus, never()).publish(anyString(), any(), anyLong(), anyString());
+  }
+
+  @Test
+  void republishesTheReloadedAllergiesLocally() {
+    when(allergyRepository.findByPatientId(7L)).thenReturn(List.of(penicillin));
+
+    relay.onRemoteChange(new ChangeNotification("patient_allergies", 7L, 0L, "updated", true));
+
+    verify(eventPublisher).publishEvent(new PatientAllergiesChangedEvent(7L, List.of(penicillin), true));
+  }
+
+  @Test
+  void ignoresLocalAndUnrelatedNotifications() {
+    relay.onRemoteChange(new ChangeNotification("patient_allergies", 7L, 0L, "updated", false));
+    relay.onRemoteChange(new ChangeNotification("patients", 7L, 0L, "updated", true));
+
+    verifyNoInteractions(allergyRepository, eventPublisher);
+  }
+
+  @Test
+  void leavesFailedReloadsToTheNextResync() {
+    when(allergyRepository.findByPatientId(7L)).thenThrow(new DataAccessResourceFailureException("down"));
+
+    relay.onRemoteChange(new ChangeNotification("patient_allergies", 7L, 0L, "updated", true));
+
+    verifyNoInteractions(eventPublisher);
+  }
+}
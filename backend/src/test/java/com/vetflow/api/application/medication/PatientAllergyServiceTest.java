@@ -0,0 +1,86 @@
+package com.vetflow.api.application.medication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.domain.port.PatientAllergyRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PatientAllergyServiceTest {
+
+  @Mock
+  private PatientAllergyRepository allergyRepository;
+  @Mock
+  private PatientRepository patientRepository;
+  @Mock
+  private MedicationSafetyService medicationSafetyService;
+  @Mock
+  private AuditService auditService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private PatientAllergyService service;
+
+  private final PatientAllergy penicillin = new PatientAllergy(3L, 7L, "Penicillin", null, "penicillin");
+
+  @BeforeEach
+  void setUp() {
+    when(patientRepository.findById(7L)).thenReturn(Optional.of(Patient.builder().id(7L).build()));
+  }
+
+  @Test
+  void addAllergy_linksSavesAndPublishes() {
+    PatientAllergy resolved = new PatientAllergy(null, 7L, "Penicillin", null, "penicillin");
+    when(allergyRepository.findByPatientId(7L)).thenReturn(List.of(), List.of(penicillin));
+    when(medicationSafetyService.resolve(7L, "Penicillin")).thenReturn(resolved);
+    when(allergyRepository.save(resolved)).thenReturn(penicillin);
+
+    PatientAllergy saved = service.addAllergy(7L, "  Penicillin ");
+
+    assertThat(saved).isEqualTo(penicillin);
+    verify(auditService).recordCreation("patient_allergies", 3L, penicillin);
+    verify(eventPublisher).publishEvent(new PatientAllergiesChangedEvent(7L, List.of(penicillin)));
+  }
+
+  @Test
+  void addAllergy_rejectsDuplicatesIgnoringCase() {
+    when(allergyRepository.findByPatientId(7L)).thenReturn(List.of(penicillin));
+
+    assertThatThrownBy(() -> service.addAllergy(7L, "PENICILLIN")).isInstanceOf(ValidationException.class);
+    verify(allergyRepository, never()).save(any());
+  }
+
+  @Test
+  void removeAllergy_requiresTheAllergyToBelongToThePatient() {
+    when(allergyRepository.findById(3L)).thenReturn(Optional.of(penicillin));
+    when(patientRepository.findById(8L)).thenReturn(Optional.of(Patient.builder().id(8L).build()));
+
+    assertThatThrownBy(() -> service.removeAllergy(8L, 3L)).isInstanceOf(ResourceNotFoundException.class);
+
+    service.removeAllergy(7L, 3L);
+    verify(allergyRepository).deleteById(3L);
+    verify(eventPublisher).publishEvent(any(PatientAllergiesChangedEvent.class));
+  }
+}
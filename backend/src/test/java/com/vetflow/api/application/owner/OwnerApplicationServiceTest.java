@@ -3,6 +3,9 @@ package com.vetflow.api.application.owner;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -14,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.shared.VersionConflictException;
 import com.vetflow.api.audit.AuditService;
 import com.vetflow.api.domain.model.Owner;
 import com.vetflow.api.domain.port.OwnerRepository;
@@ -28,6 +34,8 @@ class OwnerApplicationServiceTest {
   private OwnerRepository ownerRepository;
   @Mock
   private AuditService auditService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private OwnerApplicationService service;
@@ -60,11 +68,12 @@ class OwnerApplicationServiceTest {
 
     assertThat(result.id()).isEqualTo(1L);
     assertThat(result.name()).isEqualTo("Bob");
+    verify(eventPublisher).publishEvent(new OwnerChangedEvent(result));
   }
 
   @Test
   void updateOwner_ownerNotFound_throws() {
-    UpdateOwnerCommand command = new UpdateOwnerCommand(999L, null, null, null);
+    UpdateOwnerCommand command = new UpdateOwnerCommand(999L, null, null, null, null);
     when(ownerRepository.findById(999L)).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> service.updateOwner(command))
@@ -82,7 +91,7 @@ class OwnerApplicationServiceTest {
     when(ownerRepository.findById(existingOwner.getId())).thenReturn(Optional.of(existingOwner));
     when(ownerRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
-    UpdateOwnerCommand command = new UpdateOwnerCommand(existingOwner.getId(), "+09876543210", "new@example.com", "New Addr");
+    UpdateOwnerCommand command = new UpdateOwnerCommand(existingOwner.getId(), "+09876543210", "new@example.com", "New Addr", null);
 
     OwnerResult result = service.updateOwner(command);
 
@@ -90,4 +99,42 @@ class OwnerApplicationServiceTest {
     assertThat(result.email()).isEqualTo("new@example.com");
     assertThat(result.address()).isEqualTo("New Addr");
   }
+
+  @Test
+  void updateOwner_staleExpectedVersion_throwsConflict() {
+    Owner versioned = existingOwner.toBuilder().version(3L).build();
+    when(ownerRepository.findById(versioned.getId())).thenReturn(Optional.of(versioned));
+
+    UpdateOwnerCommand command = new UpdateOwnerCommand(versioned.getId(), null, "new@example.com", null, 2L);
+
+    assertThatThrownBy(() -> service.updateOwner(command))
+        .isInstanceOf(VersionConflictException.class);
+    verify(ownerRepository, never()).save(any());
+  }
+
+  @Test
+  void updateOwner_unpinned_retriesLostRace() {
+    when(ownerRepository.findById(existingOwner.getId())).thenReturn(Optional.of(existingOwner));
+    when(ownerRepository.save(any()))
+        .thenThrow(new OptimisticLockingFailureException("stale"))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    UpdateOwnerCommand command = new UpdateOwnerCommand(existingOwner.getId(), null, "new@example.com", null, null);
+
+    assertThat(service.updateOwner(command).email()).isEqualTo("new@example.com");
+    verify(ownerRepository, times(2)).findById(existingOwner.getId());
+  }
+
+  @Test
+  void updateOwner_pinned_doesNotRetryLostRace() {
+    Owner versioned = existingOwner.toBuilder().version(3L).build();
+    when(ownerRepository.findById(versioned.getId())).thenReturn(Optional.of(versioned));
+    when(ownerRepository.save(any())).thenThrow(new OptimisticLockingFailureException("stale"));
+
+    UpdateOwnerCommand command = new UpdateOwnerCommand(versioned.getId(), null, "new@example.com", null, 3L);
+
+    assertThatThrownBy(() -> service.updateOwner(command))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+    verify(ownerRepository, times(1)).save(any());
+  }
 }
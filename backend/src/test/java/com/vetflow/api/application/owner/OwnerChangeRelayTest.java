@@ -0,0 +1,83 @@
+package com.vetflow.api.application.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class OwnerChangeRelayTest {
+
+  @Mock
+  private ChangeBus changeBus;
+  @Mock
+  private OwnerApplicationService ownerApplicationService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private OwnerChangeRelay relay;
+
+  private final OwnerResult owner = new OwnerResult(2L, "Mariana Cruz", "5544445566", "mariana@example.com",
+      null, LocalDateTime.now(), LocalDateTime.now(), 3L);
+
+  @Test
+  void announcesLocalChanges() {
+    relay.onLocalChange(new OwnerChangedEvent(owner));
+
+    verify(changeBus).publish("owners", 2L, 3L, "updated");
+  }
+
+  @Test
+  void doesNotReannounceRemoteChanges() {
+    relay.onLocalChange(new OwnerChangedEvent(owner, true));
+
+    verify(changeBus, never()).publish(anyString(), any(), anyLong(), anyString());
+  }
+
+  @Test
+  void republishesRemoteChangesLocally() {
+    when(ownerApplicationService.getById(2L)).thenReturn(owner);
+
+    relay.onRemoteChange(new ChangeNotification("owners", 2L, 3L, "updated", true));
+
+    ArgumentCaptor<OwnerChangedEvent> captor = ArgumentCaptor.forClass(OwnerChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue()).isEqualTo(new OwnerChangedEvent(owner, true));
+  }
+
+  @Test
+  void ignoresLocalAndUnrelatedNotifications() {
+    relay.onRemoteChange(new ChangeNotification("owners", 2L, 3L, "updated", false));
+    relay.onRemoteChange(new ChangeNotification("patients", 2L, 3L, "updated", true));
+
+    verifyNoInteractions(ownerApplicationService, eventPublisher);
+  }
+
+  @Test
+  void skipsOwnersDeletedSinceTheNotification() {
+    when(ownerApplicationService.getById(2L)).thenThrow(new ResourceNotFoundException("gone"));
+
+    relay.onRemoteChange(new ChangeNotification("owners", 2L, 3L, "updated", true));
+
+    verifyNoInteractions(eventPublisher);
+  }
+}
@@ -3,6 +3,9 @@ package com.vetflow.api.application.patient;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -16,11 +19,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.audit.AuditService;
+import com.vetflow.api.domain.model.CollectionStamp;
 import com.vetflow.api.domain.model.Owner;
 import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.domain.port.OwnerRepository;
 import com.vetflow.api.domain.port.PatientRepository;
 
@@ -33,6 +39,8 @@ class PatientApplicationServiceTest {
   private OwnerRepository ownerRepository;
   @Mock
   private AuditService auditService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private PatientApplicationService service;
@@ -86,7 +94,7 @@ class PatientApplicationServiceTest {
   void updatePatient_notFound_throws() {
     when(patientRepository.findById(999L)).thenReturn(Optional.empty());
 
-    UpdatePatientCommand command = new UpdatePatientCommand(999L, null, null, null, null, null, null);
+    UpdatePatientCommand command = new UpdatePatientCommand(999L, null, null, null, null, null, null, null);
 
     assertThatThrownBy(() -> service.updatePatient(command))
         .isInstanceOf(ResourceNotFoundException.class);
@@ -100,6 +108,23 @@ class PatientApplicationServiceTest {
         .isInstanceOf(ResourceNotFoundException.class);
   }
 
+  @Test
+  void listByOwnerStamp_emptyWhenOwnerMissing() {
+    when(ownerRepository.findVersionStampById(1L)).thenReturn(Optional.empty());
+
+    assertThat(service.listByOwnerStamp(1L, false)).isEmpty();
+    verify(patientRepository, never()).stampByOwnerId(any(), anyBoolean());
+  }
+
+  @Test
+  void listByOwnerStamp_probesOwnersPatients() {
+    CollectionStamp stamp = new CollectionStamp(2, LocalDateTime.now());
+    when(ownerRepository.findVersionStampById(1L)).thenReturn(Optional.of(new VersionStamp(0L, LocalDateTime.now())));
+    when(patientRepository.stampByOwnerId(1L, true)).thenReturn(stamp);
+
+    assertThat(service.listByOwnerStamp(1L, true)).contains(stamp);
+  }
+
   @Test
   void updatePatient_updatesProfile() {
     when(patientRepository.findById(patient.getId())).thenReturn(Optional.of(patient));
@@ -112,12 +137,13 @@ class PatientApplicationServiceTest {
         "Mixed",
         LocalDate.now().minusYears(4),
         null,
-        owner.getId());
+        owner.getId(), null);
 
     PatientResult result = service.updatePatient(command);
 
     assertThat(result.name()).isEqualTo("Rex");
     assertThat(result.breed()).isEqualTo("Mixed");
+    verify(eventPublisher).publishEvent(new PatientChangedEvent(result));
   }
 
   @Test
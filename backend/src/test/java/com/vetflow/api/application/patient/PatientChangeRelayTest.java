@@ -0,0 +1,85 @@
+package com.vetflow.api.application.patient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.vetflow.api.application.changes.ChangeBus;
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class PatientChangeRelayTest {
+
+  @Mock
+  private ChangeBus changeBus;
+  @Mock
+  private PatientApplicationService patientApplicationService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private PatientChangeRelay relay;
+
+  private final PatientResult patient = new PatientResult(10L, "Rex", "DOG", null, null, null, true, 2L,
+      LocalDateTime.now(), LocalDateTime.now(), 0L);
+
+  @Test
+  void announcesRegistrationsAndUpdates() {
+    relay.onLocalChange(new PatientChangedEvent(patient, true));
+    relay.onLocalChange(new PatientChangedEvent(patient));
+
+    verify(changeBus).publish("patients", 10L, 0L, "registered");
+    verify(changeBus).publish("patients", 10L, 0L, "updated");
+  }
+
+  @Test
+  void doesNotReannounceRemoteChanges() {
+    relay.onLocalChange(new PatientChangedEvent(patient, false, true));
+
+    verify(changeBus, never()).publish(anyString(), any(), anyLong(), anyString());
+  }
+
+  @Test
+  void republishesRemoteChangesLocallyWithoutTheRegisteredFlag() {
+    when(patientApplicationService.findById(10L)).thenReturn(patient);
+
+    relay.onRemoteChange(new ChangeNotification("patients", 10L, 0L, "registered", true));
+
+    ArgumentCaptor<PatientChangedEvent> captor = ArgumentCaptor.forClass(PatientChangedEvent.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue()).isEqualTo(new PatientChangedEvent(patient, false, true));
+  }
+
+  @Test
+  void ignoresLocalAndUnrelatedNotifications() {
+    relay.onRemoteChange(new ChangeNotification("patients", 10L, 0L, "updated", false));
+    relay.onRemoteChange(new ChangeNotification("owners", 10L, 0L, "updated", true));
+
+    verifyNoInteractions(patientApplicationService, eventPublisher);
+  }
+
+  @Test
+  void skipsPatientsDeletedSinceTheNotification() {
+    when(patientApplicationService.findById(10L)).thenThrow(new ResourceNotFoundException("gone"));
+
+    relay.onRemoteChange(new ChangeNotification("patients", 10L, 0L, "updated", true));
+
+    verifyNoInteractions(eventPublisher);
+  }
+}
@@ -0,0 +1,154 @@
+package com.vetflow.api.application.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.config.ReportProperties;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.MonthlyAppointmentVolume;
+import com.vetflow.api.domain.port.AppointmentReportSource;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentReportServiceTest {
+
+  /** 21 weekdays. */
+  private static final YearMonth JUNE = YearMonth.of(2025, 6);
+  private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+  @Mock
+  private AppointmentReportSource source;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ReportProperties properties = new ReportProperties();
+  private AppointmentReportService service;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(LocalDate.of(2025, 7, 15).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    service = new AppointmentReportService(source, properties, meterRegistry, clock);
+  }
+
+  @Test
+  void periodDefaultsToTheCurrentMonth() {
+    assertThat(service.period(null, null)).isEqualTo(new ReportPeriod(JULY, JULY));
+    assertThat(service.period(null, JUNE)).isEqualTo(new ReportPeriod(JUNE, JUNE));
+  }
+
+  @Test
+  void periodRejectsReversedAndOverlongRanges() {
+    assertThatThrownBy(() -> service.period(JULY, JUNE)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.period(JULY.minusMonths(24), JULY)).isInstanceOf(ValidationException.class);
+    assertThat(service.period(JULY.minusMonths(23), JULY).from()).isEqualTo(YearMonth.of(2023, 8));
+  }
+
+  @Test
+  void utilisationGroupsTypesPerVeterinarianAndMonthAndSkipsUnassigned() {
+    volumes(
+        new MonthlyAppointmentVolume(JUNE, 4L, "drsmith", Type.CHECKUP, 10, 6, 2, 2),
+        new MonthlyAppointmentVolume(JUNE, 4L, "drsmith", Type.SURGERY, 3, 3, 0, 0),
+        new MonthlyAppointmentVolume(JUNE, 5L, "drlee", Type.VACCINATION, 4, 4, 0, 0),
+        new MonthlyAppointmentVolume(JUNE, null, null, Type.EMERGENCY, 2, 2, 0, 0),
+        new MonthlyAppointmentVolume(JULY, 4L, "drsmith", Type.GROOMING, 1, 0, 0, 1));
+    List<VetUtilisation> rows = new ArrayList<>();
+
+    service.vetUtilisation(new ReportPeriod(JUNE, JULY), rows::add);
+
+    assertThat(rows).extracting(VetUtilisation::month, VetUtilisation::veterinarianId)
+        .containsExactly(tuple(JUNE, 4L), tuple(JUNE, 5L), tuple(JULY, 4L));
+    VetUtilisation smith = rows.get(0);
+    assertThat(smith.bookedAppointments()).isEqualTo(11);
+    assertThat(smith.bookedHours()).isEqualTo(8 * 0.5 + 3 * 2.0);
+    assertThat(smith.availableHours()).isEqualTo(21 * 8.0);
+    assertThat(smith.utilisation()).isCloseTo(10.0 / 168, within(1e-9));
+    assertThat(smith.cancelled()).isEqualTo(2);
+    assertThat(rows.get(2).bookedHours()).isZero();
+  }
+
+  @Test
+  void noShowRatesSumVeterinariansPerMonthAndType() {
+    volumes(
+        new MonthlyAppointmentVolume(JUNE, 4L, "drsmith", Type.CHECKUP, 10, 6, 2, 2),
+        new MonthlyAppointmentVolume(JUNE, 5L, "drlee", Type.CHECKUP, 5, 2, 2, 1),
+        new MonthlyAppointmentVolume(JUNE, 5L, "drlee", Type.VACCINATION, 4, 0, 0, 0),
+        new MonthlyAppointmentVolume(JULY, null, null, Type.CHECKUP, 2, 0, 0, 2));
+    List<NoShowRate> rows = new ArrayList<>();
+
+    service.noShowRates(new ReportPeriod(JUNE, JULY), rows::add);
+
+    assertThat(rows).containsExactly(
+        new NoShowRate(JUNE, Type.CHECKUP, 15, 8, 4, 3, 4.0 / 12, 3.0 / 15),
+        new NoShowRate(JUNE, Type.VACCINATION, 4, 0, 0, 0, null, 0.0),
+        new NoShowRate(JULY, Type.CHECKUP, 2, 0, 0, 2, null, 1.0));
+  }
+
+  @Test
+  void refreshRunsOnTheReportingPool() throws Exception {
+    HikariDataSource interactive = mock(HikariDataSource.class);
+    HikariDataSource reporting = mock(HikariDataSource.class);
+    WorkloadRoutingDataSource pools = new WorkloadRoutingDataSource(
+        Map.of(Workload.INTERACTIVE, interactive, Workload.REPORTING, reporting));
+    when(source.refresh()).thenAnswer(invocation -> {
+      pools.getConnection();
+      return true;
+    });
+
+    service.refresh();
+
+    verify(reporting).getConnection();
+    verify(interactive, never()).getConnection();
+    assertThat(WorkloadContext.current()).isNull();
+  }
+
+  @Test
+  void failedRefreshIsCountedInsteadOfPropagated() {
+    when(source.refresh()).thenThrow(new DataAccessResourceFailureException("down"));
+
+    service.refresh();
+
+    assertThat(meterRegistry.counter(AppointmentReportService.REFRESH_METRIC + ".failures").count())
+        .isEqualTo(1.0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void volumes(MonthlyAppointmentVolume... volumes) {
+    doAnswer(invocation -> {
+      Consumer<MonthlyAppointmentVolume> consumer = invocation.getArgument(2);
+      for (MonthlyAppointmentVolume volume : volumes) {
+        consumer.accept(volume);
+      }
+      return null;
+    }).when(source).forEachMonthlyVolume(eq(JUNE), eq(JULY), any(Consumer.class));
+  }
+}
@@ -0,0 +1,85 @@
+package com.vetflow.api.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.domain.model.TextQuery;
+import com.vetflow.api.domain.port.MedicalRecordSearch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MedicalRecordSearchServiceTest {
+
+  @Mock
+  private MedicalRecordSearch medicalRecordSearch;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MedicalRecordSearchService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new MedicalRecordSearchService(medicalRecordSearch, meterRegistry, 20, 100);
+  }
+
+  @Test
+  void returnsACursorWhenMoreHitsFollow() {
+    when(medicalRecordSearch.search(any(), isNull(), isNull(), isNull(), isNull(), eq(0L), eq(3)))
+        .thenReturn(List.of(hit(9L, 0.9), hit(5L, 0.6), hit(4L, 0.6)));
+    when(medicalRecordSearch.search(any(), isNull(), isNull(), isNull(), eq(0.6), eq(5L), eq(3)))
+        .thenReturn(List.of(hit(4L, 0.6)));
+
+    MedicalRecordSearchPage first = service.search("otitis", null, null, null, null, 2);
+    MedicalRecordSearchPage second = service.search("otitis", null, null, null, first.nextCursor(), 2);
+
+    assertThat(first.hits()).extracting(MedicalRecordHit::id).containsExactly(9L, 5L);
+    assertThat(second.hits()).extracting(MedicalRecordHit::id).containsExactly(4L);
+    assertThat(second.nextCursor()).isNull();
+    assertThat(meterRegistry.get(MedicalRecordSearchService.LATENCY_METRIC).timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void turnsInclusiveDatesIntoAHalfOpenRange() {
+    when(medicalRecordSearch.search(any(), eq(7L), any(), any(), isNull(), anyLong(), anyInt())).thenReturn(List.of());
+
+    service.search("otitis", 7L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), null, null);
+
+    verify(medicalRecordSearch).search(eq(TextQuery.parse("otitis")), eq(7L),
+        eq(LocalDateTime.of(2025, 1, 1, 0, 0)), eq(LocalDateTime.of(2025, 2, 1, 0, 0)), isNull(), eq(0L), eq(21));
+  }
+
+  @Test
+  void rejectsInvalidInput() {
+    assertThatThrownBy(() -> service.search("otitis", null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1),
+        null, null)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.search("otitis", null, null, null, null, 101))
+        .isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.search("otitis", null, null, null, "not-a-cursor", null))
+        .isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.search("", null, null, null, null, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static MedicalRecordHit hit(long id, double rank) {
+    return new MedicalRecordHit(id, 1L, "Max", 7L, LocalDateTime.of(2025, 1, 10, 9, 0), "Otitis", null, null, rank);
+  }
+}
@@ -0,0 +1,73 @@
+package com.vetflow.api.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.SearchHit;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.domain.port.SearchIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+  @Mock
+  private SearchIndex searchIndex;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private SearchService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new SearchService(searchIndex, meterRegistry, 20, 50);
+  }
+
+  @Test
+  void normalizesTermAndAppliesDefaultLimit() {
+    SearchHit hit = new SearchHit(Kind.PATIENT, 1L, "Max", "Beagle", 2L, "Ana Ruiz", 1.0);
+    when(searchIndex.search("max ruiz", 20)).thenReturn(List.of(hit));
+
+    SearchResult result = service.search("  Max \t RUIZ ", null);
+
+    assertThat(result.query()).isEqualTo("max ruiz");
+    assertThat(result.hits()).containsExactly(hit);
+  }
+
+  @Test
+  void recordsLatency() {
+    when(searchIndex.search("max", 5)).thenReturn(List.of());
+
+    service.search("max", 5);
+
+    assertThat(meterRegistry.get(SearchService.LATENCY_METRIC).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsTermsTooShortForTheIndex() {
+    assertThatThrownBy(() -> service.search(" ab ", null)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.search(null, null)).isInstanceOf(ValidationException.class);
+
+    verify(searchIndex, never()).search(anyString(), anyInt());
+  }
+
+  @Test
+  void rejectsLimitsOutOfRange() {
+    assertThatThrownBy(() -> service.search("max", 0)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.search("max", 51)).isInstanceOf(ValidationException.class);
+  }
+}
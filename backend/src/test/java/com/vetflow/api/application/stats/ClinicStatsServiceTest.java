@@ -0,0 +1,228 @@
+package com.vetflow.api.application.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent;
+import com.vetflow.api.application.appointment.AppointmentChangedEvent.ChangeType;
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.application.patient.PatientChangedEvent;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.DailyStat;
+import com.vetflow.api.domain.model.DailyStat.Metric;
+import com.vetflow.api.domain.port.ClinicStatsStore;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ClinicStatsServiceTest {
+
+  /** A Wednesday. */
+  private static final LocalDate TODAY = LocalDate.of(2025, 3, 12);
+  private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+  @Mock
+  private ClinicStatsStore store;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ClinicStatsService service;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(TODAY.atTime(15, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    service = new ClinicStatsService(store, 31, meterRegistry, clock);
+  }
+
+  @Test
+  void scheduledAppointmentAddsItsContributions() {
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.SCHEDULED,
+        appointment(TODAY.atTime(9, 0), 4L, Status.SCHEDULED), null));
+
+    verify(store).increment(Map.of(
+        key(TODAY, Metric.TOTAL, ""), 1L,
+        key(TODAY, Metric.STATUS, "scheduled"), 1L,
+        key(TODAY, Metric.TYPE, "checkup"), 1L,
+        key(TODAY, Metric.VETERINARIAN, "4"), 1L));
+  }
+
+  @Test
+  void rescheduleMovesContributionsBetweenDaysAndVeterinarians() {
+    AppointmentResult before = appointment(TODAY.atTime(9, 0), 4L, Status.SCHEDULED);
+    AppointmentResult after = appointment(TODAY.plusDays(1).atTime(9, 0), null, Status.SCHEDULED);
+
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.RESCHEDULED, after, before));
+
+    verify(store).increment(Map.of(
+        key(TODAY, Metric.TOTAL, ""), -1L,
+        key(TODAY, Metric.STATUS, "scheduled"), -1L,
+        key(TODAY, Metric.TYPE, "checkup"), -1L,
+        key(TODAY, Metric.VETERINARIAN, "4"), -1L,
+        key(TODAY.plusDays(1), Metric.TOTAL, ""), 1L,
+        key(TODAY.plusDays(1), Metric.STATUS, "scheduled"), 1L,
+        key(TODAY.plusDays(1), Metric.TYPE, "checkup"), 1L,
+        key(TODAY.plusDays(1), Metric.VETERINARIAN, "unassigned"), 1L));
+  }
+
+  @Test
+  void cancellationMovesStatusAndDropsTypeAndVeterinarian() {
+    AppointmentResult before = appointment(TODAY.atTime(9, 0), 4L, Status.SCHEDULED);
+    AppointmentResult after = appointment(TODAY.atTime(9, 0), 4L, Status.CANCELLED);
+
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.CANCELLED, after, before));
+
+    verify(store).increment(Map.of(
+        key(TODAY, Metric.TOTAL, ""), 0L,
+        key(TODAY, Metric.STATUS, "scheduled"), -1L,
+        key(TODAY, Metric.STATUS, "cancelled"), 1L,
+        key(TODAY, Metric.TYPE, "checkup"), -1L,
+        key(TODAY, Metric.VETERINARIAN, "4"), -1L));
+  }
+
+  @Test
+  void remoteChangesAreLeftToTheOriginatingNode() {
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.SCHEDULED,
+        appointment(TODAY.atTime(9, 0), 4L, Status.SCHEDULED), null, true));
+
+    verify(store, never()).increment(any());
+  }
+
+  @Test
+  void onlyRegistrationsCountAsNewPatients() {
+    PatientResult patient = new PatientResult(7L, "Max", "DOG", null, null, null, true, 3L,
+        TODAY.atTime(10, 0), TODAY.atTime(10, 0), 0L);
+
+    service.onPatientChanged(new PatientChangedEvent(patient));
+    service.onPatientChanged(new PatientChangedEvent(patient, true, true));
+    service.onPatientChanged(new PatientChangedEvent(patient, true));
+
+    verify(store, times(1)).increment(Map.of(key(TODAY, Metric.NEW_PATIENTS, ""), 1L));
+  }
+
+  @Test
+  void retriesOnceWhenAnotherWriterCreatedTheCounterFirst() {
+    Map<DailyStat.Key, Long> deltas = Map.of(key(TODAY, Metric.NEW_PATIENTS, ""), 1L);
+    doThrow(new DuplicateKeyException("pk_clinic_stats")).doNothing().when(store).increment(deltas);
+
+    service.onPatientChanged(new PatientChangedEvent(new PatientResult(7L, "Max", "DOG", null, null, null, true,
+        3L, TODAY.atTime(10, 0), TODAY.atTime(10, 0), 0L), true));
+
+    verify(store, times(2)).increment(deltas);
+    assertThat(meterRegistry.counter(ClinicStatsService.INCREMENT_METRIC + ".failures").count()).isZero();
+  }
+
+  @Test
+  void failedIncrementIsCountedInsteadOfPropagated() {
+    doThrow(new DataAccessResourceFailureException("down")).when(store).increment(any());
+
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.SCHEDULED,
+        appointment(TODAY.atTime(9, 0), 4L, Status.SCHEDULED), null));
+
+    assertThat(meterRegistry.counter(ClinicStatsService.INCREMENT_METRIC + ".failures").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void dashboardReadsTheDayAndTheWeekSoFar() {
+    when(store.findBetween(MONDAY, TODAY)).thenReturn(List.of(
+        new DailyStat(MONDAY, Metric.TOTAL, "", 9),
+        new DailyStat(MONDAY, Metric.NEW_PATIENTS, "", 2),
+        new DailyStat(TODAY, Metric.NEW_PATIENTS, "", 1),
+        new DailyStat(TODAY, Metric.TOTAL, "", 5),
+        new DailyStat(TODAY, Metric.STATUS, "completed", 3),
+        new DailyStat(TODAY, Metric.STATUS, "no_show", 1),
+        new DailyStat(TODAY, Metric.STATUS, "cancelled", 1),
+        new DailyStat(TODAY, Metric.STATUS, "scheduled", 0),
+        new DailyStat(TODAY, Metric.TYPE, "checkup", 4),
+        new DailyStat(TODAY, Metric.VETERINARIAN, "4", 4)));
+
+    ClinicDashboard dashboard = service.dashboard(null);
+
+    assertThat(dashboard.date()).isEqualTo(TODAY);
+    assertThat(dashboard.appointments()).isEqualTo(5);
+    assertThat(dashboard.byStatus()).containsExactly(Map.entry("cancelled", 1L), Map.entry("completed", 3L),
+        Map.entry("no_show", 1L));
+    assertThat(dashboard.byType()).containsExactly(Map.entry("checkup", 4L));
+    assertThat(dashboard.byVeterinarian()).containsExactly(Map.entry("4", 4L));
+    assertThat(dashboard.noShowRate()).isEqualTo(0.25);
+    assertThat(dashboard.weekStart()).isEqualTo(MONDAY);
+    assertThat(dashboard.newPatientsThisWeek()).isEqualTo(3);
+  }
+
+  @Test
+  void noShowRateIsNullUntilAnAppointmentIsClosed() {
+    when(store.findBetween(MONDAY, MONDAY)).thenReturn(List.of(new DailyStat(MONDAY, Metric.STATUS, "scheduled", 2)));
+
+    assertThat(service.dashboard(MONDAY).noShowRate()).isNull();
+  }
+
+  @Test
+  void reconcileRecomputesFromTheConfiguredNumberOfDaysAgo() {
+    service.reconcile();
+
+    verify(store).reconcileFrom(TODAY.minusDays(31));
+  }
+
+  @Test
+  void reconcileRunsOnTheReportingPool() throws Exception {
+    HikariDataSource interactive = mock(HikariDataSource.class);
+    HikariDataSource reporting = mock(HikariDataSource.class);
+    WorkloadRoutingDataSource pools = new WorkloadRoutingDataSource(
+        Map.of(Workload.INTERACTIVE, interactive, Workload.REPORTING, reporting));
+    when(store.reconcileFrom(any())).thenAnswer(invocation -> {
+      pools.getConnection();
+      return OptionalInt.of(0);
+    });
+
+    service.reconcile();
+
+    verify(reporting).getConnection();
+    verify(interactive, never()).getConnection();
+    assertThat(WorkloadContext.current()).isNull();
+  }
+
+  @Test
+  void reconcileSkippedByAnotherNodeIsNotAFailure() {
+    when(store.reconcileFrom(any())).thenReturn(OptionalInt.empty());
+
+    service.reconcile();
+
+    assertThat(meterRegistry.counter(ClinicStatsService.RECONCILE_METRIC + ".failures").count()).isZero();
+  }
+
+  private static DailyStat.Key key(LocalDate date, Metric metric, String key) {
+    return new DailyStat.Key(date, metric, key);
+  }
+
+  private static AppointmentResult appointment(LocalDateTime date, Long veterinarianId, Status status) {
+    return new AppointmentResult(1L, 7L, veterinarianId, date, Type.CHECKUP, status, Priority.NORMAL, null,
+        date.minusDays(3), 0L);
+  }
+}
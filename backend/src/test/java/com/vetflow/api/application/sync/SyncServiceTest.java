@@ -0,0 +1,202 @@
+package com.vetflow.api.application.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.sync.SyncToken.Cursor;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.model.Tombstone;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.OwnerRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+import com.vetflow.api.domain.port.TombstoneRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+  @Mock
+  private OwnerRepository ownerRepository;
+  @Mock
+  private PatientRepository patientRepository;
+  @Mock
+  private AppointmentRepository appointmentRepository;
+  @Mock
+  private TombstoneRepository tombstoneRepository;
+
+  private SyncService service;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    service = new SyncService(ownerRepository, patientRepository, appointmentRepository, tombstoneRepository,
+        2, Duration.ofMinutes(1), Duration.ofDays(30), clock);
+  }
+
+  @Test
+  void initialSyncReturnsEverythingAndParksCursorsBehindNow() {
+    Owner owner = owner(1L, NOW.minusDays(3));
+    when(ownerRepository.findChangedSince(any(), eq(0L), eq(3))).thenReturn(List.of(owner));
+    when(patientRepository.findChangedSince(any(), eq(0L), eq(3)))
+        .thenReturn(List.of(patient(10L, owner, true, NOW.minusDays(2)), patient(11L, owner, false, NOW.minusDays(1))));
+    when(appointmentRepository.findChangedSince(any(), eq(0L), eq(3))).thenReturn(List.of());
+
+    SyncResult result = service.changesSince(null);
+
+    assertThat(result.hasMore()).isFalse();
+    assertThat(result.reset()).isFalse();
+    assertThat(result.owners().upserts()).hasSize(1);
+    assertThat(result.patients().upserts()).extracting(PatientResult::id).containsExactly(10L);
+    assertThat(result.patients().removed()).containsExactly(11L);
+    assertThat(SyncToken.decode(result.token()).owners()).isEqualTo(new Cursor(NOW.minusMinutes(1), 0L));
+    assertThat(SyncToken.decode(result.token()).earliestRemoval()).isEqualTo(NOW.minusMinutes(1));
+    verifyNoInteractions(tombstoneRepository);
+  }
+
+  @Test
+  void deltaSyncReadsFromTokenAndReportsTombstonesPerTable() {
+    LocalDateTime since = NOW.minusHours(1);
+    Cursor hourAgo = new Cursor(since, 0L);
+    Cursor fiveMinutesAgo = new Cursor(NOW.minusMinutes(5), 0L);
+    String token = new SyncToken(hourAgo, hourAgo, fiveMinutesAgo, hourAgo, hourAgo, fiveMinutesAgo).encode();
+    when(ownerRepository.findChangedSince(since, 0L, 3)).thenReturn(List.of());
+    when(patientRepository.findChangedSince(since, 0L, 3)).thenReturn(List.of());
+    when(appointmentRepository.findChangedSince(NOW.minusMinutes(5), 0L, 3)).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedSince("owners", since, 0L, 3))
+        .thenReturn(List.of(new Tombstone(1L, "owners", 4L, NOW.minusMinutes(30))));
+    when(tombstoneRepository.findDeletedSince("patients", since, 0L, 3)).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedSince("appointments", NOW.minusMinutes(5), 0L, 3))
+        .thenReturn(List.of(new Tombstone(3L, "appointments", 9L, NOW.minusMinutes(2))));
+
+    SyncResult result = service.changesSince(token);
+
+    assertThat(result.hasMore()).isFalse();
+    assertThat(result.owners().removed()).containsExactly(4L);
+    assertThat(result.appointments().removed()).containsExactly(9L);
+    assertThat(result.patients().removed()).isEmpty();
+  }
+
+  @Test
+  void fullTombstonePageResumesFromLastTombstoneAndSignalsMore() {
+    LocalDateTime since = NOW.minusHours(1);
+    Cursor hourAgo = new Cursor(since, 0L);
+    String token = new SyncToken(hourAgo, hourAgo, hourAgo, hourAgo, hourAgo, hourAgo).encode();
+    LocalDateTime deletedAt = NOW.minusMinutes(30);
+    when(ownerRepository.findChangedSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(patientRepository.findChangedSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(appointmentRepository.findChangedSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedSince(eq("owners"), any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedSince(eq("patients"), any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(tombstoneRepository.findDeletedSince("appointments", since, 0L, 3)).thenReturn(List.of(
+        new Tombstone(20L, "appointments", 7L, deletedAt),
+        new Tombstone(21L, "appointments", 8L, deletedAt),
+        new Tombstone(22L, "appointments", 9L, deletedAt)));
+
+    SyncResult result = service.changesSince(token);
+
+    assertThat(result.hasMore()).isTrue();
+    assertThat(result.appointments().removed()).containsExactly(7L, 8L);
+    assertThat(SyncToken.decode(result.token()).removedAppointments()).isEqualTo(new Cursor(deletedAt, 21L));
+  }
+
+  @Test
+  void tokenOlderThanTheRetentionGetsAResetFullDownload() {
+    LocalDateTime since = NOW.minusDays(31);
+    Cursor stale = new Cursor(since, 0L);
+    String token = new SyncToken(stale, stale, stale, stale, stale, stale).encode();
+    when(ownerRepository.findChangedSince(any(), eq(0L), eq(3))).thenReturn(List.of(owner(1L, NOW.minusDays(40))));
+    when(patientRepository.findChangedSince(any(), eq(0L), eq(3))).thenReturn(List.of());
+    when(appointmentRepository.findChangedSince(any(), eq(0L), eq(3))).thenReturn(List.of());
+
+    SyncResult result = service.changesSince(token);
+
+    assertThat(result.reset()).isTrue();
+    assertThat(result.owners().upserts()).hasSize(1);
+    verify(ownerRepository).findChangedSince(LocalDateTime.of(1970, 1, 1, 0, 0), 0L, 3);
+    verifyNoInteractions(tombstoneRepository);
+  }
+
+  @Test
+  void acceptsTokensIssuedBeforeRemovalsWerePaged() {
+    LocalDateTime since = NOW.minusHours(1);
+    String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString(
+        ("v1;" + since + ",3;" + since + ",0;" + since + ",0").getBytes(StandardCharsets.UTF_8));
+
+    SyncToken token = SyncToken.decode(legacy);
+
+    assertThat(token.owners()).isEqualTo(new Cursor(since, 3L));
+    assertThat(token.removedOwners()).isEqualTo(new Cursor(since, 0L));
+    assertThat(token.earliestRemoval()).isEqualTo(since);
+  }
+
+  @Test
+  void purgesTombstonesPastTheRetention() {
+    service.purgeTombstones();
+
+    verify(tombstoneRepository).deleteOlderThan(NOW.minusDays(30));
+  }
+
+  @Test
+  void fullPageResumesFromLastRowAndSignalsMore() {
+    Owner first = owner(1L, NOW.minusDays(2));
+    Owner second = owner(2L, NOW.minusDays(1));
+    when(ownerRepository.findChangedSince(any(), anyLong(), anyInt()))
+        .thenReturn(List.of(first, second, owner(3L, NOW.minusHours(1))));
+    when(patientRepository.findChangedSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+    when(appointmentRepository.findChangedSince(any(), anyLong(), anyInt())).thenReturn(List.of());
+
+    SyncResult result = service.changesSince(null);
+
+    assertThat(result.hasMore()).isTrue();
+    assertThat(result.owners().upserts()).hasSize(2);
+    assertThat(SyncToken.decode(result.token()).owners()).isEqualTo(new Cursor(NOW.minusDays(1), 2L));
+
+    service.changesSince(result.token());
+    verify(ownerRepository).findChangedSince(NOW.minusDays(1), 2L, 3);
+  }
+
+  @Test
+  void rejectsMalformedTokens() {
+    assertThatThrownBy(() -> service.changesSince("not-a-token"))
+        .isInstanceOf(ValidationException.class);
+    verifyNoInteractions(ownerRepository, patientRepository, appointmentRepository, tombstoneRepository);
+  }
+
+  private static Owner owner(Long id, LocalDateTime updatedAt) {
+    return Owner.builder().id(id).name("Owner " + id).email("owner" + id + "@example.com").phone("+12345678901")
+        .address("123 Street").createdAt(updatedAt).updatedAt(updatedAt).build();
+  }
+
+  private static Patient patient(Long id, Owner owner, boolean active, LocalDateTime updatedAt) {
+    return Patient.builder().id(id).name("Patient " + id).species(Patient.Species.DOG)
+        .birthDate(LocalDate.of(2020, 1, 1)).owner(owner).isActive(active).createdAt(updatedAt)
+        .updatedAt(updatedAt).build();
+  }
+}
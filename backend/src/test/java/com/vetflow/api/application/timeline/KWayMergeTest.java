@@ -0,0 +1,73 @@
+package com.vetflow.api.application.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class KWayMergeTest {
+
+  @Test
+  void mergesSortedSourcesInOrder() {
+    Iterator<Integer> merged = KWayMerge.merge(List.of(
+        List.of(1, 4, 7).iterator(),
+        List.<Integer>of().iterator(),
+        List.of(2, 3, 9).iterator(),
+        List.of(5).iterator()), Comparator.naturalOrder());
+
+    List<Integer> result = new ArrayList<>();
+    merged.forEachRemaining(result::add);
+
+    assertThat(result).containsExactly(1, 2, 3, 4, 5, 7, 9);
+  }
+
+  @Test
+  void pullsOnlyWhatIsConsumedPlusOneHeadPerSource() {
+    AtomicInteger pulled = new AtomicInteger();
+    Iterator<Integer> counting = new Iterator<>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        pulled.incrementAndGet();
+        return next += 2;
+      }
+    };
+
+    Iterator<Integer> merged = KWayMerge.merge(List.of(counting, List.of(1, 3).iterator()),
+        Comparator.naturalOrder());
+    merged.next();
+    merged.next();
+    merged.next();
+
+    assertThat(pulled.get()).isEqualTo(2);
+  }
+
+  @Test
+  void keysetSourceFetchesNextChunkFromLastElement() {
+    List<Integer> requestedAfter = new ArrayList<>();
+    KeysetSource<Integer> source = new KeysetSource<>((last, size) -> {
+      requestedAfter.add(last);
+      int start = last == null ? 0 : last + 1;
+      return start >= 5 ? List.of() : IntStream.range(start, Math.min(start + size, 5)).boxed()
+          .toList();
+    }, 2);
+
+    List<Integer> result = new ArrayList<>();
+    source.forEachRemaining(result::add);
+
+    assertThat(result).containsExactly(0, 1, 2, 3, 4);
+    assertThat(requestedAfter).containsExactly(null, 1, 3);
+  }
+}
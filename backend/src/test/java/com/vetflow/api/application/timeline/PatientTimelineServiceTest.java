@@ -0,0 +1,148 @@
+package com.vetflow.api.application.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.timeline.TimelineEntry.Kind;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.AuditEntry;
+import com.vetflow.api.domain.model.MedicalRecord;
+import com.vetflow.api.domain.model.VersionStamp;
+import com.vetflow.api.domain.port.AppointmentRepository;
+import com.vetflow.api.domain.port.AuditEntryRepository;
+import com.vetflow.api.domain.port.MedicalRecordRepository;
+import com.vetflow.api.domain.port.PatientRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PatientTimelineServiceTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+  @Mock
+  private PatientRepository patientRepository;
+  @Mock
+  private AppointmentRepository appointmentRepository;
+  @Mock
+  private MedicalRecordRepository medicalRecordRepository;
+  @Mock
+  private AuditEntryRepository auditEntryRepository;
+
+  private PatientTimelineService service;
+
+  private final List<Appointment> appointments = new ArrayList<>();
+  private final List<MedicalRecord> records = new ArrayList<>();
+  private final List<AuditEntry> audits = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    service = new PatientTimelineService(patientRepository, appointmentRepository, medicalRecordRepository,
+        auditEntryRepository, 50, 200);
+    when(patientRepository.findVersionStampById(1L)).thenReturn(Optional.of(new VersionStamp(0L, T0)));
+    when(appointmentRepository.findByPatientBefore(eq(1L), any(), anyLong(), anyInt())).thenAnswer(invocation ->
+        keyset(appointments, Appointment::getAppointmentDate, Appointment::getId, invocation.getArgument(1),
+            invocation.getArgument(2), invocation.getArgument(3)));
+    when(medicalRecordRepository.findByPatientBefore(eq(1L), any(), anyLong(), anyInt())).thenAnswer(invocation ->
+        keyset(records, MedicalRecord::getVisitDate, MedicalRecord::getId, invocation.getArgument(1),
+            invocation.getArgument(2), invocation.getArgument(3)));
+    when(auditEntryRepository.findByRecordBefore(eq("patients"), eq(1L), any(), anyLong(), anyInt()))
+        .thenAnswer(invocation -> keyset(audits, AuditEntry::changedAt, AuditEntry::id, invocation.getArgument(2),
+            invocation.getArgument(3), invocation.getArgument(4)));
+  }
+
+  @Test
+  void mergesSourcesNewestFirst() {
+    appointments.add(appointment(1L, T0.plusDays(1)));
+    appointments.add(appointment(2L, T0.plusDays(5)));
+    records.add(record(3L, T0.plusDays(3)));
+    audits.add(new AuditEntry(4L, "patients", 1L, "INSERT", "admin", T0));
+
+    TimelinePage page = service.timeline(1L, null, null);
+
+    assertThat(page.entries()).extracting(TimelineEntry::kind, TimelineEntry::id).containsExactly(
+        tuple(Kind.APPOINTMENT, 2L),
+        tuple(Kind.MEDICAL_RECORD, 3L),
+        tuple(Kind.APPOINTMENT, 1L),
+        tuple(Kind.AUDIT, 4L));
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void cursorPagesVisitEveryEntryExactlyOnceIncludingTies() {
+    // Same instant across kinds and within a kind exercises every branch of the cursor comparison.
+    for (long id = 1; id <= 7; id++) {
+      appointments.add(appointment(id, T0.plusHours(id % 3)));
+      records.add(record(100 + id, T0.plusHours(id % 2)));
+      audits.add(new AuditEntry(200 + id, "patients", 1L, "UPDATE", "admin", T0.plusHours(id % 3)));
+    }
+
+    List<TimelineEntry> seen = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      TimelinePage page = service.timeline(1L, cursor, 4);
+      assertThat(page.entries()).hasSizeLessThanOrEqualTo(4);
+      seen.addAll(page.entries());
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages).isEqualTo(6);
+    assertThat(seen).hasSize(21).doesNotHaveDuplicates().isSortedAccordingTo(TimelineCursor.ORDER);
+  }
+
+  @Test
+  void unknownPatientIsNotFound() {
+    when(patientRepository.findVersionStampById(9L)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.timeline(9L, null, null)).isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  void rejectsBadCursorAndLimit() {
+    assertThatThrownBy(() -> service.timeline(1L, "not-a-cursor", null)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.timeline(1L, null, 0)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.timeline(1L, null, 201)).isInstanceOf(ValidationException.class);
+  }
+
+  private static <T> List<T> keyset(List<T> rows, Function<T, LocalDateTime> at, Function<T, Long> id,
+      LocalDateTime before, long beforeId, int limit) {
+    return rows.stream()
+        .filter(row -> at.apply(row).isBefore(before) || (at.apply(row).isEqual(before) && id.apply(row) < beforeId))
+        .sorted(Comparator.comparing(at).thenComparing(id).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  private static Appointment appointment(Long id, LocalDateTime at) {
+    return Appointment.builder().id(id).appointmentDate(at).type(Appointment.Type.CHECKUP)
+        .status(Appointment.Status.COMPLETED).priority(Appointment.Priority.NORMAL).build();
+  }
+
+  private static MedicalRecord record(Long id, LocalDateTime at) {
+    return MedicalRecord.builder().id(id).visitDate(at).diagnosis("Otitis").build();
+  }
+}
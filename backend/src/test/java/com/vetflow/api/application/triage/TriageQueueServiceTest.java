@@ -0,0 +1,179 @@
+package com.vetflow.api.application.triage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.vetflow.api.application.appointment.AppointmentChangedEvent;
+import com.vetflow.api.application.appointment.AppointmentChangedEvent.ChangeType;
+import com.vetflow.api.application.appointment.AppointmentResult;
+import com.vetflow.api.domain.model.Appointment;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.Owner;
+import com.vetflow.api.domain.model.Patient;
+import com.vetflow.api.domain.port.AppointmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TriageQueueServiceTest {
+
+  private static final ZoneId ZONE = ZoneId.of("UTC");
+  private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+  @Mock
+  private AppointmentRepository appointmentRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private TriageQueueService service;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(TODAY.atTime(8, 0).atZone(ZONE).toInstant(), ZONE);
+    service = new TriageQueueService(appointmentRepository, eventPublisher, clock);
+  }
+
+  @Test
+  void ordersByPriorityThenEmergencyThenArrival() {
+    service.apply(result(1L, at(9, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED));
+    service.apply(result(2L, at(11, 0), Type.CHECKUP, Priority.CRITICAL, Status.SCHEDULED));
+    service.apply(result(3L, at(10, 0), Type.EMERGENCY, Priority.NORMAL, Status.SCHEDULED));
+    service.apply(result(4L, at(8, 30), Type.GROOMING, Priority.NORMAL, Status.SCHEDULED));
+
+    assertThat(service.snapshot().entries())
+        .extracting(TriageEntry::appointmentId)
+        .containsExactly(2L, 3L, 4L, 1L);
+    assertThat(service.peek()).map(TriageEntry::appointmentId).contains(2L);
+  }
+
+  @Test
+  void rescheduleReordersAndCancelRemoves() {
+    service.apply(result(1L, at(9, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED));
+    service.apply(result(2L, at(10, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED));
+
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.RESCHEDULED,
+        result(2L, at(8, 45), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED), null));
+    assertThat(service.snapshot().entries()).extracting(TriageEntry::appointmentId).containsExactly(2L, 1L);
+
+    service.onAppointmentChanged(new AppointmentChangedEvent(ChangeType.CANCELLED,
+        result(2L, at(8, 45), Type.CHECKUP, Priority.NORMAL, Status.CANCELLED), null));
+    assertThat(service.snapshot().entries()).extracting(TriageEntry::appointmentId).containsExactly(1L);
+  }
+
+  @Test
+  void appointmentsOutsideTodayAreNotQueued() {
+    long version = service.snapshot().version();
+
+    service.apply(result(1L, TODAY.plusDays(1).atTime(9, 0), Type.CHECKUP, Priority.HIGH, Status.SCHEDULED));
+
+    assertThat(service.snapshot().entries()).isEmpty();
+    assertThat(service.snapshot().version()).isEqualTo(version);
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void movingAppointmentToAnotherDayDropsItFromQueue() {
+    service.apply(result(1L, at(9, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED));
+
+    service.apply(result(1L, TODAY.plusDays(2).atTime(9, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED));
+
+    assertThat(service.snapshot().entries()).isEmpty();
+  }
+
+  @Test
+  void reloadKeepsOnlyScheduledAppointments() {
+    Patient patient = patient();
+    Appointment open = Appointment.builder().id(1L).patient(patient).appointmentDate(at(9, 0))
+        .type(Type.SURGERY).status(Status.SCHEDULED).priority(Priority.HIGH).build();
+    Appointment done = open.toBuilder().id(2L).status(Status.COMPLETED).build();
+    when(appointmentRepository.findByDateRange(TODAY.atStartOfDay(), TODAY.plusDays(1).atStartOfDay()))
+        .thenReturn(List.of(open, done));
+
+    service.reload();
+
+    assertThat(service.snapshot().entries()).extracting(TriageEntry::appointmentId).containsExactly(1L);
+    verify(eventPublisher).publishEvent(any(TriageQueueChangedEvent.class));
+  }
+
+  @Test
+  void reloadKeepsChangesAppliedWhileItReads() {
+    Patient patient = patient();
+    Appointment cancelledMeanwhile = Appointment.builder().id(1L).patient(patient).appointmentDate(at(9, 0))
+        .type(Type.CHECKUP).status(Status.SCHEDULED).priority(Priority.NORMAL).version(3L).build();
+    Appointment stillOpen = cancelledMeanwhile.toBuilder().id(2L).appointmentDate(at(10, 0)).build();
+    when(appointmentRepository.findByDateRange(any(), any())).thenAnswer(invocation -> {
+      // Changes committed after the rows were read but before the reload takes the lock.
+      service.apply(result(1L, at(9, 0), Type.CHECKUP, Priority.NORMAL, Status.CANCELLED, 4L));
+      service.apply(result(3L, at(8, 30), Type.EMERGENCY, Priority.HIGH, Status.SCHEDULED, 0L));
+      return List.of(cancelledMeanwhile, stillOpen);
+    });
+
+    service.reload();
+
+    assertThat(service.snapshot().entries()).extracting(TriageEntry::appointmentId).containsExactly(3L, 2L);
+  }
+
+  @Test
+  void reloadPrefersRowsNewerThanChangesAppliedWhileItReads() {
+    Appointment rescheduled = Appointment.builder().id(1L).patient(patient()).appointmentDate(at(11, 0))
+        .type(Type.CHECKUP).status(Status.SCHEDULED).priority(Priority.NORMAL).version(5L).build();
+    when(appointmentRepository.findByDateRange(any(), any())).thenAnswer(invocation -> {
+      // A late relay of an older version from another node.
+      service.apply(result(1L, at(9, 0), Type.CHECKUP, Priority.NORMAL, Status.SCHEDULED, 4L));
+      return List.of(rescheduled);
+    });
+
+    service.reload();
+
+    assertThat(service.snapshot().entries()).extracting(TriageEntry::appointmentDate).containsExactly(at(11, 0));
+  }
+
+  @Test
+  void reloadToleratesUnavailableDatabase() {
+    when(appointmentRepository.findByDateRange(any(), any()))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+
+    service.reload();
+
+    assertThat(service.snapshot().entries()).isEmpty();
+  }
+
+  private static LocalDateTime at(int hour, int minute) {
+    return TODAY.atTime(hour, minute);
+  }
+
+  private static AppointmentResult result(Long id, LocalDateTime date, Type type, Priority priority, Status status) {
+    return result(id, date, type, priority, status, 0L);
+  }
+
+  private static AppointmentResult result(Long id, LocalDateTime date, Type type, Priority priority, Status status,
+      Long version) {
+    return new AppointmentResult(id, 10L, null, date, type, status, priority, null,
+        LocalDateTime.ofInstant(Instant.EPOCH, ZONE), version);
+  }
+
+  private static Patient patient() {
+    Owner owner = Owner.builder().id(1L).name("Alice").email("alice@example.com").phone("+12345678901")
+        .address("123 Street").build();
+    return Patient.builder().id(10L).name("Buddy").species(Patient.Species.DOG)
+        .birthDate(LocalDate.of(2020, 1, 1)).owner(owner).isActive(true).build();
+  }
+}
@@ -0,0 +1,81 @@
+package com.vetflow.api.application.typeahead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.vetflow.api.application.typeahead.TypeaheadIndex.Entry;
+import com.vetflow.api.application.typeahead.TypeaheadIndex.Match;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+
+class TypeaheadIndexTest {
+
+  private final TypeaheadIndex index = TypeaheadIndex.builder(Long.MAX_VALUE)
+      .add(owner(1L, "José Martínez", "55 1111-2233", "jose.martinez@vetflow.com"))
+      .add(owner(2L, "Ana Ruiz", "5544445566", "ana@vetflow.com"))
+      .add(patient(10L, "Max", 2L))
+      .add(patient(11L, "Maximus", 1L))
+      .add(patient(12L, "Ma", 1L))
+      .build();
+
+  @Test
+  void ordersExactTokensBeforeLongerOnes() {
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("ma"), 10, key -> false)))
+        .containsExactly("Ma", "José Martínez", "Max", "Maximus");
+  }
+
+  @Test
+  void foldsAccentsAndCase() {
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("JOSE mart"), 10, key -> false)))
+        .containsExactly("José Martínez");
+  }
+
+  @Test
+  void requiresEveryTerm() {
+    assertThat(index.lookup(Tokenizer.queryTerms("ana max"), 10, key -> false)).isEmpty();
+  }
+
+  @Test
+  void matchesPhonesByDigitsAndEmailsByParts() {
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("55 1111"), 10, key -> false)))
+        .containsExactly("José Martínez");
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("5544"), 10, key -> false)))
+        .containsExactly("Ana Ruiz");
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("martinez@"), 10, key -> false)))
+        .containsExactly("José Martínez");
+  }
+
+  @Test
+  void skipsExcludedEntriesAndStopsAtLimit() {
+    long maxKey = TypeaheadIndex.key(Kind.PATIENT, 10L);
+
+    assertThat(labels(index.lookup(Tokenizer.queryTerms("max"), 10, key -> key == maxKey)))
+        .containsExactly("Maximus");
+    assertThat(index.lookup(Tokenizer.queryTerms("ma"), 2, key -> false)).hasSize(2);
+  }
+
+  @Test
+  void refusesToGrowPastItsBudget() {
+    TypeaheadIndex.Builder builder = TypeaheadIndex.builder(300);
+    builder.add(patient(1L, "Max", 1L));
+
+    assertThatThrownBy(() -> builder.add(patient(2L, "Bella", 1L)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("memory budget");
+  }
+
+  private static Entry owner(long id, String name, String phone, String email) {
+    return Entry.of(new Suggestion(Kind.OWNER, id, name, phone, id), name, phone, email);
+  }
+
+  private static Entry patient(long id, String name, long ownerId) {
+    return Entry.of(new Suggestion(Kind.PATIENT, id, name, "dog", ownerId), name);
+  }
+
+  private static List<String> labels(List<Match> matches) {
+    return matches.stream().map(match -> match.suggestion().label()).toList();
+  }
+}
@@ -0,0 +1,191 @@
+package com.vetflow.api.application.typeahead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.unit.DataSize;
+
+import com.vetflow.api.application.changes.ChangeBusResyncEvent;
+import com.vetflow.api.application.owner.OwnerChangedEvent;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientChangedEvent;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.config.TypeaheadProperties;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.domain.port.TypeaheadSource;
+import com.vetflow.api.domain.port.TypeaheadSource.OwnerRow;
+import com.vetflow.api.domain.port.TypeaheadSource.PatientRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TypeaheadServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+  @Mock
+  private TypeaheadSource source;
+
+  private final TypeaheadProperties properties = new TypeaheadProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+  private TypeaheadService service;
+
+  private List<OwnerRow> owners = List.of(new OwnerRow(1L, "Ana Ruiz", "5511112233", "ana@vetflow.com"));
+  private List<PatientRow> patients = List.of(
+      new PatientRow(10L, "Max", "dog", 1L, true),
+      new PatientRow(11L, "Maya", "cat", 1L, false));
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(invocation -> {
+      owners.forEach(invocation.<Consumer<OwnerRow>>getArgument(0));
+      return null;
+    }).when(source).forEachOwner(any());
+    // Not reached when the owners already exceed the budget.
+    lenient().doAnswer(invocation -> {
+      patients.forEach(invocation.<Consumer<PatientRow>>getArgument(0));
+      return null;
+    }).when(source).forEachPatient(any());
+    service = new TypeaheadService(source, properties, meterRegistry, clock);
+  }
+
+  @Test
+  void suggestsActivePatientsAndOwnersAfterTheFirstBuild() {
+    assertThatThrownBy(() -> service.suggest("ma", null)).isInstanceOf(ServiceUnavailableException.class);
+
+    assertThat(service.rebuild()).isTrue();
+
+    assertThat(service.suggest("ma", null))
+        .extracting(Suggestion::kind, Suggestion::label, Suggestion::detail)
+        .containsExactly(tuple(Kind.PATIENT, "Max", "dog"));
+    assertThat(service.suggest("ana", null)).extracting(Suggestion::ownerId).containsExactly(1L);
+    assertThat(meterRegistry.get(TypeaheadService.REBUILD_METRIC).timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("vetflow.typeahead.entries").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void localWritesShowBeforeTheNextRebuild() {
+    service.rebuild();
+
+    service.onPatientChanged(new PatientChangedEvent(patient(10L, "Rex", true)));
+    service.onPatientChanged(new PatientChangedEvent(patient(11L, "Maya", true)));
+    service.onOwnerChanged(new OwnerChangedEvent(new OwnerResult(2L, "Mariana Cruz", "5544445566",
+        "mariana@vetflow.com", null, null, null, 0L)));
+
+    assertThat(service.suggest("ma", null)).extracting(Suggestion::label).containsExactly("Mariana Cruz", "Maya");
+    assertThat(service.suggest("rex", null)).extracting(Suggestion::id).containsExactly(10L);
+  }
+
+  @Test
+  void writesRelayedFromOtherNodesShowBeforeTheNextRebuild() {
+    service.rebuild();
+
+    service.onPatientChanged(new PatientChangedEvent(patient(12L, "Rex", true), false, true));
+    service.onOwnerChanged(new OwnerChangedEvent(new OwnerResult(1L, "Ana Ortega", "5511112233",
+        "ana@vetflow.com", null, null, null, 1L), true));
+
+    assertThat(service.suggest("rex", null)).extracting(Suggestion::id).containsExactly(12L);
+    assertThat(service.suggest("ana", null)).extracting(Suggestion::label).containsExactly("Ana Ortega");
+  }
+
+  @Test
+  void deactivatedPatientsDisappear() {
+    service.rebuild();
+
+    service.onPatientChanged(new PatientChangedEvent(patient(10L, "Max", false)));
+
+    assertThat(service.suggest("max", null)).isEmpty();
+  }
+
+  @Test
+  void rebuildFoldsPendingWritesIn() {
+    service.rebuild();
+    service.onPatientChanged(new PatientChangedEvent(patient(10L, "Rex", true)));
+    patients = List.of(new PatientRow(10L, "Rex", "dog", 1L, true));
+
+    service.rebuild();
+
+    assertThat(meterRegistry.get("vetflow.typeahead.pending").gauge().value()).isZero();
+    assertThat(service.suggest("rex", null)).extracting(Suggestion::id).containsExactly(10L);
+  }
+
+  @Test
+  void failedRebuildKeepsThePreviousIndex() {
+    service.rebuild();
+    doThrow(new DataAccessResourceFailureException("down")).when(source).forEachOwner(any());
+
+    assertThat(service.rebuild()).isFalse();
+
+    assertThat(service.suggest("max", null)).hasSize(1);
+    assertThat(meterRegistry.get(TypeaheadService.REBUILD_METRIC + ".failures").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void rebuildOverBudgetIsAbandoned() {
+    properties.setMaxMemory(DataSize.ofBytes(100));
+
+    assertThat(service.rebuild()).isFalse();
+    assertThatThrownBy(() -> service.suggest("max", null)).isInstanceOf(ServiceUnavailableException.class);
+  }
+
+  @Test
+  void refreshesOnlyWhenStale() {
+    service.refreshIfStale();
+    service.refreshIfStale();
+    verify(source, times(1)).forEachOwner(any());
+
+    properties.setRebuildInterval(Duration.ZERO);
+    service.refreshIfStale();
+    verify(source, times(2)).forEachOwner(any());
+  }
+
+  @Test
+  void resyncRebuildsAtTheNextRefreshCheck() {
+    service.refreshIfStale();
+
+    service.onResync(new ChangeBusResyncEvent("listener reconnected"));
+    service.onResync(new ChangeBusResyncEvent("listener disconnected"));
+    verify(source, times(1)).forEachOwner(any());
+
+    service.refreshIfStale();
+    service.refreshIfStale();
+    verify(source, times(2)).forEachOwner(any());
+  }
+
+  @Test
+  void rejectsEmptyQueriesAndLimitsOutOfRange() {
+    service.rebuild();
+
+    assertThatThrownBy(() -> service.suggest(" - ", null)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.suggest("max", 0)).isInstanceOf(ValidationException.class);
+    assertThatThrownBy(() -> service.suggest("max", properties.getMaxLimit() + 1))
+        .isInstanceOf(ValidationException.class);
+  }
+
+  private static PatientResult patient(long id, String name, boolean active) {
+    return new PatientResult(id, name, "DOG", null, null, null, active, 1L, null, null, 0L);
+  }
+}
@@ -0,0 +1,44 @@
+package com.vetflow.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+/** Actuator on its own port, as the prod profile runs it: the scrape endpoint is not served on the API port. */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "management.server.port=0",
+    "management.endpoints.web.exposure.include=health,metrics,prometheus"})
+@AutoConfigureObservability
+class ManagementPortSmokeTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @LocalServerPort
+  private int serverPort;
+
+  @LocalManagementPort
+  private int managementPort;
+
+  @Test
+  void prometheusIsServedOnlyOnTheManagementPort() {
+    assertThat(restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/prometheus",
+        String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(restTemplate.getForEntity("http://localhost:" + serverPort + "/actuator/prometheus",
+        String.class).getStatusCode()).isNotEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void otherActuatorEndpointsStillNeedAnAdmin() {
+    assertThat(restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/metrics",
+        String.class).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+}
@@ -0,0 +1,107 @@
+package com.vetflow.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.infrastructure.sql.RequestSqlStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,metrics,prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsSmokeTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void prometheusEndpointIsServedWithoutToken() throws Exception {
+    mockMvc.perform(post("/api/v1/auth/token")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"username\":\"nobody\",\"password\":\"wrong-password\"}"));
+
+    String body = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+
+    assertThat(body).contains("hikaricp_connections", "http_server_requests", "vetflow_calls_seconds_count{",
+        "use_case=\"AuthController.issueToken\"");
+  }
+
+  @Test
+  void responsesReportTheirSqlStatementsInServerTiming() throws Exception {
+    mockMvc.perform(post("/api/v1/auth/token")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"nobody\",\"password\":\"wrong-password\"}"))
+        .andExpect(header().string("Server-Timing", matchesPattern("db;dur=[0-9.]+;desc=\"[0-9]+ statements\"")));
+  }
+
+  @Test
+  void statementsThroughTheApplicationDataSourceAreCounted() {
+    RequestSqlStats stats = RequestSqlStats.begin();
+    try {
+      jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+      jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+    } finally {
+      RequestSqlStats.end();
+    }
+
+    assertThat(stats.statements()).isEqualTo(2);
+    assertThat(stats.mostRepeated().getValue()).isEqualTo(2);
+  }
+
+  @Test
+  void otherActuatorEndpointsNeedAnAdmin() throws Exception {
+    mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @WithMockUser(roles = "VETERINARIAN")
+  void otherActuatorEndpointsAreForbiddenToOtherRoles() throws Exception {
+    double before = failures("forbidden");
+
+    mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+
+    assertThat(failures("forbidden")).isEqualTo(before + 1);
+  }
+
+  @Test
+  void countsRejectedLoginsAndRequestsWithoutToken() throws Exception {
+    double logins = failures("login");
+    double unauthenticated = failures("unauthenticated");
+
+    mockMvc.perform(post("/api/v1/auth/token")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"nobody\",\"password\":\"wrong-password\"}"))
+        .andExpect(status().isUnauthorized());
+    mockMvc.perform(get("/api/v1/patients/1")).andExpect(status().isUnauthorized());
+
+    assertThat(failures("login")).isEqualTo(logins + 1);
+    assertThat(failures("unauthenticated")).isEqualTo(unauthenticated + 1);
+  }
+
+  private double failures(String reason) {
+    return meterRegistry.get("vetflow.auth.failures").tag("reason", reason).counter().count();
+  }
+}
@@ -0,0 +1,54 @@
+package com.vetflow.api.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.vetflow.api.domain.model.TextQuery.Term;
+
+class TextQueryTest {
+
+  @Test
+  @DisplayName("Should parse words, phrases, prefixes and exclusions")
+  void shouldParseAllTermKinds() {
+    TextQuery query = TextQuery.parse("Otitis \"ear  drops\" amox* -Surgery");
+
+    assertThat(query.include()).containsExactly(
+        new Term(List.of("otitis"), false),
+        new Term(List.of("ear", "drops"), false),
+        new Term(List.of("amox"), true));
+    assertThat(query.exclude()).containsExactly(new Term(List.of("surgery"), false));
+  }
+
+  @Test
+  @DisplayName("Should strip query syntax characters from words")
+  void shouldStripSyntaxCharacters() {
+    TextQuery query = TextQuery.parse("5mg/kg & !(x) 'drop'");
+
+    assertThat(query.include()).containsExactly(
+        new Term(List.of("5mg", "kg"), false),
+        new Term(List.of("x"), false),
+        new Term(List.of("drop"), false));
+  }
+
+  @Test
+  @DisplayName("Should reject queries without an included word")
+  void shouldRejectQueriesWithoutIncludedWords() {
+    assertThatThrownBy(() -> TextQuery.parse("  "))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TextQuery.parse("-surgery \"\""))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should reject queries with too many terms")
+  void shouldRejectTooManyTerms() {
+    assertThatThrownBy(() -> TextQuery.parse("a b c d e f g h i j k"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("more than 10 terms");
+  }
+}
@@ -0,0 +1,103 @@
+package com.vetflow.api.infrastructure.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.vetflow.api.config.BulkheadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkloadDataSourcePostProcessorTest {
+
+  private final BulkheadProperties properties = new BulkheadProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private Object processed;
+
+  @AfterEach
+  void close() throws Exception {
+    WorkloadContext.unbind();
+    if (processed instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  @Test
+  void givesEachWorkloadWithAPoolSizeItsOwnPartition() throws Exception {
+    properties.getReporting().setPoolSize(3);
+    properties.getReporting().setConnectionTimeout(Duration.ofSeconds(7));
+    properties.getBulk().setPoolSize(0);
+    HikariDataSource interactive = pool();
+
+    processed = process(interactive);
+
+    assertThat(processed).isInstanceOf(WorkloadRoutingDataSource.class);
+    WorkloadRoutingDataSource router = (WorkloadRoutingDataSource) processed;
+    HikariDataSource reporting = (HikariDataSource) router.partition(Workload.REPORTING);
+    assertThat(interactive.getPoolName()).isEqualTo("vetflow-interactive");
+    assertThat(reporting.getPoolName()).isEqualTo("vetflow-reporting");
+    assertThat(reporting.getJdbcUrl()).isEqualTo(interactive.getJdbcUrl());
+    assertThat(reporting.getMaximumPoolSize()).isEqualTo(3);
+    assertThat(reporting.getConnectionTimeout()).isEqualTo(7000);
+    assertThat(router.partition(Workload.BULK)).isSameAs(interactive);
+  }
+
+  @Test
+  void routesConnectionsByTheBoundWorkload() throws Exception {
+    HikariDataSource interactive = pool();
+    WorkloadRoutingDataSource router = (WorkloadRoutingDataSource) process(interactive);
+    processed = router;
+
+    try (Connection connection = router.getConnection()) {
+      assertThat(connection.isValid(1)).isTrue();
+    }
+    WorkloadContext.bind(Workload.REPORTING);
+    try (Connection connection = router.getConnection()) {
+      assertThat(connection.isValid(1)).isTrue();
+    }
+
+    HikariDataSource reporting = (HikariDataSource) router.partition(Workload.REPORTING);
+    assertThat(interactive.getHikariPoolMXBean().getTotalConnections()).isPositive();
+    assertThat(reporting.getHikariPoolMXBean().getTotalConnections()).isPositive();
+    assertThat(((HikariDataSource) router.partition(Workload.BULK)).isRunning()).isFalse();
+    assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "vetflow-reporting").gauge()).isNotNull();
+
+    router.close();
+    assertThat(interactive.isClosed()).isTrue();
+    assertThat(reporting.isClosed()).isTrue();
+  }
+
+  @Test
+  void leavesThePoolAloneWhenDisabled() {
+    properties.setEnabled(false);
+    HikariDataSource interactive = pool();
+
+    processed = process(interactive);
+
+    assertThat(processed).isSameAs(interactive);
+  }
+
+  private Object process(HikariDataSource dataSource) {
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    beans.addBean("bulkheadProperties", properties);
+    beans.addBean("meterRegistry", meterRegistry);
+    return new WorkloadDataSourcePostProcessor(beans.getBeanProvider(BulkheadProperties.class),
+        beans.getBeanProvider(MeterRegistry.class)).postProcessAfterInitialization(dataSource, "dataSource");
+  }
+
+  private static HikariDataSource pool() {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:bulkhead;DB_CLOSE_DELAY=-1");
+    dataSource.setUsername("sa");
+    dataSource.setMaximumPoolSize(4);
+    dataSource.setMinimumIdle(1);
+    return dataSource;
+  }
+}
@@ -0,0 +1,92 @@
+package com.vetflow.api.infrastructure.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.vetflow.api.application.changes.ChangeNotification;
+import com.vetflow.api.config.ChangeBusProperties;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresChangeBusTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private final ChangeBusProperties properties = new ChangeBusProperties();
+  private PostgresChangeBus bus;
+
+  @BeforeEach
+  void setUp() {
+    properties.setNodeId("node-a");
+    bus = new PostgresChangeBus(jdbcTemplate, () -> {
+      throw new SQLException("not used");
+    }, eventPublisher, properties);
+  }
+
+  @Test
+  void publishNotifiesOtherNodesAndLocalSubscribers() {
+    bus.publish("appointments", 7L, 3L, "cancelled");
+
+    verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+        eq("vetflow_changes"), eq("appointments|7|3|cancelled|node-a"));
+    verify(eventPublisher).publishEvent(new ChangeNotification("appointments", 7L, 3L, "cancelled", false));
+  }
+
+  @Test
+  void localSubscribersWaitForCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      bus.publish("appointments", 7L, 0L, "scheduled");
+      verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+      verify(eventPublisher).publishEvent(any(ChangeNotification.class));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void notificationsFromOtherNodesArePublishedAsRemote() {
+    bus.onPayload("appointments|7|3|rescheduled|node-b");
+
+    ArgumentCaptor<ChangeNotification> captor = ArgumentCaptor.forClass(ChangeNotification.class);
+    verify(eventPublisher).publishEvent(captor.capture());
+    assertThat(captor.getValue()).isEqualTo(new ChangeNotification("appointments", 7L, 3L, "rescheduled", true));
+  }
+
+  @Test
+  void ownAndMalformedNotificationsAreIgnored() {
+    assertThat(PostgresChangeBus.decode("appointments|7|3|cancelled|node-a", "node-a")).isEmpty();
+    assertThat(PostgresChangeBus.decode("appointments|x|3|cancelled|node-b", "node-a")).isEmpty();
+    assertThat(PostgresChangeBus.decode("garbage", "node-a")).isEmpty();
+  }
+
+  @Test
+  void rejectsChannelNamesThatAreNotIdentifiers() {
+    properties.setChannel("changes; DROP TABLE owners");
+
+    assertThatThrownBy(() -> new PostgresChangeBus(jdbcTemplate, () -> null, eventPublisher, properties))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,72 @@
+package com.vetflow.api.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.vetflow.api.application.search.SearchService;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.port.SearchIndex;
+import com.vetflow.api.infrastructure.search.LikeSearchIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LayerTimingAspectTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void timesApplicationServiceCallsByUseCaseAndOutcome() {
+    SearchService service = proxy(new SearchService(mock(SearchIndex.class), new SimpleMeterRegistry(), 20, 50), 1.0);
+
+    service.search("max", 5);
+    service.search("max", 5);
+    assertThatThrownBy(() -> service.search("x", 5)).isInstanceOf(ValidationException.class);
+
+    assertThat(timerCount("application", "SearchService.search", "success")).isEqualTo(2);
+    assertThat(timerCount("application", "SearchService.search", "error")).isEqualTo(1);
+  }
+
+  @Test
+  void timesAdaptersThroughTheirPortMethods() {
+    SearchIndex index = proxy(new LikeSearchIndex(mock(NamedParameterJdbcTemplate.class)), 1.0);
+
+    index.search("max", 5);
+
+    assertThat(timerCount("adapter", "LikeSearchIndex.search", "success")).isEqualTo(1);
+  }
+
+  @Test
+  void skipsUnsampledCalls() {
+    SearchService service = proxy(new SearchService(mock(SearchIndex.class), new SimpleMeterRegistry(), 20, 50), 0.0);
+
+    service.search("max", 5);
+
+    assertThat(meterRegistry.find(LayerTimingAspect.METRIC).timers()).isEmpty();
+  }
+
+  @Test
+  void rejectsSampleRatesOutsideZeroToOne() {
+    assertThatThrownBy(() -> new LayerTimingAspect(meterRegistry, 1.5, false))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T proxy(T target, double sampleRate) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new LayerTimingAspect(meterRegistry, sampleRate, false));
+    return (T) factory.getProxy();
+  }
+
+  private long timerCount(String layer, String useCase, String outcome) {
+    return meterRegistry.get(LayerTimingAspect.METRIC)
+        .tags("layer", layer, "use.case", useCase, "outcome", outcome)
+        .timer()
+        .count();
+  }
+}
@@ -0,0 +1,105 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.vetflow.api.domain.model.IdempotencyRecord;
+import com.vetflow.api.infrastructure.persistence.adapter.IdempotencyRecordRepositoryAdapter;
+
+@DataJpaTest
+@Import(IdempotencyRecordRepositoryAdapter.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class IdempotencyKeyJpaRepositoryTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+  @Autowired
+  IdempotencyKeyJpaRepository keys;
+
+  @Autowired
+  IdempotencyRecordRepositoryAdapter adapter;
+
+  @Test
+  @DisplayName("Finds only unexpired records and replaces expired ones on save")
+  void expiresRecords() {
+    adapter.save(record("alice", "k1", NOW.minusMinutes(1)));
+
+    assertThat(adapter.findActive("alice", "k1", NOW)).isEmpty();
+
+    adapter.save(record("alice", "k1", NOW.plusHours(1)));
+
+    assertThat(adapter.findActive("alice", "k1", NOW)).isPresent();
+    assertThat(adapter.findActive("bob", "k1", NOW)).isEmpty();
+    assertThat(keys.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Claims a key once, takes over an expired claim and completes or releases only its own")
+  void claimsKeys() {
+    IdempotencyRecord first = pending("alice", "k1", NOW.minusMinutes(2), NOW.minusMinutes(1));
+    assertThat(adapter.claim(first, NOW.minusMinutes(2))).isTrue();
+    assertThat(adapter.claim(pending("alice", "k1", NOW.minusMinutes(2), NOW), NOW.minusMinutes(2))).isFalse();
+
+    IdempotencyRecord second = pending("alice", "k1", NOW, NOW.plusMinutes(1));
+    assertThat(adapter.claim(second, NOW)).isTrue();
+    assertThat(adapter.findActive("alice", "k1", NOW)).get().extracting(IdempotencyRecord::isPending)
+        .isEqualTo(true);
+
+    assertThat(adapter.complete(completed(first))).isFalse();
+    assertThat(adapter.complete(completed(second))).isTrue();
+    assertThat(adapter.findActive("alice", "k1", NOW)).get().extracting(IdempotencyRecord::statusCode)
+        .isEqualTo(201);
+
+    adapter.claim(pending("alice", "k2", NOW, NOW.plusMinutes(1)), NOW);
+    adapter.release("alice", "k2", NOW);
+    assertThat(adapter.findActive("alice", "k2", NOW)).isEmpty();
+    assertThat(keys.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Purges expired records and trims the oldest beyond the bound")
+  void purgesAndTrims() {
+    adapter.save(record("alice", "old", NOW.minusMinutes(1)));
+    for (int i = 0; i < 5; i++) {
+      adapter.save(record("alice", "k" + i, NOW.plusHours(1)));
+    }
+
+    assertThat(adapter.deleteExpired(NOW)).isEqualTo(1);
+    assertThat(adapter.trimTo(3)).isEqualTo(2);
+    assertThat(adapter.findActive("alice", "k0", NOW)).isEmpty();
+    assertThat(adapter.findActive("alice", "k4", NOW)).isPresent();
+    assertThat(adapter.trimTo(3)).isZero();
+  }
+
+  private static IdempotencyRecord pending(String principal, String key, LocalDateTime claimedAt,
+      LocalDateTime expiresAt) {
+    return new IdempotencyRecord(principal, key, "fp", null, null, null, null, claimedAt, expiresAt);
+  }
+
+  private static IdempotencyRecord completed(IdempotencyRecord claim) {
+    return new IdempotencyRecord(claim.principal(), claim.key(), null, 201, "application/json", null, "{}",
+        claim.createdAt(), NOW.plusHours(1));
+  }
+
+  private static IdempotencyRecord record(String principal, String key, LocalDateTime expiresAt) {
+    return new IdempotencyRecord(principal, key, "fp", 201, "application/json", null, "{}", NOW.minusHours(1),
+        expiresAt);
+  }
+}
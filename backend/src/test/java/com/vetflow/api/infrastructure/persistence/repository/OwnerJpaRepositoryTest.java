@@ -2,15 +2,23 @@ package com.vetflow.api.infrastructure.persistence.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.TestPropertySource;
 
+import com.vetflow.api.domain.model.VersionStamp;
+import com.vetflow.api.domain.port.TypeaheadSource;
 import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
 
 @DataJpaTest
@@ -28,6 +36,9 @@ class OwnerJpaRepositoryTest {
   @Autowired
   OwnerJpaRepository owners;
 
+  @Autowired
+  TestEntityManager entityManager;
+
   @Test
   @DisplayName("Saves and retrieves an Owner by id and email")
   void savesAndReadsOwner() {
@@ -113,4 +124,73 @@ class OwnerJpaRepositoryTest {
         .isInstanceOf(DataIntegrityViolationException.class);
   }
 
+  @Test
+  @DisplayName("Stamp probe reports row count and newest updatedAt without loading rows")
+  void stampAllAndUpdatedAtProbe() {
+    assertThat(owners.stampAll().getRowCount()).isZero();
+    assertThat(owners.stampAll().getLastUpdatedAt()).isNull();
+
+    OwnerEntity o = new OwnerEntity();
+    o.setName("Stamp");
+    o.setEmail("stamp@vetflow.com");
+    o.setPhone("+525533333333");
+    o.setAddress("MTY");
+    OwnerEntity saved = owners.saveAndFlush(o);
+
+    CollectionStampView stamp = owners.stampAll();
+    assertThat(stamp.getRowCount()).isEqualTo(1);
+    assertThat(stamp.getLastUpdatedAt()).isCloseTo(saved.getUpdatedAt(), within(1, ChronoUnit.MILLIS));
+    assertThat(owners.findVersionStampById(saved.getId()))
+        .contains(new VersionStamp(0L, stamp.getLastUpdatedAt()));
+    assertThat(owners.findVersionStampById(-1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Bumps the version on update and rejects stale copies")
+  void rejectsStaleVersions() {
+    OwnerEntity o = new OwnerEntity();
+    o.setName("Versioned");
+    o.setEmail("versioned@vetflow.com");
+    o.setPhone("+525500000001");
+    OwnerEntity saved = owners.saveAndFlush(o);
+    assertThat(saved.getVersion()).isZero();
+
+    OwnerEntity stale = copyOf(saved);
+    entityManager.clear();
+
+    OwnerEntity current = owners.findById(saved.getId()).orElseThrow();
+    current.setAddress("Updated");
+    assertThat(owners.saveAndFlush(current).getVersion()).isEqualTo(1L);
+    entityManager.clear();
+
+    stale.setAddress("Lost update");
+    assertThatThrownBy(() -> owners.saveAndFlush(stale))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+  }
+
+  @Test
+  @DisplayName("Streams the autocomplete projection of every owner")
+  void streamsTypeaheadRows() {
+    OwnerEntity o = new OwnerEntity();
+    o.setName("Streamed");
+    o.setEmail("streamed@vetflow.com");
+    o.setPhone("+525500000002");
+    OwnerEntity saved = owners.saveAndFlush(o);
+
+    try (Stream<TypeaheadSource.OwnerRow> rows = owners.streamTypeaheadRows()) {
+      assertThat(rows.toList()).contains(
+          new TypeaheadSource.OwnerRow(saved.getId(), "Streamed", "+525500000002", "streamed@vetflow.com"));
+    }
+  }
+
+  private static OwnerEntity copyOf(OwnerEntity source) {
+    OwnerEntity copy = new OwnerEntity();
+    copy.setId(source.getId());
+    copy.setName(source.getName());
+    copy.setEmail(source.getEmail());
+    copy.setPhone(source.getPhone());
+    copy.setAddress(source.getAddress());
+    copy.setVersion(source.getVersion());
+    return copy;
+  }
 }
@@ -0,0 +1,58 @@
+package com.vetflow.api.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.infrastructure.persistence.entity.PatientAllergyEntity;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class PatientAllergyJpaRepositoryTest {
+
+  @Autowired
+  PatientAllergyJpaRepository allergies;
+
+  @Test
+  void findsByPatientAndStreamsProjections() {
+    allergies.saveAndFlush(allergy(7L, "Penicillin", "penicillin"));
+    allergies.saveAndFlush(allergy(7L, "Chicken", null));
+    allergies.saveAndFlush(allergy(8L, "NSAIDs", "nsaid"));
+
+    assertThat(allergies.findByPatientIdOrderByAllergenAsc(7L))
+        .extracting(PatientAllergyEntity::getAllergen)
+        .containsExactly("Chicken", "Penicillin");
+    try (Stream<PatientAllergy> rows = allergies.streamAll()) {
+      assertThat(rows.toList())
+          .extracting(PatientAllergy::patientId, PatientAllergy::drugClass)
+          .containsExactlyInAnyOrder(
+              tuple(7L, "penicillin"),
+              tuple(7L, null),
+              tuple(8L, "nsaid"));
+    }
+  }
+
+  private static PatientAllergyEntity allergy(Long patientId, String allergen, String drugClass) {
+    PatientAllergyEntity entity = new PatientAllergyEntity();
+    entity.setPatientId(patientId);
+    entity.setAllergen(allergen);
+    entity.setDrugClass(drugClass);
+    return entity;
+  }
+}
@@ -0,0 +1,103 @@
+package com.vetflow.api.infrastructure.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.vetflow.api.config.ReportConfig;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.domain.model.MonthlyAppointmentVolume;
+import com.vetflow.api.domain.port.AppointmentReportSource;
+import com.vetflow.api.infrastructure.persistence.entity.AppointmentEntity;
+import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
+import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
+
+@DataJpaTest
+@Import(ReportConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class LiveAppointmentReportSourceTest {
+
+  private static final YearMonth JUNE = YearMonth.of(2025, 6);
+  private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+  @Autowired
+  AppointmentReportSource reportSource;
+
+  @Autowired
+  TestEntityManager entityManager;
+
+  private PatientEntity max;
+
+  @BeforeEach
+  void setUp() {
+    OwnerEntity owner = new OwnerEntity();
+    owner.setName("Ana Ruiz");
+    owner.setEmail("ana@vetflow.com");
+    owner.setPhone("5511112233");
+    entityManager.persist(owner);
+    max = new PatientEntity();
+    max.setName("Max");
+    max.setSpecies("DOG");
+    max.setOwner(owner);
+    entityManager.persist(max);
+
+    appointment(LocalDateTime.of(2025, 5, 31, 17, 0), 4L, Type.CHECKUP, Status.COMPLETED);
+    appointment(LocalDateTime.of(2025, 6, 2, 9, 0), 4L, Type.CHECKUP, Status.COMPLETED);
+    appointment(LocalDateTime.of(2025, 6, 3, 9, 0), 4L, Type.CHECKUP, Status.NO_SHOW);
+    appointment(LocalDateTime.of(2025, 6, 4, 9, 0), 4L, Type.CHECKUP, Status.CANCELLED);
+    appointment(LocalDateTime.of(2025, 6, 5, 9, 0), null, Type.EMERGENCY, Status.COMPLETED);
+    appointment(LocalDateTime.of(2025, 6, 6, 9, 0), 4L, Type.SURGERY, Status.SCHEDULED);
+    appointment(LocalDateTime.of(2025, 7, 31, 23, 30), 4L, Type.CHECKUP, Status.SCHEDULED);
+    appointment(LocalDateTime.of(2025, 8, 1, 0, 0), 4L, Type.CHECKUP, Status.SCHEDULED);
+    entityManager.flush();
+  }
+
+  @Test
+  void aggregatesPerMonthVeterinarianAndTypeWithUnassignedLast() {
+    List<MonthlyAppointmentVolume> volumes = new ArrayList<>();
+
+    reportSource.forEachMonthlyVolume(JUNE, JULY, volumes::add);
+
+    assertThat(volumes).containsExactly(
+        new MonthlyAppointmentVolume(JUNE, 4L, null, Type.CHECKUP, 3, 1, 1, 1),
+        new MonthlyAppointmentVolume(JUNE, 4L, null, Type.SURGERY, 1, 0, 0, 0),
+        new MonthlyAppointmentVolume(JUNE, null, null, Type.EMERGENCY, 1, 1, 0, 0),
+        new MonthlyAppointmentVolume(JULY, 4L, null, Type.CHECKUP, 1, 0, 0, 0));
+  }
+
+  @Test
+  void refreshHasNothingToDo() {
+    assertThat(reportSource.refresh()).isTrue();
+  }
+
+  private void appointment(LocalDateTime date, Long veterinarianId, Type type, Status status) {
+    AppointmentEntity appointment = new AppointmentEntity();
+    appointment.setPatient(max);
+    appointment.setVeterinarianId(veterinarianId);
+    appointment.setAppointmentDate(date);
+    appointment.setType(AppointmentEntity.Type.valueOf(type.name()));
+    appointment.setStatus(AppointmentEntity.Status.valueOf(status.name()));
+    entityManager.persist(appointment);
+  }
+}
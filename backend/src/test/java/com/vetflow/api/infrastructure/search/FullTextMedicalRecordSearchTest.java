@@ -0,0 +1,18 @@
+package com.vetflow.api.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.vetflow.api.domain.model.TextQuery;
+
+class FullTextMedicalRecordSearchTest {
+
+  @Test
+  void rendersPhrasesPrefixesAndExclusions() {
+    TextQuery query = TextQuery.parse("otitis \"ear drops*\" amox* -surgery -\"follow up\"");
+
+    assertThat(FullTextMedicalRecordSearch.toTsQuery(query))
+        .isEqualTo("otitis & (ear <-> drops:*) & amox:* & !(surgery) & !((follow <-> up))");
+  }
+}
@@ -0,0 +1,123 @@
+package com.vetflow.api.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.vetflow.api.config.SearchConfig;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.domain.model.TextQuery;
+import com.vetflow.api.domain.port.MedicalRecordSearch;
+import com.vetflow.api.infrastructure.persistence.entity.MedicalRecordEntity;
+import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
+import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
+
+@DataJpaTest
+@Import(SearchConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class LikeMedicalRecordSearchTest {
+
+  private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 10, 9, 0);
+  private static final LocalDateTime JUN = LocalDateTime.of(2025, 6, 10, 9, 0);
+
+  @Autowired
+  MedicalRecordSearch medicalRecordSearch;
+
+  @Autowired
+  TestEntityManager entityManager;
+
+  private PatientEntity max;
+
+  @BeforeEach
+  void setUp() {
+    OwnerEntity owner = new OwnerEntity();
+    owner.setName("Ana Ruiz");
+    owner.setEmail("ana@vetflow.com");
+    owner.setPhone("5511112233");
+    entityManager.persist(owner);
+    max = new PatientEntity();
+    max.setName("Max");
+    max.setSpecies("DOG");
+    max.setOwner(owner);
+    entityManager.persist(max);
+
+    record(7L, JAN, "Otitis externa", "Ear drops twice daily", "Amoxicillin 250mg", null);
+    record(7L, JUN, "Dermatitis", null, null, "Owner asked about amoxicillin");
+    record(8L, JUN, "Otitis media", "Surgery scheduled", "Amoxiclav", null);
+    entityManager.flush();
+  }
+
+  @Test
+  void ranksPrimaryFieldMatchesFirst() {
+    List<MedicalRecordHit> hits = search("amox*", null, null, null, null, 0L, 10);
+
+    assertThat(hits).extracting(MedicalRecordHit::diagnosis)
+        .containsExactly("Otitis media", "Otitis externa", "Dermatitis");
+    assertThat(hits.get(0).patientName()).isEqualTo("Max");
+    assertThat(hits.get(0).rank()).isGreaterThan(hits.get(2).rank());
+  }
+
+  @Test
+  void matchesPhrasesAndHonoursExclusions() {
+    assertThat(search("\"ear drops\"", null, null, null, null, 0L, 10))
+        .extracting(MedicalRecordHit::diagnosis).containsExactly("Otitis externa");
+    assertThat(search("otitis -surgery", null, null, null, null, 0L, 10))
+        .extracting(MedicalRecordHit::diagnosis).containsExactly("Otitis externa");
+  }
+
+  @Test
+  void filtersByVeterinarianAndVisitDate() {
+    assertThat(search("amox", 7L, null, null, null, 0L, 10))
+        .extracting(MedicalRecordHit::veterinarianId).containsOnly(7L).hasSize(2);
+    assertThat(search("amox", null, JUN.toLocalDate().atStartOfDay(), null, null, 0L, 10))
+        .extracting(MedicalRecordHit::diagnosis).containsExactly("Otitis media", "Dermatitis");
+    assertThat(search("amox", null, null, JUN.toLocalDate().atStartOfDay(), null, 0L, 10))
+        .extracting(MedicalRecordHit::diagnosis).containsExactly("Otitis externa");
+  }
+
+  @Test
+  void resumesAfterTheLastHitSeen() {
+    List<MedicalRecordHit> first = search("amox", null, null, null, null, 0L, 2);
+    MedicalRecordHit last = first.get(1);
+
+    List<MedicalRecordHit> rest = search("amox", null, null, null, last.rank(), last.id(), 2);
+
+    assertThat(rest).extracting(MedicalRecordHit::diagnosis).containsExactly("Dermatitis");
+  }
+
+  private List<MedicalRecordHit> search(String text, Long veterinarianId, LocalDateTime from, LocalDateTime to,
+      Double afterRank, long afterId, int limit) {
+    return medicalRecordSearch.search(TextQuery.parse(text), veterinarianId, from, to, afterRank, afterId, limit);
+  }
+
+  private void record(long veterinarianId, LocalDateTime visitDate, String diagnosis, String treatment,
+      String medications, String notes) {
+    MedicalRecordEntity record = new MedicalRecordEntity();
+    record.setPatient(max);
+    record.setVeterinarianId(veterinarianId);
+    record.setVisitDate(visitDate);
+    record.setDiagnosis(diagnosis);
+    record.setTreatment(treatment);
+    record.setMedications(medications);
+    record.setNotes(notes);
+    entityManager.persist(record);
+  }
+}
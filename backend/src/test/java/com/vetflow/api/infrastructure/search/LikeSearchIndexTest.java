@@ -0,0 +1,103 @@
+package com.vetflow.api.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.vetflow.api.config.SearchConfig;
+import com.vetflow.api.domain.model.SearchHit;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.domain.port.SearchIndex;
+import com.vetflow.api.infrastructure.persistence.entity.OwnerEntity;
+import com.vetflow.api.infrastructure.persistence.entity.PatientEntity;
+
+@DataJpaTest
+@Import(SearchConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class LikeSearchIndexTest {
+
+  @Autowired
+  SearchIndex searchIndex;
+
+  @Autowired
+  TestEntityManager entityManager;
+
+  private OwnerEntity ana;
+
+  @BeforeEach
+  void setUp() {
+    ana = owner("Ana Ruiz", "ana@vetflow.com", "55 1111-2233");
+    OwnerEntity isabella = owner("Isabella Cruz", "isa@vetflow.com", "55 4444-5566");
+    patient("Bella", "Labrador", ana, true);
+    patient("Bellatrix", null, isabella, true);
+    patient("Max", "Bella Terrier", isabella, true);
+    patient("Bella", "Poodle", isabella, false);
+    entityManager.flush();
+  }
+
+  @Test
+  void ranksExactThenPrefixThenSubstringMatches() {
+    List<SearchHit> hits = searchIndex.search("bella", 10);
+
+    assertThat(hits).extracting(SearchHit::kind, SearchHit::name, SearchHit::detail)
+        .containsExactly(
+            tuple(Kind.PATIENT, "Bella", "Labrador"),
+            tuple(Kind.PATIENT, "Bellatrix", "dog"),
+            tuple(Kind.OWNER, "Isabella Cruz", "isa@vetflow.com"),
+            tuple(Kind.PATIENT, "Max", "Bella Terrier"));
+    assertThat(hits.get(0).ownerId()).isEqualTo(ana.getId());
+  }
+
+  @Test
+  void matchesOwnersByEmailAndPhoneDigits() {
+    assertThat(searchIndex.search("ana@vet", 10)).extracting(SearchHit::name).containsExactly("Ana Ruiz");
+    assertThat(searchIndex.search("1111-22", 10)).extracting(SearchHit::name).containsExactly("Ana Ruiz");
+  }
+
+  @Test
+  void treatsLikeWildcardsLiterally() {
+    assertThat(searchIndex.search("a%z", 10)).isEmpty();
+    assertThat(searchIndex.search("___", 10)).isEmpty();
+  }
+
+  @Test
+  void limitsTheMergedHits() {
+    assertThat(searchIndex.search("bella", 2)).extracting(SearchHit::name).containsExactly("Bella", "Bellatrix");
+  }
+
+  private OwnerEntity owner(String name, String email, String phone) {
+    OwnerEntity owner = new OwnerEntity();
+    owner.setName(name);
+    owner.setEmail(email);
+    owner.setPhone(phone);
+    return entityManager.persist(owner);
+  }
+
+  private void patient(String name, String breed, OwnerEntity owner, boolean active) {
+    PatientEntity patient = new PatientEntity();
+    patient.setName(name);
+    patient.setSpecies("DOG");
+    patient.setBreed(breed);
+    patient.setOwner(owner);
+    patient.setActive(active);
+    entityManager.persist(patient);
+  }
+}
@@ -0,0 +1,52 @@
+package com.vetflow.api.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/** Builds the PostgreSQL queries without a database, so a query that cannot even be assembled fails here. */
+@ExtendWith(MockitoExtension.class)
+class TrigramSearchIndexTest {
+
+  @Mock
+  private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Test
+  void ownerQueryKeepsTheTrigramOperatorAndAddsThePhoneClauseOnlyForDigits() {
+    TrigramSearchIndex index = new TrigramSearchIndex(jdbcTemplate);
+
+    String withPhone = index.ownersQuery(true);
+    String withoutPhone = index.ownersQuery(false);
+
+    assertThat(withPhone).contains("lower(o.name) % :term",
+        "OR regexp_replace(o.phone, '[^0-9]', '', 'g') LIKE :digits");
+    assertThat(withPhone.indexOf(":digits")).isLessThan(withPhone.indexOf("ORDER BY"));
+    assertThat(withPhone).endsWith("LIMIT :limit\n");
+    assertThat(withoutPhone).contains("lower(o.name) % :term").doesNotContain(":digits").endsWith("LIMIT :limit\n");
+    assertThat(index.patientsSql()).contains("lower(p.name) % :term");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void searchRunsThePatientAndOwnerQueries() {
+    TrigramSearchIndex index = new TrigramSearchIndex(jdbcTemplate);
+
+    index.search("bella", 10);
+    index.search("555-1234", 10);
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate, times(4)).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+    assertThat(sql.getAllValues()).containsExactly(index.patientsSql(), index.ownersQuery(false),
+        index.patientsSql(), index.ownersQuery(true));
+  }
+}
@@ -0,0 +1,84 @@
+package com.vetflow.api.infrastructure.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+class SqlStatementListenerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void tearDown() {
+    RequestSqlStats.end();
+  }
+
+  @Test
+  void redactsStringLiteralsAndCollapsesWhitespace() {
+    assertThat(SqlStatementListener.redact("""
+        SELECT *  FROM owners
+        WHERE email = 'ana@example.com' AND notes = 'it''s' AND id = ?"""))
+        .isEqualTo("SELECT * FROM owners WHERE email = '?' AND notes = '?' AND id = ?");
+  }
+
+  @Test
+  void classifiesStatementsByLeadingKeyword() {
+    assertThat(SqlStatementListener.type("  select 1")).isEqualTo("select");
+    assertThat(SqlStatementListener.type("UPDATE patients SET weight = ?")).isEqualTo("update");
+    assertThat(SqlStatementListener.type("with recent as (select 1) select * from recent")).isEqualTo("other");
+  }
+
+  @Test
+  void recordsStatementsIntoTheCurrentRequestAndTimesThem() {
+    SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(10), meterRegistry);
+    RequestSqlStats stats = RequestSqlStats.begin();
+
+    execute(listener, "select * from patients where id = ?");
+    execute(listener, "select * from patients where id = ?");
+    execute(listener, "update patients set weight = ? where id = ?");
+
+    assertThat(stats.statements()).isEqualTo(3);
+    assertThat(stats.mostRepeated().getKey()).isEqualTo("select * from patients where id = ?");
+    assertThat(stats.mostRepeated().getValue()).isEqualTo(2);
+    assertThat(stats.serverTiming()).matches("db;dur=\\d+\\.\\d{3};desc=\"3 statements\"");
+    assertThat(meterRegistry.get(SqlStatementListener.STATEMENTS_METRIC).tag("type", "select").timer().count())
+        .isEqualTo(2);
+    assertThat(meterRegistry.get(SqlStatementListener.SLOW_METRIC).counter().count()).isZero();
+  }
+
+  @Test
+  void countsStatementsOverTheSlowThreshold() {
+    SqlStatementListener listener = new SqlStatementListener(Duration.ZERO, meterRegistry);
+
+    execute(listener, "select pg_sleep(1)");
+
+    assertThat(meterRegistry.get(SqlStatementListener.SLOW_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void ignoresStatementsOutsideARequest() {
+    SqlStatementListener listener = new SqlStatementListener(Duration.ofSeconds(10), meterRegistry);
+
+    execute(listener, "select 1");
+
+    assertThat(RequestSqlStats.current()).isNull();
+    assertThat(meterRegistry.get(SqlStatementListener.STATEMENTS_METRIC).tag("type", "select").timer().count())
+        .isEqualTo(1);
+  }
+
+  private static void execute(SqlStatementListener listener, String sql) {
+    ExecutionInfo execution = new ExecutionInfo();
+    execution.setSuccess(true);
+    List<QueryInfo> queries = List.of(new QueryInfo(sql));
+    listener.beforeQuery(execution, queries);
+    listener.afterQuery(execution, queries);
+  }
+}
@@ -0,0 +1,148 @@
+package com.vetflow.api.infrastructure.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vetflow.api.domain.model.DailyStat;
+import com.vetflow.api.domain.model.DailyStat.Metric;
+
+/** Runs outside a test transaction: increments commit in their own transaction, as they do in production. */
+@DataJpaTest
+@Import(JdbcClinicStatsStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+class JdbcClinicStatsStoreTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+  @Autowired
+  JdbcClinicStatsStore store;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS clinic_stats (
+            stat_date DATE NOT NULL, metric VARCHAR(20) NOT NULL, metric_key VARCHAR(50) NOT NULL,
+            stat_count BIGINT NOT NULL DEFAULT 0, PRIMARY KEY (stat_date, metric, metric_key))
+        """);
+    jdbcTemplate.update("DELETE FROM clinic_stats");
+    jdbcTemplate.update("DELETE FROM appointments");
+    jdbcTemplate.update("DELETE FROM patients");
+    jdbcTemplate.update("DELETE FROM owners");
+  }
+
+  @Test
+  void incrementCreatesMissingCountersAndAddsToExistingOnes() {
+    DailyStat.Key total = new DailyStat.Key(DAY, Metric.TOTAL, "");
+    DailyStat.Key scheduled = new DailyStat.Key(DAY, Metric.STATUS, "scheduled");
+    DailyStat.Key cancelled = new DailyStat.Key(DAY, Metric.STATUS, "cancelled");
+
+    store.increment(Map.of(total, 2L, scheduled, 2L));
+    store.increment(Map.of(scheduled, -1L, cancelled, 1L, new DailyStat.Key(DAY, Metric.TYPE, "checkup"), 0L));
+
+    assertThat(store.findBetween(DAY, DAY)).containsExactlyInAnyOrder(
+        new DailyStat(DAY, Metric.TOTAL, "", 2),
+        new DailyStat(DAY, Metric.STATUS, "scheduled", 1),
+        new DailyStat(DAY, Metric.STATUS, "cancelled", 1));
+  }
+
+  @Test
+  void findBetweenIsInclusive() {
+    store.increment(Map.of(
+        new DailyStat.Key(DAY.minusDays(1), Metric.NEW_PATIENTS, ""), 1L,
+        new DailyStat.Key(DAY, Metric.NEW_PATIENTS, ""), 2L,
+        new DailyStat.Key(DAY.plusDays(1), Metric.NEW_PATIENTS, ""), 3L));
+
+    assertThat(store.findBetween(DAY.minusDays(1), DAY)).extracting(DailyStat::count)
+        .containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  void reconcileRecomputesCountersFromTheSourceTablesFromTheGivenDay() {
+    long patientId = patient();
+    appointment(patientId, DAY.atTime(9, 0), 4L, "checkup", "completed");
+    appointment(patientId, DAY.atTime(10, 0), null, "surgery", "no_show");
+    appointment(patientId, DAY.atTime(11, 0), 4L, "checkup", "cancelled");
+    store.increment(Map.of(
+        new DailyStat.Key(DAY, Metric.TOTAL, ""), 7L,
+        new DailyStat.Key(DAY, Metric.STATUS, "scheduled"), 1L,
+        new DailyStat.Key(DAY.minusDays(1), Metric.TOTAL, ""), 5L));
+
+    assertThat(store.reconcileFrom(DAY)).hasValue(9);
+
+    assertThat(store.findBetween(DAY, DAY)).containsExactlyInAnyOrder(
+        new DailyStat(DAY, Metric.TOTAL, "", 3),
+        new DailyStat(DAY, Metric.STATUS, "completed", 1),
+        new DailyStat(DAY, Metric.STATUS, "no_show", 1),
+        new DailyStat(DAY, Metric.STATUS, "cancelled", 1),
+        new DailyStat(DAY, Metric.TYPE, "checkup", 1),
+        new DailyStat(DAY, Metric.TYPE, "surgery", 1),
+        new DailyStat(DAY, Metric.VETERINARIAN, "4", 1),
+        new DailyStat(DAY, Metric.VETERINARIAN, "unassigned", 1));
+    assertThat(store.findBetween(DAY.minusDays(1), DAY.minusDays(1)))
+        .containsExactly(new DailyStat(DAY.minusDays(1), Metric.TOTAL, "", 5));
+    List<DailyStat> registrations = store.findBetween(LocalDate.now(), LocalDate.now());
+    assertThat(registrations).containsExactly(new DailyStat(LocalDate.now(), Metric.NEW_PATIENTS, "", 1));
+  }
+
+  @Test
+  void reconcileSkipsWhileAnotherNodeHoldsTheAdvisoryLock() {
+    // Stands in for PostgreSQL's function, reporting the lock as held elsewhere.
+    jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS pg_try_advisory_xact_lock AS "
+        + "'boolean tryLock(long key) { return false; }'");
+    JdbcClinicStatsStore locking = new JdbcClinicStatsStore(new NamedParameterJdbcTemplate(jdbcTemplate), true);
+    store.increment(Map.of(new DailyStat.Key(DAY, Metric.TOTAL, ""), 7L));
+
+    assertThat(locking.reconcileFrom(DAY)).isEmpty();
+    assertThat(store.findBetween(DAY, DAY)).containsExactly(new DailyStat(DAY, Metric.TOTAL, "", 7));
+  }
+
+  private long patient() {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update("""
+        INSERT INTO owners (name, phone, email, created_at, updated_at, version)
+        VALUES ('Ana Ruiz', '5511112233', 'ana@vetflow.com', ?, ?, 0)
+        """, now, now);
+    Long ownerId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM owners", Long.class);
+    jdbcTemplate.update("""
+        INSERT INTO patients (name, species, is_active, owner_id, created_at, updated_at, version)
+        VALUES ('Max', 'DOG', TRUE, ?, ?, ?, 0)
+        """, ownerId, now, now);
+    return jdbcTemplate.queryForObject("SELECT MAX(id) FROM patients", Long.class);
+  }
+
+  private void appointment(long patientId, LocalDateTime date, Long veterinarianId, String type, String status) {
+    jdbcTemplate.update("""
+        INSERT INTO appointments (patient_id, veterinarian_id, appointment_date, type, status, priority,
+                                  updated_at, version)
+        VALUES (?, ?, ?, ?, ?, 'normal', ?, 0)
+        """, patientId, veterinarianId, date, type, status, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,121 @@
+package com.vetflow.api.security.jwt;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.vetflow.api.application.appointment.AppointmentApplicationService;
+import com.vetflow.api.application.appointment.ScheduleAppointmentCommand;
+import com.vetflow.api.application.owner.CreateOwnerCommand;
+import com.vetflow.api.application.owner.OwnerApplicationService;
+import com.vetflow.api.application.patient.PatientApplicationService;
+import com.vetflow.api.application.patient.RegisterPatientCommand;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.security.user.SystemUserDetails;
+
+/**
+ * Runs streamed report downloads through the whole security filter chain with a bearer token. The body is
+ * written after the handler returns, and the dispatch that completes the response is authorised again.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureMockMvc
+class AsyncDispatchSmokeTest {
+
+  private static final LocalDateTime VISIT = LocalDateTime.of(2025, 6, 12, 9, 0);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserDetailsService userDetailsService;
+
+  @Autowired
+  private JwtTokenService tokenService;
+
+  @Autowired
+  private OwnerApplicationService ownerService;
+
+  @Autowired
+  private PatientApplicationService patientService;
+
+  @Autowired
+  private AppointmentApplicationService appointmentService;
+
+  private String token;
+  private long veterinarianId;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM medical_records");
+    jdbcTemplate.update("DELETE FROM appointments");
+    jdbcTemplate.update("DELETE FROM patients");
+    jdbcTemplate.update("DELETE FROM owners");
+    jdbcTemplate.update("DELETE FROM system_users");
+    jdbcTemplate.update("INSERT INTO system_users (username, email, password_hash, role, is_active, created_at, "
+        + "updated_at) VALUES ('drsmith', 'drsmith@vetflow.test', ?, 'veterinarian', true, LOCALTIMESTAMP, "
+        + "LOCALTIMESTAMP)", passwordEncoder.encode("Vetflow#2024"));
+    veterinarianId = jdbcTemplate.queryForObject("SELECT id FROM system_users WHERE username = 'drsmith'",
+        Long.class);
+    token = tokenService.generateToken((SystemUserDetails) userDetailsService.loadUserByUsername("drsmith"));
+
+    Long ownerId = ownerService.createOwner(
+        new CreateOwnerCommand("Alice Smith", "+12345678901", "alice@example.com", "123 Street")).id();
+    Long patientId = patientService.registerPatient(new RegisterPatientCommand("Buddy", "DOG", null,
+        LocalDate.of(2020, 1, 1), BigDecimal.TEN, ownerId)).id();
+    appointmentService.scheduleAppointment(new ScheduleAppointmentCommand(patientId, veterinarianId, VISIT,
+        Type.CHECKUP, Priority.NORMAL, null));
+  }
+
+  @Test
+  void utilisationReportStreamsWithBearerToken() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/v1/reports/vet-utilisation?from=2025-06&to=2025-06")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string("month,veterinarian_id,veterinarian,booked_appointments,booked_hours,"
+            + "available_hours,utilisation,completed,no_shows,cancelled\r\n"
+            + "2025-06," + veterinarianId + ",drsmith,1,0.5000,168.0000,0.0030,0,0,0\r\n"));
+  }
+
+  @Test
+  void noShowReportStreamsWithBearerToken() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/v1/reports/no-shows?from=2025-06&to=2025-06")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string("month,type,appointments,completed,no_shows,cancelled,no_show_rate,"
+            + "cancellation_rate\r\n"
+            + "2025-06,checkup,1,0,0,0,,0.0000\r\n"));
+  }
+}
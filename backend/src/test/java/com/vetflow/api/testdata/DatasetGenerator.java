@@ -0,0 +1,464 @@
+package com.vetflow.api.testdata;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Status;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.testdata.ReferenceData.Breed;
+import com.vetflow.api.testdata.ReferenceData.Diagnosis;
+import com.vetflow.api.testdata.ReferenceData.Line;
+
+/**
+ * Produces the rows of a {@link SyntheticDataset} as column values in {@link SyntheticTable#columns()} order,
+ * ready for a bulk writer. Row {@code i} of a table depends only on the seed, the volumes and {@code i}, so any
+ * range can be generated on any thread.
+ *
+ * <p>The shape follows a growing clinic: owners join at an increasing rate over the history and bring one pet
+ * or more (geometric household sizes averaging patients per owner), later pets being registered after the
+ * first. Appointments and visits only go to patients already registered, so older patients build up longer
+ * histories. Vaccinations peak with the spring and autumn campaigns, the clinic is quiet at weekends except
+ * for emergencies, and a few veterinarians carry most of the load (Zipf-like). The only whole-table state is the
+ * patient registration order, built once in the constructor.
+ */
+public final class DatasetGenerator {
+
+  /** Bcrypt-shaped placeholder, like the seed data's; no generated user can log in. */
+  static final String PASSWORD_PLACEHOLDER = "$2a$10$syntheticSyntheticSyntheticSyntheticSyntheticSyntheticSy";
+
+  private static final int FUTURE_DAYS = 60;
+  private static final int MAX_EXTRA_PETS = 9;
+  private static final double VET_LOAD_EXPONENT = 0.9;
+  private static final double[] WEEKDAY_WEIGHTS = {1.0, 1.0, 1.0, 1.0, 1.0, 0.6, 0.05};
+  private static final double MAX_DAY_WEIGHT = 1.7;
+
+  private static final Sampling.Choice<Status> PAST_STATUSES = new Sampling.Choice<Status>()
+      .add(Status.COMPLETED, 85)
+      .add(Status.NO_SHOW, 7)
+      .add(Status.CANCELLED, 8);
+
+  private static final Sampling.Choice<String> AUDIT_ACTIONS = new Sampling.Choice<String>()
+      .add("INSERT", 50)
+      .add("UPDATE", 45)
+      .add("DELETE", 5);
+
+  private record MedicalRecordDraw(Object[] values, List<Line> lines) {}
+
+  private final SyntheticDataset dataset;
+  private final Map<SyntheticTable, Long> firstIds;
+  private final Map<String, Long> drugIds;
+  private final LocalDate startDate;
+  private final LocalDateTime start;
+  private final LocalDateTime now;
+  private final int historyDays;
+  private final long historySeconds;
+  private final int[] ownerOfPatient;
+  private final long[] patientRegistered;
+  private final String[] vetUsernames;
+  private final Sampling.Choice<Integer> vetLoad = new Sampling.Choice<>();
+  private final Sampling.Choice<SyntheticTable> auditedTables = new Sampling.Choice<>();
+
+  /** Generator numbering every table from id 1, with prescriptions left unlinked. */
+  public DatasetGenerator(SyntheticDataset dataset) {
+    this(dataset, Map.of(), Map.of());
+  }
+
+  /**
+   * @param firstIds id of the first generated row per table, for loading next to existing rows; 1 if absent
+   * @param drugIds catalogue drug ids by name, to link prescription lines
+   */
+  DatasetGenerator(SyntheticDataset dataset, Map<SyntheticTable, Long> firstIds, Map<String, Long> drugIds) {
+    dataset.validate();
+    this.dataset = dataset;
+    this.firstIds = new EnumMap<>(SyntheticTable.class);
+    for (SyntheticTable table : SyntheticTable.values()) {
+      this.firstIds.put(table, firstIds.getOrDefault(table, 1L));
+    }
+    this.drugIds = Map.copyOf(drugIds);
+    this.startDate = dataset.getAnchor().minusYears(dataset.getHistoryYears());
+    this.start = startDate.atStartOfDay();
+    this.now = dataset.getAnchor().atStartOfDay();
+    this.historyDays = (int) ChronoUnit.DAYS.between(startDate, dataset.getAnchor());
+    this.historySeconds = ChronoUnit.SECONDS.between(start, now);
+
+    this.ownerOfPatient = new int[dataset.getPatients()];
+    this.patientRegistered = new long[dataset.getPatients()];
+    registerPatients();
+
+    this.vetUsernames = new String[dataset.getVeterinarians()];
+    for (int vet = 0; vet < vetUsernames.length; vet++) {
+      SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.SYSTEM_USERS, vet);
+      vetUsernames[vet] = "dr_" + ascii(Sampling.pick(random, ReferenceData.SURNAMES)) + "_"
+          + id(SyntheticTable.SYSTEM_USERS, vet);
+    }
+    int[] ranks = shuffledIndexes(dataset.getVeterinarians(),
+        Sampling.tableRandom(dataset.getSeed(), SyntheticTable.SYSTEM_USERS));
+    for (int rank = 0; rank < ranks.length; rank++) {
+      vetLoad.add(ranks[rank], 1 / Math.pow(rank + 1, VET_LOAD_EXPONENT));
+    }
+
+    if (dataset.getAppointments() > 0) {
+      auditedTables.add(SyntheticTable.APPOINTMENTS, 45);
+    }
+    if (dataset.getMedicalRecords() > 0) {
+      auditedTables.add(SyntheticTable.MEDICAL_RECORDS, 25);
+    }
+    auditedTables.add(SyntheticTable.PATIENTS, 15)
+        .add(SyntheticTable.OWNERS, 10)
+        .add(SyntheticTable.SYSTEM_USERS, 5);
+  }
+
+  /** Number of generation units of a table: rows, except one unit per medical record for its medication lines. */
+  public long units(SyntheticTable table) {
+    return dataset.rows(table);
+  }
+
+  public void forEach(SyntheticTable table, Consumer<Object[]> sink) {
+    generate(table, 0, units(table), sink);
+  }
+
+  /** Emits the rows of units {@code from} (inclusive) to {@code to} (exclusive) of a table, in order. */
+  public void generate(SyntheticTable table, long from, long to, Consumer<Object[]> sink) {
+    for (long index = from; index < to; index++) {
+      switch (table) {
+        case SYSTEM_USERS -> sink.accept(veterinarian((int) index));
+        case OWNERS -> sink.accept(owner((int) index));
+        case PATIENTS -> sink.accept(patient((int) index));
+        case APPOINTMENTS -> sink.accept(appointment(index));
+        case MEDICAL_RECORDS -> sink.accept(medicalRecord(index).values());
+        case MEDICAL_RECORD_MEDICATIONS -> medications(index, sink);
+        case AUDIT_LOG -> sink.accept(auditRow(index));
+      }
+    }
+  }
+
+  private Object[] veterinarian(int index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.SYSTEM_USERS, index);
+    Sampling.pick(random, ReferenceData.SURNAMES);
+    String username = vetUsernames[index];
+    LocalDateTime created = at((long) (random.nextDouble() * historySeconds / 2));
+    return new Object[] {id(SyntheticTable.SYSTEM_USERS, index), username,
+        username.replace('_', '.') + "@vetflow.com", PASSWORD_PLACEHOLDER, "veterinarian", true, created,
+        created};
+  }
+
+  private Object[] owner(int index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.OWNERS, index);
+    LocalDateTime created = at(ownerJoined(index, random));
+    long id = id(SyntheticTable.OWNERS, index);
+    String first = Sampling.pick(random, ReferenceData.FIRST_NAMES);
+    String surname = Sampling.pick(random, ReferenceData.SURNAMES);
+    String name = first + " " + surname + " " + Sampling.pick(random, ReferenceData.SURNAMES);
+    String area = Sampling.pick(random, ReferenceData.AREA_CODES);
+    String phone = "+52" + area + digits(random, 10 - area.length());
+    String email = ascii(first) + "." + ascii(surname) + id + "@" + Sampling.pick(random, ReferenceData.EMAIL_DOMAINS);
+    String address = Sampling.chance(random, 0.1) ? null
+        : Sampling.pick(random, ReferenceData.STREETS) + " " + random.nextInt(1, 2000) + ", "
+            + Sampling.pick(random, ReferenceData.CITIES);
+    long version = Sampling.chance(random, 0.3) ? random.nextInt(1, 5) : 0;
+    return new Object[] {id, name, phone, email, address, created, edited(random, created, version), version};
+  }
+
+  private Object[] patient(int index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.PATIENTS, index);
+    LocalDateTime created = at(patientRegistered[index]);
+    boolean dog = Sampling.chance(random, 0.58);
+    Breed breed = (dog ? ReferenceData.DOG_BREEDS : ReferenceData.CAT_BREEDS).pick(random);
+    String name = Sampling.pick(random, ReferenceData.PET_NAMES);
+    int ageDays = Sampling.chance(random, 0.35) ? random.nextInt(56, 365) : random.nextInt(365, 14 * 365);
+    double growth = Math.min(1, 0.3 + 0.7 * ageDays / 365.0);
+    BigDecimal weight = BigDecimal.valueOf(growth * (breed.minKg() + random.nextDouble() * (breed.maxKg()
+        - breed.minKg()))).setScale(2, RoundingMode.HALF_UP);
+    boolean active = Sampling.chance(random, 0.93);
+    long version = Sampling.chance(random, 0.4) ? random.nextInt(1, 6) : 0;
+    return new Object[] {id(SyntheticTable.PATIENTS, index), name, dog ? "dog" : "cat", breed.name(),
+        created.toLocalDate().minusDays(ageDays), weight, id(SyntheticTable.OWNERS, ownerOfPatient[index]), active,
+        created, edited(random, created, version), version};
+  }
+
+  private Object[] appointment(long index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.APPOINTMENTS, index);
+    Type type = ReferenceData.APPOINTMENT_TYPES.pick(random);
+    boolean emergency = type == Type.EMERGENCY;
+    LocalDate day = day(random, ReferenceData.MONTH_WEIGHTS.get(type), emergency, FUTURE_DAYS);
+    LocalDateTime date = day.atTime(emergency ? LocalTime.of(random.nextInt(24), random.nextInt(60)) : slot(random, day));
+    int patient = registeredPatient(random, seconds(date));
+    LocalDateTime registered = at(patientRegistered[patient]);
+    if (date.isBefore(registered)) {
+      date = registered.plusHours(1);
+    }
+
+    Status status;
+    if (date.isBefore(now)) {
+      status = emergency ? (Sampling.chance(random, 0.97) ? Status.COMPLETED : Status.CANCELLED)
+          : PAST_STATUSES.pick(random);
+    } else {
+      status = Sampling.chance(random, 0.92) ? Status.SCHEDULED : Status.CANCELLED;
+    }
+    Priority priority = switch (type) {
+      case EMERGENCY -> Sampling.chance(random, 0.3) ? Priority.CRITICAL : Priority.HIGH;
+      case SURGERY -> Sampling.chance(random, 0.4) ? Priority.HIGH : Priority.NORMAL;
+      default -> Sampling.chance(random, 0.85) ? Priority.NORMAL
+          : Sampling.chance(random, 0.8) ? Priority.LOW : Priority.HIGH;
+    };
+    Long veterinarianId = status == Status.SCHEDULED && Sampling.chance(random, 0.1) ? null : veterinarianId(random);
+    String notes = Sampling.chance(random, 0.4) ? Sampling.pick(random, ReferenceData.APPOINTMENT_NOTES.get(type)) : null;
+
+    LocalDateTime booked = emergency
+        ? date.minusMinutes(random.nextInt(5, 180))
+        : date.minusDays(random.nextInt(1, 46)).minusMinutes(random.nextInt(600));
+    if (booked.isAfter(now)) {
+      booked = now.minusMinutes(random.nextInt(1, 24 * 60));
+    }
+    if (booked.isBefore(registered)) {
+      booked = registered;
+    }
+    LocalDateTime updated = switch (status) {
+      case COMPLETED, NO_SHOW -> date.plusMinutes(random.nextInt(20, 90));
+      case CANCELLED -> booked.plusSeconds((long) (random.nextDouble()
+          * Math.max(0, ChronoUnit.SECONDS.between(booked, date.isBefore(now) ? date : now))));
+      case SCHEDULED -> booked;
+    };
+    return new Object[] {id(SyntheticTable.APPOINTMENTS, index), id(SyntheticTable.PATIENTS, patient), veterinarianId,
+        date, dbValue(type), dbValue(status), dbValue(priority), notes, booked, updated,
+        status == Status.SCHEDULED ? 0L : 1L};
+  }
+
+  private MedicalRecordDraw medicalRecord(long index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.MEDICAL_RECORDS, index);
+    LocalDate day = day(random, ReferenceData.MONTH_WEIGHTS.get(Type.CHECKUP), false, 0);
+    LocalDateTime visit = day.atTime(slot(random, day));
+    int patient = registeredPatient(random, seconds(visit));
+    LocalDateTime registered = at(patientRegistered[patient]);
+    if (visit.isBefore(registered)) {
+      visit = registered.plusHours(1);
+    }
+    Diagnosis diagnosis = ReferenceData.DIAGNOSES.pick(random);
+    List<Line> lines = prescription(random, diagnosis.lines());
+    String notes = Sampling.chance(random, 0.3) ? Sampling.pick(random, ReferenceData.RECORD_NOTES) : null;
+    LocalDateTime created = visit.plusMinutes(random.nextInt(10, 120));
+    long version = Sampling.chance(random, 0.15) ? 1 : 0;
+    Object[] values = {id(SyntheticTable.MEDICAL_RECORDS, index), id(SyntheticTable.PATIENTS, patient),
+        veterinarianId(random), visit, diagnosis.text(), diagnosis.treatment(),
+        lines.isEmpty() ? null : lines.stream().map(Line::text).collect(Collectors.joining(", ")), notes, created,
+        edited(random, created, version), version};
+    return new MedicalRecordDraw(values, lines);
+  }
+
+  private void medications(long index, Consumer<Object[]> sink) {
+    List<Line> lines = medicalRecord(index).lines();
+    for (int number = 0; number < lines.size(); number++) {
+      Line line = lines.get(number);
+      sink.accept(new Object[] {id(SyntheticTable.MEDICAL_RECORDS, index), number,
+          line.drug() == null ? null : drugIds.get(line.drug()), line.text()});
+    }
+  }
+
+  private Object[] auditRow(long index) {
+    SplittableRandom random = Sampling.rowRandom(dataset.getSeed(), SyntheticTable.AUDIT_LOG, index);
+    LocalDateTime changedAt = at((long) (Math.sqrt((index + random.nextDouble()) / dataset.getAuditRows())
+        * historySeconds));
+    SyntheticTable table = auditedTables.pick(random);
+    long recordId = firstIds.get(table) + random.nextLong(dataset.rows(table));
+    String action = AUDIT_ACTIONS.pick(random);
+    long version = action.equals("INSERT") ? 0 : random.nextInt(1, 6);
+    String changedBy = Sampling.chance(random, 0.85) ? vetUsernames[vetLoad.pick(random)] : "system";
+    return new Object[] {id(SyntheticTable.AUDIT_LOG, index), table.tableName(), recordId, action,
+        action.equals("INSERT") ? null : snapshot(random, table, recordId, version - 1),
+        action.equals("DELETE") ? null : snapshot(random, table, recordId, version), changedBy, changedAt};
+  }
+
+  /** A JSON snapshot about the size of the one {@code AuditLogService} writes for the table. */
+  private static String snapshot(SplittableRandom random, SyntheticTable table, long id, long version) {
+    return switch (table) {
+      case APPOINTMENTS -> "{\"id\":%d,\"type\":\"%s\",\"status\":\"%s\",\"priority\":\"normal\",\"version\":%d}"
+          .formatted(id, dbValue(ReferenceData.APPOINTMENT_TYPES.pick(random)), dbValue(PAST_STATUSES.pick(random)),
+              version);
+      case MEDICAL_RECORDS -> "{\"id\":%d,\"diagnosis\":\"%s\",\"version\":%d}"
+          .formatted(id, ReferenceData.DIAGNOSES.pick(random).text(), version);
+      case PATIENTS -> "{\"id\":%d,\"name\":\"%s\",\"active\":true,\"version\":%d}"
+          .formatted(id, Sampling.pick(random, ReferenceData.PET_NAMES), version);
+      case OWNERS -> "{\"id\":%d,\"phone\":\"+52%s\",\"version\":%d}".formatted(id, digits(random, 10), version);
+      default -> "{\"id\":%d,\"active\":true}".formatted(id);
+    };
+  }
+
+  /** Household sizes, then every pet's registration time, sorted so patient ids follow registration order. */
+  private void registerPatients() {
+    SplittableRandom random = Sampling.tableRandom(dataset.getSeed(), SyntheticTable.PATIENTS);
+    int owners = dataset.getOwners();
+    int patients = dataset.getPatients();
+    double perOwner = (double) owners / patients;
+    int[] pets = new int[owners];
+    long total = 0;
+    for (int owner = 0; owner < owners; owner++) {
+      int extra = perOwner >= 1 ? 0
+          : (int) Math.min(MAX_EXTRA_PETS, Math.log(1 - random.nextDouble()) / Math.log(1 - perOwner));
+      pets[owner] = 1 + extra;
+      total += pets[owner];
+    }
+    while (total > patients) {
+      int owner = random.nextInt(owners);
+      if (pets[owner] > 1) {
+        pets[owner]--;
+        total--;
+      }
+    }
+    while (total < patients) {
+      pets[random.nextInt(owners)]++;
+      total++;
+    }
+
+    // Registration second in the high half, owner index in the low half: one primitive sort orders both.
+    long[] registrations = patientRegistered;
+    int next = 0;
+    for (int owner = 0; owner < owners; owner++) {
+      long joined = ownerJoined(owner,
+          Sampling.rowRandom(dataset.getSeed(), SyntheticTable.OWNERS, owner));
+      registrations[next++] = joined << 32 | owner;
+      for (int pet = 1; pet < pets[owner]; pet++) {
+        long registered = joined + (long) (random.nextDouble() * (historySeconds - joined));
+        registrations[next++] = registered << 32 | owner;
+      }
+    }
+    Arrays.parallelSort(registrations);
+    for (int patient = 0; patient < patients; patient++) {
+      ownerOfPatient[patient] = (int) registrations[patient];
+      registrations[patient] >>>= 32;
+    }
+  }
+
+  /** Seconds from the start of the history when owner {@code index} joined; the row's first draw. */
+  private long ownerJoined(int index, SplittableRandom random) {
+    return (long) (Math.sqrt((index + random.nextDouble()) / dataset.getOwners()) * historySeconds);
+  }
+
+  /**
+   * A day drawn with density growing linearly over the history, weighted by month and, unless
+   * {@code anyWeekday}, by weekday. Up to {@code futureDays} after the anchor, tapering off.
+   */
+  private LocalDate day(SplittableRandom random, double[] monthWeights, boolean anyWeekday, int futureDays) {
+    int days = historyDays + futureDays;
+    while (true) {
+      int offset = (int) (Math.sqrt(random.nextDouble()) * days);
+      LocalDate day = startDate.plusDays(offset);
+      double weight = monthWeights[day.getMonthValue() - 1];
+      if (!anyWeekday) {
+        weight *= WEEKDAY_WEIGHTS[day.getDayOfWeek().getValue() - 1];
+      }
+      if (offset >= historyDays) {
+        weight *= 1 - (offset - historyDays) / (double) (futureDays + 1);
+      }
+      if (random.nextDouble() * MAX_DAY_WEIGHT < weight) {
+        return day;
+      }
+    }
+  }
+
+  /** A quarter-hour slot within opening hours: 08:00-19:00 on weekdays, 09:00-14:00 at weekends. */
+  private static LocalTime slot(SplittableRandom random, LocalDate day) {
+    boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+    return weekend
+        ? LocalTime.of(9, 0).plusMinutes(15L * random.nextInt(20))
+        : LocalTime.of(8, 0).plusMinutes(15L * random.nextInt(44));
+  }
+
+  /** A patient registered by {@code seconds}, uniformly; the first patient if none was yet. */
+  private int registeredPatient(SplittableRandom random, long seconds) {
+    int low = 0;
+    int high = patientRegistered.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (patientRegistered[middle] <= seconds) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return random.nextInt(Math.max(low, 1));
+  }
+
+  private static List<Line> prescription(SplittableRandom random, List<Line> candidates) {
+    if (candidates.isEmpty() || Sampling.chance(random, 0.2)) {
+      return List.of();
+    }
+    List<Line> remaining = new ArrayList<>(candidates);
+    int count = random.nextInt(1, candidates.size() + 1);
+    List<Line> lines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add(remaining.remove(random.nextInt(remaining.size())));
+    }
+    return lines;
+  }
+
+  private long veterinarianId(SplittableRandom random) {
+    return id(SyntheticTable.SYSTEM_USERS, vetLoad.pick(random));
+  }
+
+  private LocalDateTime edited(SplittableRandom random, LocalDateTime created, long version) {
+    if (version == 0) {
+      return created;
+    }
+    long remaining = Math.max(0, ChronoUnit.SECONDS.between(created, now));
+    return created.plusSeconds((long) (random.nextDouble() * remaining));
+  }
+
+  private long id(SyntheticTable table, long index) {
+    return firstIds.get(table) + index;
+  }
+
+  private LocalDateTime at(long seconds) {
+    return start.plusSeconds(seconds);
+  }
+
+  private long seconds(LocalDateTime dateTime) {
+    return ChronoUnit.SECONDS.between(start, dateTime);
+  }
+
+  private static int[] shuffledIndexes(int size, SplittableRandom random) {
+    int[] indexes = new int[size];
+    for (int i = 0; i < size; i++) {
+      indexes[i] = i;
+    }
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = indexes[i];
+      indexes[i] = indexes[j];
+      indexes[j] = swap;
+    }
+    return indexes;
+  }
+
+  private static String digits(SplittableRandom random, int count) {
+    StringBuilder digits = new StringBuilder(count).append(random.nextInt(1, 10));
+    for (int i = 1; i < count; i++) {
+      digits.append(random.nextInt(10));
+    }
+    return digits.toString();
+  }
+
+  /** Lower-case ASCII letters only, for emails and usernames. */
+  private static String ascii(String name) {
+    return Normalizer.normalize(name, Normalizer.Form.NFD).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+  }
+
+  private static String dbValue(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT);
+  }
+}
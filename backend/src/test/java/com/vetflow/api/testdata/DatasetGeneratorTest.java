@@ -0,0 +1,131 @@
+package com.vetflow.api.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class DatasetGeneratorTest {
+
+  private static final SyntheticDataset DATASET = SyntheticDataset.builder()
+      .seed(7)
+      .anchor(LocalDate.of(2025, 6, 2))
+      .veterinarians(10)
+      .owners(400)
+      .patients(1_000)
+      .appointments(20_000)
+      .medicalRecords(2_000)
+      .auditRows(2_000)
+      .build();
+
+  private final DatasetGenerator generator = new DatasetGenerator(DATASET);
+
+  @Test
+  void rowsDoNotDependOnHowTheTableIsSplit() {
+    List<Object[]> whole = rows(generator, SyntheticTable.APPOINTMENTS, 0, 1_000);
+    List<Object[]> split = new ArrayList<>(rows(new DatasetGenerator(DATASET), SyntheticTable.APPOINTMENTS, 0, 400));
+    split.addAll(rows(new DatasetGenerator(DATASET), SyntheticTable.APPOINTMENTS, 400, 1_000));
+
+    assertThat(split).hasSameSizeAs(whole);
+    for (int i = 0; i < whole.size(); i++) {
+      assertThat(split.get(i)).containsExactly(whole.get(i));
+    }
+  }
+
+  @Test
+  void anotherSeedGivesOtherRows() {
+    DatasetGenerator other = new DatasetGenerator(DATASET.toBuilder().seed(8).build());
+
+    assertThat(Arrays.equals(rows(generator, SyntheticTable.OWNERS, 0, 1).get(0),
+        rows(other, SyntheticTable.OWNERS, 0, 1).get(0))).isFalse();
+  }
+
+  @Test
+  void everyOwnerHasAPetAndSomeHaveSeveral() {
+    Map<Object, Integer> pets = new HashMap<>();
+    generator.forEach(SyntheticTable.PATIENTS, row -> pets.merge(row[6], 1, Integer::sum));
+
+    assertThat(pets).hasSize(DATASET.getOwners());
+    assertThat(pets.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(DATASET.getPatients());
+    assertThat(pets.values().stream().filter(count -> count >= 3).count()).isGreaterThan(40);
+  }
+
+  @Test
+  void appointmentsFollowRegistrationAndTheAnchor() {
+    Map<Object, LocalDateTime> registered = new HashMap<>();
+    generator.forEach(SyntheticTable.PATIENTS, row -> registered.put(row[0], (LocalDateTime) row[8]));
+    LocalDateTime now = DATASET.getAnchor().atStartOfDay();
+
+    generator.forEach(SyntheticTable.APPOINTMENTS, row -> {
+      LocalDateTime date = (LocalDateTime) row[3];
+      assertThat(date).isAfterOrEqualTo(registered.get(row[1]));
+      assertThat(row[5]).isIn(date.isBefore(now)
+          ? List.of("completed", "no_show", "cancelled")
+          : List.of("scheduled", "cancelled"));
+    });
+  }
+
+  @Test
+  void vaccinationsPeakInSpring() {
+    int[] byMonth = new int[13];
+    generator.forEach(SyntheticTable.APPOINTMENTS, row -> {
+      if (row[4].equals("vaccination")) {
+        byMonth[((LocalDateTime) row[3]).getMonthValue()]++;
+      }
+    });
+
+    assertThat(byMonth[Month.APRIL.getValue()]).isGreaterThan(2 * byMonth[Month.JANUARY.getValue()]);
+  }
+
+  @Test
+  void aFewVeterinariansCarryMostOfTheLoad() {
+    Map<Object, Integer> load = new HashMap<>();
+    generator.forEach(SyntheticTable.APPOINTMENTS, row -> {
+      if (row[2] != null) {
+        load.merge(row[2], 1, Integer::sum);
+      }
+    });
+    int total = load.values().stream().mapToInt(Integer::intValue).sum();
+    int busiest = load.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+
+    assertThat(load).hasSize(DATASET.getVeterinarians());
+    assertThat(busiest).isGreaterThan(2 * total / DATASET.getVeterinarians());
+  }
+
+  @Test
+  void medicationRowsMatchTheRecordTextAndLinkCatalogueDrugs() {
+    DatasetGenerator linked = new DatasetGenerator(DATASET, Map.of(), Map.of("meloxicam", 17L));
+    Map<Object, String> prescribed = new HashMap<>();
+    linked.forEach(SyntheticTable.MEDICAL_RECORDS, row -> {
+      if (row[6] != null) {
+        prescribed.put(row[0], (String) row[6]);
+      }
+    });
+    Map<Object, List<String>> lines = new HashMap<>();
+    List<Object[]> meloxicam = new ArrayList<>();
+    linked.forEach(SyntheticTable.MEDICAL_RECORD_MEDICATIONS, row -> {
+      lines.computeIfAbsent(row[0], id -> new ArrayList<>()).add((String) row[3]);
+      if (((String) row[3]).startsWith("Meloxicam")) {
+        meloxicam.add(row);
+      }
+    });
+
+    assertThat(lines.keySet()).isEqualTo(prescribed.keySet());
+    lines.forEach((recordId, text) -> assertThat(String.join(", ", text)).isEqualTo(prescribed.get(recordId)));
+    assertThat(meloxicam).isNotEmpty().allSatisfy(row -> assertThat(row[2]).isEqualTo(17L));
+  }
+
+  private static List<Object[]> rows(DatasetGenerator generator, SyntheticTable table, long from, long to) {
+    List<Object[]> rows = new ArrayList<>();
+    generator.generate(table, from, to, rows::add);
+    return rows;
+  }
+}
@@ -0,0 +1,162 @@
+package com.vetflow.api.testdata;
+
+import java.util.List;
+import java.util.Map;
+
+import com.vetflow.api.domain.model.Appointment.Type;
+
+/**
+ * Names, breeds and clinical content the generator draws from. Drug lines name drugs from the V11 catalogue by
+ * the same whole-word rule the application uses to link them; lines naming no catalogue drug stay unlinked, as
+ * they would in production.
+ */
+final class ReferenceData {
+
+  record Breed(String name, double minKg, double maxKg) {}
+
+  /** A prescription line; {@code drug} is the catalogue name it links to, or null. */
+  record Line(String drug, String text) {}
+
+  record Diagnosis(String text, String treatment, List<Line> lines) {}
+
+  static final List<String> FIRST_NAMES = List.of(
+      "María", "José", "Juan", "Guadalupe", "Ana", "Luis", "Carlos", "Sofía", "Fernanda", "Miguel",
+      "Alejandro", "Valeria", "Daniela", "Jorge", "Ricardo", "Gabriela", "Andrea", "Fernando", "Mariana",
+      "Eduardo", "Patricia", "Roberto", "Laura", "Francisco", "Verónica", "Diego", "Camila", "Javier", "Lucía",
+      "Héctor", "Ximena", "Raúl", "Regina", "Sergio", "Paola", "Arturo", "Elena", "Óscar", "Isabel", "Pablo");
+
+  static final List<String> SURNAMES = List.of(
+      "García", "Hernández", "Martínez", "López", "González", "Pérez", "Rodríguez", "Sánchez", "Ramírez",
+      "Cruz", "Flores", "Gómez", "Morales", "Vázquez", "Reyes", "Jiménez", "Torres", "Díaz", "Gutiérrez",
+      "Ruiz", "Mendoza", "Aguilar", "Ortiz", "Moreno", "Castillo", "Romero", "Álvarez", "Méndez", "Chávez",
+      "Rivera", "Juárez", "Ramos", "Domínguez", "Herrera", "Medina", "Castro", "Vargas", "Guzmán", "Velázquez",
+      "Muñoz");
+
+  static final List<String> PET_NAMES = List.of(
+      "Max", "Luna", "Rocky", "Bella", "Coco", "Toby", "Lola", "Milo", "Nala", "Simba", "Canela", "Chispa",
+      "Bruno", "Kira", "Thor", "Princesa", "Manchas", "Pelusa", "Oso", "Frida", "Duque", "Mía", "Zeus", "Dana",
+      "Chato", "Negrita", "Firulais", "Michi", "Tom", "Lucas", "Maya", "Copito", "Peluchín", "Salem", "Nieve",
+      "Kiara", "Rex", "Lucky", "Sasha", "Panchito", "Greta", "Bombón", "Cookie", "Rambo", "Tequila", "Chocolate",
+      "Tigre", "Gordo", "Cleo", "Pirata", "Mora", "Leo", "Chilaquil", "Gala", "Tito", "Rufo", "Pancho", "Olivia",
+      "Morita", "Sombra");
+
+  static final List<String> STREETS = List.of(
+      "Av. Reforma", "Calle Morelos", "Av. Insurgentes", "Calle Hidalgo", "Av. Juárez", "Calle Allende",
+      "Av. Universidad", "Calle 5 de Mayo", "Av. Revolución", "Calle Zaragoza", "Blvd. Díaz Ordaz",
+      "Av. Chapultepec", "Calle Madero", "Av. Constitución", "Calle Guerrero");
+
+  static final List<String> CITIES = List.of(
+      "CDMX", "Guadalajara", "Monterrey", "Puebla", "Querétaro", "León", "Toluca", "Mérida", "Zapopan",
+      "Naucalpan");
+
+  static final List<String> AREA_CODES = List.of("55", "55", "55", "33", "81", "222", "442", "477", "722", "999");
+
+  static final List<String> EMAIL_DOMAINS = List.of(
+      "gmail.com", "gmail.com", "hotmail.com", "outlook.com", "yahoo.com.mx", "icloud.com", "prodigy.net.mx");
+
+  static final Sampling.Choice<Breed> DOG_BREEDS = new Sampling.Choice<Breed>()
+      .add(new Breed("Mestizo", 5, 30), 30)
+      .add(new Breed("Chihuahua", 1.5, 3), 9)
+      .add(new Breed("Labrador Retriever", 25, 36), 8)
+      .add(new Breed("French Bulldog", 8, 14), 6)
+      .add(new Breed("Schnauzer", 6, 9), 7)
+      .add(new Breed("German Shepherd", 22, 40), 6)
+      .add(new Breed("Golden Retriever", 25, 34), 5)
+      .add(new Breed("Poodle", 3, 8), 7)
+      .add(new Breed("Shih Tzu", 4, 7.5), 7)
+      .add(new Breed("Pug", 6, 9), 4)
+      .add(new Breed("Husky", 16, 27), 3)
+      .add(new Breed("Yorkshire Terrier", 2, 3.5), 5)
+      .add(new Breed("Pit Bull", 14, 30), 3);
+
+  static final Sampling.Choice<Breed> CAT_BREEDS = new Sampling.Choice<Breed>()
+      .add(new Breed("Doméstico de pelo corto", 3, 6.5), 55)
+      .add(new Breed("Doméstico de pelo largo", 3, 6.5), 15)
+      .add(new Breed("Siamés", 2.5, 5.5), 10)
+      .add(new Breed("Persa", 3, 5.5), 8)
+      .add(new Breed("Maine Coon", 5, 11), 5)
+      .add(new Breed("Bengalí", 3.5, 7), 4)
+      .add(new Breed("Ragdoll", 4.5, 9), 3);
+
+  static final Sampling.Choice<Type> APPOINTMENT_TYPES = new Sampling.Choice<Type>()
+      .add(Type.CHECKUP, 40)
+      .add(Type.VACCINATION, 25)
+      .add(Type.GROOMING, 12)
+      .add(Type.SURGERY, 8)
+      .add(Type.EMERGENCY, 15);
+
+  /**
+   * Relative volume by month, January first. Vaccinations peak with the spring and autumn campaigns,
+   * grooming in the hot months, emergencies in summer and over the December holidays.
+   */
+  static final Map<Type, double[]> MONTH_WEIGHTS = Map.of(
+      Type.CHECKUP, new double[] {1.0, 1.0, 1.1, 1.1, 1.0, 0.9, 0.9, 0.9, 1.0, 1.1, 1.0, 0.8},
+      Type.VACCINATION, new double[] {0.6, 0.8, 1.4, 1.7, 1.5, 1.0, 0.7, 0.8, 1.2, 1.3, 0.8, 0.5},
+      Type.GROOMING, new double[] {0.7, 0.8, 1.0, 1.2, 1.4, 1.4, 1.3, 1.2, 1.0, 0.8, 0.7, 1.1},
+      Type.SURGERY, new double[] {1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 0.9, 0.9, 1.0, 1.0, 1.0, 0.7},
+      Type.EMERGENCY, new double[] {1.1, 0.9, 0.9, 0.9, 1.0, 1.2, 1.3, 1.2, 1.0, 0.9, 0.9, 1.3});
+
+  static final Map<Type, List<String>> APPOINTMENT_NOTES = Map.of(
+      Type.CHECKUP, List.of("Annual check-up", "Weight follow-up", "Owner reports reduced appetite",
+          "Post-treatment review", "Senior wellness panel"),
+      Type.VACCINATION, List.of("Rabies booster", "DHPP booster", "Feline triple vaccine",
+          "Puppy series second dose", "Kitten series first dose"),
+      Type.GROOMING, List.of("Full groom", "Nail trim", "Bath and brush", "Summer cut"),
+      Type.SURGERY, List.of("Elective spay", "Castration", "Mass removal", "Dental extractions"),
+      Type.EMERGENCY, List.of("Hit by car", "Suspected poisoning", "Difficulty breathing",
+          "Vomiting since last night", "Bite wound"));
+
+  static final Sampling.Choice<Diagnosis> DIAGNOSES = new Sampling.Choice<Diagnosis>()
+      .add(new Diagnosis("Routine wellness examination", "Physical examination with no abnormal findings", List.of(
+          new Line("milbemycin", "Milbemycin oxime monthly for heartworm prevention"),
+          new Line("spinosad", "Spinosad flea tablet monthly"))), 20)
+      .add(new Diagnosis("Core vaccination", "Vaccines administered as scheduled", List.of()), 15)
+      .add(new Diagnosis("Otitis externa", "Ear cleaning and topical antimicrobial drops", List.of(
+          new Line("enrofloxacin", "Enrofloxacin 5 mg/kg once daily for 10 days"),
+          new Line("prednisolone", "Prednisolone 0.5 mg/kg once daily for 5 days"))), 8)
+      .add(new Diagnosis("Acute gastroenteritis", "Fluid therapy and bland diet", List.of(
+          new Line("maropitant", "Maropitant 1 mg/kg once daily for 3 days"),
+          new Line("metronidazole", "Metronidazole 15 mg/kg twice daily for 5 days"),
+          new Line("omeprazole", "Omeprazole 1 mg/kg once daily"))), 9)
+      .add(new Diagnosis("Atopic dermatitis", "Medicated baths and allergen avoidance", List.of(
+          new Line("prednisolone", "Prednisolone 0.5 mg/kg once daily tapering"),
+          new Line(null, "Omega-3 fatty acid supplement"))), 6)
+      .add(new Diagnosis("Osteoarthritis", "Weight management and controlled exercise", List.of(
+          new Line("meloxicam", "Meloxicam 0.1 mg/kg once daily"),
+          new Line("gabapentin", "Gabapentin 10 mg/kg twice daily"),
+          new Line("carprofen", "Carprofen 2 mg/kg twice daily"))), 6)
+      .add(new Diagnosis("Periodontal disease", "Scaling and polishing under anaesthesia", List.of(
+          new Line("clindamycin", "Clindamycin 5.5 mg/kg twice daily for 7 days"),
+          new Line("buprenorphine", "Buprenorphine 0.02 mg/kg every 8 hours for 2 days"))), 7)
+      .add(new Diagnosis("Urinary tract infection", "Urinalysis and culture", List.of(
+          new Line("amoxicillin-clavulanate", "Amoxicillin-clavulanate 12.5 mg/kg twice daily for 14 days"),
+          new Line("cefalexin", "Cefalexin 15 mg/kg twice daily for 14 days"))), 5)
+      .add(new Diagnosis("Soft tissue laceration", "Wound cleaning and sutures", List.of(
+          new Line("cefazolin", "Cefazolin 22 mg/kg intravenous perioperative"),
+          new Line("carprofen", "Carprofen 4 mg/kg once daily for 5 days"),
+          new Line("tramadol", "Tramadol 3 mg/kg every 8 hours for 3 days"))), 4)
+      .add(new Diagnosis("Ovariohysterectomy", "Elective spay with uneventful recovery", List.of(
+          new Line("meloxicam", "Meloxicam 0.1 mg/kg once daily for 3 days"),
+          new Line("methadone", "Methadone 0.2 mg/kg perioperative"))), 4)
+      .add(new Diagnosis("Chronic kidney disease", "Renal diet and fluid support", List.of(
+          new Line("benazepril", "Benazepril 0.5 mg/kg once daily"),
+          new Line("maropitant", "Maropitant 1 mg/kg as needed"))), 3)
+      .add(new Diagnosis("Congestive heart failure", "Cardiac work-up and diet change", List.of(
+          new Line("furosemide", "Furosemide 2 mg/kg twice daily"),
+          new Line("enalapril", "Enalapril 0.5 mg/kg twice daily"))), 2)
+      .add(new Diagnosis("Idiopathic epilepsy", "Seizure diary and bloodwork monitoring", List.of(
+          new Line("phenobarbital", "Phenobarbital 2.5 mg/kg twice daily"))), 2)
+      .add(new Diagnosis("Separation anxiety", "Behaviour modification plan", List.of(
+          new Line("fluoxetine", "Fluoxetine 1 mg/kg once daily"),
+          new Line("clomipramine", "Clomipramine 2 mg/kg twice daily"))), 2)
+      .add(new Diagnosis("Flea infestation", "Environmental treatment advised", List.of(
+          new Line("spinosad", "Spinosad flea tablet monthly"),
+          new Line("ivermectin", "Ivermectin 0.2 mg/kg single dose"))), 5);
+
+  static final List<String> RECORD_NOTES = List.of(
+      "Owner advised to return if symptoms persist", "Recheck in two weeks", "Patient calm during examination",
+      "Bloodwork sent to external laboratory", "Discussed diet and exercise with owner");
+
+  private ReferenceData() {
+  }
+}
@@ -0,0 +1,67 @@
+package com.vetflow.api.testdata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/** Seeding and weighted sampling shared by the generators. */
+final class Sampling {
+
+  private Sampling() {
+  }
+
+  /**
+   * The random stream of one row. Every row of every table has its own stream derived from the seed, so a row
+   * comes out the same whichever chunk or thread generates it.
+   */
+  static SplittableRandom rowRandom(long seed, SyntheticTable table, long index) {
+    return new SplittableRandom(mix(mix(seed) + 0x9E3779B97F4A7C15L * (table.ordinal() + 1)) ^ mix(index));
+  }
+
+  /** The stream for whole-table decisions such as household sizes, separate from every row stream. */
+  static SplittableRandom tableRandom(long seed, SyntheticTable table) {
+    return rowRandom(seed, table, -1L);
+  }
+
+  /** SplitMix64 finaliser. */
+  static long mix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  static <T> T pick(SplittableRandom random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  static boolean chance(SplittableRandom random, double probability) {
+    return random.nextDouble() < probability;
+  }
+
+  /** Values drawn in proportion to their weights, by binary search over the running totals. */
+  static final class Choice<T> {
+
+    private final List<T> values = new ArrayList<>();
+    private double[] cumulative = new double[8];
+    private double total;
+
+    Choice<T> add(T value, double weight) {
+      if (values.size() == cumulative.length) {
+        cumulative = Arrays.copyOf(cumulative, cumulative.length * 2);
+      }
+      total += weight;
+      cumulative[values.size()] = total;
+      values.add(value);
+      return this;
+    }
+
+    T pick(SplittableRandom random) {
+      double target = random.nextDouble(total);
+      int index = Arrays.binarySearch(cumulative, 0, values.size(), target);
+      index = index >= 0 ? index + 1 : -index - 1;
+      return values.get(Math.min(index, values.size() - 1));
+    }
+  }
+}
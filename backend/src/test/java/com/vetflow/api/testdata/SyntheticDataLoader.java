@@ -0,0 +1,329 @@
+package com.vetflow.api.testdata;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.vetflow.api.infrastructure.stats.JdbcClinicStatsStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk-loads a {@link SyntheticDataset} into a database through plain JDBC, bypassing the application so
+ * millions of rows take minutes. Tables are loaded one after another in foreign-key order; each table is cut
+ * into chunks loaded in parallel, each chunk on its own connection and in its own transaction. PostgreSQL gets
+ * {@code COPY ... FROM STDIN}, anything else (H2 in the tests) batched {@code INSERT}s.
+ *
+ * <p>Generated ids continue after the highest id already in each table, so the dataset can sit next to the
+ * seed data; identities are moved past the loaded rows afterwards. On PostgreSQL the derived data the
+ * application would have maintained (clinic statistics, the monthly report view) is rebuilt and the tables are
+ * analysed.
+ *
+ * <p>Run against a local database with:
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.vetflow.api.testdata.SyntheticDataLoader \
+ *     -Dexec.args="jdbc:postgresql://localhost:5432/vetflow vetflow secret large 42"
+ * </pre>
+ */
+@Slf4j
+public final class SyntheticDataLoader {
+
+  static final int CHUNK_UNITS = 20_000;
+  private static final int BATCH_SIZE = 1_000;
+  private static final int COPY_BUFFER = 1 << 16;
+
+  private SyntheticDataLoader() {
+  }
+
+  /**
+   * Loads {@code dataset} on {@code threads} threads and returns the rows written per table.
+   *
+   * @throws IllegalStateException if a chunk fails; chunks already committed stay loaded
+   */
+  public static Map<SyntheticTable, Long> load(DataSource dataSource, SyntheticDataset dataset, int threads) {
+    return load(dataSource, dataset, threads, CHUNK_UNITS);
+  }
+
+  static Map<SyntheticTable, Long> load(DataSource dataSource, SyntheticDataset dataset, int threads,
+      int chunkUnits) {
+    boolean postgres;
+    Map<SyntheticTable, Long> firstIds = new EnumMap<>(SyntheticTable.class);
+    Map<String, Long> drugIds = new HashMap<>();
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      postgres = connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("PostgreSQL");
+      for (SyntheticTable table : SyntheticTable.values()) {
+        if (table.explicitIds()) {
+          try (ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table.tableName())) {
+            rows.next();
+            firstIds.put(table, rows.getLong(1) + 1);
+          }
+        }
+      }
+      try (ResultSet rows = statement.executeQuery("SELECT id, name FROM drugs")) {
+        while (rows.next()) {
+          drugIds.put(rows.getString(2), rows.getLong(1));
+        }
+      }
+    } catch (SQLException ex) {
+      throw new IllegalStateException("Could not read the target database", ex);
+    }
+
+    DatasetGenerator generator = new DatasetGenerator(dataset, firstIds, drugIds);
+    Map<SyntheticTable, Long> written = new EnumMap<>(SyntheticTable.class);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (SyntheticTable table : SyntheticTable.values()) {
+        long started = System.nanoTime();
+        AtomicLong rows = new AtomicLong();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long from = 0; from < generator.units(table); from += chunkUnits) {
+          long chunkFrom = from;
+          long chunkTo = Math.min(from + chunkUnits, generator.units(table));
+          chunks.add(executor.submit(() -> {
+            rows.addAndGet(loadChunk(dataSource, postgres, generator, table, chunkFrom, chunkTo));
+            return null;
+          }));
+        }
+        awaitAll(table, chunks);
+        written.put(table, rows.get());
+        log.info("Loaded {} rows into {} in {} ms", rows.get(), table.tableName(),
+            (System.nanoTime() - started) / 1_000_000);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    finish(dataSource, postgres, dataset);
+    return Collections.unmodifiableMap(written);
+  }
+
+  private static long loadChunk(DataSource dataSource, boolean postgres, DatasetGenerator generator,
+      SyntheticTable table, long from, long to) throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        long rows;
+        try (RowWriter writer = postgres ? new CopyWriter(connection, table) : new BatchWriter(connection, table)) {
+          generator.generate(table, from, to, writer::write);
+          rows = writer.finish();
+        }
+        connection.commit();
+        return rows;
+      } catch (SQLException | RuntimeException ex) {
+        connection.rollback();
+        throw ex;
+      }
+    }
+  }
+
+  private static void awaitAll(SyntheticTable table, List<Future<?>> chunks) {
+    try {
+      for (Future<?> chunk : chunks) {
+        chunk.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading " + table.tableName(), ex);
+    } catch (ExecutionException ex) {
+      chunks.forEach(chunk -> chunk.cancel(true));
+      throw new IllegalStateException("Loading " + table.tableName() + " failed", ex.getCause());
+    }
+  }
+
+  private static void finish(DataSource dataSource, boolean postgres, SyntheticDataset dataset) {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      for (SyntheticTable table : SyntheticTable.values()) {
+        if (!table.explicitIds()) {
+          continue;
+        }
+        if (postgres) {
+          statement.execute("SELECT setval(pg_get_serial_sequence('%1$s', 'id'), MAX(id)) FROM %1$s"
+              .formatted(table.tableName()));
+        } else {
+          long next;
+          try (ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table.tableName())) {
+            rows.next();
+            next = rows.getLong(1);
+          }
+          statement.execute("ALTER TABLE %s ALTER COLUMN id RESTART WITH %d".formatted(table.tableName(), next));
+        }
+      }
+    } catch (SQLException ex) {
+      throw new IllegalStateException("Could not reset identities after loading", ex);
+    }
+    if (postgres) {
+      LocalDate from = dataset.getAnchor().minusYears(dataset.getHistoryYears());
+      new JdbcClinicStatsStore(new NamedParameterJdbcTemplate(dataSource), false).reconcileFrom(from);
+      try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+        statement.execute("REFRESH MATERIALIZED VIEW report_appointments_monthly");
+        for (SyntheticTable table : SyntheticTable.values()) {
+          statement.execute("ANALYZE " + table.tableName());
+        }
+      } catch (SQLException ex) {
+        throw new IllegalStateException("Could not refresh derived data after loading", ex);
+      }
+    }
+  }
+
+  private interface RowWriter extends AutoCloseable {
+
+    void write(Object[] row);
+
+    /** Flushes what is buffered and returns the number of rows written. */
+    long finish() throws SQLException;
+
+    /** Abandons whatever {@link #finish()} did not complete. */
+    @Override
+    void close() throws SQLException;
+  }
+
+  /** Streams rows as CSV into {@code COPY ... FROM STDIN}, the fastest way into PostgreSQL. */
+  private static final class CopyWriter implements RowWriter {
+
+    private final CopyIn copy;
+    private final StringBuilder buffer = new StringBuilder(COPY_BUFFER + 1024);
+    private long rows;
+
+    CopyWriter(Connection connection, SyntheticTable table) throws SQLException {
+      this.copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+          "COPY %s (%s) FROM STDIN WITH (FORMAT csv)".formatted(table.tableName(), String.join(", ", table.columns())));
+    }
+
+    @Override
+    public void write(Object[] row) {
+      for (int column = 0; column < row.length; column++) {
+        if (column > 0) {
+          buffer.append(',');
+        }
+        Object value = row[column];
+        if (value instanceof String text) {
+          buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else if (value != null) {
+          buffer.append(value);
+        }
+      }
+      buffer.append('\n');
+      rows++;
+      if (buffer.length() >= COPY_BUFFER) {
+        flush();
+      }
+    }
+
+    @Override
+    public long finish() throws SQLException {
+      flush();
+      copy.endCopy();
+      return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+      if (copy.isActive()) {
+        copy.cancelCopy();
+      }
+    }
+
+    private void flush() {
+      byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      buffer.setLength(0);
+      try {
+        copy.writeToCopy(bytes, 0, bytes.length);
+      } catch (SQLException ex) {
+        throw new IllegalStateException("COPY failed", ex);
+      }
+    }
+  }
+
+  /** Batched {@code INSERT}s; JSON columns use H2's {@code FORMAT JSON} so the text is parsed, not quoted. */
+  private static final class BatchWriter implements RowWriter {
+
+    private final PreparedStatement insert;
+    private int batched;
+    private long rows;
+
+    BatchWriter(Connection connection, SyntheticTable table) throws SQLException {
+      String values = IntStream.range(0, table.columns().size())
+          .mapToObj(column -> table.isJson(column) ? "? FORMAT JSON" : "?")
+          .collect(Collectors.joining(", "));
+      this.insert = connection.prepareStatement("INSERT INTO %s (%s) VALUES (%s)"
+          .formatted(table.tableName(), String.join(", ", table.columns()), values));
+    }
+
+    @Override
+    public void write(Object[] row) {
+      try {
+        for (int column = 0; column < row.length; column++) {
+          insert.setObject(column + 1, row[column]);
+        }
+        insert.addBatch();
+        rows++;
+        if (++batched == BATCH_SIZE) {
+          insert.executeBatch();
+          batched = 0;
+        }
+      } catch (SQLException ex) {
+        throw new IllegalStateException("Batch insert failed", ex);
+      }
+    }
+
+    @Override
+    public long finish() throws SQLException {
+      if (batched > 0) {
+        insert.executeBatch();
+      }
+      return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+      insert.close();
+    }
+  }
+
+  /**
+   * Loads a dataset into the database at {@code args[0]} with user {@code args[1]} and password
+   * {@code args[2]}. {@code args[3]} is {@code large} for the scale-test volumes or {@code default}; optional
+   * {@code args[4]} is the seed and {@code args[5]} the thread count.
+   */
+  public static void main(String[] args) {
+    if (args.length < 4) {
+      System.err.println("Usage: SyntheticDataLoader <jdbc-url> <user> <password> <large|default> [seed] [threads]");
+      System.exit(2);
+    }
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(args[0], args[1], args[2]);
+    SyntheticDataset.SyntheticDatasetBuilder builder = args[3].equals("large")
+        ? SyntheticDataset.large()
+        : SyntheticDataset.builder();
+    if (args.length > 4) {
+      builder.seed(Long.parseLong(args[4]));
+    }
+    int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+    Map<SyntheticTable, Long> written = load(dataSource, builder.build(), threads);
+    written.forEach((table, rows) -> System.out.printf("%-28s %,d%n", table.tableName(), rows));
+  }
+}
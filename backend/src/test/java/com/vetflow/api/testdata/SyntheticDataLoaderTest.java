@@ -0,0 +1,116 @@
+package com.vetflow.api.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:vetflow;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password="
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataLoaderTest {
+
+  private static final SyntheticDataset DATASET = SyntheticDataset.builder()
+      .seed(42)
+      .anchor(LocalDate.of(2025, 6, 2))
+      .veterinarians(5)
+      .owners(200)
+      .patients(500)
+      .appointments(3_000)
+      .medicalRecords(1_000)
+      .auditRows(2_000)
+      .build();
+
+  @Autowired
+  DataSource dataSource;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  /** Hibernate cannot create the entity's {@code jsonb} columns on H2, so the audit table is made by hand. */
+  @BeforeEach
+  void createAuditTable() {
+    jdbcTemplate.execute("""
+        CREATE TABLE IF NOT EXISTS audit_log (
+            id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+            table_name VARCHAR(50) NOT NULL,
+            record_id BIGINT NOT NULL,
+            action VARCHAR(20) NOT NULL,
+            old_values JSON,
+            new_values JSON,
+            changed_by VARCHAR(100),
+            changed_at TIMESTAMP)
+        """);
+  }
+
+  @AfterEach
+  void clear() {
+    for (int i = SyntheticTable.values().length - 1; i >= 0; i--) {
+      jdbcTemplate.update("DELETE FROM " + SyntheticTable.values()[i].tableName());
+    }
+  }
+
+  @Test
+  void loadsEveryTableInParallelChunks() {
+    Map<SyntheticTable, Long> written = SyntheticDataLoader.load(dataSource, DATASET, 4, 250);
+
+    for (SyntheticTable table : SyntheticTable.values()) {
+      assertThat(count(table)).as(table.tableName()).isEqualTo(written.get(table));
+    }
+    assertThat(written).containsEntry(SyntheticTable.OWNERS, 200L)
+        .containsEntry(SyntheticTable.PATIENTS, 500L)
+        .containsEntry(SyntheticTable.APPOINTMENTS, 3_000L)
+        .containsEntry(SyntheticTable.AUDIT_LOG, 2_000L);
+    assertThat(written.get(SyntheticTable.MEDICAL_RECORD_MEDICATIONS)).isPositive();
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM appointments a JOIN patients p ON p.id = a.patient_id", Long.class)).isEqualTo(3_000L);
+  }
+
+  @Test
+  void storesAuditSnapshotsAsJsonObjects() {
+    SyntheticDataLoader.load(dataSource, DATASET, 2, 500);
+
+    String snapshot = jdbcTemplate.queryForObject(
+        "SELECT CAST(new_values AS VARCHAR) FROM audit_log WHERE new_values IS NOT NULL ORDER BY id LIMIT 1",
+        String.class);
+
+    assertThat(snapshot).startsWith("{\"id\":");
+  }
+
+  @Test
+  void appendsAfterExistingRowsAndMovesIdentitiesOn() {
+    SyntheticDataLoader.load(dataSource, DATASET, 2, 500);
+    SyntheticDataLoader.load(dataSource, DATASET.toBuilder().seed(43).build(), 2, 500);
+
+    assertThat(count(SyntheticTable.OWNERS)).isEqualTo(400L);
+    jdbcTemplate.update("INSERT INTO owners (name, phone, email, created_at, updated_at, version) "
+        + "VALUES ('Nueva Dueña', '+525500000000', 'nueva@example.com', NOW(), NOW(), 0)");
+    assertThat(jdbcTemplate.queryForObject("SELECT id FROM owners WHERE email = 'nueva@example.com'", Long.class))
+        .isEqualTo(401L);
+  }
+
+  private long count(SyntheticTable table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table.tableName(), Long.class);
+  }
+}
@@ -0,0 +1,70 @@
+package com.vetflow.api.testdata;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Volumes and seed of a synthetic clinic. Two datasets with the same values produce the same rows, whatever
+ * the thread count, so a load can be reproduced from its parameters alone.
+ *
+ * <p>{@code anchor} is the "today" of the dataset: appointments before it are finished and after it are
+ * scheduled, and the history runs {@code historyYears} back from it. It defaults to the current date, which is
+ * what a load test wants; tests pin it.
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class SyntheticDataset {
+
+  @Builder.Default
+  private final long seed = 1L;
+  @Builder.Default
+  private final LocalDate anchor = LocalDate.now(ZoneOffset.UTC);
+  @Builder.Default
+  private final int historyYears = 3;
+  @Builder.Default
+  private final int veterinarians = 12;
+  @Builder.Default
+  private final int owners = 2_000;
+  @Builder.Default
+  private final int patients = 5_000;
+  @Builder.Default
+  private final long appointments = 50_000;
+  @Builder.Default
+  private final long medicalRecords = 20_000;
+  @Builder.Default
+  private final long auditRows = 200_000;
+
+  /** Volumes of a large multi-site clinic, for load and scale tests against PostgreSQL. */
+  public static SyntheticDataset.SyntheticDatasetBuilder large() {
+    return builder()
+        .veterinarians(150)
+        .owners(200_000)
+        .patients(500_000)
+        .appointments(5_000_000)
+        .medicalRecords(2_000_000)
+        .auditRows(20_000_000);
+  }
+
+  long rows(SyntheticTable table) {
+    return switch (table) {
+      case SYSTEM_USERS -> veterinarians;
+      case OWNERS -> owners;
+      case PATIENTS -> patients;
+      case APPOINTMENTS -> appointments;
+      case MEDICAL_RECORDS, MEDICAL_RECORD_MEDICATIONS -> medicalRecords;
+      case AUDIT_LOG -> auditRows;
+    };
+  }
+
+  void validate() {
+    if (veterinarians < 1 || owners < 1 || patients < owners) {
+      throw new IllegalArgumentException("Need at least one veterinarian, one owner and a patient per owner");
+    }
+    if (appointments < 0 || medicalRecords < 0 || auditRows < 0 || historyYears < 1 || historyYears > 50) {
+      throw new IllegalArgumentException("Volumes must not be negative and history must be 1 to 50 years");
+    }
+  }
+}
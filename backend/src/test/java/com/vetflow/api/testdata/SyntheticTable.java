@@ -0,0 +1,59 @@
+package com.vetflow.api.testdata;
+
+import java.util.List;
+
+/**
+ * Tables filled by the generator, in foreign-key order, with the columns written. Every column listed exists
+ * both in the Flyway schema and in the schema Hibernate generates for the H2 tests, except that Hibernate cannot
+ * create {@code audit_log} on H2 at all.
+ */
+public enum SyntheticTable {
+
+  SYSTEM_USERS("system_users", true,
+      "id", "username", "email", "password_hash", "role", "is_active", "created_at", "updated_at"),
+  OWNERS("owners", true,
+      "id", "name", "phone", "email", "address", "created_at", "updated_at", "version"),
+  PATIENTS("patients", true,
+      "id", "name", "species", "breed", "birth_date", "weight", "owner_id", "is_active", "created_at",
+      "updated_at", "version"),
+  APPOINTMENTS("appointments", true,
+      "id", "patient_id", "veterinarian_id", "appointment_date", "type", "status", "priority", "notes",
+      "created_at", "updated_at", "version"),
+  MEDICAL_RECORDS("medical_records", true,
+      "id", "patient_id", "veterinarian_id", "visit_date", "diagnosis", "treatment", "medications", "notes",
+      "created_at", "updated_at", "version"),
+  /** Zero or more rows per medical record, one per prescribed line, as the application writes them. */
+  MEDICAL_RECORD_MEDICATIONS("medical_record_medications", false,
+      "medical_record_id", "line_number", "drug_id", "description"),
+  AUDIT_LOG("audit_log", true,
+      "id", "table_name", "record_id", "action", "old_values", "new_values", "changed_by", "changed_at");
+
+  private final String tableName;
+  private final boolean explicitIds;
+  private final List<String> columns;
+
+  SyntheticTable(String tableName, boolean explicitIds, String... columns) {
+    this.tableName = tableName;
+    this.explicitIds = explicitIds;
+    this.columns = List.of(columns);
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  /** Whether rows carry their own id, so the identity has to be moved past them after loading. */
+  public boolean explicitIds() {
+    return explicitIds;
+  }
+
+  public List<String> columns() {
+    return columns;
+  }
+
+  /** Columns holding JSON text, which H2 has to be told to parse. */
+  boolean isJson(int column) {
+    String name = columns.get(column);
+    return name.equals("old_values") || name.equals("new_values");
+  }
+}
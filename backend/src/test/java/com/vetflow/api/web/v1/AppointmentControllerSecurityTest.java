@@ -28,6 +28,7 @@ import com.vetflow.api.application.appointment.AppointmentResult;
 import com.vetflow.api.domain.model.Appointment.Priority;
 import com.vetflow.api.domain.model.Appointment.Status;
 import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.web.v1.appointment.AppointmentStreamPublisher;
 import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
 
 @WebMvcTest
@@ -56,6 +57,10 @@ class AppointmentControllerSecurityTest {
   @MockBean
   private AppointmentApplicationService appointmentApplicationService;
 
+  @SuppressWarnings("removal")
+  @MockBean
+  private AppointmentStreamPublisher appointmentStreamPublisher;
+
   @Test
   @WithMockUser(username = "assistant", roles = "ASSISTANT")
   void scheduleAppointmentAllowedForAssistantRole() throws Exception {
@@ -67,7 +72,7 @@ class AppointmentControllerSecurityTest {
         Status.SCHEDULED,
         Priority.NORMAL,
         "Routine check",
-        LocalDateTime.now());
+        LocalDateTime.now(), 0L);
     when(appointmentApplicationService.scheduleAppointment(any())).thenReturn(result);
 
     String payload = objectMapper.writeValueAsString(new AppointmentRequestBody());
@@ -4,11 +4,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
@@ -22,6 +24,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vetflow.api.application.appointment.AppointmentApplicationService;
@@ -30,12 +33,14 @@ import com.vetflow.api.application.appointment.CancelAppointmentCommand;
 import com.vetflow.api.application.appointment.RescheduleAppointmentCommand;
 import com.vetflow.api.application.appointment.ScheduleAppointmentCommand;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.web.v1.appointment.AppointmentStreamPublisher;
 import com.vetflow.api.web.v1.appointment.CancelAppointmentRequest;
 import com.vetflow.api.web.v1.appointment.RescheduleAppointmentRequest;
 import com.vetflow.api.web.v1.appointment.ScheduleAppointmentRequest;
 import com.vetflow.api.web.v1.appointment.ScheduleAppointmentRequest.AppointmentPriority;
 import com.vetflow.api.web.v1.appointment.ScheduleAppointmentRequest.AppointmentType;
 import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+import com.vetflow.api.web.v1.stream.StreamCapacityExceededException;
 
 @WebMvcTest(controllers = AppointmentController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -52,6 +57,10 @@ class AppointmentControllerTest {
     @MockBean
     AppointmentApplicationService appointmentApplicationService;
 
+    @SuppressWarnings("removal")
+    @MockBean
+    AppointmentStreamPublisher appointmentStreamPublisher;
+
     @Test
     void scheduleAppointmentReturnsCreated() throws Exception {
         ScheduleAppointmentRequest request = new ScheduleAppointmentRequest(1L, null, LocalDateTime.now(),
@@ -61,7 +70,7 @@ class AppointmentControllerTest {
                 com.vetflow.api.domain.model.Appointment.Type.CHECKUP,
                 com.vetflow.api.domain.model.Appointment.Status.SCHEDULED,
                 com.vetflow.api.domain.model.Appointment.Priority.HIGH,
-                "Notes", LocalDateTime.now());
+                "Notes", LocalDateTime.now(), 0L);
         given(appointmentApplicationService.scheduleAppointment(any(ScheduleAppointmentCommand.class)))
                 .willReturn(result);
 
@@ -90,9 +99,9 @@ class AppointmentControllerTest {
                 com.vetflow.api.domain.model.Appointment.Type.CHECKUP,
                 com.vetflow.api.domain.model.Appointment.Status.SCHEDULED,
                 com.vetflow.api.domain.model.Appointment.Priority.NORMAL,
-                null, LocalDateTime.now());
+                null, LocalDateTime.now(), 0L);
         given(appointmentApplicationService
-                .rescheduleAppointment(new RescheduleAppointmentCommand(7L, request.newDate())))
+                .rescheduleAppointment(new RescheduleAppointmentCommand(7L, request.newDate(), null)))
                 .willReturn(result);
 
         mockMvc.perform(patch("/api/v1/appointments/7/reschedule")
@@ -109,8 +118,8 @@ class AppointmentControllerTest {
                 com.vetflow.api.domain.model.Appointment.Type.CHECKUP,
                 com.vetflow.api.domain.model.Appointment.Status.CANCELLED,
                 com.vetflow.api.domain.model.Appointment.Priority.NORMAL,
-                "reason", LocalDateTime.now());
-        given(appointmentApplicationService.cancelAppointment(new CancelAppointmentCommand(8L, "reason")))
+                "reason", LocalDateTime.now(), 0L);
+        given(appointmentApplicationService.cancelAppointment(new CancelAppointmentCommand(8L, "reason", null)))
                 .willReturn(result);
 
         mockMvc.perform(patch("/api/v1/appointments/8/cancel")
@@ -127,12 +136,12 @@ class AppointmentControllerTest {
                         com.vetflow.api.domain.model.Appointment.Type.CHECKUP,
                         com.vetflow.api.domain.model.Appointment.Status.SCHEDULED,
                         com.vetflow.api.domain.model.Appointment.Priority.NORMAL,
-                        null, LocalDateTime.now()),
+                        null, LocalDateTime.now(), 0L),
                 new AppointmentResult(2L, 1L, null, LocalDateTime.now(),
                         com.vetflow.api.domain.model.Appointment.Type.SURGERY,
                         com.vetflow.api.domain.model.Appointment.Status.SCHEDULED,
                         com.vetflow.api.domain.model.Appointment.Priority.HIGH,
-                        null, LocalDateTime.now()));
+                        null, LocalDateTime.now(), 0L));
         given(appointmentApplicationService.listByPatient(1L)).willReturn(results);
 
         mockMvc.perform(get("/api/v1/patients/1/appointments"))
@@ -149,4 +158,26 @@ class AppointmentControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Patient 1 not found")));
     }
+
+    @Test
+    void streamAppointmentsResumesFromLastEventId() throws Exception {
+        given(appointmentStreamPublisher.subscribe("42")).willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/appointments/stream")
+                .header("Last-Event-ID", "42")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(appointmentStreamPublisher).subscribe("42");
+    }
+
+    @Test
+    void streamAppointmentsAtCapacityReturnsServiceUnavailable() throws Exception {
+        given(appointmentStreamPublisher.subscribe(null))
+                .willThrow(new StreamCapacityExceededException("appointments"));
+
+        mockMvc.perform(get("/api/v1/appointments/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
 }
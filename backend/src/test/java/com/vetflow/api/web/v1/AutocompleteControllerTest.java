@@ -0,0 +1,60 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.application.typeahead.Suggestion;
+import com.vetflow.api.application.typeahead.TypeaheadService;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = AutocompleteController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class AutocompleteControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  TypeaheadService typeaheadService;
+
+  @Test
+  void autocompleteReturnsSuggestions() throws Exception {
+    given(typeaheadService.suggest("ma", 5)).willReturn(List.of(
+        new Suggestion(Kind.PATIENT, 10L, "Max", "dog", 1L),
+        new Suggestion(Kind.OWNER, 2L, "Mariana Cruz", "5544445566", 2L)));
+
+    mockMvc.perform(get("/api/v1/autocomplete").param("q", "ma").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.suggestions[0].type", is("patient")))
+        .andExpect(jsonPath("$.suggestions[0].ownerId", is(1)))
+        .andExpect(jsonPath("$.suggestions[1].label", is("Mariana Cruz")));
+  }
+
+  @Test
+  void indexStillLoadingReturns503() throws Exception {
+    given(typeaheadService.suggest("ma", null))
+        .willThrow(new ServiceUnavailableException("Autocomplete index is still loading"));
+
+    mockMvc.perform(get("/api/v1/autocomplete").param("q", "ma"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().exists("Retry-After"));
+  }
+}
@@ -75,7 +75,7 @@ class MedicalRecordControllerSecurityTest {
         "Check",
         "None",
         "Notes",
-        LocalDateTime.now());
+        LocalDateTime.now(), 0L);
     when(medicalRecordApplicationService.createMedicalRecord(any())).thenReturn(result);
 
     String payload = objectMapper.writeValueAsString(new MedicalRecordPayload());
@@ -52,7 +52,7 @@ class MedicalRecordControllerTest {
                 "Medications", "Notes");
         MedicalRecordResult result = new MedicalRecordResult(5L, 1L, 2L, visitDate, "Diagnosis", "Treatment",
                 "Medications",
-                "Notes", LocalDateTime.now());
+                "Notes", LocalDateTime.now(), 0L);
         given(medicalRecordApplicationService.createMedicalRecord(any(CreateMedicalRecordCommand.class)))
                 .willReturn(result);
 
@@ -81,9 +81,9 @@ class MedicalRecordControllerTest {
         LocalDateTime visitDate = LocalDateTime.now();
         List<MedicalRecordResult> results = List.of(
                 new MedicalRecordResult(1L, 1L, 2L, visitDate, "Diagnosis", "Treatment", "Medications", "Notes",
-                        LocalDateTime.now()),
+                        LocalDateTime.now(), 0L),
                 new MedicalRecordResult(2L, 1L, 2L, visitDate, "Diagnosis2", "Treatment2", "Medications2", "Notes2",
-                        LocalDateTime.now()));
+                        LocalDateTime.now(), 0L));
         given(medicalRecordApplicationService.listByPatient(1L)).willReturn(results);
 
         mockMvc.perform(get("/api/v1/patients/1/medical-records"))
@@ -0,0 +1,65 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.search.MedicalRecordSearchPage;
+import com.vetflow.api.application.search.MedicalRecordSearchService;
+import com.vetflow.api.domain.model.MedicalRecordHit;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = MedicalRecordSearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class MedicalRecordSearchControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  MedicalRecordSearchService medicalRecordSearchService;
+
+  @Test
+  void searchPassesFiltersAndReturnsHits() throws Exception {
+    MedicalRecordHit hit = new MedicalRecordHit(3L, 1L, "Max", 7L, LocalDateTime.of(2025, 1, 10, 9, 0),
+        "Otitis externa", "Ear drops", "Amoxicillin", 0.5);
+    given(medicalRecordSearchService.search("amox*", 7L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+        null, 10)).willReturn(new MedicalRecordSearchPage(List.of(hit), "next"));
+
+    mockMvc.perform(get("/api/v1/medical-records/search")
+            .param("q", "amox*")
+            .param("veterinarianId", "7")
+            .param("from", "2025-01-01")
+            .param("to", "2025-12-31")
+            .param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hits[0].patientName", is("Max")))
+        .andExpect(jsonPath("$.hits[0].medications", is("Amoxicillin")))
+        .andExpect(jsonPath("$.nextCursor", is("next")));
+  }
+
+  @Test
+  void emptyQueryReturns400() throws Exception {
+    given(medicalRecordSearchService.search(null, null, null, null, null, null))
+        .willThrow(new IllegalArgumentException("Search text must contain at least one word that is not excluded"));
+
+    mockMvc.perform(get("/api/v1/medical-records/search"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -4,6 +4,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -13,6 +14,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,7 +24,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,6 +36,9 @@ import com.vetflow.api.application.owner.OwnerResult;
 import com.vetflow.api.application.owner.UpdateOwnerCommand;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
 import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.shared.VersionConflictException;
+import com.vetflow.api.domain.model.CollectionStamp;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
 import com.vetflow.api.web.v1.owner.CreateOwnerRequest;
 import com.vetflow.api.web.v1.owner.UpdateOwnerRequest;
@@ -54,7 +62,7 @@ class OwnerControllerTest {
   void createOwnerReturnsCreatedOwner() throws Exception {
     CreateOwnerRequest request = new CreateOwnerRequest("John Doe", "1234567890", "john@doe.com", "Address");
     OwnerResult result = new OwnerResult(1L, "John Doe", "1234567890", "john@doe.com", "Address",
-        LocalDateTime.now(), LocalDateTime.now());
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
     given(ownerApplicationService.createOwner(any(CreateOwnerCommand.class))).willReturn(result);
 
     mockMvc.perform(post("/api/v1/owners")
@@ -82,7 +90,7 @@ class OwnerControllerTest {
   @Test
   void getOwnerReturnsOwner() throws Exception {
     OwnerResult result = new OwnerResult(2L, "Jane Doe", "1234567890", "jane@doe.com", "Address",
-        LocalDateTime.now(), LocalDateTime.now());
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
     given(ownerApplicationService.getById(2L)).willReturn(result);
 
     mockMvc.perform(get("/api/v1/owners/2"))
@@ -90,6 +98,57 @@ class OwnerControllerTest {
         .andExpect(jsonPath("$.email", is("jane@doe.com")));
   }
 
+  @Test
+  void getOwnerReturnsValidators() throws Exception {
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+    OwnerResult result = new OwnerResult(2L, "Jane Doe", "1234567890", "jane@doe.com", "Address",
+        updatedAt, updatedAt, 0L);
+    given(ownerApplicationService.currentVersion(2L)).willReturn(Optional.of(new VersionStamp(0L, updatedAt)));
+    given(ownerApplicationService.getById(2L)).willReturn(result);
+
+    mockMvc.perform(get("/api/v1/owners/2"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"owner-2-0\""))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+  }
+
+  @Test
+  void getOwnerReturnsNotModifiedWithoutLoadingOwner() throws Exception {
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+    given(ownerApplicationService.currentVersion(2L)).willReturn(Optional.of(new VersionStamp(4L, updatedAt)));
+
+    mockMvc.perform(get("/api/v1/owners/2")
+        .header(HttpHeaders.IF_NONE_MATCH, "\"owner-2-4\""))
+        .andExpect(status().isNotModified());
+
+    verify(ownerApplicationService, never()).getById(any());
+  }
+
+  @Test
+  void listOwnersReturnsNotModifiedWhenStampMatches() throws Exception {
+    CollectionStamp stamp = new CollectionStamp(3, LocalDateTime.of(2025, 3, 1, 12, 0));
+    given(ownerApplicationService.listStamp()).willReturn(Optional.of(stamp));
+
+    mockMvc.perform(get("/api/v1/owners")
+        .header(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.etag("owners", stamp)))
+        .andExpect(status().isNotModified());
+
+    verify(ownerApplicationService, never()).listAll();
+  }
+
+  @Test
+  void listOwnersReturnsBodyWhenStampChanged() throws Exception {
+    CollectionStamp stamp = new CollectionStamp(4, LocalDateTime.of(2025, 3, 1, 12, 5));
+    given(ownerApplicationService.listStamp()).willReturn(Optional.of(stamp));
+    given(ownerApplicationService.listAll()).willReturn(List.of());
+
+    mockMvc.perform(get("/api/v1/owners")
+        .header(HttpHeaders.IF_NONE_MATCH,
+            ConditionalRequests.etag("owners", new CollectionStamp(3, LocalDateTime.of(2025, 3, 1, 12, 0)))))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, ConditionalRequests.etag("owners", stamp)));
+  }
+
   @Test
   void getOwnerNotFoundReturns404() throws Exception {
     given(ownerApplicationService.getById(99L)).willThrow(new ResourceNotFoundException("Owner 99 not found"));
@@ -102,7 +161,7 @@ class OwnerControllerTest {
   @Test
   void updateOwnerHandlesApplicationValidationException() throws Exception {
     UpdateOwnerRequest request = new UpdateOwnerRequest("1234567890", "john@doe.com", "New Address");
-    given(ownerApplicationService.updateOwner(new UpdateOwnerCommand(1L, "1234567890", "john@doe.com", "New Address")))
+    given(ownerApplicationService.updateOwner(new UpdateOwnerCommand(1L, "1234567890", "john@doe.com", "New Address", null)))
         .willThrow(new ValidationException("ownerId is required"));
 
     mockMvc.perform(put("/api/v1/owners/1")
@@ -124,4 +183,60 @@ class OwnerControllerTest {
         .andExpect(status().isConflict())
         .andExpect(jsonPath("$.message", is("Request conflicts with existing data")));
   }
+
+  @Test
+  void updateOwnerPassesIfMatchVersionAndReturnsNewEtag() throws Exception {
+    UpdateOwnerRequest request = new UpdateOwnerRequest("1234567890", "john@doe.com", "New Address");
+    OwnerResult result = new OwnerResult(1L, "John", "1234567890", "john@doe.com", "New Address",
+        LocalDateTime.now(), LocalDateTime.now(), 4L);
+    given(ownerApplicationService.updateOwner(new UpdateOwnerCommand(1L, "1234567890", "john@doe.com", "New Address", 3L)))
+        .willReturn(result);
+
+    mockMvc.perform(put("/api/v1/owners/1")
+        .header(HttpHeaders.IF_MATCH, "\"owner-1-3\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"owner-1-4\""))
+        .andExpect(jsonPath("$.version", is(4)));
+  }
+
+  @Test
+  void updateOwnerWithForeignIfMatchReturns412() throws Exception {
+    UpdateOwnerRequest request = new UpdateOwnerRequest("1234567890", "john@doe.com", "New Address");
+
+    mockMvc.perform(put("/api/v1/owners/1")
+        .header(HttpHeaders.IF_MATCH, "\"owner-2-3\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isPreconditionFailed());
+
+    verify(ownerApplicationService, never()).updateOwner(any());
+  }
+
+  @Test
+  void updateOwnerStaleVersionReturns412() throws Exception {
+    UpdateOwnerRequest request = new UpdateOwnerRequest("1234567890", "john@doe.com", "New Address");
+    given(ownerApplicationService.updateOwner(any(UpdateOwnerCommand.class)))
+        .willThrow(new VersionConflictException("Owner 1 is at version 4, not 3"));
+
+    mockMvc.perform(put("/api/v1/owners/1")
+        .header(HttpHeaders.IF_MATCH, "\"owner-1-3\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.message", is("Owner 1 is at version 4, not 3")));
+  }
+
+  @Test
+  void updateOwnerLostRaceReturns409() throws Exception {
+    UpdateOwnerRequest request = new UpdateOwnerRequest("1234567890", "john@doe.com", "New Address");
+    given(ownerApplicationService.updateOwner(any(UpdateOwnerCommand.class)))
+        .willThrow(new ObjectOptimisticLockingFailureException(Object.class, 1L));
+
+    mockMvc.perform(put("/api/v1/owners/1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict());
+  }
 }
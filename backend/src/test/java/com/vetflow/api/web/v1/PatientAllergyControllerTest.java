@@ -0,0 +1,79 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.medication.PatientAllergyService;
+import com.vetflow.api.domain.model.PatientAllergy;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = PatientAllergyController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class PatientAllergyControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  PatientAllergyService patientAllergyService;
+
+  @Test
+  void listReturnsAllergies() throws Exception {
+    given(patientAllergyService.listByPatient(7L)).willReturn(List.of(
+        new PatientAllergy(3L, 7L, "Carprofen", 4L, "nsaid")));
+
+    mockMvc.perform(get("/api/v1/patients/7/allergies"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].allergen", is("Carprofen")))
+        .andExpect(jsonPath("$[0].drugClass", is("nsaid")));
+  }
+
+  @Test
+  void addReturnsCreatedAllergy() throws Exception {
+    given(patientAllergyService.addAllergy(7L, "Penicillin")).willReturn(
+        new PatientAllergy(3L, 7L, "Penicillin", null, "penicillin"));
+
+    mockMvc.perform(post("/api/v1/patients/7/allergies")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"allergen\":\"Penicillin\"}"))
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Location", "/api/v1/patients/7/allergies/3"))
+        .andExpect(jsonPath("$.drugClass", is("penicillin")));
+  }
+
+  @Test
+  void addWithoutAllergenReturns400() throws Exception {
+    mockMvc.perform(post("/api/v1/patients/7/allergies")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"allergen\":\" \"}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void removeReturns204() throws Exception {
+    mockMvc.perform(delete("/api/v1/patients/7/allergies/3"))
+        .andExpect(status().isNoContent());
+
+    verify(patientAllergyService).removeAllergy(7L, 3L);
+  }
+}
@@ -0,0 +1,73 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.chart.PatientChart;
+import com.vetflow.api.application.chart.PatientChart.Section;
+import com.vetflow.api.application.chart.PatientChartService;
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.patient.PatientResult;
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = PatientChartController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class PatientChartControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  PatientChartService patientChartService;
+
+  @Test
+  void chartReturnsAllSectionsInOneResponse() throws Exception {
+    PatientResult patient = new PatientResult(10L, "Rex", "DOG", null, LocalDate.of(2020, 1, 1),
+        BigDecimal.TEN, true, 1L, LocalDateTime.now(), LocalDateTime.now(), 0L);
+    OwnerResult owner = new OwnerResult(1L, "Alice", "+12345678901", "alice@example.com", null,
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
+    given(patientChartService.chart(10L)).willReturn(new PatientChart(patient, owner, List.of(), List.of(),
+        List.of(), List.of(), Set.of(Section.VETERINARIANS)));
+
+    mockMvc.perform(get("/api/v1/patients/10/chart"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.patient.name", is("Rex")))
+        .andExpect(jsonPath("$.owner.name", is("Alice")))
+        .andExpect(jsonPath("$.upcomingAppointments", hasSize(0)))
+        .andExpect(jsonPath("$.unavailableSections[0]", is("veterinarians")));
+  }
+
+  @Test
+  void chartReturns503WhenPatientCannotBeLoadedInTime() throws Exception {
+    given(patientChartService.chart(10L))
+        .willThrow(new ServiceUnavailableException("Patient 10 could not be loaded in time"));
+
+    mockMvc.perform(get("/api/v1/patients/10/chart"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+        .andExpect(jsonPath("$.message", is("Patient 10 could not be loaded in time")));
+  }
+}
@@ -3,7 +3,10 @@ package com.vetflow.api.web.v1;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -15,6 +18,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -33,6 +38,8 @@ import com.vetflow.api.application.patient.PatientResult;
 import com.vetflow.api.application.patient.RegisterPatientCommand;
 import com.vetflow.api.application.patient.UpdatePatientCommand;
 import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.domain.model.CollectionStamp;
+import com.vetflow.api.domain.model.VersionStamp;
 import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
 import com.vetflow.api.web.v1.patient.RegisterPatientRequest;
 import com.vetflow.api.web.v1.patient.UpdatePatientRequest;
@@ -57,7 +64,7 @@ class PatientControllerTest {
   void registerPatientReturnsCreated() throws Exception {
     RegisterPatientRequest request = new RegisterPatientRequest("Firulais", "DOG", "Beagle", LocalDate.now(), null, 1L);
     PatientResult result = new PatientResult(10L, "Firulais", "DOG", "Beagle", LocalDate.now(), null, true, 1L,
-        LocalDateTime.now(), LocalDateTime.now());
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
     given(patientApplicationService.registerPatient(any(RegisterPatientCommand.class))).willReturn(result);
 
     mockMvc.perform(post("/api/v1/patients")
@@ -83,9 +90,9 @@ class PatientControllerTest {
     LocalDate birthDate = LocalDate.now();
     UpdatePatientRequest request = new UpdatePatientRequest("Firulais", "DOG", "Beagle", birthDate, null, 2L);
     PatientResult result = new PatientResult(10L, "Firulais", "DOG", "Beagle", birthDate, null, true, 2L,
-        LocalDateTime.now(), LocalDateTime.now());
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
     given(patientApplicationService
-        .updatePatient(new UpdatePatientCommand(10L, "Firulais", "DOG", "Beagle", birthDate, null, 2L)))
+        .updatePatient(new UpdatePatientCommand(10L, "Firulais", "DOG", "Beagle", birthDate, null, 2L, null)))
         .willReturn(result);
 
     mockMvc.perform(put("/api/v1/patients/10")
@@ -99,8 +106,8 @@ class PatientControllerTest {
   void listPatientsByOwnerReturnsList() throws Exception {
     List<PatientResult> results = List.of(
         new PatientResult(1L, "Firulais", "DOG", "Beagle", LocalDate.now(), null, true, 5L, LocalDateTime.now(),
-            LocalDateTime.now()),
-        new PatientResult(2L, "Mishi", "CAT", "Siames", LocalDate.now(), null, true, 5L, LocalDateTime.now(), LocalDateTime.now()));
+            LocalDateTime.now(), 0L),
+        new PatientResult(2L, "Mishi", "CAT", "Siames", LocalDate.now(), null, true, 5L, LocalDateTime.now(), LocalDateTime.now(), 0L));
     given(patientApplicationService.listByOwner(5L)).willReturn(results);
 
     mockMvc.perform(get("/api/v1/owners/5/patients"))
@@ -117,12 +124,36 @@ class PatientControllerTest {
         .andExpect(jsonPath("$.message", is("Owner 5 not found")));
   }
 
+  @Test
+  void getPatientReturnsNotModifiedWithoutLoadingPatient() throws Exception {
+    LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+    given(patientApplicationService.currentVersion(10L)).willReturn(Optional.of(new VersionStamp(2L, updatedAt)));
+
+    mockMvc.perform(get("/api/v1/patients/10")
+        .header(HttpHeaders.IF_NONE_MATCH, "\"patient-10-2\""))
+        .andExpect(status().isNotModified());
+
+    verify(patientApplicationService, never()).findById(any());
+  }
+
+  @Test
+  void listPatientsByOwnerReturnsNotModifiedWhenStampMatches() throws Exception {
+    CollectionStamp stamp = new CollectionStamp(2, LocalDateTime.of(2025, 3, 1, 12, 0));
+    given(patientApplicationService.listByOwnerStamp(5L, false)).willReturn(Optional.of(stamp));
+
+    mockMvc.perform(get("/api/v1/owners/5/patients")
+        .header(HttpHeaders.IF_NONE_MATCH, ConditionalRequests.etag("patients", stamp)))
+        .andExpect(status().isNotModified());
+
+    verify(patientApplicationService, never()).listByOwner(any(), anyBoolean());
+  }
+
   @Test
   void deactivatePatientReturnsOk() throws Exception {
     UpdatePatientStatusRequest request = new UpdatePatientStatusRequest(false);
     PatientResult result = new PatientResult(10L, "Firulais", "DOG", "Beagle", LocalDate.now(), null, false, 1L,
-        LocalDateTime.now(), LocalDateTime.now());
-    given(patientApplicationService.deactivatePatient(new DeactivatePatientCommand(10L))).willReturn(result);
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
+    given(patientApplicationService.deactivatePatient(new DeactivatePatientCommand(10L, null))).willReturn(result);
 
     mockMvc.perform(patch("/api/v1/patients/10")
         .contentType(MediaType.APPLICATION_JSON)
@@ -135,8 +166,8 @@ class PatientControllerTest {
   void activatePatientReturnsOk() throws Exception {
     UpdatePatientStatusRequest request = new UpdatePatientStatusRequest(true);
     PatientResult result = new PatientResult(10L, "Firulais", "DOG", "Beagle", LocalDate.now(), null, true, 1L,
-        LocalDateTime.now(), LocalDateTime.now());
-    given(patientApplicationService.activatePatient(new ActivatePatientCommand(10L))).willReturn(result);
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
+    given(patientApplicationService.activatePatient(new ActivatePatientCommand(10L, null))).willReturn(result);
 
     mockMvc.perform(patch("/api/v1/patients/10")
         .contentType(MediaType.APPLICATION_JSON)
@@ -148,7 +179,7 @@ class PatientControllerTest {
   @Test
   void deactivatePatientAlreadyInactive() throws Exception {
     UpdatePatientStatusRequest request = new UpdatePatientStatusRequest(false);
-    given(patientApplicationService.deactivatePatient(new DeactivatePatientCommand(10L)))
+    given(patientApplicationService.deactivatePatient(new DeactivatePatientCommand(10L, null)))
         .willThrow(new IllegalStateException("Patient is already deactivated"));
 
     mockMvc.perform(patch("/api/v1/patients/10")
@@ -161,7 +192,7 @@ class PatientControllerTest {
   @Test
   void activatePatientAlreadyActive() throws Exception {
     UpdatePatientStatusRequest request = new UpdatePatientStatusRequest(true);
-    given(patientApplicationService.activatePatient(new ActivatePatientCommand(10L)))
+    given(patientApplicationService.activatePatient(new ActivatePatientCommand(10L, null)))
         .willThrow(new IllegalStateException("Patient is already active"));
 
     mockMvc.perform(patch("/api/v1/patients/10")
@@ -0,0 +1,61 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.shared.ResourceNotFoundException;
+import com.vetflow.api.application.timeline.PatientTimelineService;
+import com.vetflow.api.application.timeline.TimelineEntry;
+import com.vetflow.api.application.timeline.TimelineEntry.Kind;
+import com.vetflow.api.application.timeline.TimelinePage;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = PatientTimelineController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class PatientTimelineControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  PatientTimelineService patientTimelineService;
+
+  @Test
+  void timelineReturnsEntriesAndCursor() throws Exception {
+    TimelineEntry entry = new TimelineEntry(Kind.MEDICAL_RECORD, 3L, LocalDateTime.of(2025, 1, 2, 9, 0), "Otitis",
+        null, "Drops", 5L, null);
+    given(patientTimelineService.timeline(1L, "abc", 10)).willReturn(new TimelinePage(List.of(entry), "def"));
+
+    mockMvc.perform(get("/api/v1/patients/1/timeline").param("cursor", "abc").param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.entries[0].kind", is("medical_record")))
+        .andExpect(jsonPath("$.entries[0].title", is("Otitis")))
+        .andExpect(jsonPath("$.entries[0].actor", nullValue()))
+        .andExpect(jsonPath("$.nextCursor", is("def")));
+  }
+
+  @Test
+  void timelineForUnknownPatientReturns404() throws Exception {
+    given(patientTimelineService.timeline(9L, null, null)).willThrow(new ResourceNotFoundException("Patient 9 not found"));
+
+    mockMvc.perform(get("/api/v1/patients/9/timeline"))
+        .andExpect(status().isNotFound());
+  }
+}
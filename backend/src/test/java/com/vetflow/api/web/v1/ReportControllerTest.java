@@ -0,0 +1,107 @@
+package com.vetflow.api.web.v1;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.vetflow.api.application.report.AppointmentReportService;
+import com.vetflow.api.application.report.NoShowRate;
+import com.vetflow.api.application.report.ReportPeriod;
+import com.vetflow.api.application.report.VetUtilisation;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = ReportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class ReportControllerTest {
+
+  private static final YearMonth JUNE = YearMonth.of(2025, 6);
+  private static final YearMonth JULY = YearMonth.of(2025, 7);
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  AppointmentReportService reportService;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamsVetUtilisationAsCsv() throws Exception {
+    ReportPeriod period = new ReportPeriod(JUNE, JULY);
+    given(reportService.period(JUNE, JULY)).willReturn(period);
+    willAnswer(invocation -> {
+      Consumer<VetUtilisation> consumer = invocation.getArgument(1);
+      consumer.accept(new VetUtilisation(JUNE, 4L, "smith, j", 11, 10.0, 160.0, 0.0625, 9, 2, 2));
+      return null;
+    }).given(reportService).vetUtilisation(eq(period), any(Consumer.class));
+
+    MvcResult result = mockMvc.perform(get("/api/v1/reports/vet-utilisation")
+            .param("from", "2025-06")
+            .param("to", "2025-07"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+        .andExpect(header().string("Content-Disposition",
+            "attachment; filename=\"vet-utilisation-2025-06-2025-07.csv\""))
+        .andExpect(content().string("month,veterinarian_id,veterinarian,booked_appointments,booked_hours,"
+            + "available_hours,utilisation,completed,no_shows,cancelled\r\n"
+            + "2025-06,4,\"smith, j\",11,10.0000,160.0000,0.0625,9,2,2\r\n"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamsNoShowRatesAsCsv() throws Exception {
+    ReportPeriod period = new ReportPeriod(JULY, JULY);
+    given(reportService.period(null, null)).willReturn(period);
+    willAnswer(invocation -> {
+      Consumer<NoShowRate> consumer = invocation.getArgument(1);
+      consumer.accept(new NoShowRate(JULY, Type.CHECKUP, 4, 0, 0, 1, null, 0.25));
+      return null;
+    }).given(reportService).noShowRates(eq(period), any(Consumer.class));
+
+    MvcResult result = mockMvc.perform(get("/api/v1/reports/no-shows"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string("month,type,appointments,completed,no_shows,cancelled,no_show_rate,"
+            + "cancellation_rate\r\n"
+            + "2025-07,checkup,4,0,0,1,,0.2500\r\n"));
+  }
+
+  @Test
+  void rejectsInvalidPeriodBeforeStreaming() throws Exception {
+    given(reportService.period(JULY, JUNE)).willThrow(new ValidationException("from must not be after to"));
+
+    mockMvc.perform(get("/api/v1/reports/no-shows")
+            .param("from", "2025-07")
+            .param("to", "2025-06"))
+        .andExpect(status().isBadRequest());
+  }
+}
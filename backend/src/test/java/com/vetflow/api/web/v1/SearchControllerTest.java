@@ -0,0 +1,60 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.search.SearchResult;
+import com.vetflow.api.application.search.SearchService;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.domain.model.SearchHit;
+import com.vetflow.api.domain.model.SearchHit.Kind;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class SearchControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  SearchService searchService;
+
+  @Test
+  void searchReturnsRankedHits() throws Exception {
+    given(searchService.search("bella", 5)).willReturn(new SearchResult("bella", List.of(
+        new SearchHit(Kind.PATIENT, 3L, "Bella", "Labrador", 7L, "Ana Ruiz", 1.0),
+        new SearchHit(Kind.OWNER, 8L, "Isabella Cruz", "isa@vetflow.com", 8L, "Isabella Cruz", 0.6))));
+
+    mockMvc.perform(get("/api/v1/search").param("q", "bella").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.query", is("bella")))
+        .andExpect(jsonPath("$.hits[0].type", is("patient")))
+        .andExpect(jsonPath("$.hits[0].ownerName", is("Ana Ruiz")))
+        .andExpect(jsonPath("$.hits[1].type", is("owner")))
+        .andExpect(jsonPath("$.hits[1].detail", is("isa@vetflow.com")));
+  }
+
+  @Test
+  void shortQueryReturns400() throws Exception {
+    given(searchService.search("be", null)).willThrow(new ValidationException("q must be between 3 and 100 characters"));
+
+    mockMvc.perform(get("/api/v1/search").param("q", "be"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,53 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.stats.ClinicDashboard;
+import com.vetflow.api.application.stats.ClinicStatsService;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = StatsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class StatsControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  ClinicStatsService clinicStatsService;
+
+  @Test
+  void returnsTheDashboardForTheRequestedDay() throws Exception {
+    LocalDate day = LocalDate.of(2025, 3, 12);
+    given(clinicStatsService.dashboard(day)).willReturn(new ClinicDashboard(day, 5,
+        Map.of("completed", 3L, "no_show", 1L, "cancelled", 1L), Map.of("checkup", 4L), Map.of("4", 4L), 0.25,
+        LocalDate.of(2025, 3, 10), 3));
+
+    mockMvc.perform(get("/api/v1/stats").param("date", "2025-03-12"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.date", is("2025-03-12")))
+        .andExpect(jsonPath("$.appointments.total", is(5)))
+        .andExpect(jsonPath("$.appointments.byStatus.no_show", is(1)))
+        .andExpect(jsonPath("$.appointments.byVeterinarian.4", is(4)))
+        .andExpect(jsonPath("$.noShowRate", is(0.25)))
+        .andExpect(jsonPath("$.newPatients.weekStart", is("2025-03-10")))
+        .andExpect(jsonPath("$.newPatients.thisWeek", is(3)));
+  }
+}
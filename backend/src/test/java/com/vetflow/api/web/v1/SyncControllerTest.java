@@ -0,0 +1,66 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.owner.OwnerResult;
+import com.vetflow.api.application.shared.ValidationException;
+import com.vetflow.api.application.sync.SyncResult;
+import com.vetflow.api.application.sync.SyncResult.Changes;
+import com.vetflow.api.application.sync.SyncService;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+
+@WebMvcTest(controllers = SyncController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class SyncControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  SyncService syncService;
+
+  @Test
+  void syncReturnsChangesAndNextToken() throws Exception {
+    OwnerResult owner = new OwnerResult(1L, "Alice", "+12345678901", "alice@example.com", "123 Street",
+        LocalDateTime.now(), LocalDateTime.now(), 0L);
+    given(syncService.changesSince("abc")).willReturn(new SyncResult("def", true, false,
+        new Changes<>(List.of(owner), List.of()),
+        new Changes<>(List.of(), List.of(11L)),
+        new Changes<>(List.of(), List.of())));
+
+    mockMvc.perform(get("/api/v1/sync").param("since", "abc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.token", is("def")))
+        .andExpect(jsonPath("$.hasMore", is(true)))
+        .andExpect(jsonPath("$.reset", is(false)))
+        .andExpect(jsonPath("$.owners.upserts", hasSize(1)))
+        .andExpect(jsonPath("$.owners.upserts[0].name", is("Alice")))
+        .andExpect(jsonPath("$.patients.removed[0]", is(11)));
+  }
+
+  @Test
+  void syncRejectsInvalidToken() throws Exception {
+    given(syncService.changesSince("bad")).willThrow(new ValidationException("since is not a valid sync token"));
+
+    mockMvc.perform(get("/api/v1/sync").param("since", "bad"))
+        .andExpect(status().isBadRequest());
+  }
+}
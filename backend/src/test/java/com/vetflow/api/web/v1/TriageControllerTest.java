@@ -0,0 +1,69 @@
+package com.vetflow.api.web.v1;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.application.triage.TriageEntry;
+import com.vetflow.api.application.triage.TriageQueueService;
+import com.vetflow.api.application.triage.TriageSnapshot;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.web.v1.error.GlobalExceptionHandler;
+import com.vetflow.api.web.v1.triage.TriageStreamPublisher;
+
+@WebMvcTest(controllers = TriageController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(GlobalExceptionHandler.class)
+class TriageControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  TriageQueueService triageQueueService;
+
+  @SuppressWarnings("removal")
+  @MockBean
+  TriageStreamPublisher triageStreamPublisher;
+
+  @Test
+  void getQueueReturnsPositionsAndEtag() throws Exception {
+    given(triageQueueService.snapshot()).willReturn(new TriageSnapshot(42L, List.of(
+        new TriageEntry(7L, 1L, null, LocalDateTime.now(), Type.EMERGENCY, Priority.CRITICAL, "Hit by car"),
+        new TriageEntry(3L, 2L, 5L, LocalDateTime.now(), Type.CHECKUP, Priority.NORMAL, null))));
+
+    mockMvc.perform(get("/api/v1/triage"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"triage-42\""))
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].position", is(1)))
+        .andExpect(jsonPath("$[0].appointmentId", is(7)))
+        .andExpect(jsonPath("$[0].priority", is("CRITICAL")));
+  }
+
+  @Test
+  void getQueueReturnsNotModifiedForCurrentVersion() throws Exception {
+    given(triageQueueService.snapshot()).willReturn(new TriageSnapshot(42L, List.of()));
+
+    mockMvc.perform(get("/api/v1/triage").header(HttpHeaders.IF_NONE_MATCH, "\"triage-42\""))
+        .andExpect(status().isNotModified());
+  }
+}
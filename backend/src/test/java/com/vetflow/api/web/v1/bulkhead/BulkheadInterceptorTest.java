@@ -0,0 +1,143 @@
+package com.vetflow.api.web.v1.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.vetflow.api.application.shared.ServiceUnavailableException;
+import com.vetflow.api.config.BulkheadProperties;
+import com.vetflow.api.infrastructure.bulkhead.Workload;
+import com.vetflow.api.infrastructure.bulkhead.WorkloadContext;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BulkheadProperties properties = new BulkheadProperties();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @AfterEach
+  void unbind() {
+    WorkloadContext.unbind();
+  }
+
+  @Test
+  void routesByMethodThenControllerAnnotation() throws Exception {
+    BulkheadInterceptor interceptor = interceptor();
+
+    interceptor.preHandle(new MockHttpServletRequest(), response, handler("report"));
+    assertThat(WorkloadContext.current()).isEqualTo(Workload.REPORTING);
+    interceptor.preHandle(new MockHttpServletRequest(), response, handler("sync"));
+    assertThat(WorkloadContext.current()).isEqualTo(Workload.BULK);
+    interceptor.preHandle(new MockHttpServletRequest(), response, new HandlerMethod(new Plain(), "list"));
+    assertThat(WorkloadContext.current()).isEqualTo(Workload.INTERACTIVE);
+
+    assertThat(interceptor.lane(Workload.REPORTING).active()).isEqualTo(1);
+    assertThat(interceptor.lane(Workload.BULK).active()).isEqualTo(1);
+    assertThat(interceptor.lane(Workload.INTERACTIVE).active()).isEqualTo(1);
+  }
+
+  @Test
+  void refusesWith503OnceTheLaneAndItsQueueAreFull() throws Exception {
+    properties.getReporting().setMaxConcurrent(1);
+    properties.getReporting().setMaxQueue(0);
+    BulkheadInterceptor interceptor = interceptor();
+    MockHttpServletRequest first = new MockHttpServletRequest();
+    interceptor.preHandle(first, response, handler("report"));
+
+    assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("report")))
+        .isInstanceOf(ServiceUnavailableException.class)
+        .hasMessageContaining("reporting");
+    // Another lane is unaffected.
+    assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler("sync"))).isTrue();
+    assertThat(meterRegistry.get(BulkheadInterceptor.REJECTED_METRIC).tag("workload", "reporting").counter()
+        .count()).isEqualTo(1);
+
+    interceptor.afterCompletion(first, response, handler("report"), null);
+    assertThat(interceptor.lane(Workload.REPORTING).active()).isZero();
+    assertThat(WorkloadContext.current()).isNull();
+  }
+
+  @Test
+  void queuedRequestsGiveUpAfterTheQueueTimeout() throws Exception {
+    properties.getReporting().setMaxConcurrent(1);
+    properties.getReporting().setMaxQueue(1);
+    properties.getReporting().setQueueTimeout(Duration.ofMillis(20));
+    BulkheadInterceptor interceptor = interceptor();
+    interceptor.preHandle(new MockHttpServletRequest(), response, handler("report"));
+
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("report")))
+        .isInstanceOf(ServiceUnavailableException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    assertThat(interceptor.lane(Workload.REPORTING).waiting()).isZero();
+  }
+
+  @Test
+  void holdsAnAsyncRequestsPlaceUntilItCompletes() throws Exception {
+    BulkheadInterceptor interceptor = interceptor();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+
+    interceptor.preHandle(request, response, handler("report"));
+    request.startAsync();
+    interceptor.afterConcurrentHandlingStarted(request, response, handler("report"));
+
+    assertThat(WorkloadContext.current()).isNull();
+    assertThat(interceptor.lane(Workload.REPORTING).active()).isEqualTo(1);
+    request.getAsyncContext().complete();
+    assertThat(interceptor.lane(Workload.REPORTING).active()).isZero();
+  }
+
+  @Test
+  void leavesEventStreamsOutOfTheLanes() throws Exception {
+    BulkheadInterceptor interceptor = interceptor();
+
+    interceptor.preHandle(new MockHttpServletRequest(), response, new HandlerMethod(new Plain(), "stream"));
+
+    assertThat(WorkloadContext.current()).isNull();
+    assertThat(interceptor.lane(Workload.INTERACTIVE).active()).isZero();
+  }
+
+  private BulkheadInterceptor interceptor() {
+    return new BulkheadInterceptor(properties, meterRegistry);
+  }
+
+  private static HandlerMethod handler(String method) throws NoSuchMethodException {
+    return new HandlerMethod(new Reports(), method);
+  }
+
+  @Bulkhead(Workload.REPORTING)
+  static class Reports {
+
+    public String report() {
+      return "";
+    }
+
+    @Bulkhead(Workload.BULK)
+    public String sync() {
+      return "";
+    }
+  }
+
+  static class Plain {
+
+    public String list() {
+      return "";
+    }
+
+    public SseEmitter stream() {
+      return new SseEmitter();
+    }
+  }
+}
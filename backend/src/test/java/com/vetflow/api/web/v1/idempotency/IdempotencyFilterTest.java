@@ -0,0 +1,253 @@
+package com.vetflow.api.web.v1.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.application.idempotency.IdempotencyStore;
+import com.vetflow.api.config.IdempotencyProperties;
+import com.vetflow.api.domain.model.IdempotencyRecord;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdempotencyFilterTest {
+
+  private static final String BODY = "{\"name\":\"Rex\"}";
+
+  @Mock
+  private IdempotencyStore store;
+
+  private final IdempotencyProperties properties = new IdempotencyProperties();
+  private IdempotencyFilter filter;
+  private int handlerCalls;
+  private int handlerStatus = 201;
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaxBodyBytes(1024);
+    properties.setMaxRequestBytes(64);
+    properties.setPendingWait(Duration.ofMillis(50));
+    filter = new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules(), properties);
+    when(store.claim(anyString(), anyString(), anyString())).thenReturn(acquired());
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_ADMIN"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void storesFirstResponse() throws Exception {
+    MockHttpServletResponse response = perform(post("key-1"));
+
+    assertThat(handlerCalls).isEqualTo(1);
+    assertThat(response.getStatus()).isEqualTo(201);
+    assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+    verify(store).claim(eq("alice"), eq("key-1"), anyString());
+    verify(store).complete(eq(acquired()), eq(201), eq(MediaType.APPLICATION_JSON_VALUE),
+        eq("/api/v1/patients/7"), eq("{\"id\":7}"));
+    verify(store, never()).release(any());
+  }
+
+  @Test
+  void releasesKeyWhenResponseIsNotFinal() throws Exception {
+    handlerStatus = 503;
+
+    perform(post("key-1"));
+
+    verify(store).release(acquired());
+    verify(store, never()).complete(any(), anyInt(), any(), any(), any());
+  }
+
+  @Test
+  void replaysStoredResponseWithoutRunningHandler() throws Exception {
+    MockHttpServletRequest request = post("key-1");
+    String fingerprint = IdempotencyFilter.fingerprint(request, BODY.getBytes(StandardCharsets.UTF_8));
+    when(store.claim("alice", "key-1", fingerprint)).thenReturn(heldBy(record(fingerprint)));
+
+    MockHttpServletResponse response = perform(request);
+
+    assertThat(handlerCalls).isZero();
+    assertThat(response.getStatus()).isEqualTo(201);
+    assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo("/api/v1/patients/7");
+    assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+  }
+
+  @Test
+  void rejectsKeyReusedForDifferentRequest() throws Exception {
+    when(store.claim(anyString(), anyString(), anyString())).thenReturn(heldBy(record("other-fingerprint")));
+
+    MockHttpServletResponse response = perform(post("key-1"));
+
+    assertThat(handlerCalls).isZero();
+    assertThat(response.getStatus()).isEqualTo(422);
+  }
+
+  @Test
+  void retryWaitsForRunningRequestAndReplaysItsResponse() throws Exception {
+    MockHttpServletRequest request = post("key-1");
+    String fingerprint = IdempotencyFilter.fingerprint(request, BODY.getBytes(StandardCharsets.UTF_8));
+    when(store.claim("alice", "key-1", fingerprint))
+        .thenReturn(heldBy(pending(fingerprint)))
+        .thenReturn(heldBy(record(fingerprint)));
+
+    MockHttpServletResponse response = perform(request);
+
+    assertThat(handlerCalls).isZero();
+    assertThat(response.getStatus()).isEqualTo(201);
+    assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    verify(store).awaitRelease(eq("alice"), eq("key-1"), any(Duration.class));
+  }
+
+  @Test
+  void refusesRetryWhileRequestRunsPastPendingWait() throws Exception {
+    MockHttpServletRequest request = post("key-1");
+    String fingerprint = IdempotencyFilter.fingerprint(request, BODY.getBytes(StandardCharsets.UTF_8));
+    when(store.claim("alice", "key-1", fingerprint)).thenReturn(heldBy(pending(fingerprint)));
+    doAnswer(invocation -> {
+      Thread.sleep(((Duration) invocation.getArgument(2)).toMillis());
+      return null;
+    }).when(store).awaitRelease(anyString(), anyString(), any(Duration.class));
+
+    MockHttpServletResponse response = perform(request);
+
+    assertThat(handlerCalls).isZero();
+    assertThat(response.getStatus()).isEqualTo(409);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+  }
+
+  @Test
+  void refusesOversizedBodiesBeforeBufferingThem() throws Exception {
+    MockHttpServletRequest declared = post("key-1");
+    declared.setContent(new byte[65]);
+    MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/patients") {
+      @Override
+      public long getContentLengthLong() {
+        return -1;
+      }
+    };
+    chunked.addHeader(IdempotencyFilter.HEADER, "key-2");
+    chunked.setContent(new byte[65]);
+
+    assertThat(perform(declared).getStatus()).isEqualTo(413);
+    assertThat(perform(chunked).getStatus()).isEqualTo(413);
+    assertThat(handlerCalls).isZero();
+    verify(store, never()).claim(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void rejectsOverlongKeys() throws Exception {
+    MockHttpServletResponse response = perform(post("k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1)));
+
+    assertThat(handlerCalls).isZero();
+    assertThat(response.getStatus()).isEqualTo(400);
+  }
+
+  @Test
+  void ignoresRequestsWithoutKey() throws Exception {
+    MockHttpServletRequest request = post("key-1");
+    request.removeHeader(IdempotencyFilter.HEADER);
+
+    perform(request);
+
+    assertThat(handlerCalls).isEqualTo(1);
+    verify(store, never()).claim(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void passesAnonymousRequestsThrough() throws Exception {
+    SecurityContextHolder.clearContext();
+
+    perform(post("key-1"));
+
+    assertThat(handlerCalls).isEqualTo(1);
+    verify(store, never()).claim(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void onlyFinalStatusesArePinned() {
+    assertThat(IdempotencyFilter.isFinal(201)).isTrue();
+    assertThat(IdempotencyFilter.isFinal(400)).isTrue();
+    assertThat(IdempotencyFilter.isFinal(409)).isTrue();
+    assertThat(IdempotencyFilter.isFinal(401)).isFalse();
+    assertThat(IdempotencyFilter.isFinal(429)).isFalse();
+    assertThat(IdempotencyFilter.isFinal(503)).isFalse();
+  }
+
+  private static MockHttpServletRequest post(String key) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/patients");
+    request.addHeader(IdempotencyFilter.HEADER, key);
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private static IdempotencyStore.Claim acquired() {
+    return new IdempotencyStore.Claim("alice", "key-1", LocalDateTime.of(2024, 5, 1, 10, 0), null);
+  }
+
+  private static IdempotencyStore.Claim heldBy(IdempotencyRecord holder) {
+    return new IdempotencyStore.Claim("alice", "key-1", null, holder);
+  }
+
+  private static IdempotencyRecord pending(String fingerprint) {
+    LocalDateTime now = LocalDateTime.now();
+    return new IdempotencyRecord("alice", "key-1", fingerprint, null, null, null, null, now, now.plusMinutes(1));
+  }
+
+  private static IdempotencyRecord record(String fingerprint) {
+    LocalDateTime now = LocalDateTime.now();
+    return new IdempotencyRecord("alice", "key-1", fingerprint, 201, MediaType.APPLICATION_JSON_VALUE,
+        "/api/v1/patients/7", "{\"id\":7}", now, now.plusHours(1));
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    HttpServlet handler = new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse resp) throws java.io.IOException {
+        handlerCalls++;
+        assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        resp.setStatus(handlerStatus);
+        resp.setHeader(HttpHeaders.LOCATION, "/api/v1/patients/7");
+        resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        resp.getOutputStream().write("{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+      }
+    };
+    filter.doFilter(request, response, new MockFilterChain(handler));
+    return response;
+  }
+}
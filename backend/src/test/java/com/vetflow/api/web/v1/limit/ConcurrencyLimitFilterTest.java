@@ -0,0 +1,112 @@
+package com.vetflow.api.web.v1.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vetflow.api.config.ConcurrencyLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+  private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+  @Test
+  void refusesRequestsOverTheLimitAtOnceWith503() throws Exception {
+    properties.getRead().setInitialLimit(1);
+    properties.getRead().setMinLimit(1);
+    ConcurrencyLimitFilter filter = filter();
+    MockHttpServletResponse refused = new MockHttpServletResponse();
+
+    // The second request arrives while the first is still in flight.
+    filter.doFilter(get("/api/v1/patients/1"), new MockHttpServletResponse(),
+        (request, response) -> filter.doFilter(get("/api/v1/patients/2"), refused, (req, res) -> { }));
+
+    assertThat(refused.getStatus()).isEqualTo(503);
+    assertThat(refused.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(refused.getContentAsString()).contains("\"status\":503", "\"path\":\"/api/v1/patients/2\"");
+    assertThat(meterRegistry.get(ConcurrencyLimitFilter.REJECTED_METRIC).tag("class", "read").counter().count())
+        .isEqualTo(1);
+    assertThat(filter.limit(EndpointClass.READ).inFlight()).isZero();
+  }
+
+  @Test
+  void limitsEachClassSeparately() throws Exception {
+    properties.getRead().setInitialLimit(1);
+    properties.getRead().setMinLimit(1);
+    ConcurrencyLimitFilter filter = filter();
+    MockHttpServletResponse login = new MockHttpServletResponse();
+
+    filter.doFilter(get("/api/v1/patients/1"), new MockHttpServletResponse(),
+        (request, response) -> filter.doFilter(post("/api/v1/auth/token"), login, (req, res) -> { }));
+
+    assertThat(login.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void holdsAnAsyncRequestsPlaceUntilItCompletes() throws Exception {
+    ConcurrencyLimitFilter filter = filter();
+    MockHttpServletRequest request = get("/api/v1/reports/no-shows");
+    request.setAsyncSupported(true);
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+    assertThat(filter.limit(EndpointClass.EXPORT).inFlight()).isEqualTo(1);
+    request.getAsyncContext().complete();
+    assertThat(filter.limit(EndpointClass.EXPORT).inFlight()).isZero();
+  }
+
+  @Test
+  void backsOffAfterServerErrors() throws Exception {
+    ConcurrencyLimitFilter filter = filter();
+    int before = filter.limit(EndpointClass.WRITE).limit();
+
+    filter.doFilter(post("/api/v1/appointments"), new MockHttpServletResponse(),
+        (request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+
+    assertThat(filter.limit(EndpointClass.WRITE).limit()).isLessThan(before);
+    assertThat(meterRegistry.get(ConcurrencyLimitFilter.LIMIT_METRIC).tag("class", "write").gauge().value())
+        .isEqualTo(filter.limit(EndpointClass.WRITE).limit());
+  }
+
+  @Test
+  void classifiesRequests() {
+    assertThat(EndpointClass.of(post("/api/v1/auth/token"))).isEqualTo(EndpointClass.AUTH);
+    assertThat(EndpointClass.of(get("/api/v1/patients/1"))).isEqualTo(EndpointClass.READ);
+    assertThat(EndpointClass.of(post("/api/v1/patients"))).isEqualTo(EndpointClass.WRITE);
+    assertThat(EndpointClass.of(get("/api/v1/reports/vet-utilisation"))).isEqualTo(EndpointClass.EXPORT);
+    assertThat(EndpointClass.of(get("/api/v1/sync"))).isEqualTo(EndpointClass.EXPORT);
+    assertThat(EndpointClass.of(get("/actuator/health"))).isNull();
+
+    assertThat(EndpointClass.of(get("/api/v1/appointments/stream"))).isNull();
+    assertThat(EndpointClass.of(get("/api/v1/triage/stream"))).isNull();
+  }
+
+  @Test
+  void limitsRequestsAskingForAnEventStreamElsewhere() {
+    MockHttpServletRequest request = get("/api/v1/patients/1");
+    request.addHeader("Accept", "text/event-stream");
+
+    assertThat(EndpointClass.of(request)).isEqualTo(EndpointClass.READ);
+  }
+
+  private ConcurrencyLimitFilter filter() {
+    return new ConcurrencyLimitFilter(properties, objectMapper, meterRegistry);
+  }
+
+  private static MockHttpServletRequest get(String uri) {
+    return new MockHttpServletRequest("GET", uri);
+  }
+
+  private static MockHttpServletRequest post(String uri) {
+    return new MockHttpServletRequest("POST", uri);
+  }
+
+}
@@ -0,0 +1,101 @@
+package com.vetflow.api.web.v1.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class GradientLimitTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+  @Test
+  void admitsRequestsUpToTheLimit() {
+    GradientLimit limit = limit(2);
+
+    assertThat(limit.tryAcquire()).isTrue();
+    assertThat(limit.tryAcquire()).isTrue();
+    assertThat(limit.tryAcquire()).isFalse();
+
+    limit.release(FAST, false);
+    assertThat(limit.tryAcquire()).isTrue();
+    assertThat(limit.inFlight()).isEqualTo(2);
+  }
+
+  @Test
+  void growsWhileBusyAndLatencyHolds() {
+    GradientLimit limit = limit(10);
+
+    runAtCapacity(limit, FAST, 50);
+
+    assertThat(limit.limit()).isGreaterThan(20);
+  }
+
+  @Test
+  void shrinksWhenLatencyRises() {
+    GradientLimit limit = limit(50);
+    runAtCapacity(limit, FAST, 100);
+    int before = limit.limit();
+
+    runAtCapacity(limit, SLOW, 20);
+
+    assertThat(limit.limit()).isLessThan(before / 2);
+  }
+
+  @Test
+  void recoversOnceTheSlowerLatencyPersists() {
+    GradientLimit limit = limit(50);
+    runAtCapacity(limit, FAST, 100);
+    runAtCapacity(limit, SLOW, 20);
+    int shrunk = limit.limit();
+
+    runAtCapacity(limit, SLOW, 2_000);
+
+    assertThat(limit.limit()).isGreaterThan(shrunk);
+  }
+
+  @Test
+  void doesNotGrowWhileMostlyIdle() {
+    GradientLimit limit = limit(10);
+
+    for (int i = 0; i < 100; i++) {
+      limit.tryAcquire();
+      limit.release(FAST, false);
+    }
+
+    assertThat(limit.limit()).isEqualTo(10);
+  }
+
+  @Test
+  void backsOffAfterFailures() {
+    GradientLimit limit = limit(10);
+
+    limit.tryAcquire();
+    limit.release(FAST, true);
+
+    assertThat(limit.limit()).isEqualTo(9);
+    assertThat(limit.inFlight()).isZero();
+
+    for (int i = 0; i < 50; i++) {
+      limit.tryAcquire();
+      limit.release(FAST, true);
+    }
+    assertThat(limit.limit()).isEqualTo(2);
+  }
+
+  private static GradientLimit limit(int initial) {
+    return new GradientLimit(initial, 2, 100, 1.5, 0.2, 0.9, 600);
+  }
+
+  /** Keeps the limit full, completing one request per sample. */
+  private static void runAtCapacity(GradientLimit limit, long latencyNanos, int samples) {
+    for (int i = 0; i < samples; i++) {
+      while (limit.tryAcquire()) {
+        // fill every free place
+      }
+      limit.release(latencyNanos, false);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vetflow.api.config.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+class RateLimitInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+  private final RateLimitProperties properties = new RateLimitProperties();
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void sendsRateLimitHeadersAndRefusesOverTheLimitWith429() throws Exception {
+    properties.getRoles().get("veterinarian").setCapacity(2);
+    properties.getRoles().get("veterinarian").setRefillPerSecond(0.5);
+    RateLimitInterceptor interceptor = interceptor(true);
+    authenticate("drsmith", "ROLE_VETERINARIAN");
+
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    boolean firstHandled = interceptor.preHandle(get("/api/v1/appointments", "/api/v1/appointments"), first, null);
+    boolean secondHandled = interceptor.preHandle(get("/api/v1/appointments", "/api/v1/appointments"),
+        new MockHttpServletResponse(), null);
+    MockHttpServletResponse refused = new MockHttpServletResponse();
+    boolean refusedHandled = interceptor.preHandle(get("/api/v1/appointments", "/api/v1/appointments"), refused,
+        null);
+
+    assertThat(new boolean[] {firstHandled, secondHandled, refusedHandled}).containsExactly(true, true, false);
+    assertThat(first.getHeader(RateLimitInterceptor.LIMIT_HEADER)).isEqualTo("2");
+    assertThat(first.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("1");
+    assertThat(first.getHeader(RateLimitInterceptor.RESET_HEADER)).isEqualTo("2");
+    assertThat(refused.getStatus()).isEqualTo(429);
+    assertThat(refused.getHeader(RateLimitInterceptor.REMAINING_HEADER)).isEqualTo("0");
+    assertThat(refused.getHeader("Retry-After")).isEqualTo("2");
+    assertThat(refused.getContentAsString()).contains("\"status\":429", "\"path\":\"/api/v1/appointments\"");
+    assertThat(meterRegistry.get(RateLimitInterceptor.REJECTED_METRIC).tag("role", "veterinarian").counter()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void sharesTheBucketOfTheMatchedHandlerPattern() throws Exception {
+    properties.getRoles().get("veterinarian").setCapacity(1);
+    RateLimitInterceptor interceptor = interceptor(true);
+    authenticate("drsmith", "ROLE_VETERINARIAN");
+
+    interceptor.preHandle(get("/api/v1/patients/7", "/api/v1/patients/{patientId}"),
+        new MockHttpServletResponse(), null);
+    MockHttpServletResponse otherPatient = new MockHttpServletResponse();
+    interceptor.preHandle(get("/api/v1/patients/rex", "/api/v1/patients/{patientId}"), otherPatient, null);
+    MockHttpServletResponse unmatched = new MockHttpServletResponse();
+    interceptor.preHandle(get("/api/v1/nowhere", null), unmatched, null);
+
+    assertThat(otherPatient.getStatus()).isEqualTo(429);
+    assertThat(unmatched.getStatus()).isEqualTo(200);
+    assertThat(meterRegistry.get(RateLimitInterceptor.BUCKETS_METRIC).gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void takesATokenOnlyOnTheOriginalDispatch() throws Exception {
+    properties.getRoles().get("veterinarian").setCapacity(1);
+    RateLimitInterceptor interceptor = interceptor(true);
+    authenticate("drsmith", "ROLE_VETERINARIAN");
+
+    interceptor.preHandle(get("/api/v1/reports/visits", "/api/v1/reports/visits"),
+        new MockHttpServletResponse(), null);
+    MockHttpServletRequest asyncDispatch = get("/api/v1/reports/visits", "/api/v1/reports/visits");
+    asyncDispatch.setDispatcherType(DispatcherType.ASYNC);
+
+    assertThat(interceptor.preHandle(asyncDispatch, new MockHttpServletResponse(), null)).isTrue();
+  }
+
+  @Test
+  void leavesAnonymousRequestsAlone() throws Exception {
+    RateLimitInterceptor interceptor = interceptor(true);
+    MockHttpServletResponse login = new MockHttpServletResponse();
+
+    interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/auth/token"), login, null);
+
+    assertThat(login.getHeader(RateLimitInterceptor.LIMIT_HEADER)).isNull();
+  }
+
+  @Test
+  void passesEverythingThroughWhenDisabled() throws Exception {
+    RateLimitInterceptor interceptor = interceptor(false);
+    authenticate("root", "ROLE_ADMIN");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    interceptor.preHandle(get("/api/v1/owners", "/api/v1/owners"), response, null);
+
+    assertThat(response.getHeader(RateLimitInterceptor.LIMIT_HEADER)).isNull();
+    assertThat(meterRegistry.get(RateLimitInterceptor.BUCKETS_METRIC).gauge().value()).isZero();
+  }
+
+  private RateLimitInterceptor interceptor(boolean enabled) {
+    return new RateLimitInterceptor(new RateLimiter(properties), objectMapper, meterRegistry, enabled);
+  }
+
+  private static void authenticate(String name, String authority) {
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null, authority));
+  }
+
+  /** A request as the dispatcher hands it over, with the pattern it matched, if any. */
+  private static MockHttpServletRequest get(String path, String pattern) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    if (pattern != null) {
+      request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,71 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.vetflow.api.security.jwt.JwtTokenService;
+import com.vetflow.api.security.user.SystemUserDetails;
+
+/** Checks through the whole filter chain that requests share the bucket of the controller mapping they hit. */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureMockMvc
+class RateLimitSmokeTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserDetailsService userDetailsService;
+
+  @Autowired
+  private JwtTokenService tokenService;
+
+  private String token;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM medical_records");
+    jdbcTemplate.update("DELETE FROM appointments");
+    jdbcTemplate.update("DELETE FROM system_users");
+    jdbcTemplate.update("INSERT INTO system_users (username, email, password_hash, role, is_active, created_at, "
+        + "updated_at) VALUES ('nurse', 'nurse@vetflow.test', ?, 'assistant', true, LOCALTIMESTAMP, "
+        + "LOCALTIMESTAMP)", passwordEncoder.encode("Vetflow#2024"));
+    token = tokenService.generateToken((SystemUserDetails) userDetailsService.loadUserByUsername("nurse"));
+  }
+
+  @Test
+  void requestsToOneMappingShareABucket() throws Exception {
+    int first = remaining("/api/v1/patients/101");
+    int second = remaining("/api/v1/patients/102");
+    int timeline = remaining("/api/v1/patients/101/timeline");
+
+    assertThat(second).isEqualTo(first - 1);
+    assertThat(timeline).isGreaterThan(second);
+  }
+
+  private int remaining(String path) throws Exception {
+    String header = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andReturn()
+        .getResponse()
+        .getHeader(RateLimitInterceptor.REMAINING_HEADER);
+    assertThat(header).as("RateLimit-Remaining of %s", path).isNotNull();
+    return Integer.parseInt(header);
+  }
+}
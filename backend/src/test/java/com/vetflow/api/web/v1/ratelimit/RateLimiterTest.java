@@ -0,0 +1,160 @@
+package com.vetflow.api.web.v1.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.vetflow.api.config.RateLimitProperties;
+
+class RateLimiterTest {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  private final AtomicLong clock = new AtomicLong(42 * SECOND);
+  private final RateLimitProperties properties = new RateLimitProperties();
+
+  @Test
+  void allowsABurstOfCapacityThenRefillsAtTheRate() {
+    properties.getRoles().get("veterinarian").setCapacity(3);
+    properties.getRoles().get("veterinarian").setRefillPerSecond(2);
+    RateLimiter limiter = limiter();
+    Authentication vet = user("drsmith", "ROLE_VETERINARIAN");
+
+    assertThat(limiter.tryAcquire(vet, "GET", "/api/v1/appointments").remaining()).isEqualTo(2);
+    assertThat(limiter.tryAcquire(vet, "GET", "/api/v1/appointments").remaining()).isEqualTo(1);
+    TokenBucket.Decision last = limiter.tryAcquire(vet, "GET", "/api/v1/appointments");
+    assertThat(last.allowed()).isTrue();
+    assertThat(last.remaining()).isZero();
+    assertThat(last.resetNanos()).isEqualTo(3 * SECOND / 2);
+
+    TokenBucket.Decision refused = limiter.tryAcquire(vet, "GET", "/api/v1/appointments");
+    assertThat(refused.allowed()).isFalse();
+    assertThat(refused.limit()).isEqualTo(3);
+    assertThat(refused.retryAfterNanos()).isEqualTo(SECOND / 2);
+
+    clock.addAndGet(SECOND / 2);
+    assertThat(limiter.tryAcquire(vet, "GET", "/api/v1/appointments").allowed()).isTrue();
+    assertThat(limiter.tryAcquire(vet, "GET", "/api/v1/appointments").allowed()).isFalse();
+  }
+
+  @Test
+  void keepsABucketPerUserAndRoute() {
+    properties.getRoles().get("assistant").setCapacity(1);
+    RateLimiter limiter = limiter();
+    Authentication alice = user("alice", "ROLE_ASSISTANT");
+    Authentication bob = user("bob", "ROLE_ASSISTANT");
+
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/patients/{patientId}").allowed()).isTrue();
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/patients/{patientId}").allowed()).isFalse();
+    assertThat(limiter.tryAcquire(alice, "PUT", "/api/v1/patients/{patientId}").allowed()).isTrue();
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/owners/{ownerId}").allowed()).isTrue();
+    assertThat(limiter.tryAcquire(bob, "GET", "/api/v1/patients/{patientId}").allowed()).isTrue();
+    assertThat(limiter.size()).isEqualTo(4);
+  }
+
+  @Test
+  void sizesBucketsByRoleThenEndpoint() {
+    RateLimitProperties.EndpointLimit appointments = new RateLimitProperties.EndpointLimit();
+    appointments.setMethod("get");
+    appointments.setPath("/api/v1/appointments");
+    appointments.setCapacity(5);
+    appointments.setRefillPerSecond(1);
+    properties.getEndpoints().add(appointments);
+    RateLimiter limiter = limiter();
+
+    assertThat(limiter.tryAcquire(user("root", "ROLE_ADMIN"), "GET", "/api/v1/owners").limit()).isEqualTo(100);
+    assertThat(limiter.tryAcquire(user("amy", "ROLE_ASSISTANT"), "GET", "/api/v1/owners").limit()).isEqualTo(60);
+    assertThat(limiter.tryAcquire(user("sam", "ROLE_USER"), "GET", "/api/v1/owners").limit()).isEqualTo(30);
+    assertThat(limiter.tryAcquire(user("root", "ROLE_ADMIN"), "GET", "/api/v1/appointments").limit()).isEqualTo(5);
+    assertThat(limiter.tryAcquire(user("root", "ROLE_ADMIN"), "POST", "/api/v1/appointments").limit())
+        .isEqualTo(100);
+    assertThat(limiter.roleTag(user("sam", "ROLE_USER"))).isEqualTo("other");
+    assertThat(limiter.roleTag(user("root", "ROLE_ADMIN"))).isEqualTo("admin");
+  }
+
+  @Test
+  void evictsBucketsOnceTheyHaveBeenFullForTheIdleTime() {
+    properties.setIdleEviction(Duration.ofMinutes(5));
+    RateLimiter limiter = limiter();
+    limiter.tryAcquire(user("alice", "ROLE_ADMIN"), "GET", "/api/v1/owners");
+    clock.addAndGet(60 * SECOND);
+    limiter.tryAcquire(user("bob", "ROLE_ADMIN"), "GET", "/api/v1/owners");
+
+    clock.addAndGet(4 * 60 * SECOND + SECOND);
+    limiter.evictIdle();
+
+    assertThat(limiter.size()).isEqualTo(1);
+  }
+
+  @Test
+  void refusesCallersWithoutABucketOnceFullUntilIdleBucketsAreDropped() {
+    properties.setMaxKeys(1);
+    properties.setPurgeInterval(Duration.ofSeconds(30));
+    RateLimiter limiter = limiter();
+
+    assertThat(limiter.tryAcquire(user("alice", "ROLE_ADMIN"), "GET", "/api/v1/owners").allowed()).isTrue();
+    TokenBucket.Decision refused = limiter.tryAcquire(user("bob", "ROLE_ADMIN"), "GET", "/api/v1/owners");
+    assertThat(refused.allowed()).isFalse();
+    assertThat(refused.limit()).isEqualTo(100);
+    assertThat(refused.retryAfterNanos()).isEqualTo(30 * SECOND);
+    assertThat(limiter.size()).isEqualTo(1);
+
+    clock.addAndGet(Duration.ofMinutes(10).toNanos());
+    limiter.evictIdle();
+    assertThat(limiter.tryAcquire(user("bob", "ROLE_ADMIN"), "GET", "/api/v1/owners").allowed()).isTrue();
+  }
+
+  @Test
+  void givesUpTheCallersIdlestBucketOnceFull() {
+    properties.setMaxKeys(2);
+    properties.getRoles().get("admin").setCapacity(2);
+    properties.getRoles().get("admin").setRefillPerSecond(1);
+    RateLimiter limiter = limiter();
+    Authentication alice = user("alice", "ROLE_ADMIN");
+    limiter.tryAcquire(alice, "GET", "/api/v1/owners");
+    limiter.tryAcquire(alice, "GET", "/api/v1/owners");
+    limiter.tryAcquire(alice, "GET", "/api/v1/patients/{patientId}");
+
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/appointments").allowed()).isTrue();
+
+    assertThat(limiter.size()).isEqualTo(2);
+    // The drained owners bucket was kept; the patient bucket, full soonest, was given up.
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/owners").allowed()).isFalse();
+    assertThat(limiter.tryAcquire(alice, "GET", "/api/v1/patients/{patientId}").remaining()).isEqualTo(1);
+  }
+
+  @Test
+  void capsTheBucketsOfOneUser() {
+    properties.setMaxKeysPerUser(2);
+    RateLimiter limiter = limiter();
+    Authentication alice = user("alice", "ROLE_ADMIN");
+
+    for (String route : new String[] {"/api/v1/owners", "/api/v1/patients", "/api/v1/appointments"}) {
+      assertThat(limiter.tryAcquire(alice, "GET", route).allowed()).isTrue();
+    }
+    limiter.tryAcquire(user("bob", "ROLE_ADMIN"), "GET", "/api/v1/owners");
+
+    assertThat(limiter.size()).isEqualTo(3);
+  }
+
+  @Test
+  void refusesLimitsWithoutARefillRate() {
+    properties.getRoles().put("auditor", new RateLimitProperties.Limit());
+
+    assertThatThrownBy(this::limiter).isInstanceOf(IllegalStateException.class).hasMessageContaining("auditor");
+  }
+
+  private RateLimiter limiter() {
+    return new RateLimiter(properties, clock::get);
+  }
+
+  private static Authentication user(String name, String authority) {
+    return new TestingAuthenticationToken(name, null, authority);
+  }
+}
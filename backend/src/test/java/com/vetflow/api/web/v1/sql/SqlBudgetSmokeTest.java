@@ -0,0 +1,179 @@
+package com.vetflow.api.web.v1.sql;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.vetflow.api.application.appointment.AppointmentApplicationService;
+import com.vetflow.api.application.appointment.ScheduleAppointmentCommand;
+import com.vetflow.api.application.medicalrecord.CreateMedicalRecordCommand;
+import com.vetflow.api.application.medicalrecord.MedicalRecordApplicationService;
+import com.vetflow.api.application.owner.CreateOwnerCommand;
+import com.vetflow.api.application.owner.OwnerApplicationService;
+import com.vetflow.api.application.patient.PatientApplicationService;
+import com.vetflow.api.application.patient.RegisterPatientCommand;
+import com.vetflow.api.config.SqlProperties;
+import com.vetflow.api.domain.model.Appointment.Priority;
+import com.vetflow.api.domain.model.Appointment.Type;
+import com.vetflow.api.security.jwt.JwtTokenService;
+import com.vetflow.api.security.user.SystemUserDetails;
+
+/**
+ * Runs the busiest endpoints against seeded data with the statement budgets enforced, so a change that adds
+ * queries to one, such as an N+1 load, fails here. The budgets are set in the test {@code application.properties}.
+ */
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureMockMvc
+class SqlBudgetSmokeTest {
+
+  private static final LocalDateTime VISIT = LocalDateTime.of(2030, 6, 12, 9, 0);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserDetailsService userDetailsService;
+
+  @Autowired
+  private JwtTokenService tokenService;
+
+  @Autowired
+  private OwnerApplicationService ownerService;
+
+  @Autowired
+  private PatientApplicationService patientService;
+
+  @Autowired
+  private AppointmentApplicationService appointmentService;
+
+  @Autowired
+  private MedicalRecordApplicationService medicalRecordService;
+
+  @Autowired
+  private SqlProperties sqlProperties;
+
+  private String token;
+  private long veterinarianId;
+  private long ownerId;
+  private long patientId;
+  private long appointmentId;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM medical_records");
+    jdbcTemplate.update("DELETE FROM appointments");
+    jdbcTemplate.update("DELETE FROM patients");
+    jdbcTemplate.update("DELETE FROM owners");
+    jdbcTemplate.update("DELETE FROM system_users");
+    jdbcTemplate.update("INSERT INTO system_users (username, email, password_hash, role, is_active, created_at, "
+        + "updated_at) VALUES ('drsmith', 'drsmith@vetflow.test', ?, 'veterinarian', true, LOCALTIMESTAMP, "
+        + "LOCALTIMESTAMP)", passwordEncoder.encode("Vetflow#2024"));
+    veterinarianId = jdbcTemplate.queryForObject("SELECT id FROM system_users WHERE username = 'drsmith'",
+        Long.class);
+    token = tokenService.generateToken((SystemUserDetails) userDetailsService.loadUserByUsername("drsmith"));
+
+    ownerId = ownerService.createOwner(
+        new CreateOwnerCommand("Alice Smith", "+12345678901", "alice@example.com", "123 Street")).id();
+    // Several of each, so a statement run per patient, record or appointment shows up in the counts.
+    for (String name : new String[] {"Buddy", "Rex", "Molly"}) {
+      patientId = patientService.registerPatient(new RegisterPatientCommand(name, "DOG", null,
+          LocalDate.of(2020, 1, 1), BigDecimal.TEN, ownerId)).id();
+    }
+    for (int day = 0; day < 3; day++) {
+      appointmentId = appointmentService.scheduleAppointment(new ScheduleAppointmentCommand(patientId,
+          veterinarianId, VISIT.plusDays(day), Type.CHECKUP, Priority.NORMAL, null)).id();
+      medicalRecordService.createMedicalRecord(new CreateMedicalRecordCommand(patientId, veterinarianId,
+          VISIT.minusYears(1).plusDays(day), "Healthy", "None", null, null));
+    }
+  }
+
+  @Test
+  void patientStaysWithinBudget() throws Exception {
+    mockMvc.perform(authorised(get("/api/v1/patients/{patientId}", patientId)))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(SqlStatsFilter.SERVER_TIMING));
+  }
+
+  @Test
+  void ownersPatientsStayWithinBudget() throws Exception {
+    mockMvc.perform(authorised(get("/api/v1/owners/{ownerId}/patients", ownerId)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3));
+  }
+
+  @Test
+  void timelineStaysWithinBudget() throws Exception {
+    mockMvc.perform(authorised(get("/api/v1/patients/{patientId}/timeline", patientId)))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(SqlStatsFilter.SERVER_TIMING));
+  }
+
+  @Test
+  void schedulingStaysWithinBudget() throws Exception {
+    mockMvc.perform(authorised(post("/api/v1/appointments"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"patientId": %d, "veterinarianId": %d, "appointmentDate": "2030-07-01T10:00:00",
+                 "type": "CHECKUP", "priority": "NORMAL"}
+                """.formatted(patientId, veterinarianId)))
+        .andExpect(status().isCreated());
+  }
+
+  @Test
+  void reschedulingStaysWithinBudget() throws Exception {
+    mockMvc.perform(authorised(patch("/api/v1/appointments/{appointmentId}/reschedule", appointmentId))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"newDate\": \"2030-07-02T10:00:00\"}"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void endpointOverItsBudgetFails() {
+    Map<String, Integer> endpoints = sqlProperties.getBudget().getEndpoints();
+    Integer budget = endpoints.put("GET /api/v1/patients/{patientId}", 1);
+    try {
+      assertThatThrownBy(() -> mockMvc.perform(authorised(get("/api/v1/patients/{patientId}", patientId))))
+          .isInstanceOf(SqlBudgetExceededException.class)
+          .hasMessageContaining("GET /api/v1/patients/{patientId} ran")
+          .hasMessageEndingWith("over its budget of 1");
+    } finally {
+      if (budget == null) {
+        endpoints.remove("GET /api/v1/patients/{patientId}");
+      } else {
+        endpoints.put("GET /api/v1/patients/{patientId}", budget);
+      }
+    }
+  }
+
+  private MockHttpServletRequestBuilder authorised(MockHttpServletRequestBuilder request) {
+    return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+  }
+}
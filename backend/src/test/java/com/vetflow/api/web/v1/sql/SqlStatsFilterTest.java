@@ -0,0 +1,95 @@
+package com.vetflow.api.web.v1.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.vetflow.api.config.SqlProperties;
+import com.vetflow.api.infrastructure.sql.RequestSqlStats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class SqlStatsFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SqlProperties properties = new SqlProperties();
+
+  @Test
+  void addsServerTimingAndRecordsPerEndpointMetrics() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter().doFilter(request(), response, statements(3));
+
+    assertThat(response.getHeader(SqlStatsFilter.SERVER_TIMING)).matches("db;dur=[0-9.]+;desc=\"3 statements\"");
+    assertThat(meterRegistry.get(SqlStatsFilter.STATEMENTS_METRIC).tag("uri", "/api/v1/patients/{id}")
+        .summary().totalAmount()).isEqualTo(3);
+    assertThat(meterRegistry.find(SqlStatsFilter.REPEATED_METRIC).counter()).isNull();
+  }
+
+  @Test
+  void flagsAStatementRepeatedWithinOneRequest() throws Exception {
+    properties.setRepeatThreshold(3);
+
+    filter().doFilter(request(), new MockHttpServletResponse(), statements(3));
+
+    assertThat(meterRegistry.get(SqlStatsFilter.REPEATED_METRIC).tag("method", "GET").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void failsRequestsOverTheirEndpointBudgetWhenEnforced() {
+    properties.getBudget().setDefaultLimit(10);
+    properties.getBudget().getEndpoints().put("GET /api/v1/patients/{id}", 2);
+    properties.getBudget().setFailOnExceed(true);
+
+    assertThatThrownBy(() -> filter().doFilter(request(), new MockHttpServletResponse(), statements(3)))
+        .isInstanceOf(SqlBudgetExceededException.class)
+        .hasMessage("GET /api/v1/patients/{id} ran 3 SQL statements, over its budget of 2");
+    assertThat(meterRegistry.get(SqlStatsFilter.EXCEEDED_METRIC).tag("uri", "/api/v1/patients/{id}")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void onlyLogsAndCountsRequestsOverBudgetWhenNotEnforced() throws Exception {
+    properties.getBudget().setDefaultLimit(2);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter().doFilter(request(), response, statements(3));
+    filter().doFilter(request(), new MockHttpServletResponse(), statements(2));
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(meterRegistry.get(SqlStatsFilter.EXCEEDED_METRIC).tag("method", "GET").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void leavesNoStatsBehindOnTheThread() throws Exception {
+    filter().doFilter(request(), new MockHttpServletResponse(), statements(1));
+
+    assertThat(RequestSqlStats.current()).isNull();
+  }
+
+  private SqlStatsFilter filter() {
+    return new SqlStatsFilter(properties, meterRegistry);
+  }
+
+  private static MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/patients/7");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/patients/{id}");
+    return request;
+  }
+
+  /** A chain whose handler runs the same statement the given number of times. */
+  private static FilterChain statements(int count) {
+    return (request, response) -> {
+      for (int i = 0; i < count; i++) {
+        RequestSqlStats.current().record("select * from patients where id = ?", 1_000);
+      }
+    };
+  }
+}
@@ -0,0 +1,194 @@
+package com.vetflow.api.web.v1.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vetflow.api.config.StreamProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseChannelTest {
+
+  private static final String EPOCH = "n1";
+
+  private final StreamProperties properties = new StreamProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<RecordingEmitter> emitters = new ArrayList<>();
+  private final List<Runnable> deferred = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    properties.setConnectionBufferSize(4);
+    properties.setReplayBufferSize(3);
+    properties.setMaxConnections(2);
+  }
+
+  @Test
+  void publishesEventsInOrderToEverySubscriber() {
+    SseChannel channel = channel(Runnable::run);
+    channel.subscribe(null);
+    channel.subscribe(null);
+
+    channel.publish("scheduled", Map.of("id", 1));
+    channel.publish("cancelled", Map.of("id", 1));
+
+    for (RecordingEmitter emitter : emitters) {
+      assertThat(emitter.lines()).containsExactly(
+          "id:n1-1\nevent:scheduled\ndata:{\"id\":1}",
+          "id:n1-2\nevent:cancelled\ndata:{\"id\":1}");
+    }
+    assertThat(meterRegistry.get("vetflow.stream.connections").tag("channel", "test").gauge().value())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  void resumesFromLastEventId() {
+    SseChannel channel = channel(Runnable::run);
+    channel.publish("scheduled", Map.of("id", 1));
+    channel.publish("scheduled", Map.of("id", 2));
+    channel.publish("scheduled", Map.of("id", 3));
+
+    channel.subscribe("n1-1");
+
+    assertThat(emitters.get(0).ids()).containsExactly("n1-2", "n1-3");
+  }
+
+  @Test
+  void sendsResetWhenLastEventIdLeftTheReplayBuffer() {
+    SseChannel channel = channel(Runnable::run);
+    for (int i = 1; i <= 5; i++) {
+      channel.publish("scheduled", Map.of("id", i));
+    }
+
+    channel.subscribe("n1-1");
+    channel.subscribe("not-a-number");
+
+    assertThat(emitters.get(0).lines()).containsExactly("id:n1-5\nevent:reset\ndata:{}");
+    assertThat(emitters.get(1).lines()).containsExactly("id:n1-5\nevent:reset\ndata:{}");
+  }
+
+  @Test
+  void sendsResetForLastEventIdIssuedByAnotherNode() {
+    SseChannel channel = channel(Runnable::run);
+    for (int i = 1; i <= 3; i++) {
+      channel.publish("scheduled", Map.of("id", i));
+    }
+    properties.setMaxConnections(3);
+
+    channel.subscribe("n2-2");
+    channel.subscribe("n1x-2");
+    channel.subscribe("2");
+
+    for (RecordingEmitter emitter : emitters) {
+      assertThat(emitter.lines()).containsExactly("id:n1-3\nevent:reset\ndata:{}");
+    }
+    assertThat(meterRegistry.get("vetflow.stream.resets").tag("channel", "test").counter().count())
+        .isEqualTo(3.0);
+  }
+
+  @Test
+  void disconnectsClientsThatFallTooFarBehind() {
+    SseChannel channel = channel(deferred::add);
+    channel.subscribe(null);
+
+    for (int i = 1; i <= 5; i++) {
+      channel.publish("scheduled", Map.of("id", i));
+    }
+
+    assertThat(emitters.get(0).completed).isTrue();
+    assertThat(channel.connectionCount()).isZero();
+    assertThat(meterRegistry.get("vetflow.stream.disconnects").tag("reason", "overflow").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void dropsConnectionsThatFailToWrite() {
+    SseChannel channel = channel(Runnable::run);
+    channel.subscribe(null);
+    emitters.get(0).failWrites = true;
+
+    channel.publish("scheduled", Map.of("id", 1));
+
+    assertThat(channel.connectionCount()).isZero();
+  }
+
+  @Test
+  void heartbeatWritesCommentToIdleConnections() {
+    SseChannel channel = channel(Runnable::run);
+    channel.subscribe(null);
+
+    channel.heartbeat();
+
+    assertThat(emitters.get(0).lines()).containsExactly(":keepalive");
+  }
+
+  @Test
+  void subscribeWithStateStartsFromCurrentState() {
+    SseChannel channel = channel(Runnable::run);
+    channel.publish("triage", List.of());
+
+    channel.subscribeWithState("triage", List.of(Map.of("position", 1)));
+
+    assertThat(emitters.get(0).lines()).containsExactly("id:n1-1\nevent:triage\ndata:[{\"position\":1}]");
+  }
+
+  @Test
+  void refusesConnectionsAboveTheLimit() {
+    SseChannel channel = channel(Runnable::run);
+    channel.subscribe(null);
+    channel.subscribe(null);
+
+    assertThatThrownBy(() -> channel.subscribe(null)).isInstanceOf(StreamCapacityExceededException.class);
+  }
+
+  private SseChannel channel(Executor dispatcher) {
+    return new SseChannel("test", properties, new ObjectMapper(), dispatcher, meterRegistry, timeout -> {
+      RecordingEmitter emitter = new RecordingEmitter();
+      emitters.add(emitter);
+      return emitter;
+    }, EPOCH);
+  }
+
+  private static final class RecordingEmitter extends SseEmitter {
+
+    private final List<String> sent = new ArrayList<>();
+    private boolean failWrites;
+    private boolean completed;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      if (failWrites) {
+        throw new IOException("broken pipe");
+      }
+      sent.add(builder.build().stream()
+          .map(part -> part.getData().toString())
+          .collect(Collectors.joining())
+          .trim());
+    }
+
+    @Override
+    public synchronized void complete() {
+      completed = true;
+    }
+
+    List<String> lines() {
+      return sent;
+    }
+
+    List<String> ids() {
+      return sent.stream().map(line -> line.substring(3, line.indexOf('\n'))).toList();
+    }
+  }
+}
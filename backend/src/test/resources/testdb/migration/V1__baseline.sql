@@ -37,12 +37,14 @@ CREATE TABLE IF NOT EXISTS owners (
     email       VARCHAR(100) NOT NULL UNIQUE,
     address     TEXT,
     created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version     BIGINT    DEFAULT 0 NOT NULL
 );
 
 CREATE INDEX IF NOT EXISTS idx_owners_email       ON owners(email);
 CREATE INDEX IF NOT EXISTS idx_owners_created_at  ON owners(created_at);
 CREATE INDEX IF NOT EXISTS idx_owners_phone       ON owners(phone);
+CREATE INDEX IF NOT EXISTS idx_owners_updated_at_id ON owners(updated_at, id);
 
 -----------------------------
 -- PATIENTS
@@ -59,6 +61,7 @@ CREATE TABLE IF NOT EXISTS patients (
     owner_id    BIGINT NOT NULL,
     created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version     BIGINT    DEFAULT 0 NOT NULL,
 
     -- FK mínima para tests
     CONSTRAINT fk_patient_owner
@@ -77,6 +80,7 @@ CREATE INDEX IF NOT EXISTS idx_patients_species     ON patients(species);
 CREATE INDEX IF NOT EXISTS idx_patients_name        ON patients(name);
 CREATE INDEX IF NOT EXISTS idx_patients_is_active   ON patients(is_active);
 CREATE INDEX IF NOT EXISTS idx_patients_created_at  ON patients(created_at);
+CREATE INDEX IF NOT EXISTS idx_patients_updated_at_id ON patients(updated_at, id);
 
 -----------------------------
 -- APPOINTMENTS
@@ -91,6 +95,8 @@ CREATE TABLE IF NOT EXISTS appointments (
     priority          VARCHAR(20) NOT NULL DEFAULT 'normal',
     notes             TEXT,
     created_at        TIMESTAMP   DEFAULT CURRENT_TIMESTAMP,
+    updated_at        TIMESTAMP   DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    version           BIGINT      DEFAULT 0 NOT NULL,
 
     CONSTRAINT fk_appointment_patient
         FOREIGN KEY (patient_id) REFERENCES patients(id)
@@ -112,6 +118,7 @@ CREATE INDEX IF NOT EXISTS idx_appointments_status            ON appointments(st
 CREATE INDEX IF NOT EXISTS idx_appointments_priority          ON appointments(priority);
 CREATE INDEX IF NOT EXISTS idx_appointments_date_status       ON appointments(appointment_date, status);
 CREATE INDEX IF NOT EXISTS idx_appointments_veterinarian_date ON appointments(veterinarian_id, appointment_date);
+CREATE INDEX IF NOT EXISTS idx_appointments_updated_at_id     ON appointments(updated_at, id);
 
 
 -----------------------------
@@ -127,6 +134,8 @@ CREATE TABLE IF NOT EXISTS medical_records (
     medications      TEXT,
     notes            TEXT,
     created_at       TIMESTAMP     DEFAULT CURRENT_TIMESTAMP,
+    updated_at       TIMESTAMP     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    version          BIGINT        DEFAULT 0 NOT NULL,
 
     -- FK mínimas para que Hibernate no falle si las mapeas más adelante
     CONSTRAINT fk_medical_patient
@@ -143,6 +152,7 @@ CREATE TABLE IF NOT EXISTS medical_records (
 
 CREATE INDEX IF NOT EXISTS idx_medrec_patient_id ON medical_records(patient_id);
 CREATE INDEX IF NOT EXISTS idx_medrec_visit_date ON medical_records(visit_date);
+CREATE INDEX IF NOT EXISTS idx_medical_records_updated_at_id ON medical_records(updated_at, id);
 
 -----------------------------
 -- AUDIT LOG
@@ -160,3 +170,43 @@ CREATE TABLE IF NOT EXISTS audit_log (
 
 CREATE INDEX IF NOT EXISTS idx_audit_log_table_record ON audit_log(table_name, record_id);
 CREATE INDEX IF NOT EXISTS idx_audit_log_changed_at   ON audit_log(changed_at);
+
+-----------------------------
+-- SYNC TOMBSTONES
+-----------------------------
+-- Postgres fills this from AFTER DELETE triggers; H2 tests insert directly.
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    table_name  VARCHAR(50)  NOT NULL,
+    record_id   BIGINT       NOT NULL,
+    deleted_at  TIMESTAMP    DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_table_deleted_at ON sync_tombstones(table_name, deleted_at, id);
+
+-----------------------------
+-- IDEMPOTENCY KEYS
+-----------------------------
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    principal           VARCHAR(100) NOT NULL,
+    idempotency_key     VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(64)  NOT NULL,
+    -- NULL while the claiming request is still running, as in V14
+    status_code         INTEGER,
+    content_type        VARCHAR(100),
+    location            VARCHAR(500),
+    response_body       TEXT,
+    created_at          TIMESTAMP    DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    expires_at          TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_idempotency_keys_principal_key UNIQUE (principal, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+-----------------------------
+-- PATIENT TIMELINE INDEXES
+-----------------------------
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_date_id     ON appointments(patient_id, appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_medical_records_patient_visit_id ON medical_records(patient_id, visit_date, id);
+CREATE INDEX IF NOT EXISTS idx_audit_log_record_changed_id      ON audit_log(table_name, record_id, changed_at, id);
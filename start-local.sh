@@ -14,7 +14,7 @@ fi
 
 # Check Java
 if ! command -v java &> /dev/null; then
-    echo "❌ Java not found. Please install Java 17+"
+    echo "❌ Java not found. Please install Java 21+"
     exit 1
 fi
 